@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.alias;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.util.function.BiFunction;
+
+/**
+ * Defines a type alias for a function that receives a model's identifier and
+ * the current request's {@link Credentials}, and returns a binary
+ * representation of that model, without the model having to be loaded first.
+ *
+ * <p>
+ * Since the model's item getter isn't called, this function is responsible
+ * for checking that the credentials grant access to the binary. It should
+ * throw an exception, such as {@code javax.ws.rs.ForbiddenException}, if
+ * they don't.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <S> the model identifier's type
+ * @review
+ */
+@FunctionalInterface
+public interface IdentifierBinaryFunction<S>
+	extends BiFunction<S, Credentials, BinaryFile> {
+}
\ No newline at end of file
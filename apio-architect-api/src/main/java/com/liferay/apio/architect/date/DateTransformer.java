@@ -19,6 +19,14 @@ import com.liferay.apio.architect.functional.Try;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoUnit;
+
 import java.util.Date;
 import java.util.TimeZone;
 
@@ -26,6 +34,23 @@ import java.util.TimeZone;
  * Provides functions for transforming dates to/from ISO-8061 date strings.
  *
  * <p>
+ * Dates and instants are represented with the {@code yyyy-MM-dd'T'HH:mm'Z'}
+ * pattern, always in UTC. Local dates are represented with the {@code
+ * yyyy-MM-dd} pattern. Strings with a four digit year are parsed and written
+ * by hand, without allocating any formatter; the rest fall back to immutable,
+ * shared {@code DateTimeFormatter} instances, so every method in this class is
+ * thread-safe.
+ * </p>
+ *
+ * <p>
+ * Dates and instants that don't strictly match the pattern (for example,
+ * strings with trailing characters, out-of-range fields, or numbers without
+ * padding) are still parsed leniently, the way {@code SimpleDateFormat} parses
+ * them, so every date accepted by previous versions is still accepted. Local
+ * dates are always parsed strictly.
+ * </p>
+ *
+ * <p>
  * This class shouldn't be instantiated.
  * </p>
  *
@@ -42,13 +67,41 @@ public class DateTransformer {
 	 *         object otherwise
 	 */
 	public static Try<Date> asDate(String string) {
-		TimeZone timeZone = TimeZone.getTimeZone("UTC");
+		Try<Instant> instantTry = asInstant(string);
 
-		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
+		return instantTry.map(Date::from);
+	}
 
-		dateFormat.setTimeZone(timeZone);
+	/**
+	 * Converts an ISO-8061 date string to an {@code Instant}.
+	 *
+	 * @param  string the ISO-8061 date string
+	 * @return the {@code Success} object containing the {@code Instant}, if
+	 *         the string is a valid ISO-8061 date string; the {@code Failure}
+	 *         object otherwise
+	 */
+	public static Try<Instant> asInstant(String string) {
+		Try<LocalDateTime> localDateTimeTry = Try.fromFallible(
+			() -> _parseLocalDateTime(string));
 
-		return Try.fromFallible(() -> dateFormat.parse(string));
+		return localDateTimeTry.map(
+			localDateTime -> localDateTime.toInstant(ZoneOffset.UTC)
+		).recoverWith(
+			__ -> _parseLeniently(string)
+		);
+	}
+
+	/**
+	 * Converts an ISO-8061 local date string ({@code yyyy-MM-dd}) to a {@code
+	 * LocalDate}.
+	 *
+	 * @param  string the ISO-8061 local date string
+	 * @return the {@code Success} object containing the {@code LocalDate}, if
+	 *         the string is a valid ISO-8061 local date string; the {@code
+	 *         Failure} object otherwise
+	 */
+	public static Try<LocalDate> asLocalDate(String string) {
+		return Try.fromFallible(() -> _parseLocalDate(string));
 	}
 
 	/**
@@ -58,17 +111,171 @@ public class DateTransformer {
 	 * @return the ISO-8061 date string
 	 */
 	public static String asString(Date date) {
-		TimeZone timeZone = TimeZone.getTimeZone("UTC");
+		return _format(Math.floorDiv(date.getTime(), 1000L));
+	}
+
+	/**
+	 * Converts an {@code Instant} to an ISO-8061 date string.
+	 *
+	 * @param  instant the {@code Instant}
+	 * @return the ISO-8061 date string
+	 */
+	public static String asString(Instant instant) {
+		return _format(instant.getEpochSecond());
+	}
+
+	/**
+	 * Converts a {@code LocalDate} to an ISO-8061 local date string ({@code
+	 * yyyy-MM-dd}).
+	 *
+	 * @param  localDate the {@code LocalDate}
+	 * @return the ISO-8061 local date string
+	 */
+	public static String asString(LocalDate localDate) {
+		int year = localDate.getYear();
+
+		if ((year < 0) || (year > 9999)) {
+			return _localDateFormatter.format(localDate);
+		}
+
+		char[] chars = new char[10];
+
+		_writeLocalDate(chars, localDate);
+
+		return new String(chars);
+	}
+
+	private static String _format(long epochSecond) {
+		LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(
+			epochSecond, 0, ZoneOffset.UTC);
+
+		int year = localDateTime.getYear();
+
+		if ((year < 0) || (year > 9999)) {
+			LocalDateTime truncatedLocalDateTime = localDateTime.truncatedTo(
+				ChronoUnit.MINUTES);
 
+			return _dateTimeFormatter.format(truncatedLocalDateTime);
+		}
+
+		char[] chars = new char[17];
+
+		_writeLocalDate(chars, localDateTime.toLocalDate());
+
+		chars[10] = 'T';
+
+		_writeDigits(chars, 11, localDateTime.getHour(), 2);
+
+		chars[13] = ':';
+
+		_writeDigits(chars, 14, localDateTime.getMinute(), 2);
+
+		chars[16] = 'Z';
+
+		return new String(chars);
+	}
+
+	private static boolean _matchesShape(String string, String shape) {
+		if (string.length() != shape.length()) {
+			return false;
+		}
+
+		for (int i = 0; i < shape.length(); i++) {
+			char c = string.charAt(i);
+
+			char expected = shape.charAt(i);
+
+			if (expected == '0') {
+				if ((c < '0') || (c > '9')) {
+					return false;
+				}
+			}
+			else if (c != expected) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static Try<Instant> _parseLeniently(String string) {
 		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
 
-		dateFormat.setTimeZone(timeZone);
+		dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+		Try<Date> dateTry = Try.fromFallible(() -> dateFormat.parse(string));
+
+		return dateTry.map(Date::toInstant);
+	}
+
+	private static LocalDate _parseLocalDate(String string) {
+		if (!_matchesShape(string, "0000-00-00")) {
+			return LocalDate.parse(string, _localDateFormatter);
+		}
+
+		return LocalDate.of(
+			_readDigits(string, 0, 4), _readDigits(string, 5, 2),
+			_readDigits(string, 8, 2));
+	}
+
+	private static LocalDateTime _parseLocalDateTime(String string) {
+		if (!_matchesShape(string, "0000-00-00T00:00Z")) {
+			return LocalDateTime.parse(string, _dateTimeFormatter);
+		}
+
+		return LocalDateTime.of(
+			_readDigits(string, 0, 4), _readDigits(string, 5, 2),
+			_readDigits(string, 8, 2), _readDigits(string, 11, 2),
+			_readDigits(string, 14, 2));
+	}
+
+	private static int _readDigits(String string, int offset, int length) {
+		int value = 0;
+
+		for (int i = offset; i < (offset + length); i++) {
+			value = (value * 10) + (string.charAt(i) - '0');
+		}
 
-		return dateFormat.format(date);
+		return value;
+	}
+
+	private static void _writeDigits(
+		char[] chars, int offset, int value, int length) {
+
+		for (int i = offset + length - 1; i >= offset; i--) {
+			chars[i] = (char)('0' + (value % 10));
+
+			value /= 10;
+		}
+	}
+
+	private static void _writeLocalDate(char[] chars, LocalDate localDate) {
+		_writeDigits(chars, 0, localDate.getYear(), 4);
+
+		chars[4] = '-';
+
+		_writeDigits(chars, 5, localDate.getMonthValue(), 2);
+
+		chars[7] = '-';
+
+		_writeDigits(chars, 8, localDate.getDayOfMonth(), 2);
 	}
 
 	private DateTransformer() {
 		throw new UnsupportedOperationException();
 	}
 
+	private static final DateTimeFormatter _dateTimeFormatter =
+		DateTimeFormatter.ofPattern(
+			"uuuu-MM-dd'T'HH:mm'Z'"
+		).withResolverStyle(
+			ResolverStyle.STRICT
+		);
+	private static final DateTimeFormatter _localDateFormatter =
+		DateTimeFormatter.ofPattern(
+			"uuuu-MM-dd"
+		).withResolverStyle(
+			ResolverStyle.STRICT
+		);
+
 }
\ No newline at end of file
@@ -16,6 +16,8 @@ package com.liferay.apio.architect.endpoint;
 
 import static com.liferay.apio.architect.endpoint.ExceptionSupplierUtil.notFound;
 
+import com.liferay.apio.architect.alias.IdentifierBinaryFunction;
+import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.representor.Representor;
@@ -24,6 +26,7 @@ import com.liferay.apio.architect.single.model.SingleModel;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -39,14 +42,23 @@ public class BinaryEndpoint {
 	public BinaryEndpoint(
 		Function<String, Optional<Representor<Object>>> representorFunction,
 		BiFunction<String, String, Try<SingleModel<Object>>>
-			singleModelFunction) {
+			singleModelFunction,
+		BiFunction<String, String, Try<Object>> identifierFunction,
+		Supplier<Credentials> credentialsSupplier) {
 
 		_representorFunction = representorFunction;
 		_singleModelFunction = singleModelFunction;
+		_identifierFunction = identifierFunction;
+		_credentialsSupplier = credentialsSupplier;
 	}
 
 	/**
-	 * Returns the {@code InputStream} for the specified resource.
+	 * Returns the {@code InputStream} for the specified resource. If the
+	 * resource's {@link Representor} has an identifier-based binary function
+	 * for the binary ID, the binary file is obtained directly from the
+	 * resource's identifier, without loading the resource. In that case, the
+	 * function receives the request's credentials and checks the permissions
+	 * itself, instead of the item getter.
 	 *
 	 * @param  name the resource's name, extracted from the URL
 	 * @param  id the resource's ID
@@ -60,14 +72,34 @@ public class BinaryEndpoint {
 		@PathParam("name") String name, @PathParam("id") String id,
 		@PathParam("binaryId") String binaryId) {
 
+		Optional<Representor<Object>> representorOptional =
+			_representorFunction.apply(name);
+
+		Optional<IdentifierBinaryFunction<Object>> optional =
+			representorOptional.flatMap(
+				representor -> representor.getIdentifierBinaryFunctionOptional(
+					binaryId));
+
+		if (optional.isPresent()) {
+			IdentifierBinaryFunction<Object> identifierBinaryFunction =
+				optional.get();
+
+			return _identifierFunction.apply(
+				name, id
+			).mapOptional(
+				identifier -> Optional.ofNullable(
+					identifierBinaryFunction.apply(
+						identifier, _credentialsSupplier.get())),
+				notFound(name, id, binaryId)
+			);
+		}
+
 		return _singleModelFunction.apply(
 			name, id
 		).map(
 			SingleModel::getModel
 		).mapOptional(
-			model -> _representorFunction.apply(
-				name
-			).flatMap(
+			model -> representorOptional.flatMap(
 				representor -> representor.getBinaryFunction(binaryId)
 			).map(
 				function -> function.apply(model)
@@ -76,6 +108,8 @@ public class BinaryEndpoint {
 		);
 	}
 
+	private final Supplier<Credentials> _credentialsSupplier;
+	private final BiFunction<String, String, Try<Object>> _identifierFunction;
 	private final Function<String, Optional<Representor<Object>>>
 		_representorFunction;
 	private final BiFunction<String, String, Try<SingleModel<Object>>>
@@ -29,42 +29,89 @@ import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.GenericEntity;
 import javax.ws.rs.core.Response;
 
 /**
  * Declares the endpoint for page operations.
  *
+ * <p>
+ * Operations that get pages and items, or create items, are suspended and
+ * resumed with a {@link Try} once the route's completion stage completes, so
+ * routes added with the {@code addAsyncGetter} and {@code addAsyncCreator}
+ * builder methods don't block the container's thread. The methods that return
+ * the {@code Try} directly aren't bound to HTTP requests. They're kept for
+ * Java callers, and wait for asynchronous routes to complete.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public interface PageEndpoint<T> {
 
 	/**
 	 * Adds a new {@link SingleModel} to the resource specified by {@code name}.
-	 * This occurs via a POST request to the resource.
 	 *
 	 * @param  body the request's body
 	 * @return the new single model, or an exception if an error occurred
 	 */
+	public Try<SingleModel<T>> addCollectionItem(Body body);
+
+	/**
+	 * Adds a new {@link SingleModel} to the resource specified by {@code name}.
+	 * This occurs via a POST request to the resource.
+	 *
+	 * @param body the request's body
+	 * @param asyncResponse the response resumed with the new single model, or
+	 *        with an exception if an error occurred
+	 * @review
+	 */
 	@Consumes({APPLICATION_JSON, MULTIPART_FORM_DATA})
 	@Path("/")
 	@POST
-	public Try<SingleModel<T>> addCollectionItem(Body body);
+	public default void addCollectionItem(
+		Body body, @Suspended AsyncResponse asyncResponse) {
+
+		asyncResponse.resume(
+			new GenericEntity<Try<SingleModel<T>>>(addCollectionItem(body)) {
+			});
+	}
 
 	/**
-	 * Adds a new {@link SingleModel} to the nested resource specified. This
-	 * occurs via a POST request to the nested resource.
+	 * Adds a new {@link SingleModel} to the nested resource specified.
 	 *
 	 * @param  id the parent resource's ID
-	 * @param  nestedName the nested resource's name, extracted from the URL
+	 * @param  nestedName the nested resource's name
 	 * @param  body the request's body
 	 * @return the new single model, or an exception if an error occurred
 	 */
+	public Try<SingleModel<T>> addNestedCollectionItem(
+		String id, String nestedName, Body body);
+
+	/**
+	 * Adds a new {@link SingleModel} to the nested resource specified. This
+	 * occurs via a POST request to the nested resource.
+	 *
+	 * @param id the parent resource's ID
+	 * @param nestedName the nested resource's name, extracted from the URL
+	 * @param body the request's body
+	 * @param asyncResponse the response resumed with the new single model, or
+	 *        with an exception if an error occurred
+	 * @review
+	 */
 	@Consumes({APPLICATION_JSON, MULTIPART_FORM_DATA})
 	@Path("{id}/{nestedName}")
 	@POST
-	public Try<SingleModel<T>> addNestedCollectionItem(
+	public default void addNestedCollectionItem(
 		@PathParam("id") String id, @PathParam("nestedName") String nestedName,
-		Body body);
+		Body body, @Suspended AsyncResponse asyncResponse) {
+
+		asyncResponse.resume(
+			new GenericEntity<Try<SingleModel<T>>>(
+				addNestedCollectionItem(id, nestedName, body)) {
+			});
+	}
 
 	/**
 	 * Deletes the collection item specified by {@code name}.
@@ -78,6 +125,28 @@ public interface PageEndpoint<T> {
 	public Response deleteCollectionItem(@PathParam("id") String id)
 		throws Exception;
 
+	/**
+	 * Resumes the {@code asyncResponse} with the {@link SingleModel} for the
+	 * specified resource.
+	 *
+	 * @param id the resource's ID
+	 * @param asyncResponse the response resumed with the {@link SingleModel}
+	 *        for the specified resource, or with an exception if an error
+	 *        occurred
+	 * @review
+	 */
+	@GET
+	@Path("{id}")
+	@RepresentationCacheable
+	public default void getCollectionItemSingleModel(
+		@PathParam("id") String id, @Suspended AsyncResponse asyncResponse) {
+
+		asyncResponse.resume(
+			new GenericEntity<Try<SingleModel<T>>>(
+				getCollectionItemSingleModelTry(id)) {
+			});
+	}
+
 	/**
 	 * Returns the {@link SingleModel} for the specified resource.
 	 *
@@ -85,10 +154,26 @@ public interface PageEndpoint<T> {
 	 * @return the {@link SingleModel} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
+	public Try<SingleModel<T>> getCollectionItemSingleModelTry(String id);
+
+	/**
+	 * Resumes the {@code asyncResponse} with the collection {@link Page} for
+	 * the specified resource.
+	 *
+	 * @param asyncResponse the response resumed with the collection {@link
+	 *        Page} for the specified resource, or with an exception if an
+	 *        error occurred
+	 * @review
+	 */
 	@GET
-	@Path("{id}")
-	public Try<SingleModel<T>> getCollectionItemSingleModelTry(
-		@PathParam("id") String id);
+	@Path("/")
+	public default void getCollectionPage(
+		@Suspended AsyncResponse asyncResponse) {
+
+		asyncResponse.resume(
+			new GenericEntity<Try<Page<T>>>(getCollectionPageTry()) {
+			});
+	}
 
 	/**
 	 * Returns the collection {@link Page} for the specified resource.
@@ -96,10 +181,31 @@ public interface PageEndpoint<T> {
 	 * @return the collection {@link Page} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
-	@GET
-	@Path("/")
 	public Try<Page<T>> getCollectionPageTry();
 
+	/**
+	 * Resumes the {@code asyncResponse} with a nested collection {@link Page}
+	 * for the specified resource.
+	 *
+	 * @param id the parent resource's ID
+	 * @param nestedName the nested resource's name
+	 * @param asyncResponse the response resumed with the nested collection
+	 *        {@link Page} for the specified resource, or with an exception if
+	 *        an error occurred
+	 * @review
+	 */
+	@GET
+	@Path("{id}/{nestedName}")
+	public default void getNestedCollectionPage(
+		@PathParam("id") String id, @PathParam("nestedName") String nestedName,
+		@Suspended AsyncResponse asyncResponse) {
+
+		asyncResponse.resume(
+			new GenericEntity<Try<Page<T>>>(
+				getNestedCollectionPageTry(id, nestedName)) {
+			});
+	}
+
 	/**
 	 * Returns a nested collection {@link Page} for the specified resource.
 	 *
@@ -108,10 +214,8 @@ public interface PageEndpoint<T> {
 	 * @return the nested collection {@link Page} for the specified resource, or
 	 *         an exception if an error occurred
 	 */
-	@GET
-	@Path("{id}/{nestedName}")
 	public Try<Page<T>> getNestedCollectionPageTry(
-		@PathParam("id") String id, @PathParam("nestedName") String nestedName);
+		String id, String nestedName);
 
 	/**
 	 * Updates the specified collection item.
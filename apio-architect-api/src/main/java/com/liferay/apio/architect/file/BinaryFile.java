@@ -14,34 +14,156 @@
 
 package com.liferay.apio.architect.file;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Date;
+import java.util.Optional;
 
 /**
+ * Represents a binary file. A binary file can be backed by an {@code
+ * InputStream} or by a file in the file system. File-backed binary files let
+ * writers serve byte ranges and transfer their content without copying it
+ * through the heap.
+ *
  * @author Javier Gamarra
  * @review
  */
 public class BinaryFile {
 
 	public BinaryFile(InputStream inputStream, Long size, String mimeType) {
+		this(inputStream, size, mimeType, null, null);
+	}
+
+	/**
+	 * Creates a binary file backed by an {@code InputStream}, with the
+	 * metadata clients can use to cache it.
+	 *
+	 * @param  inputStream the binary file's content
+	 * @param  size the binary file's size
+	 * @param  mimeType the binary file's MIME type
+	 * @param  entityTag the binary file's strong entity tag, without quotes. It
+	 *         must change every time the content changes. May be {@code null}.
+	 * @param  lastModified the binary file's last modification date. May be
+	 *         {@code null}.
+	 * @review
+	 */
+	public BinaryFile(
+		InputStream inputStream, Long size, String mimeType, String entityTag,
+		Date lastModified) {
+
 		_inputStream = inputStream;
 		_size = size;
 		_mimeType = mimeType;
+		_entityTag = entityTag;
+		_lastModified = lastModified;
+
+		_path = null;
+	}
+
+	public BinaryFile(Path path, String mimeType) {
+		this(path, mimeType, null, null);
+	}
+
+	/**
+	 * Creates a binary file backed by a file, with the metadata clients can use
+	 * to cache it.
+	 *
+	 * @param  path the path of the file
+	 * @param  mimeType the binary file's MIME type
+	 * @param  entityTag the binary file's strong entity tag, without quotes. It
+	 *         must change every time the content changes. May be {@code null}.
+	 * @param  lastModified the binary file's last modification date. May be
+	 *         {@code null}.
+	 * @review
+	 */
+	public BinaryFile(
+		Path path, String mimeType, String entityTag, Date lastModified) {
+
+		File file = path.toFile();
+
+		_inputStream = null;
+		_size = file.length();
+		_mimeType = mimeType;
+		_entityTag = entityTag;
+		_lastModified = lastModified;
+
+		_path = path;
+	}
+
+	/**
+	 * Returns the binary file's strong entity tag, if present; {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the binary file's entity tag, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getEntityTagOptional() {
+		return Optional.ofNullable(_entityTag);
 	}
 
+	/**
+	 * Returns the binary file's content. If the binary file is backed by a
+	 * file, each call opens a new {@code InputStream} that must be closed by
+	 * the caller.
+	 *
+	 * @return the binary file's content
+	 */
 	public InputStream getInputStream() {
-		return _inputStream;
+		if (_path == null) {
+			return _inputStream;
+		}
+
+		try {
+			return Files.newInputStream(_path);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	/**
+	 * Returns the binary file's last modification date, if present; {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the binary file's last modification date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Date> getLastModifiedOptional() {
+		return Optional.ofNullable(_lastModified);
 	}
 
 	public String getMimeType() {
 		return _mimeType;
 	}
 
+	/**
+	 * Returns the path of the file that backs this binary file, if present.
+	 * Returns {@code Optional#empty()} if the binary file is backed by an
+	 * {@code InputStream}.
+	 *
+	 * @return the file's path, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<Path> getPathOptional() {
+		return Optional.ofNullable(_path);
+	}
+
 	public long getSize() {
 		return _size;
 	}
 
+	private final String _entityTag;
 	private final InputStream _inputStream;
+	private final Date _lastModified;
 	private final String _mimeType;
+	private final Path _path;
 	private final long _size;
 
 }
\ No newline at end of file
@@ -20,6 +20,6 @@ package com.liferay.apio.architect.form;
 public enum FieldType {
 
 	BOOLEAN, BOOLEAN_LIST, DATE, DATE_LIST, DOUBLE, DOUBLE_LIST, FILE,
-	FILE_LIST, LONG, LONG_LIST, STRING, STRING_LIST
+	FILE_LIST, LOCAL_DATE, LONG, LONG_LIST, STRING, STRING_LIST
 
 }
\ No newline at end of file
@@ -22,52 +22,36 @@ import static com.liferay.apio.architect.form.FieldType.DOUBLE;
 import static com.liferay.apio.architect.form.FieldType.DOUBLE_LIST;
 import static com.liferay.apio.architect.form.FieldType.FILE;
 import static com.liferay.apio.architect.form.FieldType.FILE_LIST;
+import static com.liferay.apio.architect.form.FieldType.LOCAL_DATE;
 import static com.liferay.apio.architect.form.FieldType.LONG;
 import static com.liferay.apio.architect.form.FieldType.LONG_LIST;
 import static com.liferay.apio.architect.form.FieldType.STRING;
 import static com.liferay.apio.architect.form.FieldType.STRING_LIST;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalBoolean;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalBooleanList;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalDate;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalDateList;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalDouble;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalDoubleList;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalFile;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalFileList;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalFormFieldStream;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalLong;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalLongList;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalString;
-import static com.liferay.apio.architect.form.FormUtil.getOptionalStringList;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredBoolean;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredBooleanList;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredDate;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredDateList;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredDouble;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredDoubleList;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredFile;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredFileList;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredFormFieldStream;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredLong;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredLongList;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredString;
-import static com.liferay.apio.architect.form.FormUtil.getRequiredStringList;
 
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.language.Language;
 
+import java.time.Instant;
+import java.time.LocalDate;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.ws.rs.BadRequestException;
+
 /**
  * Holds information about an operation's form. The {@link #get(Body)} method
  * method uses the HTTP request body to extract the form values as detailed in
@@ -93,30 +77,9 @@ public class Form<T> {
 	public T get(Body body) {
 		T t = _supplier.get();
 
-		_optionalBooleans.forEach(getOptionalBoolean(body, t));
-		_optionalDates.forEach(getOptionalDate(body, t));
-		_optionalDoubles.forEach(getOptionalDouble(body, t));
-		_optionalFiles.forEach(getOptionalFile(body, t));
-		_optionalLongs.forEach(getOptionalLong(body, t));
-		_optionalStrings.forEach(getOptionalString(body, t));
-		_requiredBooleans.forEach(getRequiredBoolean(body, t));
-		_requiredDates.forEach(getRequiredDate(body, t));
-		_requiredDoubles.forEach(getRequiredDouble(body, t));
-		_requiredFiles.forEach(getRequiredFile(body, t));
-		_requiredLongs.forEach(getRequiredLong(body, t));
-		_requiredStrings.forEach(getRequiredString(body, t));
-		_optionalBooleanLists.forEach(getOptionalBooleanList(body, t));
-		_optionalDateLists.forEach(getOptionalDateList(body, t));
-		_optionalDoubleLists.forEach(getOptionalDoubleList(body, t));
-		_optionalFileLists.forEach(getOptionalFileList(body, t));
-		_optionalLongLists.forEach(getOptionalLongList(body, t));
-		_optionalStringLists.forEach(getOptionalStringList(body, t));
-		_requiredBooleanLists.forEach(getRequiredBooleanList(body, t));
-		_requiredDateLists.forEach(getRequiredDateList(body, t));
-		_requiredDoubleLists.forEach(getRequiredDoubleList(body, t));
-		_requiredFileLists.forEach(getRequiredFileList(body, t));
-		_requiredLongLists.forEach(getRequiredLongList(body, t));
-		_requiredStringLists.forEach(getRequiredStringList(body, t));
+		for (FieldBinder<T, ?> fieldBinder : _compiledFieldBinders) {
+			fieldBinder.bind(body, t);
+		}
 
 		return t;
 	}
@@ -138,36 +101,7 @@ public class Form<T> {
 	 * @return the list of form fields.
 	 */
 	public List<FormField> getFormFields() {
-		return Stream.of(
-			getOptionalFormFieldStream(_optionalBooleans, BOOLEAN),
-			getOptionalFormFieldStream(_optionalBooleanLists, BOOLEAN_LIST),
-			getOptionalFormFieldStream(_optionalDates, DATE),
-			getOptionalFormFieldStream(_optionalDateLists, DATE_LIST),
-			getOptionalFormFieldStream(_optionalDoubles, DOUBLE),
-			getOptionalFormFieldStream(_optionalDoubleLists, DOUBLE_LIST),
-			getOptionalFormFieldStream(_optionalFiles, FILE),
-			getOptionalFormFieldStream(_optionalFileLists, FILE_LIST),
-			getOptionalFormFieldStream(_optionalLongs, LONG),
-			getOptionalFormFieldStream(_optionalLongLists, LONG_LIST),
-			getOptionalFormFieldStream(_optionalStrings, STRING),
-			getOptionalFormFieldStream(_optionalStringLists, STRING_LIST),
-			getRequiredFormFieldStream(_requiredBooleans, BOOLEAN),
-			getRequiredFormFieldStream(_requiredBooleanLists, BOOLEAN_LIST),
-			getRequiredFormFieldStream(_requiredDates, DATE),
-			getRequiredFormFieldStream(_requiredDateLists, DATE_LIST),
-			getRequiredFormFieldStream(_requiredDoubles, DOUBLE),
-			getRequiredFormFieldStream(_requiredDoubleLists, DOUBLE_LIST),
-			getRequiredFormFieldStream(_requiredFiles, FILE),
-			getRequiredFormFieldStream(_requiredFileLists, FILE_LIST),
-			getRequiredFormFieldStream(_requiredLongs, LONG),
-			getRequiredFormFieldStream(_requiredLongLists, LONG_LIST),
-			getRequiredFormFieldStream(_requiredStrings, STRING),
-			getRequiredFormFieldStream(_requiredStringLists, STRING_LIST)
-		).flatMap(
-			Function.identity()
-		).collect(
-			Collectors.toList()
-		);
+		return _formFields;
 	}
 
 	/**
@@ -276,8 +210,9 @@ public class Form<T> {
 			public FieldStep addOptionalBoolean(
 				String key, BiConsumer<T, Boolean> biConsumer) {
 
-				_form._optionalBooleans.put(
-					key, t -> aBoolean -> biConsumer.accept(t, aBoolean));
+				_form._addFieldBinder(
+					key, false, BOOLEAN, FormUtil::getBooleanOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -300,8 +235,9 @@ public class Form<T> {
 			public FieldStep addOptionalBooleanList(
 				String key, BiConsumer<T, List<Boolean>> biConsumer) {
 
-				_form._optionalBooleanLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, false, BOOLEAN_LIST, FormUtil::getBooleanListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -324,8 +260,8 @@ public class Form<T> {
 			public FieldStep addOptionalDate(
 				String key, BiConsumer<T, Date> biConsumer) {
 
-				_form._optionalDates.put(
-					key, t -> date -> biConsumer.accept(t, date));
+				_form._addFieldBinder(
+					key, false, DATE, FormUtil::getDateOptional, biConsumer);
 
 				return this;
 			}
@@ -348,8 +284,9 @@ public class Form<T> {
 			public FieldStep addOptionalDateList(
 				String key, BiConsumer<T, List<Date>> biConsumer) {
 
-				_form._optionalDateLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, false, DATE_LIST, FormUtil::getDateListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -372,8 +309,9 @@ public class Form<T> {
 			public FieldStep addOptionalDouble(
 				String key, BiConsumer<T, Double> biConsumer) {
 
-				_form._optionalDoubles.put(
-					key, t -> aDouble -> biConsumer.accept(t, aDouble));
+				_form._addFieldBinder(
+					key, false, DOUBLE, FormUtil::getDoubleOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -396,8 +334,9 @@ public class Form<T> {
 			public FieldStep addOptionalDoubleList(
 				String key, BiConsumer<T, List<Double>> biConsumer) {
 
-				_form._optionalDoubleLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, false, DOUBLE_LIST, FormUtil::getDoubleListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -420,8 +359,8 @@ public class Form<T> {
 			public FieldStep addOptionalFile(
 				String key, BiConsumer<T, BinaryFile> biConsumer) {
 
-				_form._optionalFiles.put(
-					key, t -> binaryFile -> biConsumer.accept(t, binaryFile));
+				_form._addFieldBinder(
+					key, false, FILE, Body::getFileOptional, biConsumer);
 
 				return this;
 			}
@@ -444,8 +383,58 @@ public class Form<T> {
 			public FieldStep addOptionalFileList(
 				String key, BiConsumer<T, List<BinaryFile>> biConsumer) {
 
-				_form._optionalFileLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, false, FILE_LIST, Body::getFileListOptional,
+					biConsumer);
+
+				return this;
+			}
+
+			/**
+			 * Requests an optional instant from the HTTP request body.
+			 *
+			 * <p>
+			 * This method calls the provided consumer with the store instance
+			 * (provided with the {@link ConstructorStep#constructor(Supplier)}
+			 * method) and the field value, if the field is present. A {@code
+			 * javax.ws.rs.BadRequestException} is thrown if the field is found
+			 * but it isn't an instant.
+			 * </p>
+			 *
+			 * @param  key the field's key
+			 * @param  biConsumer the consumer to call if the field is found
+			 * @return the updated builder
+			 */
+			public FieldStep addOptionalInstant(
+				String key, BiConsumer<T, Instant> biConsumer) {
+
+				_form._addFieldBinder(
+					key, false, DATE, FormUtil::getInstantOptional, biConsumer);
+
+				return this;
+			}
+
+			/**
+			 * Requests an optional local date from the HTTP request body.
+			 *
+			 * <p>
+			 * This method calls the provided consumer with the store instance
+			 * (provided with the {@link ConstructorStep#constructor(Supplier)}
+			 * method) and the field value, if the field is present. A {@code
+			 * javax.ws.rs.BadRequestException} is thrown if the field is found
+			 * but it isn't a local date.
+			 * </p>
+			 *
+			 * @param  key the field's key
+			 * @param  biConsumer the consumer to call if the field is found
+			 * @return the updated builder
+			 */
+			public FieldStep addOptionalLocalDate(
+				String key, BiConsumer<T, LocalDate> biConsumer) {
+
+				_form._addFieldBinder(
+					key, false, LOCAL_DATE, FormUtil::getLocalDateOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -468,8 +457,8 @@ public class Form<T> {
 			public FieldStep addOptionalLong(
 				String key, BiConsumer<T, Long> biConsumer) {
 
-				_form._optionalLongs.put(
-					key, t -> aLong -> biConsumer.accept(t, aLong));
+				_form._addFieldBinder(
+					key, false, LONG, FormUtil::getLongOptional, biConsumer);
 
 				return this;
 			}
@@ -492,8 +481,9 @@ public class Form<T> {
 			public FieldStep addOptionalLongList(
 				String key, BiConsumer<T, List<Long>> biConsumer) {
 
-				_form._optionalLongLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, false, LONG_LIST, FormUtil::getLongListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -516,8 +506,8 @@ public class Form<T> {
 			public FieldStep addOptionalString(
 				String key, BiConsumer<T, String> biConsumer) {
 
-				_form._optionalStrings.put(
-					key, t -> string -> biConsumer.accept(t, string));
+				_form._addFieldBinder(
+					key, false, STRING, Body::getValueOptional, biConsumer);
 
 				return this;
 			}
@@ -540,8 +530,9 @@ public class Form<T> {
 			public FieldStep addOptionalStringList(
 				String key, BiConsumer<T, List<String>> biConsumer) {
 
-				_form._optionalStringLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, false, STRING_LIST, Body::getValueListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -564,8 +555,9 @@ public class Form<T> {
 			public FieldStep addRequiredBoolean(
 				String key, BiConsumer<T, Boolean> biConsumer) {
 
-				_form._requiredBooleans.put(
-					key, t -> aBoolean -> biConsumer.accept(t, aBoolean));
+				_form._addFieldBinder(
+					key, true, BOOLEAN, FormUtil::getBooleanOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -588,8 +580,9 @@ public class Form<T> {
 			public FieldStep addRequiredBooleanList(
 				String key, BiConsumer<T, List<Boolean>> biConsumer) {
 
-				_form._requiredBooleanLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, true, BOOLEAN_LIST, FormUtil::getBooleanListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -612,8 +605,8 @@ public class Form<T> {
 			public FieldStep addRequiredDate(
 				String key, BiConsumer<T, Date> biConsumer) {
 
-				_form._requiredDates.put(
-					key, t -> date -> biConsumer.accept(t, date));
+				_form._addFieldBinder(
+					key, true, DATE, FormUtil::getDateOptional, biConsumer);
 
 				return this;
 			}
@@ -636,8 +629,9 @@ public class Form<T> {
 			public FieldStep addRequiredDateList(
 				String key, BiConsumer<T, List<Date>> biConsumer) {
 
-				_form._requiredDateLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, true, DATE_LIST, FormUtil::getDateListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -660,8 +654,8 @@ public class Form<T> {
 			public FieldStep addRequiredDouble(
 				String key, BiConsumer<T, Double> biConsumer) {
 
-				_form._requiredDoubles.put(
-					key, t -> aDouble -> biConsumer.accept(t, aDouble));
+				_form._addFieldBinder(
+					key, true, DOUBLE, FormUtil::getDoubleOptional, biConsumer);
 
 				return this;
 			}
@@ -684,8 +678,9 @@ public class Form<T> {
 			public FieldStep addRequiredDoubleList(
 				String key, BiConsumer<T, List<Double>> biConsumer) {
 
-				_form._requiredDoubleLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, true, DOUBLE_LIST, FormUtil::getDoubleListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -708,8 +703,8 @@ public class Form<T> {
 			public FieldStep addRequiredFile(
 				String key, BiConsumer<T, BinaryFile> biConsumer) {
 
-				_form._requiredFiles.put(
-					key, t -> binaryFile -> biConsumer.accept(t, binaryFile));
+				_form._addFieldBinder(
+					key, true, FILE, Body::getFileOptional, biConsumer);
 
 				return this;
 			}
@@ -732,8 +727,58 @@ public class Form<T> {
 			public FieldStep addRequiredFileList(
 				String key, BiConsumer<T, List<BinaryFile>> biConsumer) {
 
-				_form._requiredFileLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, true, FILE_LIST, Body::getFileListOptional,
+					biConsumer);
+
+				return this;
+			}
+
+			/**
+			 * Requests a mandatory instant from the HTTP request body.
+			 *
+			 * <p>
+			 * This method calls the provided consumer with the store instance
+			 * (provided with the {@link ConstructorStep#constructor(Supplier)}
+			 * method) and the field value. A {@code
+			 * javax.ws.rs.BadRequestException} is thrown if the field isn't
+			 * found, or it's found but it isn't an instant.
+			 * </p>
+			 *
+			 * @param  key the field's key
+			 * @param  biConsumer the consumer to call
+			 * @return the updated builder
+			 */
+			public FieldStep addRequiredInstant(
+				String key, BiConsumer<T, Instant> biConsumer) {
+
+				_form._addFieldBinder(
+					key, true, DATE, FormUtil::getInstantOptional, biConsumer);
+
+				return this;
+			}
+
+			/**
+			 * Requests a mandatory local date from the HTTP request body.
+			 *
+			 * <p>
+			 * This method calls the provided consumer with the store instance
+			 * (provided with the {@link ConstructorStep#constructor(Supplier)}
+			 * method) and the field value. A {@code
+			 * javax.ws.rs.BadRequestException} is thrown if the field isn't
+			 * found, or it's found but it isn't a local date.
+			 * </p>
+			 *
+			 * @param  key the field's key
+			 * @param  biConsumer the consumer to call
+			 * @return the updated builder
+			 */
+			public FieldStep addRequiredLocalDate(
+				String key, BiConsumer<T, LocalDate> biConsumer) {
+
+				_form._addFieldBinder(
+					key, true, LOCAL_DATE, FormUtil::getLocalDateOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -756,8 +801,8 @@ public class Form<T> {
 			public FieldStep addRequiredLong(
 				String key, BiConsumer<T, Long> biConsumer) {
 
-				_form._requiredLongs.put(
-					key, t -> aLong -> biConsumer.accept(t, aLong));
+				_form._addFieldBinder(
+					key, true, LONG, FormUtil::getLongOptional, biConsumer);
 
 				return this;
 			}
@@ -780,8 +825,9 @@ public class Form<T> {
 			public FieldStep addRequiredLongList(
 				String key, BiConsumer<T, List<Long>> biConsumer) {
 
-				_form._requiredLongLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, true, LONG_LIST, FormUtil::getLongListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -804,8 +850,8 @@ public class Form<T> {
 			public FieldStep addRequiredString(
 				String key, BiConsumer<T, String> biConsumer) {
 
-				_form._requiredStrings.put(
-					key, t -> string -> biConsumer.accept(t, string));
+				_form._addFieldBinder(
+					key, true, STRING, Body::getValueOptional, biConsumer);
 
 				return this;
 			}
@@ -828,8 +874,9 @@ public class Form<T> {
 			public FieldStep addRequiredStringList(
 				String key, BiConsumer<T, List<String>> biConsumer) {
 
-				_form._requiredStringLists.put(
-					key, t -> list -> biConsumer.accept(t, list));
+				_form._addFieldBinder(
+					key, true, STRING_LIST, Body::getValueListOptional,
+					biConsumer);
 
 				return this;
 			}
@@ -841,6 +888,8 @@ public class Form<T> {
 			 * @return the {@code Form} instance
 			 */
 			public Form<T> build() {
+				_form._compile();
+
 				return _form;
 			}
 
@@ -854,56 +903,86 @@ public class Form<T> {
 		id = String.join("/", paths);
 	}
 
+	private <V> void _addFieldBinder(
+		String key, boolean required, FieldType fieldType,
+		BiFunction<Body, String, Optional<V>> function,
+		BiConsumer<T, V> biConsumer) {
+
+		FormField formField = new FormField(key, required, fieldType);
+
+		_fieldBinders.put(
+			formField, new FieldBinder<>(formField, function, biConsumer));
+	}
+
+	private void _compile() {
+		Collection<FieldBinder<T, ?>> fieldBinders = _fieldBinders.values();
+
+		Stream<FieldBinder<T, ?>> stream = fieldBinders.stream();
+
+		_compiledFieldBinders = stream.sorted(
+			Comparator.comparing(
+				fieldBinder -> fieldBinder._formField, _formFieldComparator)
+		).collect(
+			Collectors.toList()
+		);
+
+		List<FormField> formFields = new ArrayList<>(
+			_compiledFieldBinders.size());
+
+		for (FieldBinder<T, ?> fieldBinder : _compiledFieldBinders) {
+			formFields.add(fieldBinder._formField);
+		}
+
+		_formFields = Collections.unmodifiableList(formFields);
+	}
+
+	private static final Comparator<FormField> _formFieldComparator =
+		Comparator.comparing(
+			(FormField formField) -> formField.required
+		).thenComparing(
+			formField -> formField.fieldType
+		);
+
+	private List<FieldBinder<T, ?>> _compiledFieldBinders =
+		Collections.emptyList();
 	private Function<Language, String> _descriptionFunction;
-	private final Map<String, Function<T, Consumer<List<Boolean>>>>
-		_optionalBooleanLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<Boolean>>>
-		_optionalBooleans = new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<Date>>>>
-		_optionalDateLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<Date>>> _optionalDates =
-		new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<Double>>>>
-		_optionalDoubleLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<Double>>> _optionalDoubles =
-		new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<BinaryFile>>>>
-		_optionalFileLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<BinaryFile>>>
-		_optionalFiles = new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<Long>>>>
-		_optionalLongLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<Long>>> _optionalLongs =
-		new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<String>>>>
-		_optionalStringLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<String>>> _optionalStrings =
-		new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<Boolean>>>>
-		_requiredBooleanLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<Boolean>>>
-		_requiredBooleans = new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<Date>>>>
-		_requiredDateLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<Date>>> _requiredDates =
-		new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<Double>>>>
-		_requiredDoubleLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<Double>>> _requiredDoubles =
-		new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<BinaryFile>>>>
-		_requiredFileLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<BinaryFile>>>
-		_requiredFiles = new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<Long>>>>
-		_requiredLongLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<Long>>> _requiredLongs =
-		new HashMap<>();
-	private final Map<String, Function<T, Consumer<List<String>>>>
-		_requiredStringLists = new HashMap<>();
-	private final Map<String, Function<T, Consumer<String>>> _requiredStrings =
-		new HashMap<>();
+	private final Map<FormField, FieldBinder<T, ?>> _fieldBinders =
+		new LinkedHashMap<>();
+	private List<FormField> _formFields = Collections.emptyList();
 	private Supplier<T> _supplier;
 	private Function<Language, String> _titleFunction;
 
+	/**
+	 * Binds a field of the HTTP request body to the instance that stores the
+	 * form values. Field binders are created once, when the form is built.
+	 */
+	private static class FieldBinder<T, V> {
+
+		public FieldBinder(
+			FormField formField, BiFunction<Body, String, Optional<V>> function,
+			BiConsumer<T, V> biConsumer) {
+
+			_formField = formField;
+			_function = function;
+			_biConsumer = biConsumer;
+		}
+
+		public void bind(Body body, T t) {
+			Optional<V> optional = _function.apply(body, _formField.name);
+
+			if (optional.isPresent()) {
+				_biConsumer.accept(t, optional.get());
+			}
+			else if (_formField.required) {
+				throw new BadRequestException(
+					"Field \"" + _formField.name + "\" is required");
+			}
+		}
+
+		private final BiConsumer<T, V> _biConsumer;
+		private final FormField _formField;
+		private final BiFunction<Body, String, Optional<V>> _function;
+
+	}
+
 }
\ No newline at end of file
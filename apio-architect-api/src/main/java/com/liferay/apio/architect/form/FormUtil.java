@@ -15,14 +15,20 @@
 package com.liferay.apio.architect.form;
 
 import static com.liferay.apio.architect.date.DateTransformer.asDate;
+import static com.liferay.apio.architect.date.DateTransformer.asInstant;
+import static com.liferay.apio.architect.date.DateTransformer.asLocalDate;
 
 import com.liferay.apio.architect.alias.form.FieldFormBiConsumer;
-import com.liferay.apio.architect.date.DateTransformer;
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.functional.Try;
 
 import java.text.NumberFormat;
+import java.text.ParseException;
 
+import java.time.Instant;
+import java.time.LocalDate;
+
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +36,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.ws.rs.BadRequestException;
@@ -46,6 +51,202 @@ import javax.ws.rs.BadRequestException;
  */
 public class FormUtil {
 
+	/**
+	 * Returns the boolean list stored in a field of the HTTP request body, if
+	 * present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<List<Boolean>> getBooleanListOptional(
+		Body body, String key) {
+
+		Optional<List<String>> optional = body.getValueListOptional(key);
+
+		return optional.map(list -> _toList(list, Boolean::valueOf));
+	}
+
+	/**
+	 * Returns the boolean stored in a field of the HTTP request body, if
+	 * present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<Boolean> getBooleanOptional(Body body, String key) {
+		Optional<String> optional = body.getValueOptional(key);
+
+		return optional.map(Boolean::valueOf);
+	}
+
+	/**
+	 * Returns the ISO-8601 date list stored in a field of the HTTP request
+	 * body, if present; returns {@code Optional#empty()} otherwise. If any of
+	 * the values isn't an ISO-8601 date, a {@code
+	 * javax.ws.rs.BadRequestException} is thrown.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<List<Date>> getDateListOptional(
+		Body body, String key) {
+
+		Optional<List<String>> optional = body.getValueListOptional(key);
+
+		return optional.map(
+			list -> _toList(list, string -> _toDate(key, string)));
+	}
+
+	/**
+	 * Returns the ISO-8601 date stored in a field of the HTTP request body, if
+	 * present; returns {@code Optional#empty()} otherwise. If the field isn't
+	 * an ISO-8601 date, a {@code javax.ws.rs.BadRequestException} is thrown.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<Date> getDateOptional(Body body, String key) {
+		Optional<String> optional = body.getValueOptional(key);
+
+		return optional.map(string -> _toDate(key, string));
+	}
+
+	/**
+	 * Returns the double list stored in a field of the HTTP request body, if
+	 * present; returns {@code Optional#empty()} otherwise. If any of the values
+	 * isn't a number, a {@code javax.ws.rs.BadRequestException} is thrown.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<List<Double>> getDoubleListOptional(
+		Body body, String key) {
+
+		Optional<List<String>> optional = body.getValueListOptional(key);
+
+		return optional.map(
+			list -> _toList(
+				list,
+				string -> {
+					Number number = _toNumber(key, string);
+
+					return number.doubleValue();
+				})
+		);
+	}
+
+	/**
+	 * Returns the double stored in a field of the HTTP request body, if
+	 * present; returns {@code Optional#empty()} otherwise. If the field isn't a
+	 * number, a {@code javax.ws.rs.BadRequestException} is thrown.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<Double> getDoubleOptional(Body body, String key) {
+		Optional<String> optional = body.getValueOptional(key);
+
+		return optional.map(
+			string -> _toNumber(key, string)
+		).map(
+			Number::doubleValue
+		);
+	}
+
+	/**
+	 * Returns the ISO-8601 date stored in a field of the HTTP request body as
+	 * an {@code Instant}, if present; returns {@code Optional#empty()}
+	 * otherwise. If the field isn't an ISO-8601 date, a {@code
+	 * javax.ws.rs.BadRequestException} is thrown.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<Instant> getInstantOptional(Body body, String key) {
+		Optional<String> optional = body.getValueOptional(key);
+
+		return optional.map(string -> _toInstant(key, string));
+	}
+
+	/**
+	 * Returns the ISO-8601 local date ({@code yyyy-MM-dd}) stored in a field
+	 * of the HTTP request body, if present; returns {@code Optional#empty()}
+	 * otherwise. If the field isn't an ISO-8601 local date, a {@code
+	 * javax.ws.rs.BadRequestException} is thrown.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<LocalDate> getLocalDateOptional(
+		Body body, String key) {
+
+		Optional<String> optional = body.getValueOptional(key);
+
+		return optional.map(string -> _toLocalDate(key, string));
+	}
+
+	/**
+	 * Returns the long list stored in a field of the HTTP request body, if
+	 * present; returns {@code Optional#empty()} otherwise. If any of the values
+	 * isn't a number, a {@code javax.ws.rs.BadRequestException} is thrown.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<List<Long>> getLongListOptional(
+		Body body, String key) {
+
+		Optional<List<String>> optional = body.getValueListOptional(key);
+
+		return optional.map(
+			list -> _toList(
+				list,
+				string -> {
+					Number number = _toNumber(key, string);
+
+					return number.longValue();
+				})
+		);
+	}
+
+	/**
+	 * Returns the long stored in a field of the HTTP request body, if present;
+	 * returns {@code Optional#empty()} otherwise. If the field isn't a number,
+	 * a {@code javax.ws.rs.BadRequestException} is thrown.
+	 *
+	 * @param  body the HTTP request body
+	 * @param  key the field's key
+	 * @return the field's value, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<Long> getLongOptional(Body body, String key) {
+		Optional<String> optional = body.getValueOptional(key);
+
+		return optional.map(
+			string -> _toNumber(key, string)
+		).map(
+			Number::longValue
+		);
+	}
+
 	/**
 	 * Returns a field form consumer that tries to extract a boolean from the
 	 * HTTP request body and store it in the provided {@code T} instance. If the
@@ -255,8 +456,8 @@ public class FormUtil {
 	public static <T> FieldFormBiConsumer<T, List<String>>
 		getOptionalStringList(Body body, T t) {
 
-		return (key, function) -> _getListField(
-			body, key, false, function.apply(t), Function.identity());
+		return (key, function) -> _getStringList(
+			body, key, false, function.apply(t));
 	}
 
 	/**
@@ -469,81 +670,52 @@ public class FormUtil {
 	public static <T> FieldFormBiConsumer<T, List<String>>
 		getRequiredStringList(Body body, T t) {
 
-		return (key, function) -> _getListField(
-			body, key, true, function.apply(t), Function.identity());
+		return (key, function) -> _getStringList(
+			body, key, true, function.apply(t));
 	}
 
 	private static void _getBoolean(
 		Body body, String key, boolean required, Consumer<Boolean> consumer) {
 
-		_getValueField(
-			body, key, required,
-			value -> consumer.accept(Boolean.valueOf(value)));
+		_getField(getBooleanOptional(body, key), key, required, consumer);
 	}
 
 	private static void _getBooleanList(
 		Body body, String key, boolean required,
 		Consumer<List<Boolean>> consumer) {
 
-		_getListField(
-			body, key, required, consumer,
-			stream -> stream.map(Boolean::valueOf));
+		_getField(getBooleanListOptional(body, key), key, required, consumer);
 	}
 
 	private static void _getDate(
 		Body body, String key, boolean required, Consumer<Date> consumer) {
 
-		String message = _getWrongDateMessage(key);
-
-		_getString(
-			body, key, required,
-			string -> {
-				Try<Date> dateTry = asDate(string);
-
-				Date date = dateTry.orElseThrow(
-					() -> new BadRequestException(message));
-
-				consumer.accept(date);
-			});
+		_getField(getDateOptional(body, key), key, required, consumer);
 	}
 
 	private static void _getDateList(
 		Body body, String key, boolean required,
 		Consumer<List<Date>> consumer) {
 
-		String message = _getWrongDateMessage(key);
-
-		_getListField(
-			body, key, required, consumer,
-			(Stream<String> stream) -> stream.map(
-				Try::success
-			).map(
-				(Try<String> stringTry) -> stringTry.flatMap(
-					DateTransformer::asDate
-				).orElseThrow(
-					() -> new BadRequestException(message)
-				)
-			));
+		_getField(getDateListOptional(body, key), key, required, consumer);
 	}
 
 	private static void _getDouble(
 		Body body, String key, boolean required, Consumer<Double> consumer) {
 
-		_getNumber(body, key, required, Number::doubleValue, consumer);
+		_getField(getDoubleOptional(body, key), key, required, consumer);
 	}
 
 	private static void _getDoubleList(
 		Body body, String key, boolean required,
 		Consumer<List<Double>> consumer) {
 
-		_getNumberList(body, key, required, Number::doubleValue, consumer);
+		_getField(getDoubleListOptional(body, key), key, required, consumer);
 	}
 
-	private static void _getFile(
-		Body body, String key, boolean required,
-		Consumer<BinaryFile> consumer) {
-
-		Optional<BinaryFile> optional = body.getFileOptional(key);
+	private static <T> void _getField(
+		Optional<T> optional, String key, boolean required,
+		Consumer<T> consumer) {
 
 		if (optional.isPresent()) {
 			consumer.accept(optional.get());
@@ -553,18 +725,18 @@ public class FormUtil {
 		}
 	}
 
+	private static void _getFile(
+		Body body, String key, boolean required,
+		Consumer<BinaryFile> consumer) {
+
+		_getField(body.getFileOptional(key), key, required, consumer);
+	}
+
 	private static void _getFileList(
 		Body body, String key, boolean required,
 		Consumer<List<BinaryFile>> consumer) {
 
-		Optional<List<BinaryFile>> optional = body.getFileListOptional(key);
-
-		if (optional.isPresent()) {
-			consumer.accept(optional.get());
-		}
-		else if (required) {
-			throw new BadRequestException("Field \"" + key + "\" is required");
-		}
+		_getField(body.getFileListOptional(key), key, required, consumer);
 	}
 
 	private static Stream<FormField> _getFormFieldStream(
@@ -577,102 +749,33 @@ public class FormUtil {
 		return stream.map(name -> new FormField(name, required, fieldType));
 	}
 
-	private static <T> void _getListField(
-		Body body, String key, boolean required, Consumer<List<T>> consumer,
-		Function<Stream<String>, Stream<T>> function) {
-
-		Optional<List<String>> optional = body.getValueListOptional(key);
-
-		optional.map(
-			List::stream
-		).map(
-			function
-		).map(
-			stream -> stream.collect(Collectors.toList())
-		).ifPresent(
-			consumer
-		);
-
-		if (!optional.isPresent() && required) {
-			throw new BadRequestException("Field \"" + key + "\" is required");
-		}
-	}
-
 	private static void _getLong(
 		Body body, String key, boolean required, Consumer<Long> consumer) {
 
-		_getNumber(body, key, required, Number::longValue, consumer);
+		_getField(getLongOptional(body, key), key, required, consumer);
 	}
 
 	private static void _getLongList(
 		Body body, String key, boolean required,
 		Consumer<List<Long>> consumer) {
 
-		_getNumberList(body, key, required, Number::longValue, consumer);
-	}
-
-	private static <T extends Number> void _getNumber(
-		Body body, String key, boolean required, Function<Number, T> function,
-		Consumer<T> consumer) {
-
-		_getValueField(
-			body, key, required,
-			value -> Try.success(
-				value
-			).map(
-				NumberFormat.getInstance()::parse
-			).map(
-				function::apply
-			).voidFold(
-				__ -> {
-					throw new BadRequestException(
-						"Field \"" + key + "\" should be a number");
-				},
-				consumer::accept
-			));
-	}
-
-	private static <T extends Number> void _getNumberList(
-		Body body, String key, boolean required, Function<Number, T> function,
-		Consumer<List<T>> consumer) {
-
-		_getListField(
-			body, key, required, consumer,
-			(Stream<String> stream) -> stream.map(
-				Try::success
-			).map(
-				(Try<String> stringTry) -> stringTry.map(
-					NumberFormat.getInstance()::parse
-				).map(
-					function::apply
-				)
-			).map(
-				tTry -> tTry.orElseThrow(
-					() -> new BadRequestException(
-						"Field \"" + key + "\" should be a number"))
-			));
+		_getField(getLongListOptional(body, key), key, required, consumer);
 	}
 
 	private static void _getString(
 		Body body, String key, boolean required, Consumer<String> consumer) {
 
-		_getValueField(body, key, required, consumer);
+		_getField(body.getValueOptional(key), key, required, consumer);
 	}
 
-	private static void _getValueField(
-		Body body, String key, boolean required, Consumer<String> consumer) {
-
-		Optional<String> optional = body.getValueOptional(key);
+	private static void _getStringList(
+		Body body, String key, boolean required,
+		Consumer<List<String>> consumer) {
 
-		if (optional.isPresent()) {
-			consumer.accept(optional.get());
-		}
-		else if (required) {
-			throw new BadRequestException("Field \"" + key + "\" is required");
-		}
+		_getField(body.getValueListOptional(key), key, required, consumer);
 	}
 
-	private static String _getWrongDateMessage(String key) {
+	private static String _getWrongDateMessage(String key, String pattern) {
 		StringBuilder stringBuilder = new StringBuilder();
 
 		return stringBuilder.append(
@@ -682,10 +785,58 @@ public class FormUtil {
 		).append(
 			"\" should be a string date in ISO-8601 format: "
 		).append(
-			"yyyy-MM-dd'T'HH:mm'Z'"
+			pattern
 		).toString();
 	}
 
+	private static Date _toDate(String key, String string) {
+		Try<Date> dateTry = asDate(string);
+
+		return dateTry.orElseThrow(
+			() -> new BadRequestException(
+				_getWrongDateMessage(key, "yyyy-MM-dd'T'HH:mm'Z'")));
+	}
+
+	private static Instant _toInstant(String key, String string) {
+		Try<Instant> instantTry = asInstant(string);
+
+		return instantTry.orElseThrow(
+			() -> new BadRequestException(
+				_getWrongDateMessage(key, "yyyy-MM-dd'T'HH:mm'Z'")));
+	}
+
+	private static <T> List<T> _toList(
+		List<String> list, Function<String, T> function) {
+
+		List<T> values = new ArrayList<>(list.size());
+
+		for (String string : list) {
+			values.add(function.apply(string));
+		}
+
+		return values;
+	}
+
+	private static LocalDate _toLocalDate(String key, String string) {
+		Try<LocalDate> localDateTry = asLocalDate(string);
+
+		return localDateTry.orElseThrow(
+			() -> new BadRequestException(
+				_getWrongDateMessage(key, "yyyy-MM-dd")));
+	}
+
+	private static Number _toNumber(String key, String string) {
+		try {
+			NumberFormat numberFormat = NumberFormat.getInstance();
+
+			return numberFormat.parse(string);
+		}
+		catch (ParseException pe) {
+			throw new BadRequestException(
+				"Field \"" + key + "\" should be a number", pe);
+		}
+	}
+
 	private FormUtil() {
 		throw new UnsupportedOperationException();
 	}
@@ -16,7 +16,9 @@ package com.liferay.apio.architect.list;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -32,7 +34,7 @@ import java.util.stream.Stream;
  * @author Jorge Ferrer
  * @param  <E> the type of elements in this list
  */
-public class FunctionalList<E> {
+public class FunctionalList<E> implements Iterable<E> {
 
 	public FunctionalList(FunctionalList<E> functionalList, E last) {
 		if (functionalList == null) {
@@ -83,6 +85,44 @@ public class FunctionalList<E> {
 		return _init.stream();
 	}
 
+	/**
+	 * Returns an iterator over the list's elements, starting with the first
+	 * one. Unlike the stream-returning methods, this iterator doesn't create
+	 * intermediate collections.
+	 *
+	 * @return an iterator over the list's elements
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+
+			@Override
+			public boolean hasNext() {
+				if (_index < _tail.size()) {
+					return true;
+				}
+
+				return false;
+			}
+
+			@Override
+			public E next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				if (_index++ == -1) {
+					return _first;
+				}
+
+				return _tail.get(_index - 1);
+			}
+
+			private int _index = -1;
+
+		};
+	}
+
 	/**
 	 * Returns the last element of the list, if it exists.
 	 *
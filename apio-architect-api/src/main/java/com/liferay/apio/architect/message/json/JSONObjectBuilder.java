@@ -14,11 +14,23 @@
 
 package com.liferay.apio.architect.message.json;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import com.liferay.apio.architect.list.FunctionalList;
+
+import java.io.IOException;
+import java.io.Writer;
 
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -80,6 +92,10 @@ import java.util.stream.Stream;
  */
 public class JSONObjectBuilder {
 
+	public JSONObjectBuilder() {
+		this(new JsonObject());
+	}
+
 	/**
 	 * Returns the JSON object constructed by the JSON object builder.
 	 *
@@ -141,6 +157,48 @@ public class JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Returns a builder for the JSON object of an embedded model. The first
+	 * time this method is called with an embedded path element list, it uses
+	 * {@code fieldStepFunction} to navigate to the model's field, and stores
+	 * the builder of that field's JSON object. Later calls with the same list
+	 * instance return the stored builder, so each field of the embedded model
+	 * is added to its JSON object directly, without navigating the path from
+	 * the root again.
+	 *
+	 * <p>
+	 * The lists are compared by identity, and {@code fieldStepFunction} must
+	 * always navigate to the same field for the same list.
+	 * </p>
+	 *
+	 * @param  embeddedPathElements the embedded model's path element list
+	 * @param  fieldStepFunction the function that navigates from this builder
+	 *         to the embedded model's field
+	 * @return the builder of the embedded model's JSON object
+	 * @review
+	 */
+	public JSONObjectBuilder nestedObject(
+		FunctionalList<String> embeddedPathElements,
+		Function<JSONObjectBuilder, FieldStep> fieldStepFunction) {
+
+		if (_jsonObjectBuilders == null) {
+			_jsonObjectBuilders = new IdentityHashMap<>();
+		}
+
+		JSONObjectBuilder jsonObjectBuilder = _jsonObjectBuilders.get(
+			embeddedPathElements);
+
+		if (jsonObjectBuilder == null) {
+			FieldStep fieldStep = fieldStepFunction.apply(this);
+
+			jsonObjectBuilder = fieldStep.objectValue();
+
+			_jsonObjectBuilders.put(embeddedPathElements, jsonObjectBuilder);
+		}
+
+		return jsonObjectBuilder;
+	}
+
 	/**
 	 * Begins creating a nested field inside the JSON object, adding a prefix to
 	 * each level.
@@ -229,6 +287,24 @@ public class JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Serializes the JSON object constructed by the JSON object builder to a
+	 * {@code Writer}, token by token, without creating its intermediate string
+	 * representation. The written JSON is the same as the one returned
+	 * by {@code build().toString()}.
+	 *
+	 * @param writer the writer to which the JSON object is written
+	 */
+	public void writeTo(Writer writer) throws IOException {
+		JsonWriter jsonWriter = new JsonWriter(writer);
+
+		jsonWriter.setLenient(true);
+
+		_jsonElementTypeAdapter.write(jsonWriter, _jsonObject);
+
+		jsonWriter.flush();
+	}
+
 	public static class ArrayValueStep {
 
 		public ArrayValueStep(JsonArray jsonArray) {
@@ -339,7 +415,8 @@ public class JSONObjectBuilder {
 	 * Defines the step to add the value of a field. The step can be another
 	 * JSON object (field methods), a JSON array ({@link #arrayValue()}), or a
 	 * primitive value ({@link #stringValue(String)}, {@link
-	 * #numberValue(Number)}, or {@link #booleanValue(Boolean)}).
+	 * #numberValue(Number)}, {@link #longValue(long)}, {@link
+	 * #doubleValue(double)}, or {@link #booleanValue(Boolean)}).
 	 */
 	public static class FieldStep {
 
@@ -375,7 +452,26 @@ public class JSONObjectBuilder {
 		 * @param value the boolean value to add to the JSON array
 		 */
 		public void booleanValue(Boolean value) {
-			_jsonObject.addProperty(_name, value);
+			if (value == null) {
+				_jsonObject.add(_name, JsonNull.INSTANCE);
+			}
+			else if (value) {
+				_jsonObject.add(_name, _trueJsonPrimitive);
+			}
+			else {
+				_jsonObject.add(_name, _falseJsonPrimitive);
+			}
+		}
+
+		/**
+		 * Adds a new double value to the JSON array, without boxing it before
+		 * it reaches the JSON object.
+		 *
+		 * @param value the double value to add to the JSON array
+		 * @review
+		 */
+		public void doubleValue(double value) {
+			_jsonObject.add(_name, new JsonPrimitive(value));
 		}
 
 		/**
@@ -446,6 +542,17 @@ public class JSONObjectBuilder {
 			}
 		}
 
+		/**
+		 * Adds a new long value to the JSON array, without boxing it before it
+		 * reaches the JSON object.
+		 *
+		 * @param value the long value to add to the JSON array
+		 * @review
+		 */
+		public void longValue(long value) {
+			_jsonObject.add(_name, new JsonPrimitive(value));
+		}
+
 		/**
 		 * Begins creating a new nested JSON object field.
 		 *
@@ -516,6 +623,30 @@ public class JSONObjectBuilder {
 			_jsonObject.addProperty(_name, value);
 		}
 
+		/**
+		 * Returns a builder for the JSON object inside the field, creating the
+		 * JSON object if it doesn't exist yet. The fields added with the
+		 * returned builder are written directly to that JSON object.
+		 *
+		 * @return the builder of the field's JSON object
+		 * @review
+		 */
+		public JSONObjectBuilder objectValue() {
+			JsonObject jsonObject = Optional.ofNullable(
+				_jsonObject.get(_name)
+			).filter(
+				JsonElement::isJsonObject
+			).map(
+				JsonObject.class::cast
+			).orElseGet(
+				JsonObject::new
+			);
+
+			_jsonObject.add(_name, jsonObject);
+
+			return new JSONObjectBuilder(jsonObject);
+		}
+
 		/**
 		 * Adds a new string to the JSON array.
 		 *
@@ -530,6 +661,18 @@ public class JSONObjectBuilder {
 
 	}
 
-	private final JsonObject _jsonObject = new JsonObject();
+	private JSONObjectBuilder(JsonObject jsonObject) {
+		_jsonObject = jsonObject;
+	}
+
+	private static final JsonPrimitive _falseJsonPrimitive = new JsonPrimitive(
+		false);
+	private static final TypeAdapter<JsonElement> _jsonElementTypeAdapter =
+		new Gson().getAdapter(JsonElement.class);
+	private static final JsonPrimitive _trueJsonPrimitive = new JsonPrimitive(
+		true);
+
+	private final JsonObject _jsonObject;
+	private Map<FunctionalList<String>, JSONObjectBuilder> _jsonObjectBuilders;
 
 }
\ No newline at end of file
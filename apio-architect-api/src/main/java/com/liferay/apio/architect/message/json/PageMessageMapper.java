@@ -146,6 +146,28 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					itemJSONObjectBuilder, fieldName, value));
 	}
 
+	/**
+	 * Maps a resource double field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemDoubleField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		double value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper -> singleModelMessageMapper.mapDoubleField(
+				itemJSONObjectBuilder, fieldName, value));
+	}
+
 	/**
 	 * Maps an embedded resource's boolean field to its JSON object
 	 * representation.
@@ -198,6 +220,32 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					value));
 	}
 
+	/**
+	 * Maps an embedded resource double field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceDoubleField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceDoubleField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
 	/**
 	 * Maps an embedded resource link to its JSON object representation.
 	 *
@@ -223,6 +271,32 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					url));
 	}
 
+	/**
+	 * Maps an embedded resource long field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceLongField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceLongField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
 	/**
 	 * Maps an embedded resource number field to its JSON object representation.
 	 *
@@ -369,6 +443,20 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					itemJSONObjectBuilder, embeddedPathElements, url));
 	}
 
+	/**
+	 * Maps the estimated number of elements in the collection to its JSON
+	 * object representation. This method is called instead of {@link
+	 * #mapItemTotalCount(JSONObjectBuilder, int)} if the page's total count is
+	 * an estimate. By default, the estimate isn't mapped.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the page
+	 * @param estimatedTotalCount the estimated number of elements in the
+	 *        collection
+	 */
+	public default void mapItemEstimatedTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int estimatedTotalCount) {
+	}
+
 	/**
 	 * Maps a resource link to its JSON object representation.
 	 *
@@ -411,6 +499,28 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					itemJSONObjectBuilder, embeddedPathElements, url));
 	}
 
+	/**
+	 * Maps a resource long field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemLongField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		long value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper -> singleModelMessageMapper.mapLongField(
+				itemJSONObjectBuilder, fieldName, value));
+	}
+
 	/**
 	 * Maps a resource number field to its JSON object representation.
 	 *
@@ -518,7 +628,8 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 
 	/**
 	 * Maps the total number of elements in the collection to its JSON object
-	 * representation.
+	 * representation. This method is only called if the page's total count is
+	 * exact.
 	 *
 	 * @param jsonObjectBuilder the JSON object builder for the page
 	 * @param totalCount the total number of elements in the collection
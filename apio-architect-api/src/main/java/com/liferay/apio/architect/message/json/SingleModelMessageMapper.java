@@ -71,6 +71,22 @@ public interface SingleModelMessageMapper<T>
 		List<Boolean> value) {
 	}
 
+	/**
+	 * Maps a resource's double field to its JSON object representation. By
+	 * default, the value is boxed and mapped with {@link
+	 * #mapNumberField(JSONObjectBuilder, String, Number)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		mapNumberField(jsonObjectBuilder, fieldName, value);
+	}
+
 	/**
 	 * Maps an embedded resource operation form's URL to its JSON object
 	 * representation.
@@ -133,6 +149,27 @@ public interface SingleModelMessageMapper<T>
 		List<Boolean> value) {
 	}
 
+	/**
+	 * Maps an embedded resource's double field to its JSON object
+	 * representation. By default, the value is boxed and mapped with {@link
+	 * #mapEmbeddedResourceNumberField(JSONObjectBuilder, FunctionalList,
+	 * String, Number)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceDoubleField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double value) {
+
+		mapEmbeddedResourceNumberField(
+			jsonObjectBuilder, embeddedPathElements, fieldName, value);
+	}
+
 	/**
 	 * Maps an embedded resource's link to its JSON object representation.
 	 *
@@ -147,6 +184,27 @@ public interface SingleModelMessageMapper<T>
 		String url) {
 	}
 
+	/**
+	 * Maps an embedded resource's long field to its JSON object
+	 * representation. By default, the value is boxed and mapped with {@link
+	 * #mapEmbeddedResourceNumberField(JSONObjectBuilder, FunctionalList,
+	 * String, Number)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long value) {
+
+		mapEmbeddedResourceNumberField(
+			jsonObjectBuilder, embeddedPathElements, fieldName, value);
+	}
+
 	/**
 	 * Maps an embedded resource's number field to its JSON object
 	 * representation.
@@ -254,6 +312,22 @@ public interface SingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String url) {
 	}
 
+	/**
+	 * Maps a resource's long field to its JSON object representation. By
+	 * default, the value is boxed and mapped with {@link
+	 * #mapNumberField(JSONObjectBuilder, String, Number)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		mapNumberField(jsonObjectBuilder, fieldName, value);
+	}
+
 	/**
 	 * Maps a resource's number field to its JSON object representation.
 	 *
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import java.util.Optional;
+
+/**
+ * Defines cursor-based pagination for a collection endpoint. Unlike {@link
+ * Pagination}, which selects a page by its position, a cursor selects a page
+ * by the opaque token returned with the previous or the next page, so
+ * resources can fetch it with keyset queries whose cost doesn't depend on how
+ * deep the page is.
+ *
+ * <p>
+ * An instance of this class is handed to resources that handle cursor
+ * parameters. The token's format is defined by each resource.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @see    CursorPageItems
+ */
+public class Cursor {
+
+	public Cursor(int itemsPerPage, String token) {
+		_itemsPerPage = itemsPerPage;
+		_token = token;
+	}
+
+	/**
+	 * Returns the selected number of items per page.
+	 *
+	 * @return the selected number of items per page
+	 */
+	public int getItemsPerPage() {
+		return _itemsPerPage;
+	}
+
+	/**
+	 * Returns the token of the requested page, if present. Returns {@code
+	 * Optional#empty()} if the first page is requested.
+	 *
+	 * @return the requested page's token, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<String> getTokenOptional() {
+		return Optional.ofNullable(_token);
+	}
+
+	private final int _itemsPerPage;
+	private final String _token;
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Provides the information needed to construct a valid cursor-based {@link
+ * Page}. Besides the page's items, instances of this class hold the opaque
+ * tokens of the pages that precede and follow it.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @see    Cursor
+ */
+public class CursorPageItems<T> extends PageItems<T> {
+
+	public CursorPageItems(
+		Collection<T> items, int totalCount, String previousToken,
+		String nextToken) {
+
+		this(
+			items, totalCount, TotalCountType.EXACT, previousToken, nextToken);
+	}
+
+	public CursorPageItems(
+		Collection<T> items, int totalCount, TotalCountType totalCountType,
+		String previousToken, String nextToken) {
+
+		super(items, totalCount, totalCountType);
+
+		_previousToken = previousToken;
+		_nextToken = nextToken;
+	}
+
+	public CursorPageItems(
+		Collection<T> items, String previousToken, String nextToken) {
+
+		this(items, 0, TotalCountType.UNKNOWN, previousToken, nextToken);
+	}
+
+	/**
+	 * Returns the token of the next page, if present. Returns {@code
+	 * Optional#empty()} if this is the collection's last page.
+	 *
+	 * @return the next page's token, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<String> getNextTokenOptional() {
+		return Optional.ofNullable(_nextToken);
+	}
+
+	/**
+	 * Returns the token of the previous page, if present. Returns {@code
+	 * Optional#empty()} if this is the collection's first page.
+	 *
+	 * @return the previous page's token, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<String> getPreviousTokenOptional() {
+		return Optional.ofNullable(_previousToken);
+	}
+
+	private final String _nextToken;
+	private final String _previousToken;
+
+}
\ No newline at end of file
@@ -42,6 +42,42 @@ public class Page<T> {
 		this(resourceName, pageItems, pagination, null, operations);
 	}
 
+	public Page(
+		String resourceName, CursorPageItems<T> cursorPageItems, Cursor cursor,
+		List<Operation> operations) {
+
+		this(resourceName, cursorPageItems, cursor, null, operations);
+	}
+
+	public Page(
+		String resourceName, CursorPageItems<T> cursorPageItems, Cursor cursor,
+		Path path, List<Operation> operations) {
+
+		_resourceName = resourceName;
+
+		_items = cursorPageItems.getItems();
+		_itemsPerPage = cursor.getItemsPerPage();
+		_pageNumber = 1;
+		_totalCount = cursorPageItems.getTotalCount();
+		_totalCountType = cursorPageItems.getTotalCountType();
+		_path = path;
+		_operations = operations;
+
+		_cursorBased = true;
+		_nextToken = cursorPageItems.getNextTokenOptional(
+		).orElse(
+			null
+		);
+		_previousToken = cursorPageItems.getPreviousTokenOptional(
+		).orElse(
+			null
+		);
+		_token = cursor.getTokenOptional(
+		).orElse(
+			null
+		);
+	}
+
 	public Page(
 		String resourceName, PageItems<T> pageItems, Pagination pagination,
 		Path path, List<Operation> operations) {
@@ -52,8 +88,14 @@ public class Page<T> {
 		_itemsPerPage = pagination.getItemsPerPage();
 		_pageNumber = pagination.getPageNumber();
 		_totalCount = pageItems.getTotalCount();
+		_totalCountType = pageItems.getTotalCountType();
 		_path = path;
 		_operations = operations;
+
+		_cursorBased = false;
+		_nextToken = null;
+		_previousToken = null;
+		_token = null;
 	}
 
 	/**
@@ -75,7 +117,8 @@ public class Page<T> {
 	}
 
 	/**
-	 * Returns the number of the collection's last page.
+	 * Returns the number of the collection's last page. This number is only
+	 * accurate if the page's total count is {@link TotalCountType#EXACT}.
 	 *
 	 * @return the number of the collection's last page
 	 */
@@ -87,6 +130,18 @@ public class Page<T> {
 		return -Math.floorDiv(-_totalCount, _itemsPerPage);
 	}
 
+	/**
+	 * Returns the token of the next page, if this is a cursor-based page and
+	 * isn't the collection's last page. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the next page's token, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<String> getNextTokenOptional() {
+		return Optional.ofNullable(_nextToken);
+	}
+
 	/**
 	 * Returns the list of operations for the page.
 	 *
@@ -97,7 +152,8 @@ public class Page<T> {
 	}
 
 	/**
-	 * Returns the page number in the collection.
+	 * Returns the page number in the collection. Cursor-based pages don't know
+	 * their position, so this method always returns {@code 1} for them.
 	 *
 	 * @return the page number in the collection
 	 */
@@ -115,6 +171,18 @@ public class Page<T> {
 		return Optional.ofNullable(_path);
 	}
 
+	/**
+	 * Returns the token of the previous page, if this is a cursor-based page
+	 * and isn't the collection's first page. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the previous page's token, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<String> getPreviousTokenOptional() {
+		return Optional.ofNullable(_previousToken);
+	}
+
 	/**
 	 * Returns the resource's name.
 	 *
@@ -125,21 +193,58 @@ public class Page<T> {
 	}
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the token used to request this page, if this is a cursor-based
+	 * page that isn't the collection's first page. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the page's token, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<String> getTokenOptional() {
+		return Optional.ofNullable(_token);
+	}
+
+	/**
+	 * Returns the total number of elements in the collection. If the total
+	 * count is an estimate, this method returns the estimate. If it's unknown,
+	 * this method returns {@code 0}.
 	 *
 	 * @return the total number of elements in the collection
+	 * @see    #getTotalCountType()
 	 */
 	public int getTotalCount() {
 		return _totalCount;
 	}
 
+	/**
+	 * Returns how accurate the total number of elements in the collection is.
+	 *
+	 * @return the total count's type
+	 */
+	public TotalCountType getTotalCountType() {
+		return _totalCountType;
+	}
+
 	/**
 	 * Returns {@code true} if another page follows this page in the collection.
+	 * If the total count isn't exact, a full page is assumed to be followed by
+	 * another page.
 	 *
 	 * @return {@code true} if another page follows this page in the collection;
 	 *         {@code false} otherwise
 	 */
 	public boolean hasNext() {
+		if (_cursorBased) {
+			return _nextToken != null;
+		}
+
+		if (_totalCountType != TotalCountType.EXACT) {
+			if (_items.size() >= _itemsPerPage) {
+				return true;
+			}
+
+			return false;
+		}
+
 		if (getLastPageNumber() > _pageNumber) {
 			return true;
 		}
@@ -155,6 +260,10 @@ public class Page<T> {
 	 *         collection; {@code false} otherwise
 	 */
 	public boolean hasPrevious() {
+		if (_cursorBased) {
+			return _previousToken != null;
+		}
+
 		if (_pageNumber > 1) {
 			return true;
 		}
@@ -162,12 +271,28 @@ public class Page<T> {
 		return false;
 	}
 
+	/**
+	 * Returns {@code true} if this page was obtained with a {@link Cursor}
+	 * instead of a {@link Pagination}.
+	 *
+	 * @return {@code true} if this is a cursor-based page; {@code false}
+	 *         otherwise
+	 */
+	public boolean isCursorBased() {
+		return _cursorBased;
+	}
+
+	private final boolean _cursorBased;
 	private final Collection<T> _items;
 	private final int _itemsPerPage;
+	private final String _nextToken;
 	private final List<Operation> _operations;
 	private final int _pageNumber;
 	private final Path _path;
+	private final String _previousToken;
 	private final String _resourceName;
+	private final String _token;
 	private final int _totalCount;
+	private final TotalCountType _totalCountType;
 
 }
\ No newline at end of file
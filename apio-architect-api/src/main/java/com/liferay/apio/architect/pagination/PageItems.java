@@ -26,9 +26,20 @@ import java.util.Collection;
  */
 public class PageItems<T> {
 
+	public PageItems(Collection<T> items) {
+		this(items, 0, TotalCountType.UNKNOWN);
+	}
+
 	public PageItems(Collection<T> items, int totalCount) {
+		this(items, totalCount, TotalCountType.EXACT);
+	}
+
+	public PageItems(
+		Collection<T> items, int totalCount, TotalCountType totalCountType) {
+
 		_items = items;
 		_totalCount = totalCount;
+		_totalCountType = totalCountType;
 	}
 
 	/**
@@ -41,15 +52,28 @@ public class PageItems<T> {
 	}
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the total number of elements in the collection. If the total
+	 * count is an estimate, this method returns the estimate. If it's unknown,
+	 * this method returns {@code 0}.
 	 *
 	 * @return the total number of elements in the collection
+	 * @see    #getTotalCountType()
 	 */
 	public int getTotalCount() {
 		return _totalCount;
 	}
 
+	/**
+	 * Returns how accurate the total number of elements in the collection is.
+	 *
+	 * @return the total count's type
+	 */
+	public TotalCountType getTotalCountType() {
+		return _totalCountType;
+	}
+
 	private final Collection<T> _items;
 	private final int _totalCount;
+	private final TotalCountType _totalCountType;
 
 }
\ No newline at end of file
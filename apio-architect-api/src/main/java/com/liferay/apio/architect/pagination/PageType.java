@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.pagination;
 
+import java.util.Optional;
+
 /**
  * Represents the different types of pages.
  *
@@ -59,4 +61,30 @@ public enum PageType {
 		}
 	}
 
+	/**
+	 * Returns the corresponding cursor token for a certain page type, if the
+	 * page is cursor-based and the token exists. Returns {@code
+	 * Optional#empty()} otherwise. The first page never has a token, and
+	 * cursor-based pages don't have a last page.
+	 *
+	 * @param  page the original page
+	 * @return the token for the page type, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<String> getTokenOptional(Page page) {
+		if (this == CURRENT) {
+			return page.getTokenOptional();
+		}
+
+		if (this == NEXT) {
+			return page.getNextTokenOptional();
+		}
+
+		if (this == PREVIOUS) {
+			return page.getPreviousTokenOptional();
+		}
+
+		return Optional.empty();
+	}
+
 }
\ No newline at end of file
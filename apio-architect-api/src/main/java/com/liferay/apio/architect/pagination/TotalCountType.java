@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+/**
+ * Represents how accurate the total count of a {@link Page} is.
+ *
+ * <p>
+ * Counting a large collection can cost more than fetching one of its pages, so
+ * resources can return pages with an estimated count (for example, the one
+ * kept in the database's statistics) or without a count at all.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public enum TotalCountType {
+
+	ESTIMATED, EXACT, UNKNOWN
+
+}
\ No newline at end of file
@@ -37,4 +37,18 @@ public interface Provider<T> {
 	 */
 	public T createContext(HttpServletRequest httpServletRequest);
 
+	/**
+	 * Returns {@code true} if the instance created for a request can be reused
+	 * every time {@code T} is provided during that same request. By default,
+	 * a new instance is created each time. Providers whose instances only
+	 * depend on the request and are idempotent can override this method and
+	 * return {@code true}.
+	 *
+	 * @return {@code true} if the instance can be reused during the request;
+	 *         {@code false} otherwise
+	 */
+	public default boolean isCacheable() {
+		return false;
+	}
+
 }
\ No newline at end of file
@@ -14,17 +14,21 @@
 
 package com.liferay.apio.architect.representor;
 
-import static com.liferay.apio.architect.date.DateTransformer.asString;
-
 import com.liferay.apio.architect.alias.BinaryFunction;
+import com.liferay.apio.architect.date.DateTransformer;
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.language.Language;
 import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.function.DoubleFieldFunction;
 import com.liferay.apio.architect.representor.function.FieldFunction;
+import com.liferay.apio.architect.representor.function.LongFieldFunction;
 import com.liferay.apio.architect.representor.function.NestedFieldFunction;
 import com.liferay.apio.architect.unsafe.Unsafe;
 
+import java.time.Instant;
+import java.time.LocalDate;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -35,6 +39,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Base class for {@code Representors}.
@@ -114,6 +121,23 @@ public abstract class BaseRepresentor<T> {
 		);
 	}
 
+	/**
+	 * Returns the list containing the double field names and the functions to
+	 * get those fields without boxing them.
+	 *
+	 * @return the list containing the double field names and functions
+	 * @review
+	 */
+	public List<DoubleFieldFunction<T>> getDoubleFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("DOUBLE")
+		).<List<DoubleFieldFunction<T>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	/**
 	 * Returns the list containing the links field names and the functions to
 	 * get those links.
@@ -130,6 +154,23 @@ public abstract class BaseRepresentor<T> {
 		);
 	}
 
+	/**
+	 * Returns the list containing the long field names and the functions to
+	 * get those fields without boxing them.
+	 *
+	 * @return the list containing the long field names and functions
+	 * @review
+	 */
+	public List<LongFieldFunction<T>> getLongFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("LONG")
+		).<List<LongFieldFunction<T>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	/**
 	 * Returns a map containing the localized string field names and the
 	 * functions to get those fields.
@@ -273,6 +314,19 @@ public abstract class BaseRepresentor<T> {
 		_addFieldFunction(key, binaryFunction, "BINARY");
 	}
 
+	/**
+	 * Adds the name of a binary resource whose content isn't obtained from the
+	 * model, so the resource is still linked from the model's representations.
+	 * The function registered in the binary field list for this key always
+	 * returns {@code null}.
+	 *
+	 * @param  key the binary resource's name
+	 * @review
+	 */
+	protected void addBinaryKey(String key) {
+		_addFieldFunction(key, model -> null, "BINARY");
+	}
+
 	/**
 	 * Adds a boolean function to the {@code Representor}.
 	 *
@@ -299,6 +353,20 @@ public abstract class BaseRepresentor<T> {
 		_addFieldFunction(key, function, "BOOLEAN_LIST");
 	}
 
+	/**
+	 * Adds a double function to the {@code Representor}.
+	 *
+	 * @param  key the field's name
+	 * @param  toDoubleFunction the function used to get the double
+	 * @review
+	 */
+	protected void addDoubleFunction(
+		String key, ToDoubleFunction<T> toDoubleFunction) {
+
+		_addFieldFunction(
+			new DoubleFieldFunction<>(key, toDoubleFunction), "DOUBLE");
+	}
+
 	/**
 	 * Adds a language function to the {@code Representor}.
 	 *
@@ -323,6 +391,20 @@ public abstract class BaseRepresentor<T> {
 		_addFieldFunction(key, function, "LINK");
 	}
 
+	/**
+	 * Adds a long function to the {@code Representor}.
+	 *
+	 * @param  key the field's name
+	 * @param  toLongFunction the function used to get the long
+	 * @review
+	 */
+	protected void addLongFunction(
+		String key, ToLongFunction<T> toLongFunction) {
+
+		_addFieldFunction(
+			new LongFieldFunction<>(key, toLongFunction), "LONG");
+	}
+
 	/**
 	 * Adds a nested field to the {@code Representor}.
 	 *
@@ -494,6 +576,23 @@ public abstract class BaseRepresentor<T> {
 				return _this;
 			}
 
+			/**
+			 * Adds information about a resource's boolean field. Unlike {@link
+			 * #addBoolean(String, Function)}, the predicate returns a primitive
+			 * {@code boolean}, which is always mapped to the shared {@code
+			 * Boolean} instances, so no object is allocated for the field.
+			 *
+			 * @param  key the field's name
+			 * @param  predicate the predicate used to get the boolean value
+			 * @return the builder's step
+			 * @review
+			 */
+			public U addBooleanPrimitive(String key, Predicate<T> predicate) {
+				baseRepresentor.addBooleanFunction(key, predicate::test);
+
+				return _this;
+			}
+
 			/**
 			 * Adds information about a resource's date field.
 			 *
@@ -502,16 +601,45 @@ public abstract class BaseRepresentor<T> {
 			 * @return the builder's step
 			 */
 			public U addDate(String key, Function<T, Date> function) {
-				Function<Date, String> formatFunction = date -> {
-					if (date == null) {
-						return null;
-					}
+				Function<T, String> stringFunction = _toStringFunction(
+					function, DateTransformer::asString);
 
-					return asString(date);
-				};
+				baseRepresentor.addStringFunction(key, stringFunction);
 
-				baseRepresentor.addStringFunction(
-					key, function.andThen(formatFunction));
+				return _this;
+			}
+
+			/**
+			 * Adds information about a resource's double field. The value is
+			 * carried as a primitive {@code double} until it's written.
+			 *
+			 * @param  key the field's name
+			 * @param  toDoubleFunction the function used to get the double
+			 *         value
+			 * @return the builder's step
+			 * @review
+			 */
+			public U addDouble(
+				String key, ToDoubleFunction<T> toDoubleFunction) {
+
+				baseRepresentor.addDoubleFunction(key, toDoubleFunction);
+
+				return _this;
+			}
+
+			/**
+			 * Adds information about a resource's instant field. The instant is
+			 * represented the same way as a date field.
+			 *
+			 * @param  key the field's name
+			 * @param  function the function used to get the instant value
+			 * @return the builder's step
+			 */
+			public U addInstant(String key, Function<T, Instant> function) {
+				Function<T, String> stringFunction = _toStringFunction(
+					function, DateTransformer::asString);
+
+				baseRepresentor.addStringFunction(key, stringFunction);
 
 				return _this;
 			}
@@ -548,6 +676,25 @@ public abstract class BaseRepresentor<T> {
 				return _this;
 			}
 
+			/**
+			 * Adds information about a resource's local date field, represented
+			 * with the {@code yyyy-MM-dd} pattern.
+			 *
+			 * @param  key the field's name
+			 * @param  function the function used to get the local date value
+			 * @return the builder's step
+			 */
+			public U addLocalDate(
+				String key, Function<T, LocalDate> function) {
+
+				Function<T, String> stringFunction = _toStringFunction(
+					function, DateTransformer::asString);
+
+				baseRepresentor.addStringFunction(key, stringFunction);
+
+				return _this;
+			}
+
 			/**
 			 * Provides information about a resource localized string field.
 			 *
@@ -580,6 +727,21 @@ public abstract class BaseRepresentor<T> {
 						t, language.getPreferredLocale()));
 			}
 
+			/**
+			 * Adds information about a resource's long field. The value is
+			 * carried as a primitive {@code long} until it's written.
+			 *
+			 * @param  key the field's name
+			 * @param  toLongFunction the function used to get the long value
+			 * @return the builder's step
+			 * @review
+			 */
+			public U addLong(String key, ToLongFunction<T> toLongFunction) {
+				baseRepresentor.addLongFunction(key, toLongFunction);
+
+				return _this;
+			}
+
 			/**
 			 * Provides information about a nested field.
 			 *
@@ -682,6 +844,20 @@ public abstract class BaseRepresentor<T> {
 				_this = getThis();
 			}
 
+			private <V> Function<T, String> _toStringFunction(
+				Function<T, V> function, Function<V, String> formatFunction) {
+
+				return t -> {
+					V value = function.apply(t);
+
+					if (value == null) {
+						return null;
+					}
+
+					return formatFunction.apply(value);
+				};
+			}
+
 			private final U _this;
 
 		}
@@ -694,15 +870,19 @@ public abstract class BaseRepresentor<T> {
 
 	}
 
-	private <S> void _addFieldFunction(
-		String key, Function<T, S> function, String mapKey) {
+	private void _addFieldFunction(
+		FieldFunction<T, ?> fieldFunction, String mapKey) {
 
 		List<FieldFunction<T, ?>> list = fieldFunctions.computeIfAbsent(
 			mapKey, __ -> new ArrayList<>());
 
-		FieldFunction<T, S> fieldFunction = new FieldFunction<>(key, function);
-
 		list.add(fieldFunction);
 	}
 
+	private <S> void _addFieldFunction(
+		String key, Function<T, S> function, String mapKey) {
+
+		_addFieldFunction(new FieldFunction<>(key, function), mapKey);
+	}
+
 }
\ No newline at end of file
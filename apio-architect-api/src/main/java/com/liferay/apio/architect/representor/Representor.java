@@ -14,14 +14,20 @@
 
 package com.liferay.apio.architect.representor;
 
+import com.liferay.apio.architect.alias.IdentifierBinaryFunction;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.unsafe.Unsafe;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -41,6 +47,26 @@ import java.util.stream.Stream;
  */
 public class Representor<T> extends BaseRepresentor<T> {
 
+	/**
+	 * Returns the function that obtains a binary resource directly from the
+	 * model's identifier, if present. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @param  binaryId the ID of the binary resource
+	 * @return the identifier-based binary function, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public <S> Optional<IdentifierBinaryFunction<S>>
+		getIdentifierBinaryFunctionOptional(String binaryId) {
+
+		return Optional.ofNullable(
+			_identifierBinaryFunctions.get(binaryId)
+		).map(
+			Unsafe::unsafeCast
+		);
+	}
+
 	/**
 	 * Returns the model's identifier.
 	 *
@@ -51,6 +77,23 @@ public class Representor<T> extends BaseRepresentor<T> {
 		return _identifierFunction.apply(model);
 	}
 
+	/**
+	 * Returns the model's last modification date, if the representor has a
+	 * last-modified function and it returns a date for the model; {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  model the model instance
+	 * @return the model's last modification date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Date> getLastModifiedOptional(T model) {
+		return Optional.ofNullable(
+			_lastModifiedFunction
+		).map(
+			function -> function.apply(model)
+		);
+	}
+
 	/**
 	 * Returns the related collections.
 	 *
@@ -68,6 +111,25 @@ public class Representor<T> extends BaseRepresentor<T> {
 		);
 	}
 
+	/**
+	 * Returns the model's version, if the representor has a version function
+	 * and it returns a version for the model; {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @param  model the model instance
+	 * @return the model's version, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<String> getVersionOptional(T model) {
+		return Optional.ofNullable(
+			_versionFunction
+		).map(
+			function -> function.apply(model)
+		).map(
+			String::valueOf
+		);
+	}
+
 	@Override
 	public boolean isNested() {
 		return false;
@@ -115,6 +177,30 @@ public class Representor<T> extends BaseRepresentor<T> {
 
 		public class FirstStep extends BaseFirstStep<FirstStep> {
 
+			/**
+			 * Adds a binary file to a resource, obtained directly from the
+			 * resource's identifier. Unlike {@link #addBinary(String,
+			 * com.liferay.apio.architect.alias.BinaryFunction)}, the model
+			 * isn't loaded before the binary file is requested, so the item
+			 * getter doesn't check the request's permissions. The function
+			 * receives the request's credentials and must check them itself.
+			 *
+			 * @param  key the binary resource's name
+			 * @param  identifierBinaryFunction the function used to get the
+			 *         binary file from the identifier
+			 * @return the builder's step
+			 * @review
+			 */
+			public FirstStep addIdentifierBinary(
+				String key,
+				IdentifierBinaryFunction<U> identifierBinaryFunction) {
+
+				baseRepresentor._addIdentifierBinaryFunction(
+					key, identifierBinaryFunction);
+
+				return this;
+			}
+
 			/**
 			 * Adds information about the bidirectional relation of a linked
 			 * resource in the actual resource and a collection of items in the
@@ -164,6 +250,40 @@ public class Representor<T> extends BaseRepresentor<T> {
 				return this;
 			}
 
+			/**
+			 * Provides a lambda function that can be used to obtain a model's
+			 * last modification date. This date is sent in the {@code
+			 * Last-Modified} header, and lets clients make conditional
+			 * requests with {@code If-Modified-Since}.
+			 *
+			 * @param  lastModifiedFunction lambda function used to obtain a
+			 *         model's last modification date
+			 * @return the builder's step
+			 */
+			public FirstStep lastModified(
+				Function<T, Date> lastModifiedFunction) {
+
+				baseRepresentor._setLastModifiedFunction(lastModifiedFunction);
+
+				return this;
+			}
+
+			/**
+			 * Provides a lambda function that can be used to obtain a model's
+			 * version. The version must change every time the model changes.
+			 * It's used to create the {@code ETag} header, and lets clients
+			 * make conditional requests with {@code If-None-Match}.
+			 *
+			 * @param  versionFunction lambda function used to obtain a model's
+			 *         version
+			 * @return the builder's step
+			 */
+			public FirstStep version(Function<T, ?> versionFunction) {
+				baseRepresentor._setVersionFunction(versionFunction);
+
+				return this;
+			}
+
 		}
 
 		public class IdentifierStep {
@@ -195,9 +315,18 @@ public class Representor<T> extends BaseRepresentor<T> {
 	private Representor(Supplier<List<RelatedCollection<?>>> supplier) {
 		_supplier = supplier;
 
+		_identifierBinaryFunctions = new HashMap<>();
 		_relatedCollections = new ArrayList<>();
 	}
 
+	private void _addIdentifierBinaryFunction(
+		String key, IdentifierBinaryFunction<?> identifierBinaryFunction) {
+
+		_identifierBinaryFunctions.put(key, identifierBinaryFunction);
+
+		addBinaryKey(key);
+	}
+
 	private <S extends Identifier> void _addRelatedCollection(
 		String key, Class<S> itemIdentifierClass) {
 
@@ -211,8 +340,22 @@ public class Representor<T> extends BaseRepresentor<T> {
 		_identifierFunction = identifierFunction;
 	}
 
+	private void _setLastModifiedFunction(
+		Function<T, Date> lastModifiedFunction) {
+
+		_lastModifiedFunction = lastModifiedFunction;
+	}
+
+	private void _setVersionFunction(Function<T, ?> versionFunction) {
+		_versionFunction = versionFunction;
+	}
+
+	private final Map<String, IdentifierBinaryFunction<?>>
+		_identifierBinaryFunctions;
 	private Function<T, ?> _identifierFunction;
+	private Function<T, Date> _lastModifiedFunction;
 	private final List<RelatedCollection<?>> _relatedCollections;
 	private final Supplier<List<RelatedCollection<?>>> _supplier;
+	private Function<T, ?> _versionFunction;
 
 }
\ No newline at end of file
@@ -16,6 +16,9 @@ package com.liferay.apio.architect.response.control;
 
 import aQute.bnd.annotation.ProviderType;
 
+import com.liferay.apio.architect.list.FunctionalList;
+
+import java.util.StringJoiner;
 import java.util.function.Predicate;
 
 /**
@@ -34,4 +37,25 @@ import java.util.function.Predicate;
  */
 @ProviderType
 public interface Embedded extends Predicate<String> {
+
+	/**
+	 * Returns {@code true} if the relation with the provided embedded path
+	 * elements must be embedded. This is equivalent to testing the elements
+	 * joined with dots, but implementations can override it to walk the
+	 * elements without building the dotted path.
+	 *
+	 * @param  embeddedPathElements the relation's embedded path elements
+	 * @return {@code true} if the relation must be embedded; {@code false}
+	 *         otherwise
+	 */
+	public default boolean isEmbedded(
+		FunctionalList<String> embeddedPathElements) {
+
+		StringJoiner stringJoiner = new StringJoiner(".");
+
+		embeddedPathElements.forEach(stringJoiner::add);
+
+		return test(stringJoiner.toString());
+	}
+
 }
\ No newline at end of file
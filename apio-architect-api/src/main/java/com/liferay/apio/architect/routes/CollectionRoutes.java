@@ -16,9 +16,13 @@ package com.liferay.apio.architect.routes;
 
 import static com.liferay.apio.architect.operation.Method.POST;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provide;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toCompletionStage;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toTry;
 
 import com.liferay.apio.architect.alias.ProvideFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetPageFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
 import com.liferay.apio.architect.credentials.Credentials;
@@ -30,6 +34,8 @@ import com.liferay.apio.architect.function.throwable.ThrowableTetraFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Cursor;
+import com.liferay.apio.architect.pagination.CursorPageItems;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
@@ -39,6 +45,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -59,20 +67,104 @@ import java.util.function.Function;
 public class CollectionRoutes<T> {
 
 	public CollectionRoutes(Builder<T> builder) {
+		_asyncCreateItemFunction = builder._asyncCreateItemFunction;
+		_asyncGetPageFunction = builder._asyncGetPageFunction;
 		_createItemFunction = builder._createItemFunction;
 		_form = builder._form;
 		_getPageFunction = builder._getPageFunction;
 	}
 
+	/**
+	 * Returns the function that is used to create a collection item without
+	 * blocking the calling thread, if the endpoint was added through the
+	 * {@link Builder} and the function therefore exists. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * Creators added with one of the synchronous {@code addCreator} methods
+	 * are adapted to return an already completed stage.
+	 * </p>
+	 *
+	 * @return the function used to create a collection item, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<AsyncCreateItemFunction<T>>
+		getAsyncCreateItemFunctionOptional() {
+
+		if (_asyncCreateItemFunction != null) {
+			return Optional.of(_asyncCreateItemFunction);
+		}
+
+		Optional<CreateItemFunction<T>> optional =
+			getCreateItemFunctionOptional();
+
+		return optional.map(
+			createItemFunction -> httpServletRequest -> body ->
+				CompletableFuture.completedFuture(
+					createItemFunction.apply(
+						httpServletRequest
+					).apply(
+						body
+					))
+		);
+	}
+
+	/**
+	 * Returns the function used to obtain the page without blocking the
+	 * calling thread, if the endpoint was added through the {@link Builder}
+	 * and the function therefore exists. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * <p>
+	 * Getters added with one of the synchronous {@code addGetter} methods are
+	 * adapted to return an already completed stage.
+	 * </p>
+	 *
+	 * @return the function used to obtain the page, if the function exists;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<AsyncGetPageFunction<T>> getAsyncGetPageFunctionOptional() {
+		if (_asyncGetPageFunction != null) {
+			return Optional.of(_asyncGetPageFunction);
+		}
+
+		Optional<GetPageFunction<T>> optional = getGetPageFunctionOptional();
+
+		return optional.map(
+			getPageFunction -> httpServletRequest ->
+				CompletableFuture.completedFuture(
+					getPageFunction.apply(httpServletRequest))
+		);
+	}
+
 	/**
 	 * Returns the function that is used to create a collection item, if the
 	 * endpoint was added through the {@link Builder} and the function therefore
 	 * exists. Returns {@code Optional#empty()} otherwise.
 	 *
+	 * <p>
+	 * Creators added with one of the {@code addAsyncCreator} methods are
+	 * adapted to block the calling thread until the item is created.
+	 * </p>
+	 *
 	 * @return the function used to create a collection item, if the function
 	 *         exists; {@code Optional#empty()} otherwise
 	 */
 	public Optional<CreateItemFunction<T>> getCreateItemFunctionOptional() {
+		if ((_createItemFunction == null) &&
+			(_asyncCreateItemFunction != null)) {
+
+			return Optional.of(
+				httpServletRequest -> body -> toTry(
+					_asyncCreateItemFunction.apply(
+						httpServletRequest
+					).apply(
+						body
+					)));
+		}
+
 		return Optional.ofNullable(_createItemFunction);
 	}
 
@@ -93,16 +185,33 @@ public class CollectionRoutes<T> {
 	 * through the {@link Builder} and the function therefore exists. Returns
 	 * {@code Optional#empty()} otherwise.
 	 *
+	 * <p>
+	 * Getters added with one of the {@code addAsyncGetter} methods are adapted
+	 * to block the calling thread until the page is calculated.
+	 * </p>
+	 *
 	 * @return the function used to obtain the page, if the function exists;
 	 *         {@code Optional#empty()} otherwise
 	 */
 	public Optional<GetPageFunction<T>> getGetPageFunctionOptional() {
+		if ((_getPageFunction == null) && (_asyncGetPageFunction != null)) {
+			return Optional.of(
+				httpServletRequest -> toTry(
+					_asyncGetPageFunction.apply(httpServletRequest)));
+		}
+
 		return Optional.ofNullable(_getPageFunction);
 	}
 
 	/**
 	 * Creates the {@link CollectionRoutes} of a {@link
 	 * com.liferay.apio.architect.router.CollectionRouter}.
+	 *
+	 * <p>
+	 * Each operation has a single route. Adding a getter or a creator replaces
+	 * the one added before for the same operation, whether it was added with
+	 * the synchronous or the asynchronous method.
+	 * </p>
 	 */
 	@SuppressWarnings("unused")
 	public static class Builder<T> {
@@ -116,6 +225,157 @@ public class CollectionRoutes<T> {
 			_neededProviderConsumer = neededProviderConsumer;
 		}
 
+		/**
+		 * Adds a route to an asynchronous creator function that has one extra
+		 * parameter. The creator function returns a completion stage, so the
+		 * request's thread isn't blocked while the item is being created.
+		 *
+		 * @param  throwableBiFunction the creator function
+		 * @param  aClass the class of the creator function's second parameter
+		 * @param  permissionFunction the permission function for this route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, R> Builder<T> addAsyncCreator(
+			ThrowableBiFunction<R, A, CompletionStage<T>> throwableBiFunction,
+			Class<A> aClass, Function<Credentials, Boolean> permissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_collectionPermissionFunction = permissionFunction;
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("c", _name)));
+
+			_form = form;
+
+			_createItemFunction = null;
+
+			_asyncCreateItemFunction = httpServletRequest -> body ->
+				toCompletionStage(
+					provide(
+						_provideFunction.apply(httpServletRequest), aClass,
+						a -> throwableBiFunction.apply(
+							form.get(body), a
+						).thenApply(
+							t -> Try.success(
+								new SingleModel<>(
+									t, _name, Collections.emptyList()))
+						)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous creator function that has no extra
+		 * parameters. The creator function returns a completion stage, so the
+		 * request's thread isn't blocked while the item is being created.
+		 *
+		 * @param  throwableFunction the creator function
+		 * @param  permissionFunction the permission function for this route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 * @review
+		 */
+		public <R> Builder<T> addAsyncCreator(
+			ThrowableFunction<R, CompletionStage<T>> throwableFunction,
+			Function<Credentials, Boolean> permissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_collectionPermissionFunction = permissionFunction;
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("c", _name)));
+
+			_form = form;
+
+			_createItemFunction = null;
+
+			_asyncCreateItemFunction = httpServletRequest -> body ->
+				toCompletionStage(
+					Try.fromFallible(
+						() -> throwableFunction.apply(
+							form.get(body)
+						).thenApply(
+							t -> Try.success(
+								new SingleModel<>(
+									t, _name, Collections.emptyList()))
+						)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with one
+		 * extra parameter. The page function returns a completion stage, so the
+		 * request's thread isn't blocked while the page is being calculated.
+		 *
+		 * @param  throwableBiFunction the function that calculates the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T> addAsyncGetter(
+			ThrowableBiFunction<Pagination, A, CompletionStage<PageItems<T>>>
+				throwableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_getPageFunction = null;
+
+			_asyncGetPageFunction = httpServletRequest -> toCompletionStage(
+				provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, Credentials.class,
+					pagination -> a -> credentials -> throwableBiFunction.apply(
+						pagination, a
+					).thenApply(
+						items -> Try.success(
+							new Page<>(
+								_name, items, pagination,
+								_getOperations(credentials)))
+					)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with none
+		 * extra parameters. The page function returns a completion stage, so
+		 * the request's thread isn't blocked while the page is being
+		 * calculated.
+		 *
+		 * @param  throwableFunction the function that calculates the page
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T> addAsyncGetter(
+			ThrowableFunction<Pagination, CompletionStage<PageItems<T>>>
+				throwableFunction) {
+
+			_getPageFunction = null;
+
+			_asyncGetPageFunction = httpServletRequest -> toCompletionStage(
+				provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, Credentials.class,
+					pagination -> credentials -> throwableFunction.apply(
+						pagination
+					).thenApply(
+						items -> Try.success(
+							new Page<>(
+								_name, items, pagination,
+								_getOperations(credentials)))
+					)));
+
+			return this;
+		}
+
 		/**
 		 * Adds a route to a creator function that has one extra parameter.
 		 *
@@ -140,6 +400,8 @@ public class CollectionRoutes<T> {
 
 			_form = form;
 
+			_asyncCreateItemFunction = null;
+
 			_createItemFunction = httpServletRequest -> body -> provide(
 				_provideFunction.apply(httpServletRequest), aClass,
 				a -> throwableBiFunction.andThen(
@@ -172,6 +434,8 @@ public class CollectionRoutes<T> {
 
 			_form = form;
 
+			_asyncCreateItemFunction = null;
+
 			_createItemFunction = httpServletRequest -> body ->
 				Try.fromFallible(
 					() -> throwableFunction.andThen(
@@ -215,6 +479,8 @@ public class CollectionRoutes<T> {
 
 			_form = form;
 
+			_asyncCreateItemFunction = null;
+
 			_createItemFunction = httpServletRequest -> body -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				cClass, dClass,
@@ -256,6 +522,8 @@ public class CollectionRoutes<T> {
 
 			_form = form;
 
+			_asyncCreateItemFunction = null;
+
 			_createItemFunction = httpServletRequest -> body -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				cClass,
@@ -295,6 +563,8 @@ public class CollectionRoutes<T> {
 
 			_form = form;
 
+			_asyncCreateItemFunction = null;
+
 			_createItemFunction = httpServletRequest -> body -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				a -> b -> throwableTriFunction.andThen(
@@ -306,6 +576,176 @@ public class CollectionRoutes<T> {
 			return this;
 		}
 
+		/**
+		 * Adds a route to a cursor-based collection page function with one
+		 * extra parameter.
+		 *
+		 * @param  throwableBiFunction the function that calculates the page
+		 * @param  aClass the class of the page function's third parameter
+		 * @return the updated builder
+		 */
+		public <A> Builder<T> addCursorGetter(
+			ThrowableBiFunction<Cursor, A, CursorPageItems<T>>
+				throwableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_asyncGetPageFunction = null;
+
+			_getPageFunction = httpServletRequest -> provide(
+				_provideFunction.apply(httpServletRequest), Cursor.class,
+				aClass, Credentials.class,
+				cursor -> a -> credentials -> throwableBiFunction.andThen(
+					items -> new Page<>(
+						_name, items, cursor, _getOperations(credentials))
+				).apply(
+					cursor, a
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a cursor-based collection page function with none
+		 * extra parameters.
+		 *
+		 * @param  throwableFunction the function that calculates the page
+		 * @return the updated builder
+		 */
+		public Builder<T> addCursorGetter(
+			ThrowableFunction<Cursor, CursorPageItems<T>> throwableFunction) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+
+			_asyncGetPageFunction = null;
+
+			_getPageFunction = httpServletRequest -> provide(
+				_provideFunction.apply(httpServletRequest), Cursor.class,
+				Credentials.class,
+				cursor -> credentials -> throwableFunction.andThen(
+					items -> new Page<>(
+						_name, items, cursor, _getOperations(credentials))
+				).apply(
+					cursor
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a cursor-based collection page function with four
+		 * extra parameters.
+		 *
+		 * @param  throwablePentaFunction the function that calculates the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @param  dClass the class of the page function's fifth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C, D> Builder<T> addCursorGetter(
+			ThrowablePentaFunction<Cursor, A, B, C, D, CursorPageItems<T>>
+				throwablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			_asyncGetPageFunction = null;
+
+			_getPageFunction = httpServletRequest -> provide(
+				_provideFunction.apply(httpServletRequest), Cursor.class,
+				aClass, bClass, cClass, dClass, Credentials.class,
+				cursor -> a -> b -> c -> d -> credentials ->
+					throwablePentaFunction.andThen(
+						items -> new Page<>(
+							_name, items, cursor,
+							_getOperations(credentials))
+					).apply(
+						cursor, a, b, c, d
+					));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a cursor-based collection page function with three
+		 * extra parameters.
+		 *
+		 * @param  throwableTetraFunction the function that calculates the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C> Builder<T> addCursorGetter(
+			ThrowableTetraFunction<Cursor, A, B, C, CursorPageItems<T>>
+				throwableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			_asyncGetPageFunction = null;
+
+			_getPageFunction = httpServletRequest -> provide(
+				_provideFunction.apply(httpServletRequest), Cursor.class,
+				aClass, bClass, cClass, Credentials.class,
+				cursor -> a -> b -> c -> credentials ->
+					throwableTetraFunction.andThen(
+						items -> new Page<>(
+							_name, items, cursor,
+							_getOperations(credentials))
+					).apply(
+						cursor, a, b, c
+					));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a cursor-based collection page function with two
+		 * extra parameters.
+		 *
+		 * @param  throwableTriFunction the function that calculates the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @return the updated builder
+		 */
+		public <A, B> Builder<T> addCursorGetter(
+			ThrowableTriFunction<Cursor, A, B, CursorPageItems<T>>
+				throwableTriFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			_asyncGetPageFunction = null;
+
+			_getPageFunction = httpServletRequest -> provide(
+				_provideFunction.apply(httpServletRequest), Cursor.class,
+				aClass, bClass, Credentials.class,
+				cursor -> a -> b -> credentials ->
+					throwableTriFunction.andThen(
+						items -> new Page<>(
+							_name, items, cursor,
+							_getOperations(credentials))
+					).apply(
+						cursor, a, b
+					));
+
+			return this;
+		}
+
 		/**
 		 * Adds a route to a collection page function with one extra parameter.
 		 *
@@ -320,6 +760,8 @@ public class CollectionRoutes<T> {
 
 			_neededProviderConsumer.accept(aClass.getName());
 
+			_asyncGetPageFunction = null;
+
 			_getPageFunction = httpServletRequest -> provide(
 				_provideFunction.apply(httpServletRequest), Pagination.class,
 				aClass, Credentials.class,
@@ -343,6 +785,8 @@ public class CollectionRoutes<T> {
 		public Builder<T> addGetter(
 			ThrowableFunction<Pagination, PageItems<T>> throwableFunction) {
 
+			_asyncGetPageFunction = null;
+
 			_getPageFunction = httpServletRequest -> provide(
 				_provideFunction.apply(httpServletRequest), Pagination.class,
 				Credentials.class,
@@ -378,6 +822,8 @@ public class CollectionRoutes<T> {
 			_neededProviderConsumer.accept(cClass.getName());
 			_neededProviderConsumer.accept(dClass.getName());
 
+			_asyncGetPageFunction = null;
+
 			_getPageFunction = httpServletRequest -> provide(
 				_provideFunction.apply(httpServletRequest), Pagination.class,
 				aClass, bClass, cClass, dClass, Credentials.class,
@@ -412,6 +858,8 @@ public class CollectionRoutes<T> {
 			_neededProviderConsumer.accept(bClass.getName());
 			_neededProviderConsumer.accept(cClass.getName());
 
+			_asyncGetPageFunction = null;
+
 			_getPageFunction = httpServletRequest -> provide(
 				_provideFunction.apply(httpServletRequest), Pagination.class,
 				aClass, bClass, cClass, Credentials.class,
@@ -443,6 +891,8 @@ public class CollectionRoutes<T> {
 			_neededProviderConsumer.accept(aClass.getName());
 			_neededProviderConsumer.accept(bClass.getName());
 
+			_asyncGetPageFunction = null;
+
 			_getPageFunction = httpServletRequest -> provide(
 				_provideFunction.apply(httpServletRequest), Pagination.class,
 				aClass, bClass, Credentials.class,
@@ -482,6 +932,8 @@ public class CollectionRoutes<T> {
 			);
 		}
 
+		private AsyncCreateItemFunction<T> _asyncCreateItemFunction;
+		private AsyncGetPageFunction<T> _asyncGetPageFunction;
 		private Function<Credentials, Boolean> _collectionPermissionFunction;
 		private CreateItemFunction<T> _createItemFunction;
 		private Form _form;
@@ -492,6 +944,8 @@ public class CollectionRoutes<T> {
 
 	}
 
+	private final AsyncCreateItemFunction<T> _asyncCreateItemFunction;
+	private final AsyncGetPageFunction<T> _asyncGetPageFunction;
 	private final CreateItemFunction<T> _createItemFunction;
 	private final Form _form;
 	private final GetPageFunction<T> _getPageFunction;
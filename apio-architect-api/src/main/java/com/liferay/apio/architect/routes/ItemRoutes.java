@@ -18,9 +18,13 @@ import static com.liferay.apio.architect.operation.Method.DELETE;
 import static com.liferay.apio.architect.operation.Method.PUT;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provide;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provideConsumer;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toCompletionStage;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toTry;
 
 import com.liferay.apio.architect.alias.ProvideFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchGetItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
@@ -37,13 +41,18 @@ import com.liferay.apio.architect.function.throwable.ThrowableHexaFunction;
 import com.liferay.apio.architect.function.throwable.ThrowablePentaFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTetraFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -66,12 +75,63 @@ import java.util.function.Consumer;
 public class ItemRoutes<T, S> {
 
 	public ItemRoutes(Builder<T, S> builder) {
+		_asyncSingleModelFunction = builder._asyncSingleModelFunction;
+		_batchGetItemFunction = builder._batchGetItemFunction;
 		_deleteItemConsumer = builder._deleteItemConsumer;
 		_form = builder._form;
 		_singleModelFunction = builder._singleModelFunction;
 		_updateItemFunction = builder._updateItemFunction;
 	}
 
+	/**
+	 * Returns the function used to obtain the item without blocking the
+	 * calling thread, if the endpoint was added through the {@link Builder}
+	 * and the function therefore exists. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * <p>
+	 * Getters added with one of the synchronous {@code addGetter} methods are
+	 * adapted to return an already completed stage.
+	 * </p>
+	 *
+	 * @return the function used to obtain the item, if the function exists;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<AsyncGetItemFunction<T, S>>
+		getAsyncItemFunctionOptional() {
+
+		if (_asyncSingleModelFunction != null) {
+			return Optional.of(_asyncSingleModelFunction);
+		}
+
+		Optional<GetItemFunction<T, S>> optional = getItemFunctionOptional();
+
+		return optional.map(
+			getItemFunction -> httpServletRequest -> s ->
+				CompletableFuture.completedFuture(
+					getItemFunction.apply(
+						httpServletRequest
+					).apply(
+						s
+					))
+		);
+	}
+
+	/**
+	 * Returns the function used to obtain several items in a single call, if
+	 * the batch getter was added through the {@link Builder} and the function
+	 * therefore exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to obtain several items, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<BatchGetItemFunction<T, S>>
+		getBatchGetItemFunctionOptional() {
+
+		return Optional.ofNullable(_batchGetItemFunction);
+	}
+
 	/**
 	 * Returns the function used to delete the item, if the endpoint was added
 	 * through the {@link Builder} and the function therefore exists. Returns
@@ -101,10 +161,27 @@ public class ItemRoutes<T, S> {
 	 * through the {@link Builder} and the function therefore exists. Returns
 	 * {@code Optional#empty()} otherwise.
 	 *
+	 * <p>
+	 * Getters added with one of the {@code addAsyncGetter} methods are adapted
+	 * to block the calling thread until the item is obtained.
+	 * </p>
+	 *
 	 * @return the function used to obtain the item, if the function exists;
 	 *         {@code Optional#empty()} otherwise
 	 */
 	public Optional<GetItemFunction<T, S>> getItemFunctionOptional() {
+		if ((_singleModelFunction == null) &&
+			(_asyncSingleModelFunction != null)) {
+
+			return Optional.of(
+				httpServletRequest -> s -> toTry(
+					_asyncSingleModelFunction.apply(
+						httpServletRequest
+					).apply(
+						s
+					)));
+		}
+
 		return Optional.ofNullable(_singleModelFunction);
 	}
 
@@ -124,6 +201,12 @@ public class ItemRoutes<T, S> {
 	 * Creates the {@code ItemRoutes} of an {@link
 	 * com.liferay.apio.architect.router.ItemRouter}.
 	 *
+	 * <p>
+	 * Each operation has a single route. Adding a getter with {@code
+	 * addGetter} or {@code addAsyncGetter} replaces the getter added before,
+	 * whichever method added it.
+	 * </p>
+	 *
 	 * @param <T> the model's type
 	 * @param <S> the model identifier's type. It must be a subclass of {@code
 	 *        Identifier}.
@@ -140,6 +223,227 @@ public class ItemRoutes<T, S> {
 			_neededProviderConsumer = neededProviderConsumer;
 		}
 
+		/**
+		 * Adds a route to an asynchronous item function with one extra
+		 * parameter. The item function returns a completion stage, so the
+		 * request's thread isn't blocked while the item is being obtained.
+		 *
+		 * @param  throwableBiFunction the function that calculates the item
+		 * @param  aClass the class of the item function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S> addAsyncGetter(
+			ThrowableBiFunction<S, A, CompletionStage<T>> throwableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_singleModelFunction = null;
+
+			_asyncSingleModelFunction = httpServletRequest -> s ->
+				toCompletionStage(
+					provide(
+						_provideFunction.apply(httpServletRequest), aClass,
+						Credentials.class,
+						a -> credentials -> throwableBiFunction.apply(
+							s, a
+						).thenApply(
+							t -> Try.success(
+								new SingleModel<>(
+									t, _name, _getOperations(credentials, s)))
+						)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous item function with none extra
+		 * parameters. The item function returns a completion stage, so the
+		 * request's thread isn't blocked while the item is being obtained.
+		 *
+		 * @param  throwableFunction the function that calculates the item
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S> addAsyncGetter(
+			ThrowableFunction<S, CompletionStage<T>> throwableFunction) {
+
+			_singleModelFunction = null;
+
+			_asyncSingleModelFunction = httpServletRequest -> s ->
+				toCompletionStage(
+					provide(
+						_provideFunction.apply(httpServletRequest),
+						Credentials.class,
+						credentials -> throwableFunction.apply(
+							s
+						).thenApply(
+							t -> Try.success(
+								new SingleModel<>(
+									t, _name, _getOperations(credentials, s)))
+						)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch item function with one extra parameter. The
+		 * function receives a list of identifiers and must return a map
+		 * containing the items found for them, so related models can be
+		 * resolved with a single call instead of one call per identifier.
+		 *
+		 * @param  throwableBiFunction the function that calculates the items
+		 * @param  aClass the class of the batch item function's second
+		 *         parameter
+		 * @return the updated builder
+		 */
+		public <A> Builder<T, S> addBatchGetter(
+			ThrowableBiFunction<List<S>, A, Map<S, T>> throwableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_batchGetItemFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), aClass,
+				Credentials.class,
+				a -> credentials -> throwableBiFunction.andThen(
+					map -> _getSingleModels(credentials, map)
+				).apply(
+					list, a
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch item function with none extra parameters.
+		 * The function receives a list of identifiers and must return a map
+		 * containing the items found for them, so related models can be
+		 * resolved with a single call instead of one call per identifier.
+		 *
+		 * @param  throwableFunction the function that calculates the items
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addBatchGetter(
+			ThrowableFunction<List<S>, Map<S, T>> throwableFunction) {
+
+			_batchGetItemFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), Credentials.class,
+				credentials -> throwableFunction.andThen(
+					map -> _getSingleModels(credentials, map)
+				).apply(
+					list
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch item function with four extra parameters.
+		 *
+		 * @param  throwablePentaFunction the function that calculates the
+		 *         items
+		 * @param  aClass the class of the batch item function's second
+		 *         parameter
+		 * @param  bClass the class of the batch item function's third
+		 *         parameter
+		 * @param  cClass the class of the batch item function's fourth
+		 *         parameter
+		 * @param  dClass the class of the batch item function's fifth
+		 *         parameter
+		 * @return the updated builder
+		 * @see    #addBatchGetter(ThrowableFunction)
+		 */
+		public <A, B, C, D> Builder<T, S> addBatchGetter(
+			ThrowablePentaFunction<List<S>, A, B, C, D, Map<S, T>>
+				throwablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			_batchGetItemFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass, dClass, Credentials.class,
+				a -> b -> c -> d -> credentials ->
+					throwablePentaFunction.andThen(
+						map -> _getSingleModels(credentials, map)
+					).apply(
+						list, a, b, c, d
+					));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch item function with three extra parameters.
+		 *
+		 * @param  throwableTetraFunction the function that calculates the
+		 *         items
+		 * @param  aClass the class of the batch item function's second
+		 *         parameter
+		 * @param  bClass the class of the batch item function's third
+		 *         parameter
+		 * @param  cClass the class of the batch item function's fourth
+		 *         parameter
+		 * @return the updated builder
+		 * @see    #addBatchGetter(ThrowableFunction)
+		 */
+		public <A, B, C> Builder<T, S> addBatchGetter(
+			ThrowableTetraFunction<List<S>, A, B, C, Map<S, T>>
+				throwableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			_batchGetItemFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass, Credentials.class,
+				a -> b -> c -> credentials -> throwableTetraFunction.andThen(
+					map -> _getSingleModels(credentials, map)
+				).apply(
+					list, a, b, c
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch item function with two extra parameters.
+		 *
+		 * @param  throwableTriFunction the function that calculates the items
+		 * @param  aClass the class of the batch item function's second
+		 *         parameter
+		 * @param  bClass the class of the batch item function's third
+		 *         parameter
+		 * @return the updated builder
+		 * @see    #addBatchGetter(ThrowableFunction)
+		 */
+		public <A, B> Builder<T, S> addBatchGetter(
+			ThrowableTriFunction<List<S>, A, B, Map<S, T>> throwableTriFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			_batchGetItemFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				Credentials.class,
+				a -> b -> credentials -> throwableTriFunction.andThen(
+					map -> _getSingleModels(credentials, map)
+				).apply(
+					list, a, b
+				));
+
+			return this;
+		}
+
 		/**
 		 * Adds a route to an item function with one extra parameter.
 		 *
@@ -152,6 +456,8 @@ public class ItemRoutes<T, S> {
 
 			_neededProviderConsumer.accept(aClass.getName());
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass,
 				Credentials.class,
@@ -174,6 +480,8 @@ public class ItemRoutes<T, S> {
 		public Builder<T, S> addGetter(
 			ThrowableFunction<S, T> throwableFunction) {
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), Credentials.class,
 				credentials -> throwableFunction.andThen(
@@ -206,6 +514,8 @@ public class ItemRoutes<T, S> {
 			_neededProviderConsumer.accept(cClass.getName());
 			_neededProviderConsumer.accept(dClass.getName());
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				cClass, dClass, Credentials.class,
@@ -237,6 +547,8 @@ public class ItemRoutes<T, S> {
 			_neededProviderConsumer.accept(bClass.getName());
 			_neededProviderConsumer.accept(cClass.getName());
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				cClass, Credentials.class,
@@ -265,6 +577,8 @@ public class ItemRoutes<T, S> {
 			_neededProviderConsumer.accept(aClass.getName());
 			_neededProviderConsumer.accept(bClass.getName());
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				Credentials.class,
@@ -649,6 +963,24 @@ public class ItemRoutes<T, S> {
 			return operations;
 		}
 
+		private Map<S, SingleModel<T>> _getSingleModels(
+			Credentials credentials, Map<S, T> models) {
+
+			Map<S, SingleModel<T>> singleModels = new HashMap<>();
+
+			models.forEach(
+				(s, t) -> {
+					SingleModel<T> singleModel = new SingleModel<>(
+						t, _name, _getOperations(credentials, s));
+
+					singleModels.put(s, singleModel);
+				});
+
+			return singleModels;
+		}
+
+		private AsyncGetItemFunction<T, S> _asyncSingleModelFunction;
+		private BatchGetItemFunction<T, S> _batchGetItemFunction;
 		private DeleteItemConsumer<S> _deleteItemConsumer;
 		private BiFunction<Credentials, S, Boolean>
 			_deleteItemPermissionFunction;
@@ -663,6 +995,8 @@ public class ItemRoutes<T, S> {
 
 	}
 
+	private final AsyncGetItemFunction<T, S> _asyncSingleModelFunction;
+	private final BatchGetItemFunction<T, S> _batchGetItemFunction;
 	private final DeleteItemConsumer<S> _deleteItemConsumer;
 	private final Form _form;
 	private final GetItemFunction<T, S> _singleModelFunction;
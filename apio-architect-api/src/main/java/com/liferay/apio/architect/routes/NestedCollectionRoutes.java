@@ -16,11 +16,15 @@ package com.liferay.apio.architect.routes;
 
 import static com.liferay.apio.architect.operation.Method.POST;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provide;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toCompletionStage;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toTry;
 
 import static java.lang.String.join;
 
 import com.liferay.apio.architect.alias.ProvideFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncNestedCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.AsyncNestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.credentials.Credentials;
@@ -32,6 +36,8 @@ import com.liferay.apio.architect.function.throwable.ThrowableTetraFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Cursor;
+import com.liferay.apio.architect.pagination.CursorPageItems;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
@@ -41,6 +47,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -63,11 +71,89 @@ import java.util.function.Consumer;
 public class NestedCollectionRoutes<T, S> {
 
 	public NestedCollectionRoutes(Builder<T, S> builder) {
+		_asyncNestedCreateItemFunction = builder._asyncNestedCreateItemFunction;
+		_asyncNestedGetPageFunction = builder._asyncNestedGetPageFunction;
 		_form = builder._form;
 		_nestedCreateItemFunction = builder._nestedCreateItemFunction;
 		_nestedGetPageFunction = builder._nestedGetPageFunction;
 	}
 
+	/**
+	 * Returns the function that is used to create a collection item without
+	 * blocking the calling thread, if the endpoint was added through the
+	 * {@link Builder} and the function therefore exists. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * Creators added with one of the synchronous {@code addCreator} methods
+	 * are adapted to return an already completed stage.
+	 * </p>
+	 *
+	 * @return the function used to create a collection item, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<AsyncNestedCreateItemFunction<T, S>>
+		getAsyncNestedCreateItemFunctionOptional() {
+
+		if (_asyncNestedCreateItemFunction != null) {
+			return Optional.of(_asyncNestedCreateItemFunction);
+		}
+
+		Optional<NestedCreateItemFunction<T, S>> optional =
+			getNestedCreateItemFunctionOptional();
+
+		return optional.map(
+			nestedCreateItemFunction -> httpServletRequest -> identifier ->
+				body -> CompletableFuture.completedFuture(
+					nestedCreateItemFunction.apply(
+						httpServletRequest
+					).apply(
+						identifier
+					).apply(
+						body
+					))
+		);
+	}
+
+	/**
+	 * Returns the function used to obtain the page without blocking the
+	 * calling thread, if the endpoint was added through the {@link Builder}
+	 * and the function therefore exists. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * <p>
+	 * Getters added with one of the synchronous {@code addGetter} methods are
+	 * adapted to return an already completed stage.
+	 * </p>
+	 *
+	 * @return the function used to obtain the page, if the function exists;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<AsyncNestedGetPageFunction<T, S>>
+		getAsyncNestedGetPageFunctionOptional() {
+
+		if (_asyncNestedGetPageFunction != null) {
+			return Optional.of(_asyncNestedGetPageFunction);
+		}
+
+		Optional<NestedGetPageFunction<T, S>> optional =
+			getNestedGetPageFunctionOptional();
+
+		return optional.map(
+			nestedGetPageFunction -> httpServletRequest -> path ->
+				identifier -> CompletableFuture.completedFuture(
+					nestedGetPageFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					))
+		);
+	}
+
 	/**
 	 * Returns the form that is used to create a collection item, if it was
 	 * added through the {@link Builder}. Returns {@code Optional#empty()}
@@ -85,12 +171,31 @@ public class NestedCollectionRoutes<T, S> {
 	 * endpoint was added through the {@link Builder} and the function therefore
 	 * exists. Returns {@code Optional#empty()} otherwise.
 	 *
+	 * <p>
+	 * Creators added with one of the {@code addAsyncCreator} methods are
+	 * adapted to block the calling thread until the item is created.
+	 * </p>
+	 *
 	 * @return the function used to create a collection item, if the function
 	 *         exists; {@code Optional#empty()} otherwise
 	 */
 	public Optional<NestedCreateItemFunction<T, S>>
 		getNestedCreateItemFunctionOptional() {
 
+		if ((_nestedCreateItemFunction == null) &&
+			(_asyncNestedCreateItemFunction != null)) {
+
+			return Optional.of(
+				httpServletRequest -> identifier -> body -> toTry(
+					_asyncNestedCreateItemFunction.apply(
+						httpServletRequest
+					).apply(
+						identifier
+					).apply(
+						body
+					)));
+		}
+
 		return Optional.ofNullable(_nestedCreateItemFunction);
 	}
 
@@ -99,12 +204,31 @@ public class NestedCollectionRoutes<T, S> {
 	 * through the {@link Builder} and the function therefore exists. Returns
 	 * {@code Optional#empty()} otherwise.
 	 *
+	 * <p>
+	 * Getters added with one of the {@code addAsyncGetter} methods are adapted
+	 * to block the calling thread until the page is calculated.
+	 * </p>
+	 *
 	 * @return the function used to obtain the page, if the function exists;
 	 *         {@code Optional#empty()} otherwise
 	 */
 	public Optional<NestedGetPageFunction<T, S>>
 		getNestedGetPageFunctionOptional() {
 
+		if ((_nestedGetPageFunction == null) &&
+			(_asyncNestedGetPageFunction != null)) {
+
+			return Optional.of(
+				httpServletRequest -> path -> identifier -> toTry(
+					_asyncNestedGetPageFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					)));
+		}
+
 		return Optional.ofNullable(_nestedGetPageFunction);
 	}
 
@@ -112,6 +236,12 @@ public class NestedCollectionRoutes<T, S> {
 	 * Creates the {@link NestedCollectionRoutes} of a {@link
 	 * com.liferay.apio.architect.router.NestedCollectionRouter}.
 	 *
+	 * <p>
+	 * Each operation has a single route. Adding a getter or a creator replaces
+	 * the one added before for the same operation, whether it was added with
+	 * the synchronous or the asynchronous method.
+	 * </p>
+	 *
 	 * @param <T> the model's type
 	 * @param <S> the type of the parent model's identifier (e.g., {@code Long},
 	 *        {@code String}, etc.)
@@ -129,6 +259,163 @@ public class NestedCollectionRoutes<T, S> {
 			_neededProviderConsumer = neededProviderConsumer;
 		}
 
+		/**
+		 * Adds a route to an asynchronous creator function that has no extra
+		 * parameters. The creator function returns a completion stage, so the
+		 * request's thread isn't blocked while the item is being created.
+		 *
+		 * @param  throwableBiFunction the creator function that adds the
+		 *         collection item
+		 * @param  permissionBiFunction the permission function for this route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 * @review
+		 */
+		public <R> Builder<T, S> addAsyncCreator(
+			ThrowableBiFunction<S, R, CompletionStage<T>> throwableBiFunction,
+			BiFunction<Credentials, S, Boolean> permissionBiFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_nestedCollectionPermissionFunction = permissionBiFunction;
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("c", _name, _nestedName)));
+
+			_form = form;
+
+			_nestedCreateItemFunction = null;
+
+			_asyncNestedCreateItemFunction =
+				httpServletRequest -> identifier -> body -> toCompletionStage(
+					Try.fromFallible(
+						() -> throwableBiFunction.apply(
+							identifier, form.get(body)
+						).thenApply(
+							t -> Try.success(
+								new SingleModel<>(
+									t, _nestedName, Collections.emptyList()))
+						)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous creator function that has one extra
+		 * parameter. The creator function returns a completion stage, so the
+		 * request's thread isn't blocked while the item is being created.
+		 *
+		 * @param  throwableTriFunction the creator function that adds the
+		 *         collection item
+		 * @param  aClass the class of the creator function's third parameter
+		 * @param  permissionBiFunction the permission function for this route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, R> Builder<T, S> addAsyncCreator(
+			ThrowableTriFunction<S, R, A, CompletionStage<T>>
+				throwableTriFunction,
+			Class<A> aClass,
+			BiFunction<Credentials, S, Boolean> permissionBiFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_nestedCollectionPermissionFunction = permissionBiFunction;
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("c", _name, _nestedName)));
+
+			_form = form;
+
+			_nestedCreateItemFunction = null;
+
+			_asyncNestedCreateItemFunction =
+				httpServletRequest -> identifier -> body -> toCompletionStage(
+					provide(
+						_provideFunction.apply(httpServletRequest), aClass,
+						a -> throwableTriFunction.apply(
+							identifier, form.get(body), a
+						).thenApply(
+							t -> Try.success(
+								new SingleModel<>(
+									t, _nestedName, Collections.emptyList()))
+						)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with none
+		 * extra parameters. The page function returns a completion stage, so
+		 * the request's thread isn't blocked while the page is being
+		 * calculated.
+		 *
+		 * @param  biFunction the function that calculates the page
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S> addAsyncGetter(
+			ThrowableBiFunction<Pagination, S, CompletionStage<PageItems<T>>>
+				biFunction) {
+
+			_nestedGetPageFunction = null;
+
+			_asyncNestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> toCompletionStage(
+					provide(
+						_provideFunction.apply(httpServletRequest),
+						Pagination.class, Credentials.class,
+						pagination -> credentials -> biFunction.apply(
+							pagination, identifier
+						).thenApply(
+							items -> Try.success(
+								new Page<>(
+									_nestedName, items, pagination, path,
+									_getOperations(credentials, identifier)))
+						)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with one
+		 * extra parameter. The page function returns a completion stage, so the
+		 * request's thread isn't blocked while the page is being calculated.
+		 *
+		 * @param  triFunction the function that calculates the page
+		 * @param  aClass the class of the page function's third parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S> addAsyncGetter(
+			ThrowableTriFunction
+				<Pagination, S, A, CompletionStage<PageItems<T>>> triFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_nestedGetPageFunction = null;
+
+			_asyncNestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> toCompletionStage(
+					provide(
+						_provideFunction.apply(httpServletRequest),
+						Pagination.class, aClass, Credentials.class,
+						pagination -> a -> credentials -> triFunction.apply(
+							pagination, identifier, a
+						).thenApply(
+							items -> Try.success(
+								new Page<>(
+									_nestedName, items, pagination, path,
+									_getOperations(credentials, identifier)))
+						)));
+
+			return this;
+		}
+
 		/**
 		 * Adds a route to a creator function that has no extra parameters.
 		 *
@@ -151,6 +438,8 @@ public class NestedCollectionRoutes<T, S> {
 
 			_form = form;
 
+			_asyncNestedCreateItemFunction = null;
+
 			_nestedCreateItemFunction =
 				httpServletRequest -> identifier -> body -> Try.fromFallible(
 					() -> throwableBiFunction.andThen(
@@ -195,6 +484,8 @@ public class NestedCollectionRoutes<T, S> {
 
 			_form = form;
 
+			_asyncNestedCreateItemFunction = null;
+
 			_nestedCreateItemFunction =
 				httpServletRequest -> identifier -> body -> provide(
 					_provideFunction.apply(httpServletRequest), aClass, bClass,
@@ -239,6 +530,8 @@ public class NestedCollectionRoutes<T, S> {
 
 			_form = form;
 
+			_asyncNestedCreateItemFunction = null;
+
 			_nestedCreateItemFunction =
 				httpServletRequest -> identifier -> body -> provide(
 					_provideFunction.apply(httpServletRequest), aClass, bClass,
@@ -281,6 +574,8 @@ public class NestedCollectionRoutes<T, S> {
 
 			_form = form;
 
+			_asyncNestedCreateItemFunction = null;
+
 			_nestedCreateItemFunction =
 				httpServletRequest -> identifier -> body -> provide(
 					_provideFunction.apply(httpServletRequest), aClass, bClass,
@@ -320,6 +615,8 @@ public class NestedCollectionRoutes<T, S> {
 
 			_form = form;
 
+			_asyncNestedCreateItemFunction = null;
+
 			_nestedCreateItemFunction =
 				httpServletRequest -> identifier -> body -> provide(
 					_provideFunction.apply(httpServletRequest), aClass,
@@ -333,6 +630,183 @@ public class NestedCollectionRoutes<T, S> {
 			return this;
 		}
 
+		/**
+		 * Adds a route to a cursor-based collection page function with none
+		 * extra parameters.
+		 *
+		 * @param  biFunction the function that calculates the page
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addCursorGetter(
+			ThrowableBiFunction<Cursor, S, CursorPageItems<T>> biFunction) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+
+			_asyncNestedGetPageFunction = null;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Cursor.class, Credentials.class,
+					cursor -> credentials -> biFunction.andThen(
+						items -> new Page<>(
+							_nestedName, items, cursor, path,
+							_getOperations(credentials, identifier))
+					).apply(
+						cursor, identifier
+					));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a cursor-based collection page function with four
+		 * extra parameters.
+		 *
+		 * @param  hexaFunction the function that calculates the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @param  dClass the class of the page function's fifth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C, D> Builder<T, S> addCursorGetter(
+			ThrowableHexaFunction<Cursor, S, A, B, C, D, CursorPageItems<T>>
+				hexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			_asyncNestedGetPageFunction = null;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Cursor.class, aClass, bClass, cClass, dClass,
+					Credentials.class,
+					cursor -> a -> b -> c -> d -> credentials ->
+						hexaFunction.andThen(
+							items -> new Page<>(
+								_nestedName, items, cursor, path,
+								_getOperations(credentials, identifier))
+						).apply(
+							cursor, identifier, a, b, c, d
+						));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a cursor-based collection page function with three
+		 * extra parameters.
+		 *
+		 * @param  pentaFunction the function that calculates the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C> Builder<T, S> addCursorGetter(
+			ThrowablePentaFunction<Cursor, S, A, B, C, CursorPageItems<T>>
+				pentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			_asyncNestedGetPageFunction = null;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Cursor.class, aClass, bClass, cClass, Credentials.class,
+					cursor -> a -> b -> c -> credentials ->
+						pentaFunction.andThen(
+							items -> new Page<>(
+								_nestedName, items, cursor, path,
+								_getOperations(credentials, identifier))
+						).apply(
+							cursor, identifier, a, b, c
+						));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a cursor-based collection page function with two
+		 * extra parameters.
+		 *
+		 * @param  tetraFunction the function that calculates the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @return the updated builder
+		 */
+		public <A, B> Builder<T, S> addCursorGetter(
+			ThrowableTetraFunction<Cursor, S, A, B, CursorPageItems<T>>
+				tetraFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			_asyncNestedGetPageFunction = null;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Cursor.class, aClass, bClass, Credentials.class,
+					cursor -> a -> b -> credentials ->
+						tetraFunction.andThen(
+							items -> new Page<>(
+								_nestedName, items, cursor, path,
+								_getOperations(credentials, identifier))
+						).apply(
+							cursor, identifier, a, b
+						));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a cursor-based collection page function with one
+		 * extra parameter.
+		 *
+		 * @param  triFunction the function that calculates the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @return the updated builder
+		 */
+		public <A> Builder<T, S> addCursorGetter(
+			ThrowableTriFunction<Cursor, S, A, CursorPageItems<T>> triFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(Cursor.class.getName());
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_asyncNestedGetPageFunction = null;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Cursor.class, aClass, Credentials.class,
+					cursor -> a -> credentials -> triFunction.andThen(
+						items -> new Page<>(
+							_nestedName, items, cursor, path,
+							_getOperations(credentials, identifier))
+					).apply(
+						cursor, identifier, a
+					));
+
+			return this;
+		}
+
 		/**
 		 * Adds a route to a collection page function with none extra
 		 * parameters.
@@ -343,6 +817,8 @@ public class NestedCollectionRoutes<T, S> {
 		public Builder<T, S> addGetter(
 			ThrowableBiFunction<Pagination, S, PageItems<T>> biFunction) {
 
+			_asyncNestedGetPageFunction = null;
+
 			_nestedGetPageFunction =
 				httpServletRequest -> path -> identifier -> provide(
 					_provideFunction.apply(httpServletRequest),
@@ -380,6 +856,8 @@ public class NestedCollectionRoutes<T, S> {
 			_neededProviderConsumer.accept(cClass.getName());
 			_neededProviderConsumer.accept(dClass.getName());
 
+			_asyncNestedGetPageFunction = null;
+
 			_nestedGetPageFunction =
 				httpServletRequest -> path -> identifier -> provide(
 					_provideFunction.apply(httpServletRequest),
@@ -416,6 +894,8 @@ public class NestedCollectionRoutes<T, S> {
 			_neededProviderConsumer.accept(bClass.getName());
 			_neededProviderConsumer.accept(cClass.getName());
 
+			_asyncNestedGetPageFunction = null;
+
 			_nestedGetPageFunction =
 				httpServletRequest -> path -> identifier -> provide(
 					_provideFunction.apply(httpServletRequest),
@@ -448,6 +928,8 @@ public class NestedCollectionRoutes<T, S> {
 			_neededProviderConsumer.accept(aClass.getName());
 			_neededProviderConsumer.accept(bClass.getName());
 
+			_asyncNestedGetPageFunction = null;
+
 			_nestedGetPageFunction =
 				httpServletRequest -> path -> identifier -> provide(
 					_provideFunction.apply(httpServletRequest),
@@ -477,6 +959,8 @@ public class NestedCollectionRoutes<T, S> {
 
 			_neededProviderConsumer.accept(aClass.getName());
 
+			_asyncNestedGetPageFunction = null;
+
 			_nestedGetPageFunction =
 				httpServletRequest -> path -> identifier -> provide(
 					_provideFunction.apply(httpServletRequest),
@@ -520,6 +1004,9 @@ public class NestedCollectionRoutes<T, S> {
 			);
 		}
 
+		private AsyncNestedCreateItemFunction<T, S>
+			_asyncNestedCreateItemFunction;
+		private AsyncNestedGetPageFunction<T, S> _asyncNestedGetPageFunction;
 		private Form _form;
 		private final String _name;
 		private final Consumer<String> _neededProviderConsumer;
@@ -532,6 +1019,9 @@ public class NestedCollectionRoutes<T, S> {
 
 	}
 
+	private final AsyncNestedCreateItemFunction<T, S>
+		_asyncNestedCreateItemFunction;
+	private final AsyncNestedGetPageFunction<T, S> _asyncNestedGetPageFunction;
 	private final Form _form;
 	private final NestedCreateItemFunction<T, S> _nestedCreateItemFunction;
 	private final NestedGetPageFunction<T, S> _nestedGetPageFunction;
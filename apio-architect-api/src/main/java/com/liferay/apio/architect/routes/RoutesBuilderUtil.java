@@ -20,6 +20,9 @@ import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
 import com.liferay.apio.architect.functional.Try;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 /**
@@ -304,12 +307,76 @@ public class RoutesBuilderUtil {
 		consumer.accept(_provideClass(provideFunction, aClass));
 	}
 
+	/**
+	 * Returns a completion stage that completes with the {@code Try} of the
+	 * completion stage held by {@code completionStageTry}. If {@code
+	 * completionStageTry} is a failure, or its completion stage completes
+	 * exceptionally, the returned completion stage completes with a failed
+	 * {@code Try} instead, so it never completes exceptionally.
+	 *
+	 * @param  completionStageTry the {@code Try} holding the completion stage
+	 * @return the completion stage of the {@code Try}
+	 * @review
+	 */
+	public static <T> CompletionStage<Try<T>> toCompletionStage(
+		Try<CompletionStage<Try<T>>> completionStageTry) {
+
+		return completionStageTry.fold(
+			exception -> CompletableFuture.completedFuture(Try.fail(exception)),
+			completionStage -> completionStage.handle(
+				(tTry, throwable) -> {
+					if (throwable == null) {
+						return tTry;
+					}
+
+					return Try.fail(_toException(throwable));
+				})
+		);
+	}
+
+	/**
+	 * Waits for a completion stage created with {@link
+	 * #toCompletionStage(Try)} and returns its {@code Try}. This blocks the
+	 * calling thread, so it should only be used by callers that can't consume
+	 * the completion stage directly.
+	 *
+	 * @param  completionStage the completion stage
+	 * @return the completion stage's {@code Try}
+	 * @review
+	 */
+	public static <T> Try<T> toTry(CompletionStage<Try<T>> completionStage) {
+		CompletableFuture<Try<T>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		return Try.fromFallible(
+			completableFuture::join
+		).flatMap(
+			tTry -> tTry
+		);
+	}
+
 	private static <T> T _provideClass(
 		Function<Class<?>, ?> provideFunction, Class<T> clazz) {
 
 		return unsafeCast(provideFunction.apply(clazz));
 	}
 
+	private static Exception _toException(Throwable throwable) {
+		Throwable cause = throwable;
+
+		if ((throwable instanceof CompletionException) &&
+			(throwable.getCause() != null)) {
+
+			cause = throwable.getCause();
+		}
+
+		if (cause instanceof Exception) {
+			return (Exception)cause;
+		}
+
+		return new CompletionException(cause);
+	}
+
 	private RoutesBuilderUtil() {
 		throw new UnsupportedOperationException();
 	}
@@ -26,6 +26,9 @@ import com.liferay.apio.architect.functional.Try;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import java.time.Instant;
+import java.time.LocalDate;
+
 import java.util.Date;
 
 import org.junit.Test;
@@ -51,6 +54,81 @@ public class DateTransformerTest {
 		assertThat(date, is(sameInstant(1465981200000L)));
 	}
 
+	@Test
+	public void testAsDateWithOutOfRangeFieldsIsLenient() {
+		Try<Date> dateTry = DateTransformer.asDate("2016-13-15T25:00Z");
+
+		Date date = dateTry.getUnchecked();
+
+		assertThat(DateTransformer.asString(date), is("2017-01-16T01:00Z"));
+	}
+
+	@Test
+	public void testAsDateWithTrailingCharactersIsLenient() {
+		Try<Date> dateTry = DateTransformer.asDate("2016-06-15T09:00Zabc");
+
+		Date date = dateTry.getUnchecked();
+
+		assertThat(date, is(sameInstant(1465981200000L)));
+	}
+
+	@Test
+	public void testAsDateWithUnpaddedNumbersIsLenient() {
+		Try<Date> dateTry = DateTransformer.asDate("2016-6-15T9:0Z");
+
+		Date date = dateTry.getUnchecked();
+
+		assertThat(date, is(sameInstant(1465981200000L)));
+	}
+
+	@Test
+	public void testAsInstantWithInvalidDayOfMonthIsLenient() {
+		Try<Instant> instantTry = DateTransformer.asInstant(
+			"2016-02-30T00:00Z");
+
+		Instant instant = instantTry.getUnchecked();
+
+		assertThat(instant, is(Instant.parse("2016-03-01T00:00:00Z")));
+	}
+
+	@Test
+	public void testAsInstantWithValidDateReturnsSuccess() {
+		Try<Instant> instantTry = DateTransformer.asInstant(
+			"2016-06-15T09:00Z");
+
+		Instant instant = instantTry.getUnchecked();
+
+		assertThat(instant, is(Instant.ofEpochMilli(1465981200000L)));
+	}
+
+	@Test
+	public void testAsInstantWithYearAfter9999ReturnsSuccess() {
+		Try<Instant> instantTry = DateTransformer.asInstant(
+			"+10000-01-01T00:00Z");
+
+		Instant instant = instantTry.getUnchecked();
+
+		assertThat(instant, is(Instant.parse("+10000-01-01T00:00:00Z")));
+	}
+
+	@Test
+	public void testAsLocalDateWithInvalidDateReturnsFailure() {
+		Try<LocalDate> localDateTry = DateTransformer.asLocalDate(
+			"2016-02-30");
+
+		assertThat(localDateTry, is(aFailTry()));
+	}
+
+	@Test
+	public void testAsLocalDateWithValidDateReturnsSuccess() {
+		Try<LocalDate> localDateTry = DateTransformer.asLocalDate(
+			"2016-06-05");
+
+		LocalDate localDate = localDateTry.getUnchecked();
+
+		assertThat(localDate, is(LocalDate.of(2016, 6, 5)));
+	}
+
 	@Test
 	public void testAsStringReturnsDateInISO8061Format() {
 		String date = DateTransformer.asString(new Date(1465981200000L));
@@ -58,6 +136,36 @@ public class DateTransformerTest {
 		assertThat(date, is("2016-06-15T09:00Z"));
 	}
 
+	@Test
+	public void testAsStringReturnsInstantInISO8061Format() {
+		String date = DateTransformer.asString(
+			Instant.ofEpochSecond(1465981259L, 999));
+
+		assertThat(date, is("2016-06-15T09:00Z"));
+	}
+
+	@Test
+	public void testAsStringReturnsLocalDateInISO8061Format() {
+		String date = DateTransformer.asString(LocalDate.of(2016, 6, 5));
+
+		assertThat(date, is("2016-06-05"));
+	}
+
+	@Test
+	public void testAsStringWithDateBeforeTheEpochRoundsDown() {
+		Date date = new Date(-1000L);
+
+		assertThat(DateTransformer.asString(date), is("1969-12-31T23:59Z"));
+	}
+
+	@Test
+	public void testAsStringWithYearAfter9999UsesSignedYear() {
+		String date = DateTransformer.asString(
+			Instant.parse("+10000-01-01T00:00:30Z"));
+
+		assertThat(date, is("+10000-01-01T00:00Z"));
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void testConstructorThrowsException() throws Throwable {
 		Constructor<?> constructor =
@@ -22,6 +22,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 
+import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.representor.Representor;
@@ -60,7 +61,8 @@ public class BinaryEndpointTest {
 	public void testBinaryEndpointWithFailSingleModelReturnsFailure() {
 		BinaryEndpoint binaryEndpoint = new BinaryEndpoint(
 			__ -> Optional.of(_representor()),
-			(name, id) -> Try.fail(new IllegalArgumentException()));
+			(name, id) -> Try.fail(new IllegalArgumentException()),
+			(name, id) -> Try.success(id), () -> _credentials);
 
 		Try<BinaryFile> binaryFileTry =
 			binaryEndpoint.getCollectionItemBinaryFileTry("", "", "");
@@ -114,20 +116,67 @@ public class BinaryEndpointTest {
 
 				return Try.success(
 					new SingleModel<>("apio", name, Collections.emptyList()));
-			});
+			},
+			(name, id) -> Try.success(id), () -> _credentials);
 
 		binaryEndpoint.getCollectionItemBinaryFileTry("a", "b", "binaryId");
 
-		assertThat(names, contains("a", "b", "a"));
+		assertThat(names, contains("a", "a", "b"));
 	}
 
-	private static BinaryEndpoint _getBinaryEndpoint(
-		Representor<Object> representor) {
+	@Test
+	public void testIdentifierBinaryDoesNotLoadSingleModel() {
+		List<String> identifiers = new ArrayList<>();
 
-		return new BinaryEndpoint(
-			__ -> Optional.ofNullable(representor),
+		BinaryEndpoint binaryEndpoint = new BinaryEndpoint(
+			__ -> Optional.of(_representor()),
+			(name, id) -> Try.fail(new IllegalArgumentException()),
+			(name, id) -> {
+				identifiers.add(id);
+
+				return Try.success(id);
+			},
+			() -> _credentials);
+
+		Try<BinaryFile> binaryFileTry =
+			binaryEndpoint.getCollectionItemBinaryFileTry(
+				"", "id", "identifierBinary");
+
+		BinaryFile binaryFile = binaryFileTry.getUnchecked();
+
+		assertThat(binaryFile.getMimeType(), is("text/id+token"));
+		assertThat(identifiers, contains("id"));
+	}
+
+	@Test
+	public void testIdentifierBinaryReceivesTheRequestCredentials() {
+		BinaryEndpoint binaryEndpoint = _getBinaryEndpoint(_representor());
+
+		_credentials = () -> "other-token";
+
+		Try<BinaryFile> binaryFileTry =
+			binaryEndpoint.getCollectionItemBinaryFileTry(
+				"", "id", "identifierBinary");
+
+		BinaryFile binaryFile = binaryFileTry.getUnchecked();
+
+		assertThat(binaryFile.getMimeType(), is("text/id+other-token"));
+	}
+
+	@Test
+	public void testIdentifierBinaryWithFailIdentifierReturnsFailure() {
+		BinaryEndpoint binaryEndpoint = new BinaryEndpoint(
+			__ -> Optional.of(_representor()),
 			(name, id) -> Try.success(
-				new SingleModel<>("apio", name, Collections.emptyList())));
+				new SingleModel<>("apio", name, Collections.emptyList())),
+			(name, id) -> Try.fail(new IllegalArgumentException()),
+			() -> _credentials);
+
+		Try<BinaryFile> binaryFileTry =
+			binaryEndpoint.getCollectionItemBinaryFileTry(
+				"", "", "identifierBinary");
+
+		assertThat(binaryFileTry, is(aFailTry()));
 	}
 
 	private static Representor<Object> _representor() {
@@ -142,7 +191,24 @@ public class BinaryEndpointTest {
 			__ -> new BinaryFile(
 				new ByteArrayInputStream("Apio".getBytes(UTF_8)), 0L,
 				"image/png")
+		).addIdentifierBinary(
+			"identifierBinary",
+			(id, credentials) -> new BinaryFile(
+				new ByteArrayInputStream(new byte[0]), 0L,
+				"text/" + id + "+" + credentials.get())
 		).build();
 	}
 
+	private BinaryEndpoint _getBinaryEndpoint(
+		Representor<Object> representor) {
+
+		return new BinaryEndpoint(
+			__ -> Optional.ofNullable(representor),
+			(name, id) -> Try.success(
+				new SingleModel<>("apio", name, Collections.emptyList())),
+			(name, id) -> Try.success(id), () -> _credentials);
+	}
+
+	private Credentials _credentials = () -> "token";
+
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.file;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BinaryFileTest {
+
+	@Test
+	public void testFileBackedBinaryFileOpensNewInputStreams()
+		throws IOException {
+
+		Path path = Files.createTempFile("binary", ".txt");
+
+		try {
+			Files.write(path, "Apio".getBytes(StandardCharsets.UTF_8));
+
+			BinaryFile binaryFile = new BinaryFile(path, "text/plain");
+
+			assertThat(binaryFile.getMimeType(), is("text/plain"));
+			assertThat(binaryFile.getPathOptional(), is(Optional.of(path)));
+			assertThat(binaryFile.getSize(), is(4L));
+
+			for (int i = 0; i < 2; i++) {
+				try (InputStream inputStream = binaryFile.getInputStream()) {
+					assertThat(inputStream.read(), is((int)'A'));
+				}
+			}
+		}
+		finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	public void testCacheMetadataIsEmptyIfNotProvided() {
+		BinaryFile binaryFile = new BinaryFile(
+			new ByteArrayInputStream(new byte[0]), 0L, "text/plain");
+
+		assertThat(binaryFile.getEntityTagOptional(), is(Optional.empty()));
+		assertThat(binaryFile.getLastModifiedOptional(), is(Optional.empty()));
+	}
+
+	@Test
+	public void testCacheMetadataIsReturned() {
+		Date date = new Date();
+
+		InputStream inputStream = new ByteArrayInputStream(new byte[0]);
+
+		BinaryFile binaryFile = new BinaryFile(
+			inputStream, 0L, "text/plain", "v1", date);
+
+		assertThat(binaryFile.getEntityTagOptional(), is(Optional.of("v1")));
+		assertThat(binaryFile.getLastModifiedOptional(), is(Optional.of(date)));
+	}
+
+	@Test
+	public void testInputStreamBackedBinaryFileHasNoPath() {
+		InputStream inputStream = new ByteArrayInputStream(new byte[0]);
+
+		BinaryFile binaryFile = new BinaryFile(inputStream, 0L, "text/plain");
+
+		assertThat(binaryFile.getInputStream(), is(inputStream));
+		assertThat(binaryFile.getPathOptional(), is(Optional.empty()));
+	}
+
+}
\ No newline at end of file
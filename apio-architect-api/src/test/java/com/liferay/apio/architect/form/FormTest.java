@@ -38,6 +38,7 @@ import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.form.Form.Builder;
@@ -210,6 +211,43 @@ public class FormTest {
 		assertThat(binaryFile2.getMimeType(), is("mimetype2"));
 	}
 
+	@Test
+	public void testFormDeduplicatesFieldsAndComputesThemOnce() {
+		Builder<Map<String, Object>> builder = Builder.empty();
+
+		Form<Map<String, Object>> form = builder.title(
+			__ -> "title"
+		).description(
+			__ -> "description"
+		).constructor(
+			HashMap::new
+		).addRequiredString(
+			"string", (map, string) -> map.put("s1", string)
+		).addOptionalLong(
+			"long", (map, aLong) -> map.put("l1", aLong)
+		).addRequiredString(
+			"string", (map, string) -> map.put("s2", string)
+		).build();
+
+		List<FormField> formFields = form.getFormFields();
+
+		assertThat(
+			formFields,
+			contains(
+				new FormField("long", false, LONG),
+				new FormField("string", true, STRING)));
+		assertThat(form.getFormFields(), is(sameInstance(formFields)));
+
+		Map<String, Object> map = form.get(
+			Body.create(
+				key -> Optional.of("1"),
+				key -> Optional.of(Collections.emptyList())));
+
+		assertThat(map.size(), is(2));
+		assertThat(map, hasEntry(equalTo("l1"), equalTo(1L)));
+		assertThat(map, hasEntry(equalTo("s2"), equalTo("1")));
+	}
+
 	@Test
 	public void testFormDoesNotAddMissingOptionals() {
 		Form<Map<String, Object>> form = _mapForm(
@@ -62,6 +62,9 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import java.time.Instant;
+import java.time.LocalDate;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -97,6 +100,40 @@ public class FormUtilTest {
 		}
 	}
 
+	@Test
+	public void testGetInstantOptionalExtractsLenientlyParsedInstant() {
+		Optional<Instant> optional = FormUtil.getInstantOptional(
+			_valueBody("2017-4-3T18:36Z[UTC]"), "instant");
+
+		assertThat(optional.get(), is(Instant.ofEpochMilli(1491244560000L)));
+	}
+
+	@Test
+	public void testGetInstantOptionalExtractsInstant() {
+		Optional<Instant> optional = FormUtil.getInstantOptional(
+			_valueBody("2017-04-03T18:36Z"), "instant");
+
+		assertThat(optional.get(), is(Instant.ofEpochMilli(1491244560000L)));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testGetInstantOptionalFailsIfNotAnISO8601Date() {
+		FormUtil.getInstantOptional(_valueBody("2017-04-03"), "instant");
+	}
+
+	@Test
+	public void testGetLocalDateOptionalExtractsLocalDate() {
+		Optional<LocalDate> optional = FormUtil.getLocalDateOptional(
+			_valueBody("2017-04-03"), "localDate");
+
+		assertThat(optional.get(), is(LocalDate.of(2017, 4, 3)));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testGetLocalDateOptionalFailsIfNotAnISO8601LocalDate() {
+		FormUtil.getLocalDateOptional(_valueBody("2017-02-30"), "localDate");
+	}
+
 	@Test
 	public void testGetOptionalBooleanExtractsBoolean() {
 		List<Boolean> list = new ArrayList<>();
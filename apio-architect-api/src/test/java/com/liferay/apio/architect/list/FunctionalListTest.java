@@ -24,6 +24,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -34,6 +38,34 @@ import org.junit.Test;
  */
 public class FunctionalListTest {
 
+	@Test
+	public void testIteratingMultiElementListReturnsElementsInOrder() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		List<String> list = new ArrayList<>();
+
+		stringFunctionalList.forEach(list::add);
+
+		assertThat(
+			list,
+			is(
+				equalTo(
+					Arrays.asList(
+						"element1", "element2", "element3", "element4"))));
+	}
+
+	@Test
+	public void testIteratingOneElementListReturnsElement() {
+		FunctionalList<String> stringFunctionalList = new FunctionalList<>(
+			null, "apio");
+
+		List<String> list = new ArrayList<>();
+
+		stringFunctionalList.forEach(list::add);
+
+		assertThat(list, is(equalTo(Collections.singletonList("apio"))));
+	}
+
 	@Test
 	public void testRetrievingHeadFromMultiElementListReturnsFirstElement() {
 		FunctionalList<String> stringFunctionalList = _getFunctionalList();
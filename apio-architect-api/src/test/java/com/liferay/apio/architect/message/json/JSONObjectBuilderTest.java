@@ -17,6 +17,7 @@ package com.liferay.apio.architect.message.json;
 import static com.liferay.apio.architect.test.util.json.JsonMatchers.aJsonArrayThat;
 import static com.liferay.apio.architect.test.util.json.JsonMatchers.aJsonBoolean;
 import static com.liferay.apio.architect.test.util.json.JsonMatchers.aJsonInt;
+import static com.liferay.apio.architect.test.util.json.JsonMatchers.aJsonLong;
 import static com.liferay.apio.architect.test.util.json.JsonMatchers.aJsonObjectWhere;
 import static com.liferay.apio.architect.test.util.json.JsonMatchers.aJsonString;
 
@@ -30,8 +31,15 @@ import static org.hamcrest.Matchers.not;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import com.liferay.apio.architect.list.FunctionalList;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 import org.hamcrest.Matcher;
 
@@ -174,6 +182,21 @@ public class JSONObjectBuilderTest {
 		assertThat(getJsonObject(), isAJsonObjectWithTheSolution);
 	}
 
+	@Test
+	public void testInvokingDoubleValueCreatesADouble() {
+		_jsonObjectBuilder.field(
+			"solution"
+		).doubleValue(
+			42.5D
+		);
+
+		JsonObject jsonObject = getJsonObject();
+
+		JsonElement jsonElement = jsonObject.get("solution");
+
+		assertThat(jsonElement.getAsDouble(), is(42.5D));
+	}
+
 	@Test
 	public void testInvokingFalseIfElseConditionCreatesACorrectField() {
 		_jsonObjectBuilder.ifElseCondition(
@@ -294,6 +317,20 @@ public class JSONObjectBuilderTest {
 		assertThat(getJsonObject(), is(_aJsonObjectWithTheSolution));
 	}
 
+	@Test
+	public void testInvokingLongValueCreatesALong() {
+		_jsonObjectBuilder.field(
+			"solution"
+		).longValue(
+			42L
+		);
+
+		Matcher<JsonElement> isAJsonObjectWithTheSolution = is(
+			aJsonObjectWhere("solution", is(aJsonLong(equalTo(42L)))));
+
+		assertThat(getJsonObject(), isAJsonObjectWithTheSolution);
+	}
+
 	@Test
 	public void testInvokingNestedFieldCreatesACorrectNestedField() {
 		_jsonObjectBuilder.nestedField(
@@ -307,6 +344,42 @@ public class JSONObjectBuilderTest {
 			is(aJsonObjectWhere("the", is(_aJsonObjectWithTheSolution))));
 	}
 
+	@Test
+	public void testInvokingNestedObjectNavigatesOnlyOnceForTheSameList() {
+		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+			null, "the");
+
+		List<FunctionalList<String>> navigatedEmbeddedPathElements =
+			new ArrayList<>();
+
+		Function<JSONObjectBuilder, JSONObjectBuilder.FieldStep>
+			fieldStepFunction = builder -> {
+				navigatedEmbeddedPathElements.add(embeddedPathElements);
+
+				return builder.field(embeddedPathElements.head());
+			};
+
+		JSONObjectBuilder firstJSONObjectBuilder =
+			_jsonObjectBuilder.nestedObject(
+				embeddedPathElements, fieldStepFunction);
+		JSONObjectBuilder secondJSONObjectBuilder =
+			_jsonObjectBuilder.nestedObject(
+				embeddedPathElements, fieldStepFunction);
+
+		secondJSONObjectBuilder.field(
+			"solution"
+		).numberValue(
+			42
+		);
+
+		assertThat(secondJSONObjectBuilder, is(firstJSONObjectBuilder));
+		assertThat(
+			navigatedEmbeddedPathElements, contains(embeddedPathElements));
+		assertThat(
+			getJsonObject(),
+			is(aJsonObjectWhere("the", is(_aJsonObjectWithTheSolution))));
+	}
+
 	@Test
 	public void testInvokingNestedPrefixedFieldCreatesACorrectField() {
 		_jsonObjectBuilder.nestedPrefixedField(
@@ -340,6 +413,32 @@ public class JSONObjectBuilderTest {
 		assertThat(getJsonObject(), is(_aJsonObjectWithTheSolution));
 	}
 
+	@Test
+	public void testInvokingObjectValueReturnsTheBuilderOfTheNestedObject() {
+		_jsonObjectBuilder.nestedField(
+			"the", "solution"
+		).numberValue(
+			42
+		);
+
+		JSONObjectBuilder jsonObjectBuilder = _jsonObjectBuilder.field(
+			"the"
+		).objectValue();
+
+		jsonObjectBuilder.field(
+			"other"
+		).stringValue(
+			"Hello World!"
+		);
+
+		JsonObject jsonObject = getJsonObject();
+
+		assertThat(jsonObjectBuilder.build(), is(jsonObject.get("the")));
+		assertThat(
+			jsonObject.toString(),
+			is("{\"the\":{\"solution\":42,\"other\":\"Hello World!\"}}"));
+	}
+
 	@Test
 	public void testInvokingStringValueCreatesAString() {
 		_jsonObjectBuilder.field(
@@ -367,6 +466,32 @@ public class JSONObjectBuilderTest {
 		assertThat(getJsonObject(), is(_aJsonObjectWithTheSolution));
 	}
 
+	@Test
+	public void testInvokingWriteToWritesTheSameJsonAsToString()
+		throws IOException {
+
+		_jsonObjectBuilder.nestedField(
+			"object", "inner", "other"
+		).stringValue(
+			"<Apio & Architect>"
+		);
+
+		_jsonObjectBuilder.field(
+			"array"
+		).arrayValue(
+		).addAllNumbers(
+			Arrays.asList(21, 42)
+		);
+
+		StringWriter stringWriter = new StringWriter();
+
+		_jsonObjectBuilder.writeTo(stringWriter);
+
+		JsonObject jsonObject = getJsonObject();
+
+		assertThat(stringWriter.toString(), is(jsonObject.toString()));
+	}
+
 	protected JsonObject getJsonObject() {
 		return _jsonObjectBuilder.build();
 	}
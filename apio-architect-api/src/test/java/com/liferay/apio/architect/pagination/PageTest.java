@@ -53,6 +53,28 @@ public class PageTest {
 		_page = new Page<>("name", _pageItems, pagination, _path, _operations);
 	}
 
+	@Test
+	public void testCursorBasedPageHasNextAndPreviousIfTokensArePresent() {
+		Page<String> page = _getCursorBasedPage("previous", "next");
+
+		assertThat(page.isCursorBased(), is(true));
+		assertThat(page.hasNext(), is(true));
+		assertThat(page.hasPrevious(), is(true));
+		assertThat(page.getNextTokenOptional(), is(Optional.of("next")));
+		assertThat(
+			page.getPreviousTokenOptional(), is(Optional.of("previous")));
+		assertThat(page.getTokenOptional(), is(Optional.of("current")));
+	}
+
+	@Test
+	public void testCursorBasedPageWithoutTokensHasNoNextOrPrevious() {
+		Page<String> page = _getCursorBasedPage(null, null);
+
+		assertThat(page.hasNext(), is(false));
+		assertThat(page.hasPrevious(), is(false));
+		assertThat(page.getItemsPerPage(), is(5));
+	}
+
 	@Test
 	public void testGetItemsPerPageReturnsItemsPerPage() {
 		assertThat(_page.getItemsPerPage(), is(1));
@@ -113,6 +135,19 @@ public class PageTest {
 		assertThat(_page.getTotalCount(), is(10));
 	}
 
+	@Test
+	public void testGetTotalCountTypeReturnsTotalCountType() {
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"), 1000, TotalCountType.ESTIMATED);
+
+		Page<String> page = new Page<>(
+			"", pageItems, new Pagination(1, 4), _path, emptyList());
+
+		assertThat(_page.getTotalCountType(), is(TotalCountType.EXACT));
+		assertThat(page.getTotalCountType(), is(TotalCountType.ESTIMATED));
+		assertThat(page.getTotalCount(), is(1000));
+	}
+
 	@Test
 	public void testHasNextReturnsFalseWhenIsLast() {
 		Pagination pagination = new Pagination(1, 10);
@@ -128,6 +163,21 @@ public class PageTest {
 		assertThat(_page.hasNext(), is(true));
 	}
 
+	@Test
+	public void testHasNextWithUnknownTotalCountReturnsIfThePageIsFull() {
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"));
+
+		Page<String> fullPage = new Page<>(
+			"", pageItems, new Pagination(1, 4), _path, emptyList());
+		Page<String> partialPage = new Page<>(
+			"", pageItems, new Pagination(2, 4), _path, emptyList());
+
+		assertThat(fullPage.getTotalCountType(), is(TotalCountType.UNKNOWN));
+		assertThat(fullPage.hasNext(), is(true));
+		assertThat(partialPage.hasNext(), is(false));
+	}
+
 	@SuppressWarnings("ResultOfMethodCallIgnored")
 	@Test
 	public void testHasPreviousReturnsFalseWhenIsFirst() {
@@ -144,6 +194,23 @@ public class PageTest {
 		assertThat(_page.hasPrevious(), is(true));
 	}
 
+	@Test
+	public void testIsCursorBasedReturnsFalseWithPagination() {
+		assertThat(_page.isCursorBased(), is(false));
+		assertThat(_page.getNextTokenOptional(), is(Optional.empty()));
+	}
+
+	private Page<String> _getCursorBasedPage(
+		String previousToken, String nextToken) {
+
+		CursorPageItems<String> cursorPageItems = new CursorPageItems<>(
+			Collections.singleton("apio"), 10, previousToken, nextToken);
+
+		return new Page<>(
+			"name", cursorPageItems, new Cursor(5, "current"), _path,
+			_operations);
+	}
+
 	private List<Operation> _operations;
 	private Page<String> _page;
 	private PageItems<String> _pageItems;
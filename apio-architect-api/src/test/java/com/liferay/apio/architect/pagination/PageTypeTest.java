@@ -18,6 +18,8 @@ import static org.hamcrest.Matchers.is;
 
 import static org.springframework.test.util.MatcherAssertionErrors.assertThat;
 
+import java.util.Optional;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -108,6 +110,37 @@ public class PageTypeTest {
 		assertThat(pageNumber, is(1));
 	}
 
+	@Test
+	public void testCallingTokenOnFirstAndLastReturnsEmpty() {
+		Optional<String> firstOptional = PageType.FIRST.getTokenOptional(_page);
+		Optional<String> lastOptional = PageType.LAST.getTokenOptional(_page);
+
+		assertThat(firstOptional, is(Optional.empty()));
+		assertThat(lastOptional, is(Optional.empty()));
+	}
+
+	@Test
+	public void testCallingTokenOnNextAndPreviousReturnsTheirTokens() {
+		Mockito.when(
+			_page.getNextTokenOptional()
+		).thenReturn(
+			Optional.of("next")
+		);
+
+		Mockito.when(
+			_page.getPreviousTokenOptional()
+		).thenReturn(
+			Optional.of("previous")
+		);
+
+		Optional<String> nextOptional = PageType.NEXT.getTokenOptional(_page);
+		Optional<String> previousOptional = PageType.PREVIOUS.getTokenOptional(
+			_page);
+
+		assertThat(nextOptional, is(Optional.of("next")));
+		assertThat(previousOptional, is(Optional.of("previous")));
+	}
+
 	@Mock
 	private final Page _page = Mockito.mock(Page.class);
 
@@ -17,27 +17,43 @@ package com.liferay.apio.architect.representor;
 import static com.liferay.apio.architect.representor.RepresentorTestUtil.testFields;
 import static com.liferay.apio.architect.representor.RepresentorTestUtil.testRelatedModel;
 
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
 import static java.util.Arrays.asList;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
 
+import com.liferay.apio.architect.alias.IdentifierBinaryFunction;
+import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.Representor.Builder;
 import com.liferay.apio.architect.representor.dummy.Dummy;
+import com.liferay.apio.architect.representor.function.DoubleFieldFunction;
+import com.liferay.apio.architect.representor.function.FieldFunction;
+import com.liferay.apio.architect.representor.function.LongFieldFunction;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
 
+import java.time.Instant;
+import java.time.LocalDate;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -88,12 +104,18 @@ public class RepresentorTest {
 			"booleanList1", dummy -> dummy.booleanList1
 		).addBooleanList(
 			"booleanList2", dummy -> dummy.booleanList2
+		).addBooleanPrimitive(
+			"booleanPrimitive", dummy -> dummy.boolean1
 		).addDate(
 			"date1", dummy -> dummy.date1
 		).addDate(
 			"date2", dummy -> dummy.date2
 		).addDate(
 			"nullDate", __ -> null
+		).addDouble(
+			"double", __ -> 42.5D
+		).addInstant(
+			"instant", __ -> Instant.ofEpochMilli(1465981200000L)
 		).addLink(
 			"link1", "Link 1"
 		).addLink(
@@ -102,10 +124,14 @@ public class RepresentorTest {
 			"linked1", IntegerIdentifier.class, dummy -> dummy.relatedModelId3
 		).addLinkedModel(
 			"linked2", IntegerIdentifier.class, dummy -> dummy.relatedModelId4
+		).addLocalDate(
+			"localDate", __ -> LocalDate.of(2016, 6, 5)
 		).addLocalizedStringByLanguage(
 			"localized1", Dummy::getLocalizedString1
 		).addLocalizedStringByLocale(
 			"localized2", Dummy::getLocalizedString2
+		).addLong(
+			"long", __ -> 42L
 		).addNumber(
 			"number1", dummy -> dummy.number1
 		).addNumber(
@@ -126,6 +152,10 @@ public class RepresentorTest {
 			"stringList1", dummy -> dummy.stringList1
 		).addStringList(
 			"stringList2", dummy -> dummy.stringList2
+		).lastModified(
+			dummy -> dummy.date2
+		).version(
+			dummy -> dummy.id
 		).build();
 	}
 
@@ -158,6 +188,73 @@ public class RepresentorTest {
 		assertThat(_representor.getIdentifier(_dummy), is(23));
 	}
 
+	@Test
+	public void testIdentifierBinaryFunctions() {
+		Builder<Dummy, Integer> builder = new Builder<>(
+			IntegerIdentifier.class);
+
+		Representor<Dummy> representor = builder.types(
+			"Type"
+		).identifier(
+			dummy -> dummy.id
+		).addIdentifierBinary(
+			"binary",
+			(id, credentials) -> new BinaryFile(
+				new ByteArrayInputStream(new byte[0]), 0L, "image/" + id)
+		).build();
+
+		List<FieldFunction<Dummy, BinaryFile>> binaryFunctions =
+			representor.getBinaryFunctions();
+
+		Stream<FieldFunction<Dummy, BinaryFile>> stream =
+			binaryFunctions.stream();
+
+		List<String> keys = stream.map(
+			fieldFunction -> fieldFunction.key
+		).collect(
+			Collectors.toList()
+		);
+
+		assertThat(keys, contains("binary"));
+		assertThat(
+			representor.getBinaryFunction("binary"), is(emptyOptional()));
+
+		Optional<IdentifierBinaryFunction<Integer>> optional =
+			representor.getIdentifierBinaryFunctionOptional("binary");
+
+		BinaryFile binaryFile = optional.map(
+			function -> function.apply(23, () -> "")
+		).get();
+
+		assertThat(binaryFile.getMimeType(), is("image/23"));
+		assertThat(
+			representor.getIdentifierBinaryFunctionOptional("other"),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testLastModified() {
+		assertThat(
+			_representor.getLastModifiedOptional(_dummy),
+			is(optionalWithValue(equalTo(_dummy.date2))));
+	}
+
+	@Test
+	public void testLastModifiedAndVersionAreEmptyIfNotProvided() {
+		Builder<Dummy, Integer> builder = new Builder<>(
+			IntegerIdentifier.class);
+
+		Representor<Dummy> representor = builder.types(
+			"Type"
+		).identifier(
+			dummy -> dummy.id
+		).build();
+
+		assertThat(
+			representor.getLastModifiedOptional(_dummy), is(emptyOptional()));
+		assertThat(representor.getVersionOptional(_dummy), is(emptyOptional()));
+	}
+
 	@Test
 	public void testLinks() {
 		testFields(
@@ -169,7 +266,8 @@ public class RepresentorTest {
 	public void testPrimitiveFunctions() {
 		testFields(
 			_dummy, _representor.getBooleanFunctions(),
-			asList("boolean1", "boolean2"), asList(true, false));
+			asList("boolean1", "boolean2", "booleanPrimitive"),
+			asList(true, false, true));
 
 		testFields(
 			_dummy, _representor.getLocalizedStringFunctions(),
@@ -182,10 +280,12 @@ public class RepresentorTest {
 
 		testFields(
 			_dummy, _representor.getStringFunctions(),
-			asList("date1", "date2", "nullDate", "string1", "string2"),
 			asList(
-				"2016-06-15T09:00Z", "2017-04-03T18:36Z", null, "String 1",
-				"String 2"));
+				"date1", "date2", "nullDate", "instant", "localDate", "string1",
+				"string2"),
+			asList(
+				"2016-06-15T09:00Z", "2017-04-03T18:36Z", null,
+				"2016-06-15T09:00Z", "2016-06-05", "String 1", "String 2"));
 	}
 
 	@Test
@@ -208,6 +308,35 @@ public class RepresentorTest {
 			asList(asList("a", "b", "c", "d"), asList("e", "f", "g", "h")));
 	}
 
+	@Test
+	public void testPrimitiveSpecializedFunctions() {
+		List<DoubleFieldFunction<Dummy>> doubleFieldFunctions =
+			_representor.getDoubleFunctions();
+
+		assertThat(doubleFieldFunctions, hasSize(1));
+
+		DoubleFieldFunction<Dummy> doubleFieldFunction =
+			doubleFieldFunctions.get(0);
+
+		ToDoubleFunction<Dummy> toDoubleFunction =
+			doubleFieldFunction.toDoubleFunction;
+
+		assertThat(doubleFieldFunction.key, is("double"));
+		assertThat(toDoubleFunction.applyAsDouble(_dummy), is(42.5D));
+
+		List<LongFieldFunction<Dummy>> longFieldFunctions =
+			_representor.getLongFunctions();
+
+		assertThat(longFieldFunctions, hasSize(1));
+
+		LongFieldFunction<Dummy> longFieldFunction = longFieldFunctions.get(0);
+
+		ToLongFunction<Dummy> toLongFunction = longFieldFunction.toLongFunction;
+
+		assertThat(longFieldFunction.key, is("long"));
+		assertThat(toLongFunction.applyAsLong(_dummy), is(42L));
+	}
+
 	@Test
 	public void testRelatedCollections() {
 		Stream<RelatedCollection<?>> relatedCollections =
@@ -258,6 +387,13 @@ public class RepresentorTest {
 		assertThat(types, contains("Type 1", "Type 2", "Type 3"));
 	}
 
+	@Test
+	public void testVersion() {
+		assertThat(
+			_representor.getVersionOptional(_dummy),
+			is(optionalWithValue(equalTo("23"))));
+	}
+
 	private List<Class> _classes;
 	private final Dummy _dummy = new Dummy(23);
 	private List<String> _keys;
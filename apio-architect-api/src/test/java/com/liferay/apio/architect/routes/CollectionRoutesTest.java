@@ -16,9 +16,11 @@ package com.liferay.apio.architect.routes;
 
 import static com.liferay.apio.architect.operation.Method.POST;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.COLLECTION_PERMISSION_FUNCTION;
+import static com.liferay.apio.architect.routes.RoutesTestUtil.CURSOR;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.FORM_BUILDER_FUNCTION;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.PAGINATION;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.REQUEST_PROVIDE_FUNCTION;
+import static com.liferay.apio.architect.test.util.result.TryMatchers.aFailTry;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
@@ -29,22 +31,29 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.routes.AsyncGetPageFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
 import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Cursor;
+import com.liferay.apio.architect.pagination.CursorPageItems;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.routes.CollectionRoutes.Builder;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.junit.Test;
 
@@ -53,6 +62,106 @@ import org.junit.Test;
  */
 public class CollectionRoutesTest {
 
+	@Test
+	public void testAsyncBuilderMethodsCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		CollectionRoutes<String> collectionRoutes = builder.addAsyncCreator(
+			(body, string) -> CompletableFuture.supplyAsync(
+				() -> _testAndReturnOneParameterCreatorRoute(body, string)),
+			String.class, COLLECTION_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).addAsyncGetter(
+			(pagination, string) -> CompletableFuture.supplyAsync(
+				() -> _testAndReturnOneParameterGetterRoute(
+					pagination, string)),
+			String.class
+		).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		_testCollectionRoutes(collectionRoutes);
+
+		Optional<AsyncGetPageFunction<String>> optional =
+			collectionRoutes.getAsyncGetPageFunctionOptional();
+
+		CompletionStage<Try<Page<String>>> completionStage = optional.get(
+		).apply(
+			null
+		);
+
+		CompletableFuture<Try<Page<String>>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		Page<String> page = completableFuture.join(
+		).getUnchecked();
+
+		assertThat(page.getItems(), hasItem("Apio"));
+		assertThat(page.getOperations(), hasSize(1));
+	}
+
+	@Test
+	public void testAsyncGetterFailuresCompleteWithFailedTry() {
+		Builder<String> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			});
+
+		CompletableFuture<PageItems<String>> failedCompletableFuture =
+			new CompletableFuture<>();
+
+		failedCompletableFuture.completeExceptionally(
+			new IllegalStateException());
+
+		CollectionRoutes<String> collectionRoutes = builder.addAsyncGetter(
+			pagination -> failedCompletableFuture
+		).build();
+
+		Optional<AsyncGetPageFunction<String>> optional =
+			collectionRoutes.getAsyncGetPageFunctionOptional();
+
+		CompletionStage<Try<Page<String>>> completionStage = optional.get(
+		).apply(
+			null
+		);
+
+		CompletableFuture<Try<Page<String>>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		assertThat(completableFuture.join(), is(aFailTry()));
+	}
+
+	@Test
+	public void testCursorGetterCreatesCursorBasedPages() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		CollectionRoutes<String> collectionRoutes = builder.addCursorGetter(
+			this::_testAndReturnCursorGetterRoute, String.class
+		).build();
+
+		assertThat(
+			neededProviders,
+			contains(Cursor.class.getName(), String.class.getName()));
+
+		Page<String> page = collectionRoutes.getGetPageFunctionOptional(
+		).get(
+		).apply(
+			null
+		).getUnchecked();
+
+		assertThat(page.isCursorBased(), is(true));
+		assertThat(page.getItems(), hasItem("Apio"));
+		assertThat(page.getItemsPerPage(), is(4));
+		assertThat(page.getTokenOptional(), is(Optional.of("token")));
+		assertThat(page.getNextTokenOptional(), is(Optional.of("next")));
+		assertThat(page.hasPrevious(), is(false));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String> builder = new Builder<>(
@@ -123,6 +232,42 @@ public class CollectionRoutesTest {
 		_testCollectionRoutes(collectionRoutes);
 	}
 
+	@Test
+	public void testLastAddedAsyncGetterReplacesGetter() {
+		Builder<String> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			});
+
+		CollectionRoutes<String> collectionRoutes = builder.addGetter(
+			this::_testAndReturnNoParameterGetterRoute
+		).addAsyncGetter(
+			pagination -> CompletableFuture.completedFuture(
+				new PageItems<>(Collections.singletonList("Async"), 1))
+		).build();
+
+		assertThat(_getPageItems(collectionRoutes), contains("Async"));
+		assertThat(_getAsyncPageItems(collectionRoutes), contains("Async"));
+	}
+
+	@Test
+	public void testLastAddedGetterReplacesAsyncGetter() {
+		Builder<String> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			});
+
+		CollectionRoutes<String> collectionRoutes = builder.addAsyncGetter(
+			pagination -> CompletableFuture.completedFuture(
+				new PageItems<>(Collections.singletonList("Async"), 1))
+		).addGetter(
+			this::_testAndReturnNoParameterGetterRoute
+		).build();
+
+		assertThat(_getPageItems(collectionRoutes), contains("Apio"));
+		assertThat(_getAsyncPageItems(collectionRoutes), contains("Apio"));
+	}
+
 	@Test
 	public void testOneParameterBuilderMethodsCreatesValidRoutes() {
 		Set<String> neededProviders = new TreeSet<>();
@@ -142,6 +287,36 @@ public class CollectionRoutesTest {
 		_testCollectionRoutes(collectionRoutes);
 	}
 
+	@Test
+	public void testSynchronousGetterIsAvailableAsAsyncGetter() {
+		Builder<String> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			});
+
+		CollectionRoutes<String> collectionRoutes = builder.addGetter(
+			this::_testAndReturnNoParameterGetterRoute
+		).build();
+
+		Optional<AsyncGetPageFunction<String>> optional =
+			collectionRoutes.getAsyncGetPageFunctionOptional();
+
+		CompletionStage<Try<Page<String>>> completionStage = optional.get(
+		).apply(
+			null
+		);
+
+		CompletableFuture<Try<Page<String>>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		assertThat(completableFuture.isDone(), is(true));
+
+		Page<String> page = completableFuture.join(
+		).getUnchecked();
+
+		assertThat(page.getItems(), hasItem("Apio"));
+	}
+
 	@Test
 	public void testThreeParameterBuilderMethodsCreatesValidRoutes() {
 		Set<String> neededProviders = new TreeSet<>();
@@ -183,6 +358,50 @@ public class CollectionRoutesTest {
 		_testCollectionRoutes(collectionRoutes);
 	}
 
+	private Collection<String> _getAsyncPageItems(
+		CollectionRoutes<String> collectionRoutes) {
+
+		Optional<AsyncGetPageFunction<String>> optional =
+			collectionRoutes.getAsyncGetPageFunctionOptional();
+
+		CompletionStage<Try<Page<String>>> completionStage = optional.get(
+		).apply(
+			null
+		);
+
+		CompletableFuture<Try<Page<String>>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		Page<String> page = completableFuture.join(
+		).getUnchecked();
+
+		return page.getItems();
+	}
+
+	private Collection<String> _getPageItems(
+		CollectionRoutes<String> collectionRoutes) {
+
+		Optional<GetPageFunction<String>> optional =
+			collectionRoutes.getGetPageFunctionOptional();
+
+		Page<String> page = optional.get(
+		).apply(
+			null
+		).getUnchecked();
+
+		return page.getItems();
+	}
+
+	private CursorPageItems<String> _testAndReturnCursorGetterRoute(
+		Cursor cursor, String string) {
+
+		assertThat(cursor, is(CURSOR));
+		assertThat(string, is("Apio"));
+
+		return new CursorPageItems<>(
+			Collections.singletonList("Apio"), 1, null, "next");
+	}
+
 	private String _testAndReturnFourParameterCreatorRoute(
 		Map<String, Object> body, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
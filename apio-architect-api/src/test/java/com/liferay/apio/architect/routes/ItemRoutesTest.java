@@ -28,19 +28,25 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.routes.AsyncGetItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchGetItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
 import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.routes.ItemRoutes.Builder;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Test;
 
@@ -49,6 +55,81 @@ import org.junit.Test;
  */
 public class ItemRoutesTest {
 
+	@Test
+	public void testAsyncGetterBuilderMethodCreatesValidRoutes()
+		throws Exception {
+
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		ItemRoutes<String, Long> itemRoutes = builder.addAsyncGetter(
+			(identifier, string) -> CompletableFuture.supplyAsync(
+				() -> _testAndReturnOneParameterGetterRoute(
+					identifier, string)),
+			String.class
+		).addRemover(
+			this::_testOneParameterRemoverRoute, String.class,
+			ITEM_PERMISSION_FUNCTION
+		).addUpdater(
+			this::_testAndReturnOneParameterUpdaterRoute, String.class,
+			ITEM_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		_testItemRoutes(itemRoutes);
+
+		Optional<AsyncGetItemFunction<String, Long>> optional =
+			itemRoutes.getAsyncItemFunctionOptional();
+
+		CompletableFuture<Try<SingleModel<String>>> completableFuture =
+			optional.get(
+			).apply(
+				null
+			).apply(
+				42L
+			).toCompletableFuture();
+
+		SingleModel<String> singleModel = completableFuture.join(
+		).getUnchecked();
+
+		assertThat(singleModel.getModel(), is("Apio"));
+		assertThat(singleModel.getOperations(), hasSize(2));
+	}
+
+	@Test
+	public void testBatchGetterBuilderMethodCreatesValidRoute() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnOneParameterBatchGetterRoute, String.class
+		).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		Optional<BatchGetItemFunction<String, Long>> optional =
+			itemRoutes.getBatchGetItemFunctionOptional();
+
+		Map<Long, SingleModel<String>> singleModels = optional.get(
+		).apply(
+			null
+		).apply(
+			Arrays.asList(21L, 42L)
+		).getUnchecked();
+
+		assertThat(singleModels.keySet(), contains(42L));
+
+		SingleModel<String> singleModel = singleModels.get(42L);
+
+		assertThat(singleModel.getResourceName(), is("name"));
+		assertThat(singleModel.getModel(), is("Apio"));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long> builder = new Builder<>(
@@ -63,6 +144,12 @@ public class ItemRoutesTest {
 
 		assertThat(deleteItemConsumerOptional, is(emptyOptional()));
 
+		Optional<BatchGetItemFunction<String, Long>>
+			batchGetItemFunctionOptional =
+				itemRoutes.getBatchGetItemFunctionOptional();
+
+		assertThat(batchGetItemFunctionOptional, is(emptyOptional()));
+
 		Optional<GetItemFunction<String, Long>> getItemFunctionOptional =
 			itemRoutes.getItemFunctionOptional();
 
@@ -251,6 +338,15 @@ public class ItemRoutesTest {
 		return "Updated";
 	}
 
+	private Map<Long, String> _testAndReturnOneParameterBatchGetterRoute(
+		List<Long> identifiers, String string) {
+
+		assertThat(identifiers, contains(21L, 42L));
+		assertThat(string, is("Apio"));
+
+		return Collections.singletonMap(42L, "Apio");
+	}
+
 	private String _testAndReturnOneParameterGetterRoute(
 		Long identifier, String string) {
 
@@ -30,9 +30,11 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.routes.AsyncNestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
@@ -47,6 +49,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Test;
 
@@ -55,6 +58,51 @@ import org.junit.Test;
  */
 public class NestedCollectionRoutesTest {
 
+	@Test
+	public void testAsyncBuilderMethodsCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new Builder<>(
+			"name", "nested", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		NestedCollectionRoutes<String, Long> nestedCollectionRoutes =
+			builder.addAsyncCreator(
+				(identifier, body, string) -> CompletableFuture.supplyAsync(
+					() -> _testAndReturnOneParameterCreatorRoute(
+						identifier, body, string)),
+				String.class, getNestedCollectionPermissionFunction(),
+				FORM_BUILDER_FUNCTION
+			).addAsyncGetter(
+				(pagination, identifier, string) ->
+					CompletableFuture.supplyAsync(
+						() -> _testAndReturnOneParameterGetterRoute(
+							pagination, identifier, string)),
+				String.class
+			).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		_testNestedCollectionRoutes(nestedCollectionRoutes);
+
+		Optional<AsyncNestedGetPageFunction<String, Long>> optional =
+			nestedCollectionRoutes.getAsyncNestedGetPageFunctionOptional();
+
+		CompletableFuture<Try<Page<String>>> completableFuture = optional.get(
+		).apply(
+			null
+		).apply(
+			new Path("name", "42")
+		).apply(
+			42L
+		).toCompletableFuture();
+
+		Page<String> page = completableFuture.join(
+		).getUnchecked();
+
+		assertThat(page.getItems(), hasItem("Apio"));
+		assertThat(page.getPathOptional(), is(optionalWithValue()));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long> builder = new Builder<>(
@@ -16,11 +16,14 @@ package com.liferay.apio.architect.routes;
 
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provide;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provideConsumer;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toCompletionStage;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toTry;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.PROVIDE_FUNCTION;
 import static com.liferay.apio.architect.test.util.result.TryMatchers.aFailTry;
 import static com.liferay.apio.architect.test.util.result.TryMatchers.aTryWithValueThat;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.core.Is.is;
 
 import com.liferay.apio.architect.functional.Try;
@@ -29,6 +32,9 @@ import com.liferay.apio.architect.language.Language;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import javax.ws.rs.NotFoundException;
 
 import org.junit.Test;
@@ -245,6 +251,66 @@ public class RoutesBuilderUtilTest {
 		assertThat(result, is(aTryWithValueThat(is("The result"))));
 	}
 
+	@Test
+	public void testToCompletionStageCompletesWithFailureIfStageFails() {
+		CompletableFuture<Try<String>> completableFuture =
+			new CompletableFuture<>();
+
+		CompletionStage<Try<String>> completionStage = toCompletionStage(
+			Try.success(completableFuture));
+
+		completableFuture.completeExceptionally(new NotFoundException());
+
+		Try<String> stringTry = toTry(completionStage);
+
+		assertThat(stringTry, is(aFailTry()));
+
+		Try.Failure<String> failure = (Try.Failure<String>)stringTry;
+
+		assertThat(
+			failure.getException(), is(instanceOf(NotFoundException.class)));
+	}
+
+	@Test
+	public void testToCompletionStageCompletesWithFailureIfStageTryFails() {
+		CompletionStage<Try<String>> completionStage = toCompletionStage(
+			Try.success(
+				CompletableFuture.completedFuture(
+					Try.fail(new NotFoundException()))));
+
+		Try<String> stringTry = toTry(completionStage);
+
+		assertThat(stringTry, is(aFailTry()));
+
+		Try.Failure<String> failure = (Try.Failure<String>)stringTry;
+
+		assertThat(
+			failure.getException(), is(instanceOf(NotFoundException.class)));
+	}
+
+	@Test
+	public void testToCompletionStageCompletesWithFailureIfTryFails() {
+		CompletionStage<Try<String>> completionStage = toCompletionStage(
+			Try.fail(new NotFoundException()));
+
+		CompletableFuture<Try<String>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		assertThat(completableFuture.isDone(), is(true));
+		assertThat(completableFuture.join(), is(aFailTry()));
+	}
+
+	@Test
+	public void testToTryWaitsForCompletionStage() {
+		CompletableFuture<Try<String>> completableFuture =
+			CompletableFuture.supplyAsync(() -> Try.success("Apio"));
+
+		Try<String> stringTry = toTry(
+			toCompletionStage(Try.success(completableFuture)));
+
+		assertThat(stringTry, is(aTryWithValueThat(is("Apio"))));
+	}
+
 	@Test(expected = NotFoundException.class)
 	public void testTwoParameterProvideConsumerMethodFailsIfNoProvider()
 		throws Exception {
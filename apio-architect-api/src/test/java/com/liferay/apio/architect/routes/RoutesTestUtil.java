@@ -17,6 +17,7 @@ package com.liferay.apio.architect.routes;
 import com.liferay.apio.architect.alias.ProvideFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.pagination.Cursor;
 import com.liferay.apio.architect.pagination.Pagination;
 
 import java.util.HashMap;
@@ -39,6 +40,11 @@ public class RoutesTestUtil {
 	public static final Function<Credentials, Boolean>
 		COLLECTION_PERMISSION_FUNCTION = __ -> true;
 
+	/**
+	 * A mock {@code Cursor} object.
+	 */
+	public static final Cursor CURSOR = new Cursor(4, "token");
+
 	/**
 	 * A {@code FormBuilderFunction} that creates a {@code Map<String, Object>}
 	 * {@code Form}.
@@ -67,8 +73,8 @@ public class RoutesTestUtil {
 
 	/**
 	 * A function that provides instances of {@code String}, {@code Long},
-	 * {@code Integer}, {@code Boolean}, {@code Float}, {@code Pagination}, and
-	 * {@code Credentials}.
+	 * {@code Integer}, {@code Boolean}, {@code Float}, {@code Pagination},
+	 * {@code Cursor}, and {@code Credentials}.
 	 */
 	public static final Function<Class<?>, ?> PROVIDE_FUNCTION = aClass -> {
 		if (aClass.equals(String.class)) {
@@ -89,6 +95,9 @@ public class RoutesTestUtil {
 		else if (aClass.equals(Pagination.class)) {
 			return PAGINATION;
 		}
+		else if (aClass.equals(Cursor.class)) {
+			return CURSOR;
+		}
 		else if (aClass.equals(Credentials.class)) {
 			return (Credentials)() -> "auth";
 		}
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Set;
 
 import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.ext.ExceptionMapper;
@@ -67,6 +68,8 @@ public class ApioApplication extends Application {
 
 		singletons.addAll(_messageBodyWriters);
 
+		singletons.addAll(_containerRequestFilters);
+
 		singletons.addAll(_containerResponseFilters);
 
 		singletons.addAll(_exceptionMappers);
@@ -74,6 +77,17 @@ public class ApioApplication extends Application {
 		return singletons;
 	}
 
+	@Reference(
+		cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY,
+		target = "(liferay.apio.architect.container.request.filter=true)"
+	)
+	public void setContainerRequestFilter(
+		ServiceReference<ContainerRequestFilter> serviceReference,
+		ContainerRequestFilter containerRequestFilter) {
+
+		_containerRequestFilters.add(containerRequestFilter);
+	}
+
 	@Reference(
 		cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY,
 		target = "(liferay.apio.architect.container.response.filter=true)"
@@ -118,6 +132,14 @@ public class ApioApplication extends Application {
 		_messageBodyWriters.add(messageBodyWriter);
 	}
 
+	@SuppressWarnings("unused")
+	public void unsetContainerRequestFilter(
+		ServiceReference<ContainerRequestFilter> serviceReference,
+		ContainerRequestFilter containerRequestFilter) {
+
+		_containerRequestFilters.remove(containerRequestFilter);
+	}
+
 	@SuppressWarnings("unused")
 	public <T> void unsetContainerResponseFilter(
 		ServiceReference<ContainerResponseFilter> serviceReference,
@@ -150,6 +172,8 @@ public class ApioApplication extends Application {
 		_messageBodyWriters.remove(messageBodyWriter);
 	}
 
+	private final List<ContainerRequestFilter> _containerRequestFilters =
+		new ArrayList<>();
 	private final List<ContainerResponseFilter> _containerResponseFilters =
 		new ArrayList<>();
 	private final List<ExceptionMapper> _exceptionMappers = new ArrayList<>();
@@ -19,6 +19,7 @@ import static com.liferay.apio.architect.endpoint.ExceptionSupplierUtil.notFound
 import static com.liferay.apio.architect.operation.Method.DELETE;
 import static com.liferay.apio.architect.operation.Method.POST;
 import static com.liferay.apio.architect.operation.Method.PUT;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toCompletionStage;
 
 import static javax.ws.rs.core.Response.noContent;
 
@@ -39,12 +40,16 @@ import com.liferay.apio.architect.uri.Path;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.GenericEntity;
 import javax.ws.rs.core.Response;
 
 /**
@@ -56,22 +61,27 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		String name, HttpServletRequest httpServletRequest,
 		Function<String, Optional<Class<Identifier>>> identifierClassFunction,
 		Function<String, Try<SingleModel<T>>> singleModelFunction,
+		Function<String, CompletionStage<Try<SingleModel<T>>>>
+			asyncSingleModelFunction,
 		Supplier<Optional<CollectionRoutes<T>>> collectionRoutesSupplier,
 		Supplier<Optional<Representor<T>>> representorSupplier,
 		Supplier<Optional<ItemRoutes<T, S>>> itemRoutesSupplier,
 		Function<String, Optional<NestedCollectionRoutes<T, Object>>>
 			nestedCollectionRoutesFunction,
-		Function<Path, S> identifierFunction) {
+		Function<Path, S> identifierFunction,
+		Consumer<Path> invalidationConsumer) {
 
 		_name = name;
 		_httpServletRequest = httpServletRequest;
 		_identifierClassFunction = identifierClassFunction;
 		_singleModelFunction = singleModelFunction;
+		_asyncSingleModelFunction = asyncSingleModelFunction;
 		_collectionRoutesSupplier = collectionRoutesSupplier;
 		_representorSupplier = representorSupplier;
 		_itemRoutesSupplier = itemRoutesSupplier;
 		_nestedCollectionRoutesFunction = nestedCollectionRoutesFunction;
 		_identifierFunction = identifierFunction;
+		_invalidationConsumer = invalidationConsumer;
 	}
 
 	@Override
@@ -88,11 +98,31 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
+	@Override
+	public void addCollectionItem(Body body, AsyncResponse asyncResponse) {
+		Try<CompletionStage<Try<SingleModel<T>>>> completionStageTry =
+			Try.fromOptional(
+				_collectionRoutesSupplier::get, notFound(_name)
+			).mapOptional(
+				CollectionRoutes::getAsyncCreateItemFunctionOptional,
+				notAllowed(POST, _name)
+			).map(
+				function -> function.apply(
+					_httpServletRequest
+				).apply(
+					body
+				)
+			);
+
+		_resumeWithSingleModel(
+			asyncResponse, toCompletionStage(completionStageTry));
+	}
+
 	@Override
 	public Try<SingleModel<T>> addNestedCollectionItem(
 		String id, String nestedName, Body body) {
 
-		return Try.fromOptional(
+		Try<SingleModel<T>> nestedSingleModelTry = Try.fromOptional(
 			() -> _nestedCollectionRoutesFunction.apply(nestedName),
 			notFound(_name, nestedName)
 		).mapOptional(
@@ -118,6 +148,60 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 			NoSuchElementException.class,
 			notAllowed(POST, _name, id, nestedName)
 		);
+
+		nestedSingleModelTry.ifSuccess(
+			__ -> _invalidationConsumer.accept(new Path(_name, id)));
+
+		return nestedSingleModelTry;
+	}
+
+	@Override
+	public void addNestedCollectionItem(
+		String id, String nestedName, Body body, AsyncResponse asyncResponse) {
+
+		Try<CompletionStage<Try<SingleModel<T>>>> completionStageTry =
+			Try.fromOptional(
+				() -> _nestedCollectionRoutesFunction.apply(nestedName),
+				notFound(_name, nestedName)
+			).mapOptional(
+				NestedCollectionRoutes::getAsyncNestedCreateItemFunctionOptional
+			).flatMap(
+				function -> {
+					Try<SingleModel<T>> singleModelTry =
+						getCollectionItemSingleModelTry(id);
+
+					return singleModelTry.mapOptional(
+						_getIdentifierFunction(nestedName)
+					).map(
+						identifier -> function.apply(
+							_httpServletRequest
+						).apply(
+							identifier
+						).apply(
+							body
+						)
+					);
+				}
+			);
+
+		CompletionStage<Try<SingleModel<T>>> completionStage =
+			toCompletionStage(completionStageTry);
+
+		_resumeWithSingleModel(
+			asyncResponse,
+			completionStage.thenApply(
+				singleModelTry -> {
+					Try<SingleModel<T>> nestedSingleModelTry =
+						singleModelTry.mapFailMatching(
+							NoSuchElementException.class,
+							notAllowed(POST, _name, id, nestedName));
+
+					nestedSingleModelTry.ifSuccess(
+						__ -> _invalidationConsumer.accept(
+							new Path(_name, id)));
+
+					return nestedSingleModelTry;
+				}));
 	}
 
 	@Override
@@ -134,14 +218,39 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 
 		throwableConsumer.accept(_identifierFunction.apply(path));
 
+		_invalidationConsumer.accept(path);
+
 		return noContent().build();
 	}
 
+	@Override
+	public void getCollectionItemSingleModel(
+		String id, AsyncResponse asyncResponse) {
+
+		_resumeWithSingleModel(
+			asyncResponse, _asyncSingleModelFunction.apply(id));
+	}
+
 	@Override
 	public Try<SingleModel<T>> getCollectionItemSingleModelTry(String id) {
 		return _singleModelFunction.apply(id);
 	}
 
+	@Override
+	public void getCollectionPage(AsyncResponse asyncResponse) {
+		Try<CompletionStage<Try<Page<T>>>> completionStageTry =
+			Try.fromOptional(
+				_collectionRoutesSupplier::get, notFound(_name)
+			).mapOptional(
+				CollectionRoutes::getAsyncGetPageFunctionOptional,
+				notFound(_name)
+			).map(
+				function -> function.apply(_httpServletRequest)
+			);
+
+		_resumeWithPage(asyncResponse, toCompletionStage(completionStageTry));
+	}
+
 	@Override
 	public Try<Page<T>> getCollectionPageTry() {
 		return Try.fromOptional(
@@ -153,6 +262,43 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
+	@Override
+	public void getNestedCollectionPage(
+		String id, String nestedName, AsyncResponse asyncResponse) {
+
+		Try<CompletionStage<Try<Page<T>>>> completionStageTry =
+			Try.fromOptional(
+				() -> _nestedCollectionRoutesFunction.apply(nestedName),
+				notFound(_name, id, nestedName)
+			).mapOptional(
+				NestedCollectionRoutes::getAsyncNestedGetPageFunctionOptional
+			).map(
+				function -> function.apply(_httpServletRequest)
+			).map(
+				function -> function.apply(new Path(_name, id))
+			).flatMap(
+				pageFunction -> {
+					Try<SingleModel<T>> parentSingleModelTry =
+						getCollectionItemSingleModelTry(id);
+
+					return parentSingleModelTry.mapOptional(
+						_getIdentifierFunction(nestedName)
+					).map(
+						pageFunction::apply
+					);
+				}
+			);
+
+		CompletionStage<Try<Page<T>>> completionStage = toCompletionStage(
+			completionStageTry);
+
+		_resumeWithPage(
+			asyncResponse,
+			completionStage.thenApply(
+				pageTry -> pageTry.mapFailMatching(
+					NoSuchElementException.class, notFound(id, nestedName))));
+	}
+
 	@Override
 	public Try<Page<T>> getNestedCollectionPageTry(
 		String id, String nestedName) {
@@ -188,7 +334,9 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 
 	@Override
 	public Try<SingleModel<T>> updateCollectionItem(String id, Body body) {
-		return Try.fromOptional(
+		Path path = new Path(_name, id);
+
+		Try<SingleModel<T>> singleModelTry = Try.fromOptional(
 			_itemRoutesSupplier::get, notFound(_name, id)
 		).mapOptional(
 			ItemRoutes::getUpdateItemFunctionOptional,
@@ -199,11 +347,15 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 			).compose(
 				_identifierFunction
 			).apply(
-				new Path(_name, id)
+				path
 			).apply(
 				body
 			)
 		);
+
+		singleModelTry.ifSuccess(__ -> _invalidationConsumer.accept(path));
+
+		return singleModelTry;
 	}
 
 	private Predicate<RelatedCollection<?>>
@@ -245,12 +397,49 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
+	private void _resumeWithPage(
+		AsyncResponse asyncResponse,
+		CompletionStage<Try<Page<T>>> completionStage) {
+
+		completionStage.whenComplete(
+			(pageTry, throwable) -> {
+				if (throwable != null) {
+					asyncResponse.resume(throwable);
+				}
+				else {
+					asyncResponse.resume(
+						new GenericEntity<Try<Page<T>>>(pageTry) {
+						});
+				}
+			});
+	}
+
+	private void _resumeWithSingleModel(
+		AsyncResponse asyncResponse,
+		CompletionStage<Try<SingleModel<T>>> completionStage) {
+
+		completionStage.whenComplete(
+			(singleModelTry, throwable) -> {
+				if (throwable != null) {
+					asyncResponse.resume(throwable);
+				}
+				else {
+					asyncResponse.resume(
+						new GenericEntity<Try<SingleModel<T>>>(singleModelTry) {
+						});
+				}
+			});
+	}
+
+	private final Function<String, CompletionStage<Try<SingleModel<T>>>>
+		_asyncSingleModelFunction;
 	private final Supplier<Optional<CollectionRoutes<T>>>
 		_collectionRoutesSupplier;
 	private final HttpServletRequest _httpServletRequest;
 	private final Function<String, Optional<Class<Identifier>>>
 		_identifierClassFunction;
 	private final Function<Path, S> _identifierFunction;
+	private final Consumer<Path> _invalidationConsumer;
 	private final Supplier<Optional<ItemRoutes<T, S>>> _itemRoutesSupplier;
 	private final String _name;
 	private final Function<String, Optional<NestedCollectionRoutes<T, Object>>>
@@ -15,10 +15,12 @@
 package com.liferay.apio.architect.application.internal.endpoint;
 
 import static com.liferay.apio.architect.endpoint.ExceptionSupplierUtil.notFound;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.toCompletionStage;
 
 import com.google.gson.JsonObject;
 
 import com.liferay.apio.architect.alias.RequestFunction;
+import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.documentation.APIDescription;
 import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.documentation.Documentation;
@@ -33,6 +35,7 @@ import com.liferay.apio.architect.uri.Path;
 import com.liferay.apio.architect.url.ServerURL;
 import com.liferay.apio.architect.wiring.osgi.manager.PathIdentifierMapperManager;
 import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
+import com.liferay.apio.architect.wiring.osgi.manager.RepresentationCacheManager;
 import com.liferay.apio.architect.wiring.osgi.manager.representable.IdentifierClassManager;
 import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.wiring.osgi.manager.router.CollectionRouterManager;
@@ -42,6 +45,7 @@ import com.liferay.apio.architect.wiring.osgi.manager.router.ReusableNestedColle
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -83,7 +87,9 @@ public class RootEndpointImpl implements RootEndpoint {
 	public BinaryEndpoint binaryEndpoint() {
 		return new BinaryEndpoint(
 			_representableManager::getRepresentorOptional,
-			this::_getSingleModelTry);
+			this::_getSingleModelTry, this::_getIdentifierTry,
+			() -> _providerManager.provideMandatory(
+				_httpServletRequest, Credentials.class));
 	}
 
 	@Override
@@ -137,11 +143,14 @@ public class RootEndpointImpl implements RootEndpoint {
 			name, _httpServletRequest,
 			_identifierClassManager::getIdentifierClassOptional,
 			id -> _getSingleModelTry(name, id),
+			id -> _getSingleModelCompletionStage(name, id),
 			() -> _collectionRouterManager.getCollectionRoutesOptional(name),
 			() -> _representableManager.getRepresentorOptional(name),
 			() -> _itemRouterManager.getItemRoutesOptional(name),
 			nestedName -> _getNestedCollectionRoutesOptional(name, nestedName),
-			_pathIdentifierMapperManager::mapToIdentifierOrFail);
+			_pathIdentifierMapperManager::mapToIdentifierOrFail,
+			path -> _representationCacheManager.invalidate(
+				path.getName(), path.getId()));
 	}
 
 	private <T> Optional<NestedCollectionRoutes<T, Object>>
@@ -159,6 +168,34 @@ public class RootEndpointImpl implements RootEndpoint {
 		);
 	}
 
+	private Try<Object> _getIdentifierTry(String name, String id) {
+		return Try.fromFallible(
+			() -> _pathIdentifierMapperManager.mapToIdentifierOrFail(
+				new Path(name, id)));
+	}
+
+	private <T, S> CompletionStage<Try<SingleModel<T>>>
+		_getSingleModelCompletionStage(String name, String id) {
+
+		Try<CompletionStage<Try<SingleModel<T>>>> completionStageTry =
+			Try.success(
+				name
+			).<ItemRoutes<T, S>>mapOptional(
+				_itemRouterManager::getItemRoutesOptional
+			).mapOptional(
+				ItemRoutes::getAsyncItemFunctionOptional, notFound(name, id)
+			).map(
+				function -> function.apply(
+					_httpServletRequest
+				).apply(
+					_pathIdentifierMapperManager.mapToIdentifierOrFail(
+						new Path(name, id))
+				)
+			);
+
+		return toCompletionStage(completionStageTry);
+	}
+
 	private <T, S> Try<SingleModel<T>> _getSingleModelTry(
 		String name, String id) {
 
@@ -204,6 +241,9 @@ public class RootEndpointImpl implements RootEndpoint {
 	@Reference
 	private RepresentableManager _representableManager;
 
+	@Reference
+	private RepresentationCacheManager _representationCacheManager;
+
 	@Reference
 	private ReusableNestedCollectionRouterManager
 		_reusableNestedCollectionRouterManager;
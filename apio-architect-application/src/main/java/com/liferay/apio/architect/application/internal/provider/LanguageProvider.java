@@ -65,4 +65,9 @@ public class LanguageProvider implements Provider<Language> {
 		};
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 }
\ No newline at end of file
@@ -32,37 +32,41 @@ public class ServerURLProvider implements Provider<ServerURL> {
 
 	@Override
 	public ServerURL createContext(HttpServletRequest httpServletRequest) {
-		return () -> {
-			StringBuilder sb = new StringBuilder();
+		StringBuilder sb = new StringBuilder();
 
-			String forwardedProto = httpServletRequest.getHeader(
-				"X-Forwarded-Proto");
+		String forwardedProto = httpServletRequest.getHeader(
+			"X-Forwarded-Proto");
 
-			if (forwardedProto != null) {
-				sb.append(forwardedProto);
-			}
-			else {
-				sb.append(httpServletRequest.getScheme());
-			}
+		if (forwardedProto != null) {
+			sb.append(forwardedProto);
+		}
+		else {
+			sb.append(httpServletRequest.getScheme());
+		}
 
-			sb.append("://");
+		sb.append("://");
 
-			String forwardedHost = httpServletRequest.getHeader(
-				"X-Forwarded-Host");
+		String forwardedHost = httpServletRequest.getHeader("X-Forwarded-Host");
 
-			if (forwardedHost == null) {
-				sb.append(httpServletRequest.getServerName());
-				sb.append(":");
-				sb.append(httpServletRequest.getServerPort());
-			}
-			else {
-				sb.append(forwardedHost);
-			}
+		if (forwardedHost == null) {
+			sb.append(httpServletRequest.getServerName());
+			sb.append(":");
+			sb.append(httpServletRequest.getServerPort());
+		}
+		else {
+			sb.append(forwardedHost);
+		}
 
-			sb.append(httpServletRequest.getContextPath());
+		sb.append(httpServletRequest.getContextPath());
 
-			return sb.toString();
-		};
+		String serverURL = sb.toString();
+
+		return () -> serverURL;
+	}
+
+	@Override
+	public boolean isCacheable() {
+		return true;
 	}
 
 }
\ No newline at end of file
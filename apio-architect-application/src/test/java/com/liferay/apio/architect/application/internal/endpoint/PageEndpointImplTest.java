@@ -0,0 +1,267 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.application.internal.endpoint;
+
+import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.alias.ProvideFunction;
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.uri.Path;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.GenericEntity;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageEndpointImplTest {
+
+	@Test
+	public void testGetCollectionItemSingleModelResumesWithTypedEntity() {
+		PageEndpointImpl<String, Object> pageEndpointImpl =
+			_createPageEndpointImpl(null, null);
+
+		CompletableFuture<Object> resumed = new CompletableFuture<>();
+
+		pageEndpointImpl.getCollectionItemSingleModel(
+			"id", _createAsyncResponse(resumed));
+
+		GenericEntity<?> genericEntity = (GenericEntity<?>)resumed.getNow(null);
+
+		ParameterizedType parameterizedType =
+			(ParameterizedType)genericEntity.getType();
+
+		assertThat(parameterizedType.getRawType(), is(Try.class));
+
+		ParameterizedType argumentParameterizedType =
+			(ParameterizedType)parameterizedType.getActualTypeArguments()[0];
+
+		assertThat(
+			argumentParameterizedType.getRawType(), is(SingleModel.class));
+
+		Try<SingleModel<String>> singleModelTry = unsafeCast(
+			genericEntity.getEntity());
+
+		SingleModel<String> singleModel = singleModelTry.getUnchecked();
+
+		assertThat(singleModel.getModel(), is("id"));
+	}
+
+	@Test
+	public void testGetCollectionPageResumesOnceTheStageCompletes() {
+		CompletableFuture<PageItems<String>> completableFuture =
+			new CompletableFuture<>();
+
+		CollectionRoutes<String> collectionRoutes = _createCollectionRoutes(
+			pagination -> completableFuture);
+
+		PageEndpointImpl<String, Object> pageEndpointImpl =
+			_createPageEndpointImpl(collectionRoutes, null);
+
+		CompletableFuture<Object> resumed = new CompletableFuture<>();
+
+		pageEndpointImpl.getCollectionPage(_createAsyncResponse(resumed));
+
+		assertThat(resumed.isDone(), is(false));
+
+		completableFuture.complete(
+			new PageItems<>(Collections.singletonList("Apio"), 1));
+
+		Try<Page<String>> pageTry = _getEntity(resumed);
+
+		Page<String> page = pageTry.getUnchecked();
+
+		assertThat(page.getItems(), contains("Apio"));
+	}
+
+	@Test
+	public void testGetCollectionPageResumesWithFailureIfTheStageFails() {
+		CompletableFuture<PageItems<String>> completableFuture =
+			new CompletableFuture<>();
+
+		CollectionRoutes<String> collectionRoutes = _createCollectionRoutes(
+			pagination -> completableFuture);
+
+		PageEndpointImpl<String, Object> pageEndpointImpl =
+			_createPageEndpointImpl(collectionRoutes, null);
+
+		CompletableFuture<Object> resumed = new CompletableFuture<>();
+
+		pageEndpointImpl.getCollectionPage(_createAsyncResponse(resumed));
+
+		completableFuture.completeExceptionally(new IllegalStateException());
+
+		Try<Page<String>> pageTry = _getEntity(resumed);
+
+		assertThat(pageTry.isFailure(), is(true));
+		Exception exception = _getException(pageTry);
+
+		assertThat(exception, is(instanceOf(IllegalStateException.class)));
+	}
+
+	@Test
+	public void testGetCollectionPageResumesWithNotFoundWithoutRoutes() {
+		PageEndpointImpl<String, Object> pageEndpointImpl =
+			_createPageEndpointImpl(null, null);
+
+		CompletableFuture<Object> resumed = new CompletableFuture<>();
+
+		pageEndpointImpl.getCollectionPage(_createAsyncResponse(resumed));
+
+		Try<Page<String>> pageTry = _getEntity(resumed);
+
+		assertThat(pageTry.isFailure(), is(true));
+		assertThat(
+			_getException(pageTry), is(instanceOf(NotFoundException.class)));
+	}
+
+	@Test
+	public void testGetCollectionPageTryReturnsThePageOfAnAsyncGetter() {
+		CollectionRoutes<String> collectionRoutes = _createCollectionRoutes(
+			pagination -> CompletableFuture.supplyAsync(
+				() -> new PageItems<>(Collections.singletonList("Apio"), 1)));
+
+		PageEndpointImpl<String, Object> pageEndpointImpl =
+			_createPageEndpointImpl(collectionRoutes, null);
+
+		Page<String> page = pageEndpointImpl.getCollectionPageTry(
+		).getUnchecked();
+
+		assertThat(page.getItems(), contains("Apio"));
+	}
+
+	@Test
+	public void testGetNestedCollectionPageMapsMissingParentToNotFound() {
+		NestedCollectionRoutes<String, Object> nestedCollectionRoutes =
+			new NestedCollectionRoutes.Builder<String, Object>(
+				"name", "nested", _PROVIDE_FUNCTION,
+				__ -> {
+				}
+			).addAsyncGetter(
+				(pagination, identifier) -> CompletableFuture.completedFuture(
+					new PageItems<>(Collections.singletonList("Apio"), 1))
+			).build();
+
+		PageEndpointImpl<String, Object> pageEndpointImpl =
+			_createPageEndpointImpl(null, nestedCollectionRoutes);
+
+		CompletableFuture<Object> resumed = new CompletableFuture<>();
+
+		pageEndpointImpl.getNestedCollectionPage(
+			"id", "nested", _createAsyncResponse(resumed));
+
+		Try<Page<String>> pageTry = _getEntity(resumed);
+
+		assertThat(pageTry.isFailure(), is(true));
+		assertThat(
+			_getException(pageTry), is(instanceOf(NotFoundException.class)));
+	}
+
+	private AsyncResponse _createAsyncResponse(
+		CompletableFuture<Object> resumed) {
+
+		return (AsyncResponse)Proxy.newProxyInstance(
+			AsyncResponse.class.getClassLoader(),
+			new Class<?>[] {AsyncResponse.class},
+			(proxy, method, args) -> {
+				if ("resume".equals(method.getName())) {
+					return resumed.complete(args[0]);
+				}
+
+				return false;
+			});
+	}
+
+	private CollectionRoutes<String> _createCollectionRoutes(
+		ThrowableFunction<Pagination, CompletionStage<PageItems<String>>>
+			throwableFunction) {
+
+		CollectionRoutes.Builder<String> builder =
+			new CollectionRoutes.Builder<>(
+				"name", _PROVIDE_FUNCTION,
+				__ -> {
+				});
+
+		return builder.addAsyncGetter(
+			throwableFunction
+		).build();
+	}
+
+	private PageEndpointImpl<String, Object> _createPageEndpointImpl(
+		CollectionRoutes<String> collectionRoutes,
+		NestedCollectionRoutes<String, Object> nestedCollectionRoutes) {
+
+		return new PageEndpointImpl<>(
+			"name", null, __ -> Optional.empty(),
+			id -> Try.success(
+				new SingleModel<>(id, "name", Collections.emptyList())),
+			id -> CompletableFuture.completedFuture(
+				Try.success(
+					new SingleModel<>(id, "name", Collections.emptyList()))),
+			() -> Optional.ofNullable(collectionRoutes), Optional::empty,
+			Optional::empty, __ -> Optional.ofNullable(nestedCollectionRoutes),
+			Path::getId,
+			__ -> {
+			});
+	}
+
+	private <T> T _getEntity(CompletableFuture<Object> resumed) {
+		assertThat(resumed.isDone(), is(true));
+
+		GenericEntity<?> genericEntity = (GenericEntity<?>)resumed.join();
+
+		return unsafeCast(genericEntity.getEntity());
+	}
+
+	private Exception _getException(Try<?> failedTry) {
+		Try.Failure<?> failure = (Try.Failure<?>)failedTry;
+
+		return failure.getException();
+	}
+
+	private static final ProvideFunction _PROVIDE_FUNCTION =
+		httpServletRequest -> clazz -> {
+			if (clazz.equals(Credentials.class)) {
+				return (Credentials)() -> "";
+			}
+
+			return new Pagination(10, 1);
+		};
+
+}
\ No newline at end of file
@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createFirstEmbeddedModelRepresentor;
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createRootModelRepresentor;
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createSecondEmbeddedModelRepresentor;
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createThirdEmbeddedModelRepresentor;
+
+import com.liferay.apio.architect.message.hal.internal.HALPageMessageMapper;
+import com.liferay.apio.architect.message.hal.internal.HALSingleModelMessageMapper;
+import com.liferay.apio.architect.message.json.PageMessageMapper;
+import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.message.json.ld.internal.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.message.json.ld.internal.JSONLDSingleModelMessageMapper;
+import com.liferay.apio.architect.message.json.plain.internal.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.message.json.plain.internal.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.response.control.Embedded;
+import com.liferay.apio.architect.response.control.Fields;
+import com.liferay.apio.architect.response.control.internal.EmbeddedProvider;
+import com.liferay.apio.architect.unsafe.Unsafe;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.writer.alias.RepresentorFunction;
+import com.liferay.apio.architect.writer.url.PrefixedServerURL;
+
+import java.lang.reflect.Proxy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Provides utility functions for creating the contexts and message mappers
+ * used by the representation benchmarks.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class BenchmarkUtil {
+
+	/**
+	 * Returns the {@link Embedded} context created by the {@code embedded}
+	 * provider for a request that embeds the first related model of the root
+	 * model, and its own embedded models, up to the provided depth.
+	 *
+	 * @param  embeddingDepth the number of embedded levels, {@code 0} for none
+	 * @return the {@code Embedded} context
+	 */
+	public static Embedded createEmbedded(int embeddingDepth) {
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < embeddingDepth; i++) {
+			if (i == 0) {
+				sb.append("embedded1");
+			}
+			else {
+				sb.append(".embedded");
+			}
+		}
+
+		String embedded = (embeddingDepth == 0) ? null : sb.toString();
+
+		HttpServletRequest httpServletRequest =
+			(HttpServletRequest)Proxy.newProxyInstance(
+				HttpServletRequest.class.getClassLoader(),
+				new Class<?>[] {HttpServletRequest.class},
+				(proxy, method, args) -> {
+					if ("getParameter".equals(method.getName()) &&
+						"embedded".equals(args[0])) {
+
+						return embedded;
+					}
+
+					return null;
+				});
+
+		EmbeddedProvider embeddedProvider = new EmbeddedProvider();
+
+		return embeddedProvider.createContext(httpServletRequest);
+	}
+
+	/**
+	 * Returns the {@link Fields} context for a field selection. The {@code
+	 * sparse} selection only keeps a few fields of every type; any other value
+	 * keeps all of them.
+	 *
+	 * @param  fieldSelection the field selection
+	 * @return the {@code Fields} context
+	 */
+	public static Fields createFields(String fieldSelection) {
+		if (!"sparse".equals(fieldSelection)) {
+			return types -> _allFieldsPredicate;
+		}
+
+		Set<String> fields = new HashSet<>(
+			Arrays.asList(
+				"embedded", "embedded1", "linked", "linked1", "number",
+				"number1", "string", "string1"));
+
+		Predicate<String> predicate = fields::contains;
+
+		return types -> predicate;
+	}
+
+	/**
+	 * Returns the {@link PageMessageMapper} for a format.
+	 *
+	 * @param  format the format: {@code hal}, {@code json-ld} or {@code
+	 *         plain-json}
+	 * @param  representorFunction the function that gets the representors
+	 * @return the {@code PageMessageMapper}
+	 */
+	public static <T> PageMessageMapper<T> createPageMessageMapper(
+		String format, RepresentorFunction representorFunction) {
+
+		if ("hal".equals(format)) {
+			return new BenchmarkHALPageMessageMapper<>(representorFunction);
+		}
+
+		if ("json-ld".equals(format)) {
+			return new JSONLDPageMessageMapper<>();
+		}
+
+		if ("plain-json".equals(format)) {
+			return new PlainJSONPageMessageMapper<>();
+		}
+
+		throw new IllegalArgumentException("Unknown format " + format);
+	}
+
+	/**
+	 * Returns a {@link RepresentorFunction} that returns the representors of
+	 * the models in {@code apio-architect-test-util}. The representors are
+	 * created once, so creating them isn't measured.
+	 *
+	 * @param  fieldSelection the field selection; {@code all-with-nulls} adds
+	 *         the root model's {@code null} and empty fields
+	 * @return the {@code RepresentorFunction}
+	 */
+	public static RepresentorFunction createRepresentorFunction(
+		String fieldSelection) {
+
+		Map<String, Representor<?>> representors = new HashMap<>();
+
+		representors.put("first", createFirstEmbeddedModelRepresentor());
+		representors.put(
+			"root",
+			createRootModelRepresentor(
+				"all-with-nulls".equals(fieldSelection)));
+		representors.put("second", createSecondEmbeddedModelRepresentor());
+		representors.put("third", createThirdEmbeddedModelRepresentor());
+
+		return name -> Optional.ofNullable(representors.get(name));
+	}
+
+	/**
+	 * Returns a {@link RequestInfo} with the {@code Embedded} and {@code
+	 * Fields} contexts for the provided embedding depth and field selection.
+	 *
+	 * @param  embeddingDepth the number of embedded levels
+	 * @param  fieldSelection the field selection
+	 * @return the {@code RequestInfo}
+	 */
+	public static RequestInfo createRequestInfo(
+		int embeddingDepth, String fieldSelection) {
+
+		Embedded embedded = createEmbedded(embeddingDepth);
+		Fields fields = createFields(fieldSelection);
+
+		return RequestInfo.create(
+			builder -> builder.httpHeaders(
+				null
+			).httpServletRequest(
+				null
+			).serverURL(
+				PrefixedServerURL.from(() -> "http://localhost:8080")
+			).embedded(
+				embedded
+			).fields(
+				fields
+			).language(
+				Locale::getDefault
+			).build());
+	}
+
+	/**
+	 * Returns the {@link SingleModelMessageMapper} for a format.
+	 *
+	 * @param  format the format: {@code hal}, {@code json-ld} or {@code
+	 *         plain-json}
+	 * @return the {@code SingleModelMessageMapper}
+	 */
+	public static <T> SingleModelMessageMapper<T>
+		createSingleModelMessageMapper(String format) {
+
+		if ("hal".equals(format)) {
+			return new HALSingleModelMessageMapper<>();
+		}
+
+		if ("json-ld".equals(format)) {
+			return new JSONLDSingleModelMessageMapper<>();
+		}
+
+		if ("plain-json".equals(format)) {
+			return new PlainJSONSingleModelMessageMapper<>();
+		}
+
+		throw new IllegalArgumentException("Unknown format " + format);
+	}
+
+	private BenchmarkUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final Predicate<String> _allFieldsPredicate = __ -> true;
+
+	private static class BenchmarkHALPageMessageMapper<T>
+		extends HALPageMessageMapper<T> {
+
+		public BenchmarkHALPageMessageMapper(
+			RepresentorFunction representorFunction) {
+
+			representableManager = new RepresentableManager() {
+
+				@Override
+				public <U> Optional<Representor<U>> getRepresentorOptional(
+					String name) {
+
+					Optional<Representor<?>> optional =
+						representorFunction.apply(name);
+
+					return optional.map(Unsafe::unsafeCast);
+				}
+
+				@Override
+				public Map<String, Representor> getRepresentors() {
+					return null;
+				}
+
+			};
+		}
+
+	}
+
+}
\ No newline at end of file
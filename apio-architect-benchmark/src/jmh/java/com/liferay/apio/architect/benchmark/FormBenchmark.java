@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.jaxrs.json.internal.reader.JSONBodyMessageBodyReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.lang.annotation.Annotation;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading a JSON request body with {@link JSONBodyMessageBodyReader}
+ * and extracting its values with {@link Form#get(Body)}.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class FormBenchmark {
+
+	@Benchmark
+	public Map<String, Object> getForm() {
+		return _form.get(_body);
+	}
+
+	@Benchmark
+	public Body readBody() throws IOException {
+		return _jsonBodyMessageBodyReader.readFrom(
+			Body.class, Body.class, _annotations, APPLICATION_JSON_TYPE, null,
+			new ByteArrayInputStream(_bytes));
+	}
+
+	@Benchmark
+	public Map<String, Object> readBodyAndGetForm() throws IOException {
+		return _form.get(readBody());
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		String json =
+			"{\"active\": true, \"count\": 42, \"date\": " +
+				"\"2017-04-03T20:36Z\", \"description\": \"Hypermedia\", " +
+					"\"name\": \"Apio\", \"numbers\": [1, 2, 3, 4, 5], " +
+						"\"price\": 3.14, \"tags\": [\"a\", \"b\", \"c\"]}";
+
+		_bytes = json.getBytes(StandardCharsets.UTF_8);
+
+		Form.Builder<Map<String, Object>> builder = new Form.Builder<>(
+			Collections.singletonList("form"));
+
+		_form = builder.title(
+			__ -> "Title"
+		).description(
+			__ -> "Description"
+		).constructor(
+			HashMap::new
+		).addOptionalLongList(
+			"numbers", (map, list) -> map.put("numbers", list)
+		).addOptionalString(
+			"description", (map, string) -> map.put("description", string)
+		).addRequiredBoolean(
+			"active", (map, bool) -> map.put("active", bool)
+		).addRequiredDate(
+			"date", (map, date) -> map.put("date", date)
+		).addRequiredDouble(
+			"price", (map, number) -> map.put("price", number)
+		).addRequiredLong(
+			"count", (map, number) -> map.put("count", number)
+		).addRequiredString(
+			"name", (map, string) -> map.put("name", string)
+		).addRequiredStringList(
+			"tags", (map, list) -> map.put("tags", list)
+		).build();
+
+		_body = readBody();
+	}
+
+	private final Annotation[] _annotations = new Annotation[0];
+	private Body _body;
+	private byte[] _bytes;
+	private Form<Map<String, Object>> _form;
+	private final JSONBodyMessageBodyReader _jsonBodyMessageBodyReader =
+		new JSONBodyMessageBodyReader();
+
+}
\ No newline at end of file
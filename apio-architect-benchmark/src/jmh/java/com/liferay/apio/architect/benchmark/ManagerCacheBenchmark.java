@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.test.util.identifier.RootModelId;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.unsafe.Unsafe;
+import com.liferay.apio.architect.wiring.osgi.internal.alias.EmptyFunction;
+import com.liferay.apio.architect.wiring.osgi.internal.manager.cache.ManagerCache;
+
+import java.lang.reflect.Proxy;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Variant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link ManagerCache} lookups done by the managers on every
+ * request, once the cache has been computed.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class ManagerCacheBenchmark {
+
+	@Benchmark
+	public Optional<Class<Identifier>> getIdentifierClassOptional() {
+		return ManagerCache.INSTANCE.getIdentifierClassOptional(
+			"root", _computeEmptyFunction);
+	}
+
+	@Benchmark
+	public Optional<String> getNameOptional() {
+		return ManagerCache.INSTANCE.getNameOptional(
+			RootModel.class.getName(), _computeEmptyFunction);
+	}
+
+	@Benchmark
+	public Optional<Representor<RootModel>> getRepresentorOptional() {
+		return ManagerCache.INSTANCE.getRepresentorOptional(
+			"root", _computeEmptyFunction);
+	}
+
+	@Benchmark
+	public Optional<SingleModelMessageMapper<RootModel>>
+		getSingleModelMessageMapperOptional() {
+
+		return ManagerCache.INSTANCE.getSingleModelMessageMapperOptional(
+			_request, null, _computeEmptyFunction);
+	}
+
+	@Benchmark
+	public Optional<SingleModelMessageMapper<RootModel>>
+		getSingleModelMessageMapperOptionalWithHttpHeaders() {
+
+		return ManagerCache.INSTANCE.getSingleModelMessageMapperOptional(
+			_request, _httpHeaders, _computeEmptyFunction);
+	}
+
+	@Setup
+	public void setUp() {
+		ManagerCache managerCache = ManagerCache.INSTANCE;
+
+		managerCache.clear();
+
+		Class<Identifier> identifierClass = Unsafe.unsafeCast(
+			RootModelId.class);
+
+		managerCache.putIdentifierClass("root", identifierClass);
+
+		managerCache.putName(RootModel.class.getName(), "root");
+
+		BenchmarkUtil.createRepresentorFunction(
+			"all"
+		).apply(
+			"root"
+		).ifPresent(
+			representor -> managerCache.putRepresentor("root", representor)
+		);
+
+		for (String format : new String[] {"hal", "json-ld", "plain-json"}) {
+			SingleModelMessageMapper<RootModel> singleModelMessageMapper =
+				BenchmarkUtil.createSingleModelMessageMapper(format);
+
+			managerCache.putSingleModelMessageMapper(
+				MediaType.valueOf(singleModelMessageMapper.getMediaType()),
+				singleModelMessageMapper);
+		}
+
+		_httpHeaders = (HttpHeaders)Proxy.newProxyInstance(
+			HttpHeaders.class.getClassLoader(),
+			new Class<?>[] {HttpHeaders.class},
+			(proxy, method, args) -> {
+				if ("getHeaderString".equals(method.getName())) {
+					return "application/hal+json";
+				}
+
+				return null;
+			});
+
+		_request = (Request)Proxy.newProxyInstance(
+			Request.class.getClassLoader(), new Class<?>[] {Request.class},
+			(proxy, method, args) -> {
+				if ("selectVariant".equals(method.getName())) {
+					List<Variant> variants = Unsafe.unsafeCast(args[0]);
+
+					return variants.get(0);
+				}
+
+				return null;
+			});
+	}
+
+	@TearDown
+	public void tearDown() {
+		ManagerCache.INSTANCE.clear();
+	}
+
+	private final EmptyFunction _computeEmptyFunction = () -> {
+	};
+	private HttpHeaders _httpHeaders;
+	private Request _request;
+
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static com.liferay.apio.architect.operation.Method.POST;
+import static com.liferay.apio.architect.test.util.form.MockFormCreator.createForm;
+
+import com.liferay.apio.architect.message.json.PageMessageMapper;
+import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.uri.Path;
+import com.liferay.apio.architect.writer.PageWriter;
+import com.liferay.apio.architect.writer.alias.RepresentorFunction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PageWriter#write()} with pages of {@link RootModel} for
+ * every format, page size, embedding depth and field selection.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class PageWriterBenchmark {
+
+	@Param({"0", "2"})
+	public int embeddingDepth;
+
+	@Param({"all", "sparse"})
+	public String fieldSelection;
+
+	@Param({"hal", "json-ld", "plain-json"})
+	public String format;
+
+	@Param({"1", "10", "100"})
+	public int pageSize;
+
+	@Setup
+	public void setUp() {
+		List<RootModel> items = new ArrayList<>(pageSize);
+
+		for (int i = 0; i < pageSize; i++) {
+			String id = String.valueOf(i);
+
+			items.add(() -> id);
+		}
+
+		PageItems<RootModel> pageItems = new PageItems<>(items, pageSize * 3);
+
+		Pagination pagination = new Pagination(pageSize, 2);
+
+		Path path = new Path("name", "id");
+
+		List<Operation> operations = Collections.singletonList(
+			new Operation(createForm("c", "p"), POST, "create-operation"));
+
+		_page = new Page<>("root", pageItems, pagination, path, operations);
+
+		_representorFunction = BenchmarkUtil.createRepresentorFunction(
+			fieldSelection);
+
+		_pageMessageMapper = BenchmarkUtil.createPageMessageMapper(
+			format, _representorFunction);
+		_requestInfo = BenchmarkUtil.createRequestInfo(
+			embeddingDepth, fieldSelection);
+	}
+
+	@Benchmark
+	public String write() {
+		PageWriter<RootModel> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				_page
+			).pageMessageMapper(
+				_pageMessageMapper
+			).pathFunction(
+				MockWriterUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				_representorFunction
+			).requestInfo(
+				_requestInfo
+			).singleModelFunction(
+				MockWriterUtil::getSingleModel
+			).build());
+
+		return pageWriter.write();
+	}
+
+	private Page<RootModel> _page;
+	private PageMessageMapper<RootModel> _pageMessageMapper;
+	private RepresentorFunction _representorFunction;
+	private RequestInfo _requestInfo;
+
+}
\ No newline at end of file
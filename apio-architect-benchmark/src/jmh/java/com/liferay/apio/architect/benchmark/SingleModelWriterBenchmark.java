@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static com.liferay.apio.architect.operation.Method.DELETE;
+import static com.liferay.apio.architect.operation.Method.PUT;
+import static com.liferay.apio.architect.test.util.form.MockFormCreator.createForm;
+
+import static java.util.Arrays.asList;
+
+import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.writer.SingleModelWriter;
+import com.liferay.apio.architect.writer.alias.RepresentorFunction;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SingleModelWriter#write()} with the {@link RootModel}
+ * hierarchy for every format, embedding depth and field selection.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class SingleModelWriterBenchmark {
+
+	@Param({"0", "1", "2", "3"})
+	public int embeddingDepth;
+
+	@Param({"all", "all-with-nulls", "sparse"})
+	public String fieldSelection;
+
+	@Param({"hal", "json-ld", "plain-json"})
+	public String format;
+
+	@Setup
+	public void setUp() {
+		Operation deleteOperation = new Operation(DELETE, "delete-operation");
+		Operation putOperation = new Operation(
+			createForm("u", "r"), PUT, "update-operation");
+
+		_singleModel = new SingleModel<>(
+			() -> "first", "root", asList(deleteOperation, putOperation));
+
+		_representorFunction = BenchmarkUtil.createRepresentorFunction(
+			fieldSelection);
+		_requestInfo = BenchmarkUtil.createRequestInfo(
+			embeddingDepth, fieldSelection);
+		_singleModelMessageMapper =
+			BenchmarkUtil.createSingleModelMessageMapper(format);
+	}
+
+	@Benchmark
+	public Optional<String> write() {
+		SingleModelWriter<RootModel> singleModelWriter =
+			SingleModelWriter.create(
+				builder -> builder.singleModel(
+					_singleModel
+				).modelMessageMapper(
+					_singleModelMessageMapper
+				).pathFunction(
+					MockWriterUtil::identifierToPath
+				).resourceNameFunction(
+					__ -> Optional.of("models")
+				).representorFunction(
+					_representorFunction
+				).requestInfo(
+					_requestInfo
+				).singleModelFunction(
+					MockWriterUtil::getSingleModel
+				).build());
+
+		return singleModelWriter.write();
+	}
+
+	private RepresentorFunction _representorFunction;
+	private RequestInfo _requestInfo;
+	private SingleModel<RootModel> _singleModel;
+	private SingleModelMessageMapper<RootModel> _singleModelMessageMapper;
+
+}
\ No newline at end of file
@@ -0,0 +1,372 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.filter;
+
+import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+import static javax.ws.rs.core.Response.Status.OK;
+import static javax.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.functional.Try.Success;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
+
+import java.io.IOException;
+
+import java.net.URI;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.UriInfo;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Adds the {@code ETag} and {@code Last-Modified} headers to {@link
+ * SingleModel} and {@link Page} responses, if their {@link Representor}
+ * provides a version or last-modified function. If the request's preconditions
+ * ({@code If-None-Match} or {@code If-Modified-Since}) show that the client's
+ * copy is still valid, the response is converted into a {@code 304 Not
+ * Modified} response before it's written, so its fields and related models
+ * are never rendered.
+ *
+ * <p>
+ * The entity tag and last modification date only describe the returned models,
+ * not the models embedded in them, so responses of requests with an {@code
+ * embedded} parameter aren't handled. Page entity tags also include the
+ * page's total count and, for cursor-based pages, the tokens of the adjacent
+ * pages, because the page's links are rendered from them.
+ * </p>
+ *
+ * <p>
+ * {@link BinaryFile} responses use the binary file's own strong entity tag and
+ * last modification date, so clients can revalidate them without downloading
+ * their content again.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = "liferay.apio.architect.container.response.filter=true"
+)
+public class ConditionalRequestFilter implements ContainerResponseFilter {
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		String method = containerRequestContext.getMethod();
+
+		if (!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)) {
+			return;
+		}
+
+		Object entity = containerResponseContext.getEntity();
+
+		if (!(entity instanceof Success)) {
+			return;
+		}
+
+		Success<?> success = (Success<?>)entity;
+
+		Object value = success.getValue();
+
+		int status = containerResponseContext.getStatus();
+
+		if ((status != OK.getStatusCode()) &&
+			!((value instanceof BinaryFile) &&
+			  (status == PARTIAL_CONTENT.getStatusCode()))) {
+
+			return;
+		}
+
+		if (!(value instanceof BinaryFile) &&
+			_hasEmbedded(containerRequestContext)) {
+
+			return;
+		}
+
+		EntityTag entityTag = _getEntityTagOptional(
+			containerRequestContext, value
+		).orElse(
+			null
+		);
+
+		Date lastModified = _getLastModifiedOptional(
+			value
+		).orElse(
+			null
+		);
+
+		if ((entityTag == null) && (lastModified == null)) {
+			return;
+		}
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		ResponseBuilder responseBuilder;
+
+		if (lastModified == null) {
+			headers.putSingle(ETAG, entityTag);
+
+			responseBuilder = _request.evaluatePreconditions(entityTag);
+		}
+		else if (entityTag == null) {
+			headers.putSingle(LAST_MODIFIED, lastModified);
+
+			responseBuilder = _request.evaluatePreconditions(lastModified);
+		}
+		else {
+			headers.putSingle(ETAG, entityTag);
+			headers.putSingle(LAST_MODIFIED, lastModified);
+
+			responseBuilder = _request.evaluatePreconditions(
+				lastModified, entityTag);
+		}
+
+		if (responseBuilder == null) {
+			return;
+		}
+
+		Response response = responseBuilder.build();
+
+		containerResponseContext.setEntity(null);
+		containerResponseContext.setStatus(response.getStatus());
+
+		headers.remove(_CONTENT_RANGE);
+		headers.remove(CONTENT_TYPE);
+	}
+
+	private EntityTag _getEntityTag(
+		ContainerRequestContext containerRequestContext, String version) {
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		URI uri = uriInfo.getRequestUri();
+
+		String string = String.join(
+			"\n", version, String.valueOf(uri.getRawQuery()),
+			String.valueOf(containerRequestContext.getHeaderString(ACCEPT)),
+			String.valueOf(
+				containerRequestContext.getHeaderString(ACCEPT_LANGUAGE)));
+
+		UUID uuid = UUID.nameUUIDFromBytes(
+			string.getBytes(StandardCharsets.UTF_8));
+
+		return new EntityTag(uuid.toString(), true);
+	}
+
+	private Optional<EntityTag> _getEntityTagOptional(
+		ContainerRequestContext containerRequestContext, Object value) {
+
+		if (value instanceof BinaryFile) {
+			BinaryFile binaryFile = (BinaryFile)value;
+
+			Optional<String> optional = binaryFile.getEntityTagOptional();
+
+			return optional.map(EntityTag::new);
+		}
+
+		return _getVersionOptional(
+			value
+		).map(
+			version -> _getEntityTag(containerRequestContext, version)
+		);
+	}
+
+	private Optional<Date> _getLastModifiedOptional(Object value) {
+		if (value instanceof BinaryFile) {
+			BinaryFile binaryFile = (BinaryFile)value;
+
+			Optional<Date> optional = binaryFile.getLastModifiedOptional();
+
+			return optional.map(ConditionalRequestFilter::_truncateToSeconds);
+		}
+
+		if (value instanceof SingleModel) {
+			SingleModel<Object> singleModel = unsafeCast(value);
+
+			return _getRepresentorOptional(
+				singleModel.getResourceName()
+			).flatMap(
+				representor -> representor.getLastModifiedOptional(
+					singleModel.getModel())
+			).map(
+				ConditionalRequestFilter::_truncateToSeconds
+			);
+		}
+
+		if (!(value instanceof Page)) {
+			return Optional.empty();
+		}
+
+		Page<Object> page = unsafeCast(value);
+
+		Collection<Object> items = page.getItems();
+
+		Optional<Representor<Object>> optional = _getRepresentorOptional(
+			page.getResourceName());
+
+		if (items.isEmpty() || !optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Representor<Object> representor = optional.get();
+
+		Date lastModified = null;
+
+		for (Object item : items) {
+			Optional<Date> dateOptional = representor.getLastModifiedOptional(
+				item);
+
+			if (!dateOptional.isPresent()) {
+				return Optional.empty();
+			}
+
+			Date date = dateOptional.get();
+
+			if ((lastModified == null) || date.after(lastModified)) {
+				lastModified = date;
+			}
+		}
+
+		return Optional.of(_truncateToSeconds(lastModified));
+	}
+
+	private Optional<Representor<Object>> _getRepresentorOptional(
+		String resourceName) {
+
+		return _representableManager.getRepresentorOptional(resourceName);
+	}
+
+	private Optional<String> _getVersionOptional(Object value) {
+		if (value instanceof SingleModel) {
+			SingleModel<Object> singleModel = unsafeCast(value);
+
+			return _getRepresentorOptional(
+				singleModel.getResourceName()
+			).flatMap(
+				representor -> representor.getVersionOptional(
+					singleModel.getModel())
+			);
+		}
+
+		if (!(value instanceof Page)) {
+			return Optional.empty();
+		}
+
+		Page<Object> page = unsafeCast(value);
+
+		Collection<Object> items = page.getItems();
+
+		Optional<Representor<Object>> optional = _getRepresentorOptional(
+			page.getResourceName());
+
+		if (items.isEmpty() || !optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Representor<Object> representor = optional.get();
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(page.getTotalCountType());
+		sb.append('-');
+		sb.append(page.getTotalCount());
+
+		if (page.isCursorBased()) {
+			Optional<String> previousTokenOptional =
+				page.getPreviousTokenOptional();
+			Optional<String> nextTokenOptional = page.getNextTokenOptional();
+
+			sb.append('-');
+			sb.append(previousTokenOptional.orElse(""));
+			sb.append('-');
+			sb.append(nextTokenOptional.orElse(""));
+		}
+
+		for (Object item : items) {
+			Optional<String> versionOptional = representor.getVersionOptional(
+				item);
+
+			if (!versionOptional.isPresent()) {
+				return Optional.empty();
+			}
+
+			sb.append('\n');
+			sb.append(versionOptional.get());
+		}
+
+		return Optional.of(sb.toString());
+	}
+
+	private boolean _hasEmbedded(
+		ContainerRequestContext containerRequestContext) {
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		MultivaluedMap<String, String> queryParameters =
+			uriInfo.getQueryParameters();
+
+		String embedded = queryParameters.getFirst("embedded");
+
+		if ((embedded == null) || embedded.trim().isEmpty()) {
+			return false;
+		}
+
+		return true;
+	}
+
+	private static Date _truncateToSeconds(Date date) {
+		return new Date(date.getTime() / 1000 * 1000);
+	}
+
+	private static final String _CONTENT_RANGE = "Content-Range";
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	@Context
+	private Request _request;
+
+}
\ No newline at end of file
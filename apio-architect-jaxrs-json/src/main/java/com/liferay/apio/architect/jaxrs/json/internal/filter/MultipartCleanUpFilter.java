@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.filter;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Closes the files read from a {@code "multipart/form-data"} request once
+ * its response is ready, so their temporary files are deleted even if the
+ * route never reads them.
+ *
+ * <p>
+ * The files are stored in the {@link #BODY_PARTS_ATTRIBUTE} request attribute
+ * by the message body reader. Routes can't use their streams once the
+ * request has been answered.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = "liferay.apio.architect.container.response.filter=true"
+)
+public class MultipartCleanUpFilter implements ContainerResponseFilter {
+
+	/**
+	 * The name of the request attribute that holds the {@link Closeable}
+	 * files read from the request body, if present.
+	 */
+	public static final String BODY_PARTS_ATTRIBUTE =
+		MultipartCleanUpFilter.class.getName() + "#BODY_PARTS";
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		Object bodyParts = _httpServletRequest.getAttribute(
+			BODY_PARTS_ATTRIBUTE);
+
+		if (!(bodyParts instanceof Closeable)) {
+			return;
+		}
+
+		_httpServletRequest.removeAttribute(BODY_PARTS_ATTRIBUTE);
+
+		Closeable closeable = (Closeable)bodyParts;
+
+		closeable.close();
+	}
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+}
\ No newline at end of file
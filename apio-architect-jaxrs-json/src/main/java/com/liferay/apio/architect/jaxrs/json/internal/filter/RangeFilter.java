@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.filter;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.Response.Status.OK;
+import static javax.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+import static javax.ws.rs.core.Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.functional.Try.Success;
+import com.liferay.apio.architect.jaxrs.json.internal.util.ByteRange;
+
+import java.io.IOException;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import java.util.Date;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Answers {@code Range} requests for {@link BinaryFile} responses with a
+ * {@code 206 Partial Content} response, as defined in <a
+ * href="https://tools.ietf.org/html/rfc7233">RFC 7233</a>. If the request has
+ * an {@code If-Range} header that doesn't match the binary file's entity tag
+ * or last modification date, the full binary file is returned.
+ *
+ * <p>
+ * The selected range is stored in the {@link #BYTE_RANGE_ATTRIBUTE} request
+ * attribute, so the writer only transfers the requested bytes.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = "liferay.apio.architect.container.response.filter=true"
+)
+public class RangeFilter implements ContainerResponseFilter {
+
+	/**
+	 * The name of the request attribute that holds the {@link ByteRange} that
+	 * must be written, if present.
+	 */
+	public static final String BYTE_RANGE_ATTRIBUTE =
+		RangeFilter.class.getName() + "#BYTE_RANGE";
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		if (!HttpMethod.GET.equals(containerRequestContext.getMethod()) ||
+			(containerResponseContext.getStatus() != OK.getStatusCode())) {
+
+			return;
+		}
+
+		Object entity = containerResponseContext.getEntity();
+
+		if (!(entity instanceof Success)) {
+			return;
+		}
+
+		Success<?> success = (Success<?>)entity;
+
+		Object value = success.getValue();
+
+		if (!(value instanceof BinaryFile)) {
+			return;
+		}
+
+		BinaryFile binaryFile = (BinaryFile)value;
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		headers.putSingle(_ACCEPT_RANGES, "bytes");
+
+		Optional<ByteRange> optional = ByteRange.parse(
+			containerRequestContext.getHeaderString(_RANGE));
+
+		if (!optional.isPresent() ||
+			!_isIfRangeValid(
+				containerRequestContext.getHeaderString(_IF_RANGE),
+				binaryFile)) {
+
+			return;
+		}
+
+		ByteRange byteRange = optional.get();
+
+		long size = binaryFile.getSize();
+
+		if (!byteRange.isSatisfiable(size)) {
+			containerResponseContext.setEntity(null);
+			containerResponseContext.setStatus(
+				REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode());
+
+			headers.putSingle(_CONTENT_RANGE, "bytes */" + size);
+			headers.remove(CONTENT_TYPE);
+
+			return;
+		}
+
+		containerResponseContext.setStatus(PARTIAL_CONTENT.getStatusCode());
+
+		headers.putSingle(_CONTENT_RANGE, byteRange.getContentRange(size));
+
+		_httpServletRequest.setAttribute(BYTE_RANGE_ATTRIBUTE, byteRange);
+	}
+
+	private boolean _isIfRangeValid(String ifRange, BinaryFile binaryFile) {
+		if (ifRange == null) {
+			return true;
+		}
+
+		String value = ifRange.trim();
+
+		if (value.startsWith("\"") || value.startsWith("W/")) {
+			Optional<String> optional = binaryFile.getEntityTagOptional();
+
+			return optional.map(
+				entityTag -> "\"" + entityTag + "\""
+			).filter(
+				value::equals
+			).isPresent();
+		}
+
+		Optional<Date> optional = binaryFile.getLastModifiedOptional();
+
+		if (!optional.isPresent()) {
+			return false;
+		}
+
+		Date lastModified = optional.get();
+
+		try {
+			ZonedDateTime zonedDateTime = ZonedDateTime.parse(
+				value, DateTimeFormatter.RFC_1123_DATE_TIME);
+
+			Instant instant = lastModified.toInstant();
+
+			return zonedDateTime.toEpochSecond() == instant.getEpochSecond();
+		}
+		catch (DateTimeParseException dtpe) {
+			return false;
+		}
+	}
+
+	private static final String _ACCEPT_RANGES = "Accept-Ranges";
+
+	private static final String _CONTENT_RANGE = "Content-Range";
+
+	private static final String _IF_RANGE = "If-Range";
+
+	private static final String _RANGE = "Range";
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+}
\ No newline at end of file
@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.filter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.endpoint.RepresentationCacheable;
+import com.liferay.apio.architect.language.Language;
+import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
+import com.liferay.apio.architect.wiring.osgi.manager.RepresentationCacheManager;
+import com.liferay.apio.architect.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
+
+import java.io.IOException;
+
+import java.lang.reflect.Method;
+
+import java.net.URI;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.UriInfo;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Looks up the representation of requests handled by a {@link
+ * RepresentationCacheable} endpoint method in the {@link
+ * RepresentationCacheManager}. If present, this filter stores it in the {@link
+ * #REPRESENTATION_ATTRIBUTE} request attribute, so the writer can send it
+ * instead of rendering the single model again. Otherwise, this filter stores
+ * a {@code Consumer<byte[]>} in the {@link #REPRESENTATION_CONSUMER_ATTRIBUTE}
+ * request attribute, so the writer can cache the rendered representation.
+ *
+ * <p>
+ * The request is never aborted, so the item's routes (and therefore its
+ * permission checks) and the response filters, like the one that answers
+ * conditional requests, run for cache hits too.
+ * </p>
+ *
+ * <p>
+ * The cache key contains the resource's name, the item's ID, the negotiated
+ * media type, the request's query (which holds the {@code fields} and {@code
+ * embedded} parameters), the preferred language, and a hash of the request's
+ * {@link Credentials}, so representations are never shared between users.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = "liferay.apio.architect.container.request.filter=true"
+)
+public class RepresentationCacheFilter implements ContainerRequestFilter {
+
+	/**
+	 * The name of the request attribute that holds the cached representation,
+	 * if present.
+	 */
+	public static final String REPRESENTATION_ATTRIBUTE =
+		RepresentationCacheFilter.class.getName() + "#REPRESENTATION";
+
+	/**
+	 * The name of the request attribute that holds the consumer of the
+	 * rendered representation, if it should be cached.
+	 */
+	public static final String REPRESENTATION_CONSUMER_ATTRIBUTE =
+		RepresentationCacheFilter.class.getName() + "#REPRESENTATION_CONSUMER";
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext)
+		throws IOException {
+
+		if (!_representationCacheManager.isEnabled() ||
+			!HttpMethod.GET.equals(containerRequestContext.getMethod()) ||
+			!_isRepresentationCacheable()) {
+
+			return;
+		}
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		MultivaluedMap<String, String> pathParameters =
+			uriInfo.getPathParameters();
+
+		String name = pathParameters.getFirst("name");
+		String id = pathParameters.getFirst("id");
+
+		Optional<SingleModelMessageMapper<Object>> optional =
+			_singleModelMessageMapperManager.
+				getSingleModelMessageMapperOptional(_request, _httpHeaders);
+
+		if ((name == null) || (id == null) || !optional.isPresent()) {
+			return;
+		}
+
+		SingleModelMessageMapper<Object> singleModelMessageMapper =
+			optional.get();
+
+		String mediaType = singleModelMessageMapper.getMediaType();
+
+		String variant = _getVariant(uriInfo, mediaType);
+
+		long invalidationCount =
+			_representationCacheManager.getInvalidationCount();
+
+		Optional<byte[]> bytesOptional =
+			_representationCacheManager.getOptional(name, id, variant);
+
+		if (bytesOptional.isPresent()) {
+			_httpServletRequest.setAttribute(
+				REPRESENTATION_ATTRIBUTE, bytesOptional.get());
+
+			return;
+		}
+
+		Consumer<byte[]> consumer = bytes -> _representationCacheManager.put(
+			name, id, variant, bytes, invalidationCount);
+
+		_httpServletRequest.setAttribute(
+			REPRESENTATION_CONSUMER_ATTRIBUTE, consumer);
+	}
+
+	private String _getCredentialsHash() {
+		Credentials credentials = _providerManager.provideMandatory(
+			_httpServletRequest, Credentials.class);
+
+		String string = String.valueOf(credentials.get());
+
+		UUID uuid = UUID.nameUUIDFromBytes(string.getBytes(UTF_8));
+
+		return uuid.toString();
+	}
+
+	private String _getVariant(UriInfo uriInfo, String mediaType) {
+		URI uri = uriInfo.getRequestUri();
+
+		Locale locale = _providerManager.provideOptional(
+			_httpServletRequest, Language.class
+		).map(
+			Language::getPreferredLocale
+		).orElseGet(
+			Locale::getDefault
+		);
+
+		return String.join(
+			"\n", mediaType, String.valueOf(uri.getRawQuery()),
+			locale.toLanguageTag(), _getCredentialsHash());
+	}
+
+	private boolean _isRepresentationCacheable() {
+		Method method = _resourceInfo.getResourceMethod();
+
+		if (method == null) {
+			return false;
+		}
+
+		return _representationCacheables.computeIfAbsent(
+			method,
+			__ -> _isRepresentationCacheable(
+				method.getDeclaringClass(), method.getName(),
+				method.getParameterTypes()));
+	}
+
+	private boolean _isRepresentationCacheable(
+		Class<?> clazz, String name, Class<?>[] parameterTypes) {
+
+		if (clazz == null) {
+			return false;
+		}
+
+		try {
+			Method method = clazz.getDeclaredMethod(name, parameterTypes);
+
+			if (method.isAnnotationPresent(RepresentationCacheable.class)) {
+				return true;
+			}
+		}
+		catch (NoSuchMethodException nsme) {
+		}
+
+		for (Class<?> interfaceClass : clazz.getInterfaces()) {
+			if (_isRepresentationCacheable(
+					interfaceClass, name, parameterTypes)) {
+
+				return true;
+			}
+		}
+
+		return _isRepresentationCacheable(
+			clazz.getSuperclass(), name, parameterTypes);
+	}
+
+	@Context
+	private HttpHeaders _httpHeaders;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private final Map<Method, Boolean> _representationCacheables =
+		new ConcurrentHashMap<>();
+
+	@Reference
+	private RepresentationCacheManager _representationCacheManager;
+
+	@Context
+	private Request _request;
+
+	@Context
+	private ResourceInfo _resourceInfo;
+
+	@Reference
+	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
+
+}
\ No newline at end of file
@@ -14,15 +14,16 @@
 
 package com.liferay.apio.architect.jaxrs.json.internal.reader;
 
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.Response.Status.REQUEST_ENTITY_TOO_LARGE;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import com.liferay.apio.architect.form.Body;
-import com.liferay.apio.architect.functional.Try;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -30,35 +31,59 @@ import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
+import java.nio.charset.StandardCharsets;
+
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ClientErrorException;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.Provider;
 
+import org.apache.commons.fileupload.util.LimitedInputStream;
+
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 
 /**
  * Reads JSON objects as a {@link Body}.
  *
+ * <p>
+ * The object is read as a stream of tokens, without building a JSON tree. Only
+ * the values a {@code Form} can read (the object's primitive values and
+ * arrays of primitive values) are kept; nested objects are skipped. Bodies
+ * bigger than the {@code max.size} property (in bytes) are rejected as soon
+ * as the limit is exceeded, or before reading if the {@code Content-Length}
+ * header already exceeds it.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 @Component(
 	immediate = true,
-	property = "liferay.apio.architect.message.body.reader=true"
+	property = {
+		"liferay.apio.architect.message.body.reader=true", "max.size:Long=-1"
+	}
 )
 @Consumes(APPLICATION_JSON)
 @Provider
 public class JSONBodyMessageBodyReader implements MessageBodyReader<Body> {
 
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		_maxSize = Long.parseLong(
+			String.valueOf(properties.getOrDefault("max.size", -1)));
+	}
+
 	@Override
 	public boolean isReadable(
 		Class<?> type, Type genericType, Annotation[] annotations,
@@ -74,64 +99,151 @@ public class JSONBodyMessageBodyReader implements MessageBodyReader<Body> {
 			InputStream entityStream)
 		throws IOException {
 
-		Gson gson = new Gson();
+		InputStream inputStream = entityStream;
+
+		if (_maxSize >= 0) {
+			_checkContentLength(httpHeaders.getFirst(CONTENT_LENGTH));
+
+			inputStream = new LimitedInputStream(entityStream, _maxSize) {
+
+				@Override
+				protected void raiseError(long sizeMax, long count) {
+					throw new ClientErrorException(
+						"Body exceeds the maximum size of " + sizeMax +
+							" bytes",
+						REQUEST_ENTITY_TOO_LARGE);
+				}
+
+			};
+		}
+
+		Map<String, String> values = new HashMap<>();
+		Map<String, List<String>> valueLists = new HashMap<>();
+
+		try (JsonReader jsonReader = new JsonReader(
+				new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
 
-		JsonObject jsonObject = Try.fromFallibleWithResources(
-			() -> new InputStreamReader(entityStream, "UTF-8"),
-			streamReader -> gson.fromJson(streamReader, JsonObject.class)
-		).orElseThrow(
-			() -> new BadRequestException("Body is not a valid JSON")
-		);
+			jsonReader.setLenient(true);
+
+			if (!_readObject(jsonReader, values, valueLists)) {
+				return Body.create(
+					key -> Optional.empty(), key -> Optional.empty());
+			}
+		}
+		catch (IllegalStateException | IOException | NumberFormatException e) {
+			throw new BadRequestException("Body is not a valid JSON", e);
+		}
 
 		return Body.create(
-			_transform(
-				jsonObject,
-				aTry -> aTry.filter(
-					JsonElement::isJsonPrimitive
-				).map(
-					JsonElement::getAsString
-				)),
-			_transform(
-				jsonObject,
-				aTry -> aTry.filter(
-					JsonElement::isJsonArray
-				).map(
-					JsonElement::getAsJsonArray
-				).map(
-					jsonArray -> {
-						List<JsonElement> jsonElements = new ArrayList<>();
-
-						Iterator<JsonElement> iterator = jsonArray.iterator();
-
-						iterator.forEachRemaining(jsonElements::add);
-
-						return jsonElements;
-					}
-				).map(
-					List::stream
-				).map(
-					stream -> stream.filter(
-						JsonElement::isJsonPrimitive
-					).map(
-						JsonElement::getAsString
-					).collect(
-						Collectors.toList()
-					)
-				)));
+			key -> Optional.ofNullable(values.get(key)),
+			key -> Optional.ofNullable(valueLists.get(key)));
+	}
+
+	private void _checkContentLength(String contentLength) {
+		if (contentLength == null) {
+			return;
+		}
+
+		try {
+			if (Long.parseLong(contentLength) > _maxSize) {
+				throw new ClientErrorException(
+					"Body exceeds the maximum size of " + _maxSize + " bytes",
+					REQUEST_ENTITY_TOO_LARGE);
+			}
+		}
+		catch (NumberFormatException nfe) {
+			throw new BadRequestException("Invalid Content-Length", nfe);
+		}
 	}
 
-	private <T> Function<String, Optional<T>> _transform(
-		JsonObject jsonObject, Function<Try<JsonElement>, Try<T>> function) {
-
-		return key -> function.apply(
-			Try.success(
-				key
-			).map(
-				jsonObject::get
-			)
-		).fold(
-			__ -> Optional.empty(), Optional::of
-		);
+	private boolean _isPrimitive(JsonToken jsonToken) {
+		if ((jsonToken == JsonToken.BOOLEAN) ||
+			(jsonToken == JsonToken.NUMBER) ||
+			(jsonToken == JsonToken.STRING)) {
+
+			return true;
+		}
+
+		return false;
 	}
 
+	private boolean _readObject(
+			JsonReader jsonReader, Map<String, String> values,
+			Map<String, List<String>> valueLists)
+		throws IOException {
+
+		try {
+			jsonReader.peek();
+		}
+		catch (EOFException eofe) {
+			return false;
+		}
+
+		jsonReader.beginObject();
+
+		while (jsonReader.hasNext()) {
+			String name = jsonReader.nextName();
+
+			JsonToken jsonToken = jsonReader.peek();
+
+			if (jsonToken == JsonToken.BEGIN_ARRAY) {
+				valueLists.put(name, _readValueList(jsonReader));
+				values.remove(name);
+			}
+			else if (_isPrimitive(jsonToken)) {
+				values.put(name, _readValue(jsonReader, jsonToken));
+				valueLists.remove(name);
+			}
+			else {
+				jsonReader.skipValue();
+
+				values.remove(name);
+				valueLists.remove(name);
+			}
+		}
+
+		jsonReader.endObject();
+
+		if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+			throw new IllegalStateException("Body has trailing content");
+		}
+
+		return true;
+	}
+
+	private String _readValue(JsonReader jsonReader, JsonToken jsonToken)
+		throws IOException {
+
+		if (jsonToken == JsonToken.BOOLEAN) {
+			return String.valueOf(jsonReader.nextBoolean());
+		}
+
+		return jsonReader.nextString();
+	}
+
+	private List<String> _readValueList(JsonReader jsonReader)
+		throws IOException {
+
+		List<String> list = new ArrayList<>();
+
+		jsonReader.beginArray();
+
+		while (jsonReader.hasNext()) {
+			JsonToken jsonToken = jsonReader.peek();
+
+			if (_isPrimitive(jsonToken)) {
+				list.add(_readValue(jsonReader, jsonToken));
+			}
+			else {
+				jsonReader.skipValue();
+			}
+		}
+
+		jsonReader.endArray();
+
+		return list;
+	}
+
+	private long _maxSize;
+
 }
\ No newline at end of file
@@ -22,22 +22,30 @@ import static org.apache.commons.fileupload.servlet.ServletFileUpload.isMultipar
 
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.jaxrs.json.internal.filter.MultipartCleanUpFilter;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -55,26 +63,79 @@ import javax.ws.rs.ext.Provider;
 
 import org.apache.commons.fileupload.FileItem;
 import org.apache.commons.fileupload.FileItemFactory;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase.FileUploadIOException;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
 import org.apache.commons.fileupload.util.Streams;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 
 /**
  * Reads {@code "multipart/form-data"} as a {@link Body}.
  *
+ * <p>
+ * By default, the request is read part by part with a {@code
+ * FileItemIterator}. Files up to {@code memory.threshold} bytes are kept in
+ * memory, and bigger files are written to a temporary file in the {@code
+ * repository} directory, which is deleted once its stream is closed. The
+ * {@code file.size.max} and {@code size.max} properties limit the size of
+ * each part and of the whole request, in bytes. Setting {@code streaming} to
+ * {@code false} parses the whole request with a {@code DiskFileItemFactory}
+ * before reading it.
+ * </p>
+ *
+ * <p>
+ * If the request can't be read, the streams of the files read so far are
+ * closed, so their temporary files are deleted. Otherwise, {@link
+ * MultipartCleanUpFilter} closes them once the response is ready, even if the
+ * route never reads them.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 @Component(
 	immediate = true,
-	property = "liferay.apio.architect.message.body.reader=true"
+	property = {
+		"file.size.max:Long=-1",
+		"liferay.apio.architect.message.body.reader=true",
+		"memory.threshold:Integer=10240", "size.max:Long=-1",
+		"streaming:Boolean=true"
+	}
 )
 @Consumes(MULTIPART_FORM_DATA)
 @Provider
 public class MultipartBodyMessageBodyReader implements MessageBodyReader<Body> {
 
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		_fileSizeMax = Long.parseLong(
+			String.valueOf(properties.getOrDefault("file.size.max", -1)));
+		_memoryThreshold = Integer.parseInt(
+			String.valueOf(
+				properties.getOrDefault("memory.threshold", 10240)));
+		_repository = Optional.ofNullable(
+			properties.get("repository")
+		).map(
+			String::valueOf
+		).filter(
+			repository -> !repository.isEmpty()
+		).map(
+			File::new
+		).orElse(
+			null
+		);
+		_sizeMax = Long.parseLong(
+			String.valueOf(properties.getOrDefault("size.max", -1)));
+		_streaming = Boolean.parseBoolean(
+			String.valueOf(properties.getOrDefault("streaming", true)));
+	}
+
 	@Override
 	public boolean isReadable(
 		Class<?> clazz, Type genericType, Annotation[] annotations,
@@ -95,124 +156,306 @@ public class MultipartBodyMessageBodyReader implements MessageBodyReader<Body> {
 				"Request body is not a valid multipart form");
 		}
 
-		FileItemFactory fileItemFactory = new DiskFileItemFactory();
-
-		ServletFileUpload servletFileUpload = new ServletFileUpload(
-			fileItemFactory);
+		BodyParts bodyParts = new BodyParts();
 
 		try {
-			List<FileItem> fileItems = servletFileUpload.parseRequest(
-				_httpServletRequest);
+			if (_streaming) {
+				_readFileItemStreams(bodyParts);
+			}
+			else {
+				_readFileItems(bodyParts);
+			}
 
-			Iterator<FileItem> iterator = fileItems.iterator();
+			_httpServletRequest.setAttribute(
+				MultipartCleanUpFilter.BODY_PARTS_ATTRIBUTE, bodyParts);
 
-			Map<String, String> values = new HashMap<>();
-			Map<String, BinaryFile> binaryFiles = new HashMap<>();
-			Map<String, Map<Integer, String>> indexedValueLists =
-				new HashMap<>();
-			Map<String, Map<Integer, BinaryFile>> indexedFileLists =
-				new HashMap<>();
+			return bodyParts.toBody();
+		}
+		catch (FileUploadException | FileUploadIOException |
+			   IndexOutOfBoundsException | NumberFormatException e) {
 
-			while (iterator.hasNext()) {
-				FileItem fileItem = iterator.next();
+			bodyParts.close();
 
-				String name = fileItem.getFieldName();
+			throw new BadRequestException(
+				"Request body is not a valid multipart form", e);
+		}
+		catch (IOException | RuntimeException e) {
+			bodyParts.close();
 
-				Matcher matcher = _arrayPattern.matcher(name);
+			throw e;
+		}
+	}
 
-				if (matcher.matches()) {
-					int index = Integer.parseInt(matcher.group(2));
+	private ServletFileUpload _createServletFileUpload(
+		FileItemFactory fileItemFactory) {
 
-					String actualName = matcher.group(1);
+		ServletFileUpload servletFileUpload;
 
-					_storeFileItem(
-						fileItem,
-						value -> {
-							Map<Integer, String> indexedMap =
-								indexedValueLists.computeIfAbsent(
-									actualName, __ -> new HashMap<>());
+		if (fileItemFactory == null) {
+			servletFileUpload = new ServletFileUpload();
+		}
+		else {
+			servletFileUpload = new ServletFileUpload(fileItemFactory);
+		}
 
-							indexedMap.put(index, value);
-						},
-						binaryFile -> {
-							Map<Integer, BinaryFile> indexedMap =
-								indexedFileLists.computeIfAbsent(
-									actualName, __ -> new HashMap<>());
+		servletFileUpload.setFileSizeMax(_fileSizeMax);
+		servletFileUpload.setSizeMax(_sizeMax);
 
-							indexedMap.put(index, binaryFile);
-						});
-				}
-				else {
-					_storeFileItem(
-						fileItem, value -> values.put(name, value),
-						binaryFile -> binaryFiles.put(name, binaryFile));
-				}
+		return servletFileUpload;
+	}
+
+	private void _readFileItems(BodyParts bodyParts)
+		throws FileUploadException, IOException {
+
+		FileItemFactory fileItemFactory = new DiskFileItemFactory(
+			_memoryThreshold, _repository);
+
+		ServletFileUpload servletFileUpload = _createServletFileUpload(
+			fileItemFactory);
+
+		List<FileItem> fileItems = servletFileUpload.parseRequest(
+			_httpServletRequest);
+
+		for (FileItem fileItem : fileItems) {
+			String name = fileItem.getFieldName();
+
+			if (fileItem.isFormField()) {
+				bodyParts.addValue(
+					name, _readString(fileItem.getInputStream()));
 			}
+			else {
+				BinaryFile binaryFile = new BinaryFile(
+					fileItem.getInputStream(), fileItem.getSize(),
+					fileItem.getContentType());
 
-			Map<String, List<String>> valueLists = _flattenMap(
-				indexedValueLists);
+				bodyParts.addBinaryFile(name, binaryFile);
+			}
+		}
+	}
 
-			Map<String, List<BinaryFile>> fileLists = _flattenMap(
-				indexedFileLists);
+	private void _readFileItemStreams(BodyParts bodyParts)
+		throws FileUploadException, IOException {
 
-			return Body.create(
-				key -> Optional.ofNullable(values.get(key)),
-				key -> Optional.ofNullable(valueLists.get(key)),
-				key -> Optional.ofNullable(fileLists.get(key)),
-				key -> Optional.ofNullable(binaryFiles.get(key)));
+		ServletFileUpload servletFileUpload = _createServletFileUpload(null);
+
+		FileItemIterator fileItemIterator = servletFileUpload.getItemIterator(
+			_httpServletRequest);
+
+		while (fileItemIterator.hasNext()) {
+			FileItemStream fileItemStream = fileItemIterator.next();
+
+			String name = fileItemStream.getFieldName();
+
+			if (fileItemStream.isFormField()) {
+				bodyParts.addValue(
+					name, _readString(fileItemStream.openStream()));
+			}
+			else {
+				bodyParts.addBinaryFile(name, _spool(fileItemStream));
+			}
 		}
-		catch (FileUploadException | IndexOutOfBoundsException |
-			   NumberFormatException e) {
+	}
 
-			throw new BadRequestException(
-				"Request body is not a valid multipart form", e);
+	private String _readString(InputStream inputStream) throws IOException {
+		String characterEncoding = _httpServletRequest.getCharacterEncoding();
+
+		if (characterEncoding == null) {
+			return Streams.asString(inputStream);
 		}
+
+		return Streams.asString(inputStream, characterEncoding);
 	}
 
-	private <T> Map<String, List<T>> _flattenMap(
-		Map<String, Map<Integer, T>> indexedValueLists) {
+	private BinaryFile _spool(FileItemStream fileItemStream)
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
 
-		Set<Entry<String, Map<Integer, T>>> entries =
-			indexedValueLists.entrySet();
+		try (InputStream inputStream = fileItemStream.openStream()) {
+			byte[] bytes = new byte[8192];
+			int value;
 
-		Stream<Entry<String, Map<Integer, T>>> stream = entries.stream();
+			while ((value = inputStream.read(bytes)) != -1) {
+				if ((byteArrayOutputStream.size() + value) > _memoryThreshold) {
+					return _spoolToFile(
+						fileItemStream, byteArrayOutputStream, bytes, value,
+						inputStream);
+				}
 
-		return stream.sorted(
-			comparingByKey()
-		).collect(
-			Collectors.toMap(
-				Entry::getKey,
-				v -> {
-					Map<Integer, T> map = v.getValue();
+				byteArrayOutputStream.write(bytes, 0, value);
+			}
+		}
 
-					return new ArrayList<>(map.values());
-				})
-		);
+		byte[] content = byteArrayOutputStream.toByteArray();
+
+		return new BinaryFile(
+			new ByteArrayInputStream(content), (long)content.length,
+			fileItemStream.getContentType());
 	}
 
-	private void _storeFileItem(
-			FileItem fileItem, Consumer<String> valueConsumer,
-			Consumer<BinaryFile> fileConsumer)
+	private BinaryFile _spoolToFile(
+			FileItemStream fileItemStream,
+			ByteArrayOutputStream byteArrayOutputStream, byte[] bytes,
+			int length, InputStream inputStream)
 		throws IOException {
 
-		if (fileItem.isFormField()) {
-			InputStream stream = fileItem.getInputStream();
+		Path path;
 
-			valueConsumer.accept(Streams.asString(stream));
+		if (_repository == null) {
+			path = Files.createTempFile("apio", null);
 		}
 		else {
-			BinaryFile binaryFile = new BinaryFile(
-				fileItem.getInputStream(), fileItem.getSize(),
-				fileItem.getContentType());
+			path = Files.createTempFile(_repository.toPath(), "apio", null);
+		}
+
+		long size;
 
-			fileConsumer.accept(binaryFile);
+		try (OutputStream outputStream = Files.newOutputStream(path)) {
+			byteArrayOutputStream.writeTo(outputStream);
+
+			outputStream.write(bytes, 0, length);
+
+			size = byteArrayOutputStream.size() + length;
+
+			size += Streams.copy(inputStream, outputStream, false);
+		}
+		catch (IOException ioe) {
+			Files.deleteIfExists(path);
+
+			throw ioe;
 		}
+
+		InputStream fileInputStream = Files.newInputStream(
+			path, StandardOpenOption.DELETE_ON_CLOSE);
+
+		return new BinaryFile(
+			fileInputStream, size, fileItemStream.getContentType());
 	}
 
 	private static final Pattern _arrayPattern = Pattern.compile(
 		"([A-Z|a-z]+)\\[([0-9]+)]");
 
+	private long _fileSizeMax;
+
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
+	private int _memoryThreshold;
+	private File _repository;
+	private long _sizeMax;
+	private boolean _streaming;
+
+	private static class BodyParts implements Closeable {
+
+		public void addBinaryFile(String name, BinaryFile binaryFile) {
+			_readBinaryFiles.add(binaryFile);
+
+			Matcher matcher = _getArrayMatcher(name);
+
+			if (matcher == null) {
+				_binaryFiles.put(name, binaryFile);
+
+				return;
+			}
+
+			Map<Integer, BinaryFile> indexedMap =
+				_indexedFileLists.computeIfAbsent(
+					matcher.group(1), __ -> new HashMap<>());
+
+			indexedMap.put(Integer.parseInt(matcher.group(2)), binaryFile);
+		}
+
+		public void addValue(String name, String value) {
+			Matcher matcher = _getArrayMatcher(name);
+
+			if (matcher == null) {
+				_values.put(name, value);
+
+				return;
+			}
+
+			Map<Integer, String> indexedMap =
+				_indexedValueLists.computeIfAbsent(
+					matcher.group(1), __ -> new HashMap<>());
+
+			indexedMap.put(Integer.parseInt(matcher.group(2)), value);
+		}
+
+		@Override
+		public void close() {
+			for (BinaryFile binaryFile : _readBinaryFiles) {
+				_close(binaryFile);
+			}
+		}
+
+		public Body toBody() {
+			Map<String, List<String>> valueLists = _flattenMap(
+				_indexedValueLists);
+
+			Map<String, List<BinaryFile>> fileLists = _flattenMap(
+				_indexedFileLists);
+
+			return Body.create(
+				key -> Optional.ofNullable(_values.get(key)),
+				key -> Optional.ofNullable(valueLists.get(key)),
+				key -> Optional.ofNullable(fileLists.get(key)),
+				key -> Optional.ofNullable(_binaryFiles.get(key)));
+		}
+
+		private static void _close(BinaryFile binaryFile) {
+			InputStream inputStream = binaryFile.getInputStream();
+
+			try {
+				inputStream.close();
+			}
+			catch (IOException ioe) {
+			}
+		}
+
+		private static <T> Map<String, List<T>> _flattenMap(
+			Map<String, Map<Integer, T>> indexedValueLists) {
+
+			Set<Entry<String, Map<Integer, T>>> entries =
+				indexedValueLists.entrySet();
+
+			Stream<Entry<String, Map<Integer, T>>> stream = entries.stream();
+
+			return stream.sorted(
+				comparingByKey()
+			).collect(
+				Collectors.toMap(
+					Entry::getKey,
+					v -> {
+						Map<Integer, T> map = v.getValue();
+
+						return new ArrayList<>(map.values());
+					})
+			);
+		}
+
+		private static Matcher _getArrayMatcher(String name) {
+			if (!name.endsWith("]")) {
+				return null;
+			}
+
+			Matcher matcher = _arrayPattern.matcher(name);
+
+			if (matcher.matches()) {
+				return matcher;
+			}
+
+			return null;
+		}
+
+		private final Map<String, BinaryFile> _binaryFiles = new HashMap<>();
+		private final Map<String, Map<Integer, BinaryFile>> _indexedFileLists =
+			new HashMap<>();
+		private final Map<String, Map<Integer, String>> _indexedValueLists =
+			new HashMap<>();
+		private final List<BinaryFile> _readBinaryFiles = new ArrayList<>();
+		private final Map<String, String> _values = new HashMap<>();
+
+	}
+
 }
\ No newline at end of file
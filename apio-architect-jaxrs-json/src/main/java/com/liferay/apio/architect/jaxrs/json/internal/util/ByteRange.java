@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.util;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a single byte range requested with the {@code Range} header, as
+ * defined in <a href="https://tools.ietf.org/html/rfc7233">RFC 7233</a>.
+ *
+ * <p>
+ * Requests with several ranges are answered with the full representation, so
+ * only single ranges can be parsed.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class ByteRange {
+
+	/**
+	 * Returns the byte range of a {@code Range} header's value, if it contains
+	 * a single valid byte range. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  value the {@code Range} header's value
+	 * @return the byte range, if present; {@code Optional#empty()} otherwise
+	 */
+	public static Optional<ByteRange> parse(String value) {
+		if (value == null) {
+			return Optional.empty();
+		}
+
+		Matcher matcher = _pattern.matcher(value.trim());
+
+		if (!matcher.matches()) {
+			return Optional.empty();
+		}
+
+		String first = matcher.group(1);
+		String last = matcher.group(2);
+
+		if (first.isEmpty() && last.isEmpty()) {
+			return Optional.empty();
+		}
+
+		try {
+			Long firstBytePosition = _toLong(first);
+			Long lastBytePosition = _toLong(last);
+
+			if ((firstBytePosition != null) && (lastBytePosition != null) &&
+				(lastBytePosition < firstBytePosition)) {
+
+				return Optional.empty();
+			}
+
+			return Optional.of(
+				new ByteRange(firstBytePosition, lastBytePosition));
+		}
+		catch (NumberFormatException nfe) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Returns the value of the {@code Content-Range} header for this range.
+	 *
+	 * @param  size the representation's size
+	 * @return the {@code Content-Range} header's value
+	 */
+	public String getContentRange(long size) {
+		return "bytes " + getFirstBytePosition(size) + "-" +
+			getLastBytePosition(size) + "/" + size;
+	}
+
+	/**
+	 * Returns the position of the range's first byte.
+	 *
+	 * @param  size the representation's size
+	 * @return the position of the range's first byte
+	 */
+	public long getFirstBytePosition(long size) {
+		if (_firstBytePosition == null) {
+			return Math.max(0, size - _lastBytePosition);
+		}
+
+		return _firstBytePosition;
+	}
+
+	/**
+	 * Returns the position of the range's last byte.
+	 *
+	 * @param  size the representation's size
+	 * @return the position of the range's last byte
+	 */
+	public long getLastBytePosition(long size) {
+		if ((_firstBytePosition == null) || (_lastBytePosition == null)) {
+			return size - 1;
+		}
+
+		return Math.min(_lastBytePosition, size - 1);
+	}
+
+	/**
+	 * Returns the number of bytes in the range.
+	 *
+	 * @param  size the representation's size
+	 * @return the number of bytes in the range
+	 */
+	public long getLength(long size) {
+		return getLastBytePosition(size) - getFirstBytePosition(size) + 1;
+	}
+
+	/**
+	 * Returns {@code true} if the range overlaps a representation of the
+	 * provided size.
+	 *
+	 * @param  size the representation's size
+	 * @return {@code true} if the range is satisfiable; {@code false} otherwise
+	 */
+	public boolean isSatisfiable(long size) {
+		if (_firstBytePosition == null) {
+			if ((_lastBytePosition > 0) && (size > 0)) {
+				return true;
+			}
+
+			return false;
+		}
+
+		if (_firstBytePosition < size) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private ByteRange(Long firstBytePosition, Long lastBytePosition) {
+		_firstBytePosition = firstBytePosition;
+		_lastBytePosition = lastBytePosition;
+	}
+
+	private static Long _toLong(String string) {
+		if (string.isEmpty()) {
+			return null;
+		}
+
+		return Long.valueOf(string);
+	}
+
+	private static final Pattern _pattern = Pattern.compile(
+		"bytes=(\\d*)-(\\d*)");
+
+	private final Long _firstBytePosition;
+	private final Long _lastBytePosition;
+
+}
\ No newline at end of file
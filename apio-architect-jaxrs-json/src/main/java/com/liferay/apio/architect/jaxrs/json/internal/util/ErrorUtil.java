@@ -14,6 +14,9 @@
 
 package com.liferay.apio.architect.jaxrs.json.internal.util;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
 import static org.osgi.service.component.annotations.ReferenceCardinality.OPTIONAL;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
@@ -85,7 +88,8 @@ public class ErrorUtil {
 		int statusCode = apiError.getStatusCode();
 
 		Optional<ErrorMessageMapper> errorMessageMapperOptional =
-			_errorMessageMapperManager.getErrorMessageMapperOptional(request);
+			_errorMessageMapperManager.getErrorMessageMapperOptional(
+				request, httpHeaders);
 
 		return errorMessageMapperOptional.map(
 			errorMessageMapper -> {
@@ -96,6 +100,8 @@ public class ErrorUtil {
 					statusCode
 				).type(
 					errorMessageMapper.getMediaType()
+				).header(
+					VARY, ACCEPT
 				).entity(
 					result
 				).build();
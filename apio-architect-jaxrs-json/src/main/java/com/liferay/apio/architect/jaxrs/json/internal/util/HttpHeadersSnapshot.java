@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.ws.rs.core.AbstractMultivaluedMap;
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Provides an immutable copy of a request's {@link HttpHeaders}. This copy
+ * can be used from threads other than the request's thread, where the
+ * injected {@code HttpHeaders} proxy isn't bound to the request.
+ *
+ * @author Alejandro Hernández
+ */
+public class HttpHeadersSnapshot implements HttpHeaders {
+
+	/**
+	 * Copies the state of the provided {@code HttpHeaders}. This method must be
+	 * called from the request's thread.
+	 *
+	 * @param  httpHeaders the request's HTTP headers
+	 * @return the copy of the HTTP headers
+	 */
+	public static HttpHeaders of(HttpHeaders httpHeaders) {
+		return new HttpHeadersSnapshot(httpHeaders);
+	}
+
+	@Override
+	public List<Locale> getAcceptableLanguages() {
+		return _acceptableLanguages;
+	}
+
+	@Override
+	public List<MediaType> getAcceptableMediaTypes() {
+		return _acceptableMediaTypes;
+	}
+
+	@Override
+	public Map<String, Cookie> getCookies() {
+		return _cookies;
+	}
+
+	@Override
+	public Date getDate() {
+		if (_date == null) {
+			return null;
+		}
+
+		return new Date(_date.getTime());
+	}
+
+	@Override
+	public String getHeaderString(String name) {
+		List<String> values = _requestHeaders.get(name);
+
+		if (values == null) {
+			return null;
+		}
+
+		return String.join(",", values);
+	}
+
+	@Override
+	public Locale getLanguage() {
+		return _language;
+	}
+
+	@Override
+	public int getLength() {
+		return _length;
+	}
+
+	@Override
+	public MediaType getMediaType() {
+		return _mediaType;
+	}
+
+	@Override
+	public List<String> getRequestHeader(String name) {
+		return _requestHeaders.get(name);
+	}
+
+	@Override
+	public MultivaluedMap<String, String> getRequestHeaders() {
+		return new AbstractMultivaluedMap<String, String>(
+			Collections.unmodifiableMap(_requestHeaders)) {
+		};
+	}
+
+	private HttpHeadersSnapshot(HttpHeaders httpHeaders) {
+		_acceptableLanguages = Collections.unmodifiableList(
+			new ArrayList<>(httpHeaders.getAcceptableLanguages()));
+		_acceptableMediaTypes = Collections.unmodifiableList(
+			new ArrayList<>(httpHeaders.getAcceptableMediaTypes()));
+		_cookies = Collections.unmodifiableMap(
+			new HashMap<>(httpHeaders.getCookies()));
+		_date = httpHeaders.getDate();
+		_language = httpHeaders.getLanguage();
+		_length = httpHeaders.getLength();
+		_mediaType = httpHeaders.getMediaType();
+
+		Map<String, List<String>> requestHeaders = new TreeMap<>(
+			String.CASE_INSENSITIVE_ORDER);
+
+		httpHeaders.getRequestHeaders().forEach(
+			(name, values) -> requestHeaders.put(
+				name,
+				Collections.unmodifiableList(new ArrayList<>(values))));
+
+		_requestHeaders = requestHeaders;
+	}
+
+	private final List<Locale> _acceptableLanguages;
+	private final List<MediaType> _acceptableMediaTypes;
+	private final Map<String, Cookie> _cookies;
+	private final Date _date;
+	private final Locale _language;
+	private final int _length;
+	private final MediaType _mediaType;
+	private final Map<String, List<String>> _requestHeaders;
+
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.util;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import java.util.List;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Provides utility functions for the {@code Vary} response header.
+ *
+ * <p>
+ * The message mapper managers memoize the message mapper selected for each
+ * {@code Accept} header, so memoized selections don't go through {@code
+ * Request#selectVariant} and don't add {@code Accept} to the {@code Vary}
+ * header. The writers that negotiate a message mapper must call {@link
+ * #addVaryAccept(MultivaluedMap)} to add it.
+ * </p>
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class VaryUtil {
+
+	/**
+	 * Adds {@code Accept} to the {@code Vary} header, unless it's already
+	 * present.
+	 *
+	 * @param httpHeaders the response's HTTP headers
+	 */
+	public static void addVaryAccept(
+		MultivaluedMap<String, Object> httpHeaders) {
+
+		List<Object> values = httpHeaders.get(VARY);
+
+		if (values != null) {
+			for (Object value : values) {
+				String string = String.valueOf(value);
+
+				for (String header : string.split(",")) {
+					if (ACCEPT.equalsIgnoreCase(header.trim())) {
+						return;
+					}
+				}
+			}
+		}
+
+		httpHeaders.add(VARY, ACCEPT);
+	}
+
+	private VaryUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
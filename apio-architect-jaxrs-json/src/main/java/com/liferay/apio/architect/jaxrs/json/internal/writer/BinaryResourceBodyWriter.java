@@ -19,6 +19,8 @@ import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.jaxrs.json.internal.filter.RangeFilter;
+import com.liferay.apio.architect.jaxrs.json.internal.util.ByteRange;
 import com.liferay.apio.architect.wiring.osgi.util.GenericUtil;
 
 import java.io.IOException;
@@ -28,9 +30,19 @@ import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 import java.util.Collections;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyWriter;
@@ -39,7 +51,9 @@ import javax.ws.rs.ext.Provider;
 import org.osgi.service.component.annotations.Component;
 
 /**
- * Writes an input stream as a binary output stream.
+ * Writes an input stream as a binary output stream. If the {@link
+ * RangeFilter} selected a byte range, only that range is written. Binary files
+ * backed by a file are transferred through a {@code FileChannel}.
  *
  * @author Javier Gamarra
  */
@@ -81,22 +95,100 @@ public class BinaryResourceBodyWriter
 
 		BinaryFile binaryFile = success.getValue();
 
-		multivaluedMap.put(
-			CONTENT_TYPE, Collections.singletonList(binaryFile.getMimeType()));
+		long size = binaryFile.getSize();
+
+		ByteRange byteRange = (ByteRange)_httpServletRequest.getAttribute(
+			RangeFilter.BYTE_RANGE_ATTRIBUTE);
+
+		long position = 0;
+		long length = size;
+
+		if (byteRange != null) {
+			position = byteRange.getFirstBytePosition(size);
+			length = byteRange.getLength(size);
+		}
 
 		multivaluedMap.put(
-			CONTENT_LENGTH, Collections.singletonList(binaryFile.getSize()));
+			CONTENT_TYPE, Collections.singletonList(binaryFile.getMimeType()));
 
-		byte[] bytes = new byte[1024];
+		multivaluedMap.put(CONTENT_LENGTH, Collections.singletonList(length));
 
-		InputStream inputStream = binaryFile.getInputStream();
-		int value = -1;
+		Optional<Path> optional = binaryFile.getPathOptional();
 
-		while ((value = inputStream.read(bytes)) != -1) {
-			outputStream.write(bytes, 0, value);
+		if (optional.isPresent()) {
+			_transfer(optional.get(), position, length, outputStream);
+		}
+		else {
+			_copy(binaryFile.getInputStream(), position, length, outputStream);
 		}
 
 		outputStream.close();
 	}
 
+	private void _copy(
+			InputStream inputStream, long position, long length,
+			OutputStream outputStream)
+		throws IOException {
+
+		try (InputStream closeableInputStream = inputStream) {
+			long skipped = 0;
+
+			while (skipped < position) {
+				long value = closeableInputStream.skip(position - skipped);
+
+				if (value <= 0) {
+					return;
+				}
+
+				skipped += value;
+			}
+
+			byte[] bytes = new byte[8192];
+
+			long remaining = length;
+
+			while (remaining > 0) {
+				int value = closeableInputStream.read(
+					bytes, 0, (int)Math.min(bytes.length, remaining));
+
+				if (value == -1) {
+					return;
+				}
+
+				outputStream.write(bytes, 0, value);
+
+				remaining -= value;
+			}
+		}
+	}
+
+	private void _transfer(
+			Path path, long position, long length, OutputStream outputStream)
+		throws IOException {
+
+		WritableByteChannel writableByteChannel = Channels.newChannel(
+			outputStream);
+
+		try (FileChannel fileChannel = FileChannel.open(
+				path, StandardOpenOption.READ)) {
+
+			long transferred = 0;
+
+			while (transferred < length) {
+				long value = fileChannel.transferTo(
+					position + transferred, length - transferred,
+					writableByteChannel);
+
+				if (value <= 0) {
+					return;
+				}
+
+				transferred += value;
+			}
+		}
+	}
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
 }
\ No newline at end of file
@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.jaxrs.json.internal.writer;
 
+import static com.liferay.apio.architect.jaxrs.json.internal.util.VaryUtil.addVaryAccept;
+
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.documentation.Documentation;
@@ -26,6 +28,7 @@ import com.liferay.apio.architect.url.ServerURL;
 import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
 import com.liferay.apio.architect.wiring.osgi.manager.message.json.DocumentationMessageMapperManager;
 import com.liferay.apio.architect.writer.DocumentationWriter;
+import com.liferay.apio.architect.writer.url.PrefixedServerURL;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -100,7 +103,7 @@ public class DocumentationMessageBodyWriter
 
 		Optional<DocumentationMessageMapper> optional =
 			_documentationMessageMapperManager.
-				getDocumentationMessageMapperOptional(_request);
+				getDocumentationMessageMapperOptional(_request, _httpHeaders);
 
 		DocumentationMessageMapper documentationMessageMapper =
 			optional.orElseThrow(NotSupportedException::new);
@@ -111,8 +114,9 @@ public class DocumentationMessageBodyWriter
 			).httpServletRequest(
 				_httpServletRequest
 			).serverURL(
-				_providerManager.provideMandatory(
-					_httpServletRequest, ServerURL.class)
+				PrefixedServerURL.from(
+					_providerManager.provideMandatory(
+						_httpServletRequest, ServerURL.class))
 			).embedded(
 				_providerManager.provideOptional(
 					_httpServletRequest, Embedded.class
@@ -147,6 +151,8 @@ public class DocumentationMessageBodyWriter
 			Collections.singletonList(
 				documentationMessageMapper.getMediaType()));
 
+		addVaryAccept(httpHeaders);
+
 		printWriter.println(documentationWriter.write());
 
 		printWriter.close();
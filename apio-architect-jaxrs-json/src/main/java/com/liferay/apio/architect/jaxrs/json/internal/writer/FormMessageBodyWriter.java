@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.jaxrs.json.internal.writer;
 
+import static com.liferay.apio.architect.jaxrs.json.internal.util.VaryUtil.addVaryAccept;
+
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.form.Form;
@@ -29,6 +31,7 @@ import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
 import com.liferay.apio.architect.wiring.osgi.manager.message.json.FormMessageMapperManager;
 import com.liferay.apio.architect.wiring.osgi.util.GenericUtil;
 import com.liferay.apio.architect.writer.FormWriter;
+import com.liferay.apio.architect.writer.url.PrefixedServerURL;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -105,7 +108,8 @@ public class FormMessageBodyWriter implements MessageBodyWriter<Success<Form>> {
 		Form form = success.getValue();
 
 		Optional<FormMessageMapper> optional =
-			_formMessageMapperManager.getFormMessageMapperOptional(_request);
+			_formMessageMapperManager.getFormMessageMapperOptional(
+				_request, _httpHeaders);
 
 		FormMessageMapper formMessageMapper = optional.orElseThrow(
 			NotSupportedException::new);
@@ -116,8 +120,9 @@ public class FormMessageBodyWriter implements MessageBodyWriter<Success<Form>> {
 			).httpServletRequest(
 				_httpServletRequest
 			).serverURL(
-				_providerManager.provideMandatory(
-					_httpServletRequest, ServerURL.class)
+				PrefixedServerURL.from(
+					_providerManager.provideMandatory(
+						_httpServletRequest, ServerURL.class))
 			).embedded(
 				_providerManager.provideOptional(
 					_httpServletRequest, Embedded.class
@@ -151,6 +156,8 @@ public class FormMessageBodyWriter implements MessageBodyWriter<Success<Form>> {
 			CONTENT_TYPE,
 			Collections.singletonList(formMessageMapper.getMediaType()));
 
+		addVaryAccept(httpHeaders);
+
 		printWriter.println(formWriter.write());
 
 		printWriter.close();
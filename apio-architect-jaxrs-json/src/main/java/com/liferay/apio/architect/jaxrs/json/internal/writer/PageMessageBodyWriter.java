@@ -14,12 +14,14 @@
 
 package com.liferay.apio.architect.jaxrs.json.internal.writer;
 
+import static com.liferay.apio.architect.jaxrs.json.internal.util.VaryUtil.addVaryAccept;
 import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
 
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.jaxrs.json.internal.util.HttpHeadersSnapshot;
 import com.liferay.apio.architect.language.Language;
 import com.liferay.apio.architect.message.json.PageMessageMapper;
 import com.liferay.apio.architect.pagination.Page;
@@ -38,20 +40,29 @@ import com.liferay.apio.architect.wiring.osgi.manager.representable.Representabl
 import com.liferay.apio.architect.wiring.osgi.manager.router.ItemRouterManager;
 import com.liferay.apio.architect.wiring.osgi.util.GenericUtil;
 import com.liferay.apio.architect.writer.PageWriter;
+import com.liferay.apio.architect.writer.url.PrefixedServerURL;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.Writer;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
 import java.nio.charset.StandardCharsets;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -65,25 +76,76 @@ import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
 /**
  * Writes collection pages by using the {@link PageMessageMapper} that
  * corresponds to the media type.
  *
+ * <p>
+ * Pages with more items than the {@code parallel.items.threshold} property are
+ * written in parallel, in a {@code ForkJoinPool} with {@code
+ * parallel.items.parallelism} threads (the number of available processors if
+ * it's not positive). The threshold is {@code -1} by default, which writes
+ * every page sequentially.
+ * </p>
+ *
+ * <p>
+ * Before writing a page in parallel, the related models are fetched, and the
+ * HTTP headers and language are copied, in the request's thread, so the pool's
+ * threads never use state bound to the request's thread. Changing the
+ * configuration replaces the pool; the old one is shut down once the requests
+ * using it finish.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
  */
 @Component(
 	immediate = true,
-	property = "liferay.apio.architect.message.body.writer=true"
+	property = {
+		"liferay.apio.architect.message.body.writer=true",
+		"parallel.items.parallelism:Integer=0",
+		"parallel.items.threshold:Integer=-1"
+	}
 )
 @Provider
 public class PageMessageBodyWriter<T>
 	implements MessageBodyWriter<Try.Success<Page<T>>> {
 
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		int parallelItemsThreshold = Integer.parseInt(
+			String.valueOf(
+				properties.getOrDefault("parallel.items.threshold", -1)));
+
+		if (parallelItemsThreshold < 0) {
+			_swapForkJoinPoolHolder(null);
+
+			return;
+		}
+
+		int parallelism = Integer.parseInt(
+			String.valueOf(
+				properties.getOrDefault("parallel.items.parallelism", 0)));
+
+		if (parallelism <= 0) {
+			Runtime runtime = Runtime.getRuntime();
+
+			parallelism = runtime.availableProcessors();
+		}
+
+		_swapForkJoinPoolHolder(
+			new ForkJoinPoolHolder(
+				new ForkJoinPool(parallelism), parallelItemsThreshold));
+	}
+
 	@Override
 	public long getSize(
 		Try.Success<Page<T>> success, Class<?> clazz, Type genericType,
@@ -114,43 +176,193 @@ public class PageMessageBodyWriter<T>
 			OutputStream entityStream)
 		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			entityStream, StandardCharsets.UTF_8);
+		ForkJoinPoolHolder forkJoinPoolHolder = _acquireForkJoinPoolHolder();
+
+		if (forkJoinPoolHolder == null) {
+			_writeTo(success, httpHeaders, entityStream, null, -1);
+
+			return;
+		}
+
+		try {
+			_writeTo(
+				success, httpHeaders, entityStream,
+				forkJoinPoolHolder._forkJoinPool,
+				forkJoinPoolHolder._parallelItemsThreshold);
+		}
+		finally {
+			forkJoinPoolHolder.release();
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		_swapForkJoinPoolHolder(null);
+	}
+
+	private ForkJoinPoolHolder _acquireForkJoinPoolHolder() {
+		while (true) {
+			ForkJoinPoolHolder forkJoinPoolHolder = _forkJoinPoolHolder;
+
+			if ((forkJoinPoolHolder == null) || forkJoinPoolHolder.acquire()) {
+				return forkJoinPoolHolder;
+			}
+		}
+	}
+
+	private Optional<SingleModel> _getSingleModelOptional(
+		HttpServletRequest httpServletRequest, Object identifier,
+		Class<? extends Identifier> identifierClass) {
+
+		Optional<String> nameOptional = _nameManager.getNameOptional(
+			identifierClass.getName());
+
+		return nameOptional.flatMap(
+			_itemRouterManager::getItemRoutesOptional
+		).flatMap(
+			ItemRoutes::getItemFunctionOptional
+		).map(
+			function -> function.apply(httpServletRequest)
+		).map(
+			function -> function.apply(identifier)
+		).flatMap(
+			Try::toOptional
+		).map(
+			Unsafe::unsafeCast
+		);
+	}
+
+	private Optional<Map<Object, SingleModel>> _getSingleModelsOptional(
+		HttpServletRequest httpServletRequest, List<Object> identifiers,
+		Class<? extends Identifier> identifierClass) {
+
+		Optional<String> nameOptional = _nameManager.getNameOptional(
+			identifierClass.getName());
+
+		return nameOptional.flatMap(
+			_itemRouterManager::getItemRoutesOptional
+		).flatMap(
+			ItemRoutes::getBatchGetItemFunctionOptional
+		).map(
+			function -> function.apply(httpServletRequest)
+		).map(
+			function -> function.apply(unsafeCast(identifiers))
+		).flatMap(
+			Try::toOptional
+		).map(
+			Unsafe::unsafeCast
+		);
+	}
+
+	private boolean _isParallel(
+		Page<T> page, ForkJoinPool forkJoinPool, int parallelItemsThreshold) {
+
+		if (forkJoinPool == null) {
+			return false;
+		}
+
+		Collection<T> items = page.getItems();
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		if (items.size() > parallelItemsThreshold) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private Language _resolveLanguage(Language language) {
+		Locale preferredLocale = language.getPreferredLocale();
+
+		List<Locale> locales = language.getLocales(
+		).collect(
+			Collectors.toList()
+		);
+
+		return new Language() {
+
+			@Override
+			public Stream<Locale> getLocales() {
+				return locales.stream();
+			}
+
+			@Override
+			public Locale getPreferredLocale() {
+				return preferredLocale;
+			}
+
+		};
+	}
+
+	private void _swapForkJoinPoolHolder(
+		ForkJoinPoolHolder forkJoinPoolHolder) {
+
+		ForkJoinPoolHolder oldForkJoinPoolHolder = _forkJoinPoolHolder;
+
+		_forkJoinPoolHolder = forkJoinPoolHolder;
+
+		if (oldForkJoinPoolHolder != null) {
+			oldForkJoinPoolHolder.retire();
+		}
+	}
+
+	private void _writeTo(
+			Try.Success<Page<T>> success,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream entityStream, ForkJoinPool forkJoinPool,
+			int parallelItemsThreshold)
+		throws IOException {
+
+		Writer writer = new BufferedWriter(
+			new OutputStreamWriter(entityStream, StandardCharsets.UTF_8));
 
 		Page<T> page = success.getValue();
 
+		HttpServletRequest httpServletRequest = _httpServletRequest;
+
+		Language language = _providerManager.provideOptional(
+			httpServletRequest, Language.class
+		).orElse(
+			Locale::getDefault
+		);
+
+		HttpHeaders requestHttpHeaders = _httpHeaders;
+
+		if (_isParallel(page, forkJoinPool, parallelItemsThreshold)) {
+			language = _resolveLanguage(language);
+			requestHttpHeaders = HttpHeadersSnapshot.of(requestHttpHeaders);
+		}
+
+		Language requestLanguage = language;
+		HttpHeaders requestInfoHttpHeaders = requestHttpHeaders;
+
 		RequestInfo requestInfo = RequestInfo.create(
 			builder -> builder.httpHeaders(
-				_httpHeaders
+				requestInfoHttpHeaders
 			).httpServletRequest(
-				_httpServletRequest
+				httpServletRequest
 			).serverURL(
-				_providerManager.provideMandatory(
-					_httpServletRequest, ServerURL.class)
+				PrefixedServerURL.from(
+					_providerManager.provideMandatory(
+						httpServletRequest, ServerURL.class))
 			).embedded(
 				_providerManager.provideOptional(
-					_httpServletRequest, Embedded.class
+					httpServletRequest, Embedded.class
 				).orElse(
 					__ -> false
 				)
 			).fields(
 				_providerManager.provideOptional(
-					_httpServletRequest, Fields.class
+					httpServletRequest, Fields.class
 				).orElse(
 					__ -> string -> true
 				)
 			).language(
-				_providerManager.provideOptional(
-					_httpServletRequest, Language.class
-				).orElse(
-					Locale::getDefault
-				)
+				requestLanguage
 			).build());
 
 		Optional<PageMessageMapper<T>> optional =
-			_pageMessageMapperManager.getPageMessageMapperOptional(_request);
+			_pageMessageMapperManager.getPageMessageMapperOptional(
+				_request, _httpHeaders);
 
 		PageMessageMapper<T> pageMessageMapper = optional.orElseThrow(
 			NotSupportedException::new);
@@ -170,39 +382,30 @@ public class PageMessageBodyWriter<T>
 			).requestInfo(
 				requestInfo
 			).singleModelFunction(
-				this::_getSingleModelOptional
+				(identifier, identifierClass) -> _getSingleModelOptional(
+					httpServletRequest, identifier, identifierClass)
+			).batchSingleModelFunction(
+				(identifiers, identifierClass) -> _getSingleModelsOptional(
+					httpServletRequest, identifiers, identifierClass)
+			).itemExecutor(
+				forkJoinPool, parallelItemsThreshold
 			).build());
 
 		httpHeaders.put(
 			CONTENT_TYPE,
 			Collections.singletonList(pageMessageMapper.getMediaType()));
 
-		printWriter.println(pageWriter.write());
-
-		printWriter.close();
-	}
+		addVaryAccept(httpHeaders);
 
-	private Optional<SingleModel> _getSingleModelOptional(
-		Object identifier, Class<? extends Identifier> identifierClass) {
+		pageWriter.write(writer);
 
-		Optional<String> nameOptional = _nameManager.getNameOptional(
-			identifierClass.getName());
+		writer.write(System.lineSeparator());
 
-		return nameOptional.flatMap(
-			_itemRouterManager::getItemRoutesOptional
-		).flatMap(
-			ItemRoutes::getItemFunctionOptional
-		).map(
-			function -> function.apply(_httpServletRequest)
-		).map(
-			function -> function.apply(identifier)
-		).flatMap(
-			Try::toOptional
-		).map(
-			Unsafe::unsafeCast
-		);
+		writer.close();
 	}
 
+	private volatile ForkJoinPoolHolder _forkJoinPoolHolder;
+
 	@Context
 	private HttpHeaders _httpHeaders;
 
@@ -230,4 +433,52 @@ public class PageMessageBodyWriter<T>
 	@Context
 	private Request _request;
 
+	/**
+	 * Holds the {@code ForkJoinPool} used to write the items of a page in
+	 * parallel, along with its threshold, and counts the requests using it.
+	 * When a new configuration replaces it, the pool is shut down once the
+	 * last request using it finishes.
+	 */
+	private static class ForkJoinPoolHolder {
+
+		public boolean acquire() {
+			_users.incrementAndGet();
+
+			if (_retired) {
+				release();
+
+				return false;
+			}
+
+			return true;
+		}
+
+		public void release() {
+			if ((_users.decrementAndGet() == 0) && _retired) {
+				_forkJoinPool.shutdown();
+			}
+		}
+
+		public void retire() {
+			_retired = true;
+
+			if (_users.get() == 0) {
+				_forkJoinPool.shutdown();
+			}
+		}
+
+		private ForkJoinPoolHolder(
+			ForkJoinPool forkJoinPool, int parallelItemsThreshold) {
+
+			_forkJoinPool = forkJoinPool;
+			_parallelItemsThreshold = parallelItemsThreshold;
+		}
+
+		private final ForkJoinPool _forkJoinPool;
+		private final int _parallelItemsThreshold;
+		private volatile boolean _retired;
+		private final AtomicInteger _users = new AtomicInteger();
+
+	}
+
 }
\ No newline at end of file
@@ -14,6 +14,9 @@
 
 package com.liferay.apio.architect.jaxrs.json.internal.writer;
 
+import static com.liferay.apio.architect.jaxrs.json.internal.filter.RepresentationCacheFilter.REPRESENTATION_ATTRIBUTE;
+import static com.liferay.apio.architect.jaxrs.json.internal.filter.RepresentationCacheFilter.REPRESENTATION_CONSUMER_ATTRIBUTE;
+import static com.liferay.apio.architect.jaxrs.json.internal.util.VaryUtil.addVaryAccept;
 import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
 
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
@@ -38,11 +41,14 @@ import com.liferay.apio.architect.wiring.osgi.manager.representable.Representabl
 import com.liferay.apio.architect.wiring.osgi.manager.router.ItemRouterManager;
 import com.liferay.apio.architect.wiring.osgi.util.GenericUtil;
 import com.liferay.apio.architect.writer.SingleModelWriter;
+import com.liferay.apio.architect.writer.url.PrefixedServerURL;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.Writer;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -52,6 +58,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -114,12 +121,29 @@ public class SingleModelMessageBodyWriter<T>
 			OutputStream entityStream)
 		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			entityStream, StandardCharsets.UTF_8);
+		SingleModel<T> singleModel = success.getValue();
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		Optional<SingleModelMessageMapper<T>> optional =
+			_singleModelMessageMapperManager.
+				getSingleModelMessageMapperOptional(_request, _httpHeaders);
 
-		SingleModel<T> singleModel = success.getValue();
+		SingleModelMessageMapper<T> singleModelMessageMapper =
+			optional.orElseThrow(NotSupportedException::new);
+
+		httpHeaders.put(
+			CONTENT_TYPE,
+			Collections.singletonList(singleModelMessageMapper.getMediaType()));
+
+		addVaryAccept(httpHeaders);
+
+		byte[] representation = (byte[])_httpServletRequest.getAttribute(
+			REPRESENTATION_ATTRIBUTE);
+
+		if (representation != null) {
+			entityStream.write(representation);
+
+			return;
+		}
 
 		RequestInfo requestInfo = RequestInfo.create(
 			builder -> builder.httpHeaders(
@@ -127,8 +151,9 @@ public class SingleModelMessageBodyWriter<T>
 			).httpServletRequest(
 				_httpServletRequest
 			).serverURL(
-				_providerManager.provideMandatory(
-					_httpServletRequest, ServerURL.class)
+				PrefixedServerURL.from(
+					_providerManager.provideMandatory(
+						_httpServletRequest, ServerURL.class))
 			).embedded(
 				_providerManager.provideOptional(
 					_httpServletRequest, Embedded.class
@@ -149,13 +174,6 @@ public class SingleModelMessageBodyWriter<T>
 				)
 			).build());
 
-		Optional<SingleModelMessageMapper<T>> optional =
-			_singleModelMessageMapperManager.
-				getSingleModelMessageMapperOptional(_request);
-
-		SingleModelMessageMapper<T> singleModelMessageMapper =
-			optional.orElseThrow(NotSupportedException::new);
-
 		SingleModelWriter<T> singleModelWriter = SingleModelWriter.create(
 			builder -> builder.singleModel(
 				singleModel
@@ -174,15 +192,28 @@ public class SingleModelMessageBodyWriter<T>
 				this::_getSingleModelOptional
 			).build());
 
-		httpHeaders.put(
-			CONTENT_TYPE,
-			Collections.singletonList(singleModelMessageMapper.getMediaType()));
+		Consumer<byte[]> representationConsumer = unsafeCast(
+			_httpServletRequest.getAttribute(
+				REPRESENTATION_CONSUMER_ATTRIBUTE));
+
+		if (representationConsumer == null) {
+			_write(singleModelWriter, entityStream);
+
+			return;
+		}
 
-		Optional<String> resultOptional = singleModelWriter.write();
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
 
-		resultOptional.ifPresent(printWriter::write);
+		boolean written = _write(singleModelWriter, byteArrayOutputStream);
 
-		printWriter.close();
+		byte[] bytes = byteArrayOutputStream.toByteArray();
+
+		if (written) {
+			representationConsumer.accept(bytes);
+		}
+
+		entityStream.write(bytes);
 	}
 
 	private Optional<SingleModel> _getSingleModelOptional(
@@ -206,6 +237,20 @@ public class SingleModelMessageBodyWriter<T>
 		);
 	}
 
+	private boolean _write(
+			SingleModelWriter<T> singleModelWriter, OutputStream outputStream)
+		throws IOException {
+
+		Writer writer = new BufferedWriter(
+			new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+		boolean written = singleModelWriter.write(writer);
+
+		writer.close();
+
+		return written;
+	}
+
 	@Context
 	private HttpHeaders _httpHeaders;
 
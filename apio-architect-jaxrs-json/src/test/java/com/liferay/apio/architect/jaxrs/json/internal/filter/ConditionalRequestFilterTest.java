@@ -0,0 +1,355 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.filter;
+
+import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
+
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+import static javax.ws.rs.core.Response.Status.NOT_MODIFIED;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.pagination.Cursor;
+import com.liferay.apio.architect.pagination.CursorPageItems;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.test.util.identifier.RootModelId;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
+
+import java.lang.reflect.Field;
+
+import java.net.URI;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.UriInfo;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ConditionalRequestFilterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_queryParameters = new MultivaluedHashMap<>();
+
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+		Mockito.when(
+			uriInfo.getQueryParameters()
+		).thenReturn(
+			_queryParameters
+		);
+
+		Mockito.when(
+			uriInfo.getRequestUri()
+		).thenReturn(
+			URI.create("http://localhost/p/root/1")
+		);
+
+		_containerRequestContext = Mockito.mock(ContainerRequestContext.class);
+
+		Mockito.when(
+			_containerRequestContext.getMethod()
+		).thenReturn(
+			"GET"
+		);
+
+		Mockito.when(
+			_containerRequestContext.getUriInfo()
+		).thenReturn(
+			uriInfo
+		);
+
+		_request = Mockito.mock(Request.class);
+
+		_representableManager = Mockito.mock(RepresentableManager.class);
+
+		_conditionalRequestFilter = new ConditionalRequestFilter();
+
+		_setField("_representableManager", _representableManager);
+		_setField("_request", _request);
+	}
+
+	@Test
+	public void testCursorPageEntityTagDependsOnTheAdjacentPageTokens()
+		throws Exception {
+
+		_mockRepresentor(true, false);
+
+		List<RootModel> items = Arrays.asList(() -> "1", () -> "2");
+
+		Page<RootModel> page = new Page<>(
+			"root", new CursorPageItems<>(items, null, "next"),
+			new Cursor(2, null), Collections.emptyList());
+		Page<RootModel> lastPage = new Page<>(
+			"root", new CursorPageItems<>(items, null, null),
+			new Cursor(2, null), Collections.emptyList());
+
+		MultivaluedMap<String, Object> headers = _filter(page, 200);
+		MultivaluedMap<String, Object> lastPageHeaders = _filter(lastPage, 200);
+
+		assertThat(
+			lastPageHeaders.getFirst(ETAG), is(not(headers.getFirst(ETAG))));
+	}
+
+	@Test
+	public void testEmbeddedRequestsAreNotHandled() throws Exception {
+		_mockRepresentor(true, false);
+
+		_queryParameters.putSingle("embedded", "embedded1");
+
+		MultivaluedMap<String, Object> headers = _filter(
+			_createSingleModel(), 200);
+
+		assertThat(headers.containsKey(ETAG), is(false));
+		assertThat(headers.containsKey(LAST_MODIFIED), is(false));
+	}
+
+	@Test
+	public void testHeadersAreAddedIfPreconditionsAreNotMet() throws Exception {
+		_mockRepresentor(true, true);
+
+		MultivaluedMap<String, Object> headers = _filter(
+			_createSingleModel(), 200);
+
+		assertThat(headers.containsKey(ETAG), is(true));
+		assertThat(
+			headers.getFirst(LAST_MODIFIED), is(new Date(1_000_000_000L)));
+
+		Mockito.verify(
+			_containerResponseContext, Mockito.never()
+		).setStatus(
+			NOT_MODIFIED.getStatusCode()
+		);
+	}
+
+	@Test
+	public void testIfModifiedSinceReturnsNotModified() throws Exception {
+		_mockRepresentor(false, true);
+
+		ResponseBuilder responseBuilder = _createNotModifiedResponseBuilder();
+
+		Mockito.when(
+			_request.evaluatePreconditions(Mockito.any(Date.class))
+		).thenReturn(
+			responseBuilder
+		);
+
+		MultivaluedMap<String, Object> headers = _filter(
+			_createSingleModel(), 200);
+
+		assertThat(headers.containsKey(ETAG), is(false));
+		assertThat(headers.containsKey(LAST_MODIFIED), is(true));
+
+		Mockito.verify(
+			_containerResponseContext
+		).setStatus(
+			NOT_MODIFIED.getStatusCode()
+		);
+		Mockito.verify(
+			_containerResponseContext
+		).setEntity(
+			null
+		);
+	}
+
+	@Test
+	public void testIfNoneMatchReturnsNotModified() throws Exception {
+		_mockRepresentor(true, false);
+
+		ResponseBuilder responseBuilder = _createNotModifiedResponseBuilder();
+
+		Mockito.when(
+			_request.evaluatePreconditions(Mockito.any(EntityTag.class))
+		).thenReturn(
+			responseBuilder
+		);
+
+		MultivaluedMap<String, Object> headers = _filter(
+			_createSingleModel(), 200);
+
+		EntityTag entityTag = (EntityTag)headers.getFirst(ETAG);
+
+		assertThat(entityTag.isWeak(), is(true));
+
+		Mockito.verify(
+			_containerResponseContext
+		).setStatus(
+			NOT_MODIFIED.getStatusCode()
+		);
+		Mockito.verify(
+			_containerResponseContext
+		).setEntity(
+			null
+		);
+	}
+
+	@Test
+	public void testPageEntityTagDependsOnTheTotalCount() throws Exception {
+		_mockRepresentor(true, false);
+
+		List<RootModel> items = Arrays.asList(() -> "1", () -> "2");
+
+		Page<RootModel> page = new Page<>(
+			"root", new PageItems<>(items, 2), new Pagination(2, 1),
+			Collections.emptyList());
+		Page<RootModel> biggerPage = new Page<>(
+			"root", new PageItems<>(items, 3), new Pagination(2, 1),
+			Collections.emptyList());
+
+		MultivaluedMap<String, Object> headers = _filter(page, 200);
+		MultivaluedMap<String, Object> biggerPageHeaders = _filter(
+			biggerPage, 200);
+
+		assertThat(
+			biggerPageHeaders.getFirst(ETAG), is(not(headers.getFirst(ETAG))));
+	}
+
+	@Test
+	public void testResponsesWithErrorStatusAreNotHandled() throws Exception {
+		_mockRepresentor(true, false);
+
+		MultivaluedMap<String, Object> headers = _filter(
+			_createSingleModel(), 404);
+
+		assertThat(headers.containsKey(ETAG), is(false));
+	}
+
+	private ResponseBuilder _createNotModifiedResponseBuilder() {
+		Response response = Mockito.mock(Response.class);
+
+		Mockito.when(
+			response.getStatus()
+		).thenReturn(
+			NOT_MODIFIED.getStatusCode()
+		);
+
+		ResponseBuilder responseBuilder = Mockito.mock(ResponseBuilder.class);
+
+		Mockito.when(
+			responseBuilder.build()
+		).thenReturn(
+			response
+		);
+
+		return responseBuilder;
+	}
+
+	private SingleModel<RootModel> _createSingleModel() {
+		return new SingleModel<>(() -> "1", "root", Collections.emptyList());
+	}
+
+	private MultivaluedMap<String, Object> _filter(Object value, int status)
+		throws Exception {
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		_containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			_containerResponseContext.getEntity()
+		).thenReturn(
+			Try.success(value)
+		);
+
+		Mockito.when(
+			_containerResponseContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		Mockito.when(
+			_containerResponseContext.getStatus()
+		).thenReturn(
+			status
+		);
+
+		_conditionalRequestFilter.filter(
+			_containerRequestContext, _containerResponseContext);
+
+		return headers;
+	}
+
+	private void _mockRepresentor(boolean version, boolean lastModified) {
+		Representor.Builder<RootModel, String> builder =
+			new Representor.Builder<>(RootModelId.class);
+
+		Representor.Builder<RootModel, String>.FirstStep firstStep =
+			builder.types(
+				"Root"
+			).identifier(
+				RootModel::getId
+			);
+
+		if (version) {
+			firstStep.version(RootModel::getId);
+		}
+
+		if (lastModified) {
+			firstStep.lastModified(__ -> new Date(1_000_000_123L));
+		}
+
+		Representor<Object> representor = unsafeCast(firstStep.build());
+
+		Mockito.when(
+			_representableManager.getRepresentorOptional("root")
+		).thenReturn(
+			Optional.of(representor)
+		);
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Field field = ConditionalRequestFilter.class.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(_conditionalRequestFilter, value);
+	}
+
+	private ConditionalRequestFilter _conditionalRequestFilter;
+	private ContainerRequestContext _containerRequestContext;
+	private ContainerResponseContext _containerResponseContext;
+	private MultivaluedMap<String, String> _queryParameters;
+	private RepresentableManager _representableManager;
+	private Request _request;
+
+}
\ No newline at end of file
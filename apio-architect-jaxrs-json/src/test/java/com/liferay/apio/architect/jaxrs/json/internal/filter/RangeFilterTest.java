@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.filter;
+
+import static com.liferay.apio.architect.jaxrs.json.internal.filter.RangeFilter.BYTE_RANGE_ATTRIBUTE;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+import static javax.ws.rs.core.Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.jaxrs.json.internal.util.ByteRange;
+
+import java.io.ByteArrayInputStream;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RangeFilterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_attributes = new HashMap<>();
+
+		HttpServletRequest httpServletRequest =
+			(HttpServletRequest)Proxy.newProxyInstance(
+				HttpServletRequest.class.getClassLoader(),
+				new Class<?>[] {HttpServletRequest.class},
+				(proxy, method, args) -> {
+					if ("setAttribute".equals(method.getName())) {
+						_attributes.put((String)args[0], args[1]);
+					}
+
+					return null;
+				});
+
+		_rangeFilter = new RangeFilter();
+
+		Field field = RangeFilter.class.getDeclaredField(
+			"_httpServletRequest");
+
+		field.setAccessible(true);
+
+		field.set(_rangeFilter, httpServletRequest);
+	}
+
+	@Test
+	public void testIfRangeWithADifferentEntityTagReturnsTheFullFile()
+		throws Exception {
+
+		MultivaluedMap<String, Object> headers = _filter(
+			"bytes=0-1", "\"other\"");
+
+		assertThat(headers.getFirst("Accept-Ranges"), is("bytes"));
+		assertThat(headers.containsKey("Content-Range"), is(false));
+		assertThat(_attributes.containsKey(BYTE_RANGE_ATTRIBUTE), is(false));
+
+		_verifyStatusNotSet();
+	}
+
+	@Test
+	public void testIfRangeWithTheSameEntityTagReturnsPartialContent()
+		throws Exception {
+
+		MultivaluedMap<String, Object> headers = _filter(
+			"bytes=0-1", "\"etag\"");
+
+		assertThat(headers.getFirst("Content-Range"), is("bytes 0-1/10"));
+
+		Mockito.verify(
+			_containerResponseContext
+		).setStatus(
+			PARTIAL_CONTENT.getStatusCode()
+		);
+	}
+
+	@Test
+	public void testMultipleRangesReturnTheFullFile() throws Exception {
+		MultivaluedMap<String, Object> headers = _filter("bytes=0-1,4-5", null);
+
+		assertThat(headers.getFirst("Accept-Ranges"), is("bytes"));
+		assertThat(headers.containsKey("Content-Range"), is(false));
+		assertThat(_attributes.containsKey(BYTE_RANGE_ATTRIBUTE), is(false));
+
+		_verifyStatusNotSet();
+	}
+
+	@Test
+	public void testRangeReturnsPartialContent() throws Exception {
+		MultivaluedMap<String, Object> headers = _filter("bytes=2-5", null);
+
+		assertThat(headers.getFirst("Content-Range"), is("bytes 2-5/10"));
+
+		ByteRange byteRange = (ByteRange)_attributes.get(BYTE_RANGE_ATTRIBUTE);
+
+		assertThat(byteRange.getLength(10), is(4L));
+
+		Mockito.verify(
+			_containerResponseContext
+		).setStatus(
+			PARTIAL_CONTENT.getStatusCode()
+		);
+	}
+
+	@Test
+	public void testSuffixRangeReturnsTheLastBytes() throws Exception {
+		MultivaluedMap<String, Object> headers = _filter("bytes=-4", null);
+
+		assertThat(headers.getFirst("Content-Range"), is("bytes 6-9/10"));
+
+		ByteRange byteRange = (ByteRange)_attributes.get(BYTE_RANGE_ATTRIBUTE);
+
+		assertThat(byteRange.getFirstBytePosition(10), is(6L));
+
+		Mockito.verify(
+			_containerResponseContext
+		).setStatus(
+			PARTIAL_CONTENT.getStatusCode()
+		);
+	}
+
+	@Test
+	public void testUnsatisfiableRangeReturnsRequestedRangeNotSatisfiable()
+		throws Exception {
+
+		MultivaluedMap<String, Object> headers = _filter("bytes=10-", null);
+
+		assertThat(headers.getFirst("Content-Range"), is("bytes */10"));
+		assertThat(headers.containsKey(CONTENT_TYPE), is(false));
+		assertThat(_attributes.containsKey(BYTE_RANGE_ATTRIBUTE), is(false));
+
+		Mockito.verify(
+			_containerResponseContext
+		).setStatus(
+			REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode()
+		);
+		Mockito.verify(
+			_containerResponseContext
+		).setEntity(
+			null
+		);
+	}
+
+	private MultivaluedMap<String, Object> _filter(String range, String ifRange)
+		throws Exception {
+
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			"GET"
+		);
+
+		Mockito.when(
+			containerRequestContext.getHeaderString("Range")
+		).thenReturn(
+			range
+		);
+
+		Mockito.when(
+			containerRequestContext.getHeaderString("If-Range")
+		).thenReturn(
+			ifRange
+		);
+
+		BinaryFile binaryFile = new BinaryFile(
+			new ByteArrayInputStream(new byte[10]), 10L, "text/plain", "etag",
+			new Date());
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.putSingle(CONTENT_TYPE, "text/plain");
+
+		_containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			_containerResponseContext.getEntity()
+		).thenReturn(
+			Try.success(binaryFile)
+		);
+
+		Mockito.when(
+			_containerResponseContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		Mockito.when(
+			_containerResponseContext.getStatus()
+		).thenReturn(
+			200
+		);
+
+		_rangeFilter.filter(containerRequestContext, _containerResponseContext);
+
+		return headers;
+	}
+
+	private void _verifyStatusNotSet() {
+		Mockito.verify(
+			_containerResponseContext, Mockito.never()
+		).setStatus(
+			Mockito.anyInt()
+		);
+	}
+
+	private Map<String, Object> _attributes;
+	private ContainerResponseContext _containerResponseContext;
+	private RangeFilter _rangeFilter;
+
+}
\ No newline at end of file
@@ -0,0 +1,411 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.filter;
+
+import static com.liferay.apio.architect.jaxrs.json.internal.filter.RepresentationCacheFilter.REPRESENTATION_ATTRIBUTE;
+import static com.liferay.apio.architect.jaxrs.json.internal.filter.RepresentationCacheFilter.REPRESENTATION_CONSUMER_ATTRIBUTE;
+import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.endpoint.RepresentationCacheable;
+import com.liferay.apio.architect.language.Language;
+import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
+import com.liferay.apio.architect.wiring.osgi.manager.RepresentationCacheManager;
+import com.liferay.apio.architect.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.net.URI;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RepresentationCacheFilterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		MultivaluedMap<String, String> pathParameters =
+			new MultivaluedHashMap<>();
+
+		pathParameters.putSingle("name", "root");
+		pathParameters.putSingle("id", "1");
+
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+		Mockito.when(
+			uriInfo.getPathParameters()
+		).thenReturn(
+			pathParameters
+		);
+
+		Mockito.when(
+			uriInfo.getRequestUri()
+		).thenReturn(
+			URI.create("http://localhost/p/root/1?fields=name")
+		);
+
+		_containerRequestContext = Mockito.mock(ContainerRequestContext.class);
+
+		Mockito.when(
+			_containerRequestContext.getMethod()
+		).thenReturn(
+			"GET"
+		);
+
+		Mockito.when(
+			_containerRequestContext.getUriInfo()
+		).thenReturn(
+			uriInfo
+		);
+
+		_credentials = "user1";
+
+		ProviderManager providerManager = Mockito.mock(ProviderManager.class);
+
+		Mockito.when(
+			providerManager.provideMandatory(
+				Mockito.any(HttpServletRequest.class),
+				Mockito.eq(Credentials.class))
+		).thenReturn(
+			() -> _credentials
+		);
+
+		Mockito.when(
+			providerManager.provideOptional(
+				Mockito.any(HttpServletRequest.class),
+				Mockito.eq(Language.class))
+		).thenReturn(
+			Optional.empty()
+		);
+
+		HttpHeaders httpHeaders = Mockito.mock(HttpHeaders.class);
+		Request request = Mockito.mock(Request.class);
+
+		SingleModelMessageMapper<Object> singleModelMessageMapper = unsafeCast(
+			Mockito.mock(SingleModelMessageMapper.class));
+
+		Mockito.when(
+			singleModelMessageMapper.getMediaType()
+		).thenReturn(
+			"application/json"
+		);
+
+		SingleModelMessageMapperManager singleModelMessageMapperManager =
+			Mockito.mock(SingleModelMessageMapperManager.class);
+
+		Mockito.when(
+			singleModelMessageMapperManager.
+				<Object>getSingleModelMessageMapperOptional(
+					request, httpHeaders)
+		).thenReturn(
+			Optional.of(singleModelMessageMapper)
+		);
+
+		_resourceInfo = Mockito.mock(ResourceInfo.class);
+
+		_mockResourceMethod(CacheableEndpointImpl.class);
+
+		_representationCacheManager = new TestRepresentationCacheManager();
+
+		_representationCacheFilter = new RepresentationCacheFilter();
+
+		_setField("_httpHeaders", httpHeaders);
+		_setField("_providerManager", providerManager);
+		_setField("_representationCacheManager", _representationCacheManager);
+		_setField("_request", request);
+		_setField("_resourceInfo", _resourceInfo);
+		_setField(
+			"_singleModelMessageMapperManager",
+			singleModelMessageMapperManager);
+	}
+
+	@Test
+	public void testCacheHitDoesNotAbortTheRequest() throws Exception {
+		_render(_filter(), "representation");
+
+		Map<String, Object> attributes = _filter();
+
+		assertThat(
+			new String(
+				(byte[])attributes.get(REPRESENTATION_ATTRIBUTE),
+				StandardCharsets.UTF_8),
+			is("representation"));
+		assertThat(
+			attributes.containsKey(REPRESENTATION_CONSUMER_ATTRIBUTE),
+			is(false));
+		assertThat(_representationCacheManager.getHitCount(), is(1L));
+
+		Mockito.verify(
+			_containerRequestContext, Mockito.never()
+		).abortWith(
+			Mockito.any(Response.class)
+		);
+	}
+
+	@Test
+	public void testCacheMissStoresTheRepresentationConsumer()
+		throws Exception {
+
+		Map<String, Object> attributes = _filter();
+
+		assertThat(attributes.containsKey(REPRESENTATION_ATTRIBUTE), is(false));
+		assertThat(
+			attributes.containsKey(REPRESENTATION_CONSUMER_ATTRIBUTE),
+			is(true));
+		assertThat(_representationCacheManager.getMissCount(), is(1L));
+	}
+
+	@Test
+	public void testInvalidatedRepresentationsAreNotReturned()
+		throws Exception {
+
+		_render(_filter(), "representation");
+
+		_representationCacheManager.invalidate("root", "1");
+
+		Map<String, Object> attributes = _filter();
+
+		assertThat(attributes.containsKey(REPRESENTATION_ATTRIBUTE), is(false));
+	}
+
+	@Test
+	public void testRepresentationsRenderedDuringAnInvalidationAreNotCached()
+		throws Exception {
+
+		Map<String, Object> attributes = _filter();
+
+		_representationCacheManager.invalidate("root", "1");
+
+		_render(attributes, "representation");
+
+		assertThat(_filter().containsKey(REPRESENTATION_ATTRIBUTE), is(false));
+	}
+
+	@Test
+	public void testRepresentationsAreNotSharedBetweenCredentials()
+		throws Exception {
+
+		_render(_filter(), "representation");
+
+		_credentials = "user2";
+
+		Map<String, Object> attributes = _filter();
+
+		assertThat(attributes.containsKey(REPRESENTATION_ATTRIBUTE), is(false));
+
+		_credentials = "user1";
+
+		attributes = _filter();
+
+		assertThat(attributes.containsKey(REPRESENTATION_ATTRIBUTE), is(true));
+	}
+
+	@Test
+	public void testRequestsToNotCacheableMethodsAreNotHandled()
+		throws Exception {
+
+		_mockResourceMethod(NotCacheableEndpointImpl.class);
+
+		Map<String, Object> attributes = _filter();
+
+		assertThat(attributes.isEmpty(), is(true));
+	}
+
+	public interface CacheableEndpoint {
+
+		@RepresentationCacheable
+		public String getItem(String id);
+
+	}
+
+	public static class CacheableEndpointImpl implements CacheableEndpoint {
+
+		@Override
+		public String getItem(String id) {
+			return id;
+		}
+
+	}
+
+	public static class NotCacheableEndpointImpl {
+
+		public String getItem(String id) {
+			return id;
+		}
+
+	}
+
+	private Map<String, Object> _filter() throws Exception {
+		Map<String, Object> attributes = new HashMap<>();
+
+		HttpServletRequest httpServletRequest =
+			(HttpServletRequest)Proxy.newProxyInstance(
+				HttpServletRequest.class.getClassLoader(),
+				new Class<?>[] {HttpServletRequest.class},
+				(proxy, method, args) -> {
+					String methodName = method.getName();
+
+					if (methodName.equals("getAttribute")) {
+						return attributes.get(args[0]);
+					}
+
+					if (methodName.equals("setAttribute")) {
+						attributes.put((String)args[0], args[1]);
+					}
+
+					return null;
+				});
+
+		_setField("_httpServletRequest", httpServletRequest);
+
+		_representationCacheFilter.filter(_containerRequestContext);
+
+		return attributes;
+	}
+
+	private void _mockResourceMethod(Class<?> clazz) throws Exception {
+		Method method = clazz.getMethod("getItem", String.class);
+
+		Mockito.when(
+			_resourceInfo.getResourceMethod()
+		).thenReturn(
+			method
+		);
+	}
+
+	private void _render(Map<String, Object> attributes, String string) {
+		Consumer<byte[]> consumer = unsafeCast(
+			attributes.get(REPRESENTATION_CONSUMER_ATTRIBUTE));
+
+		consumer.accept(string.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Field field = RepresentationCacheFilter.class.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(_representationCacheFilter, value);
+	}
+
+	private ContainerRequestContext _containerRequestContext;
+	private String _credentials;
+	private RepresentationCacheFilter _representationCacheFilter;
+	private TestRepresentationCacheManager _representationCacheManager;
+	private ResourceInfo _resourceInfo;
+
+	private static class TestRepresentationCacheManager
+		implements RepresentationCacheManager {
+
+		@Override
+		public long getHitCount() {
+			return _hitCount;
+		}
+
+		@Override
+		public long getInvalidationCount() {
+			return _invalidationCount;
+		}
+
+		@Override
+		public long getMissCount() {
+			return _missCount;
+		}
+
+		@Override
+		public Optional<byte[]> getOptional(
+			String name, String id, String variant) {
+
+			Optional<byte[]> optional = Optional.ofNullable(
+				_representations.get(_getKey(name, id, variant)));
+
+			if (optional.isPresent()) {
+				_hitCount++;
+			}
+			else {
+				_missCount++;
+			}
+
+			return optional;
+		}
+
+		@Override
+		public void invalidate(String name, String id) {
+			_invalidationCount++;
+
+			_representations.keySet(
+			).removeIf(
+				key -> key.startsWith(_getKey(name, id, ""))
+			);
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return true;
+		}
+
+		@Override
+		public void put(
+			String name, String id, String variant, byte[] bytes,
+			long invalidationCount) {
+
+			if (invalidationCount == _invalidationCount) {
+				_representations.put(_getKey(name, id, variant), bytes);
+			}
+		}
+
+		private String _getKey(String name, String id, String variant) {
+			return String.join("\n", name, id, variant);
+		}
+
+		private long _hitCount;
+		private long _invalidationCount;
+		private long _missCount;
+		private final Map<String, byte[]> _representations =
+			new ConcurrentHashMap<>();
+
+	}
+
+}
\ No newline at end of file
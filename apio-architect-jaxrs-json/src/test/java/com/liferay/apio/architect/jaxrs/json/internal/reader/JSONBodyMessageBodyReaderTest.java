@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.reader;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.Response.Status.REQUEST_ENTITY_TOO_LARGE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.form.Body;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class JSONBodyMessageBodyReaderTest {
+
+	@Test
+	public void testBodyBiggerThanTheMaximumSizeIsRejected()
+		throws IOException {
+
+		JSONBodyMessageBodyReader jsonBodyMessageBodyReader = _createReader(
+			20);
+
+		String name = String.join("", Collections.nCopies(100, "a"));
+
+		String json = "{\"name\": \"" + name + "\"}";
+
+		try {
+			_read(jsonBodyMessageBodyReader, json, null);
+
+			throw new AssertionError("The body should have been rejected");
+		}
+		catch (ClientErrorException cee) {
+			Response response = cee.getResponse();
+
+			assertThat(
+				response.getStatus(),
+				is(REQUEST_ENTITY_TOO_LARGE.getStatusCode()));
+		}
+	}
+
+	@Test
+	public void testBodyUpToTheMaximumSizeIsRead() throws IOException {
+		Body body = _read(_createReader(16), "{\"name\": \"Apio\"}", null);
+
+		assertThat(body.getValueOptional("name").get(), is("Apio"));
+	}
+
+	@Test
+	public void testOversizedContentLengthIsRejectedBeforeReading()
+		throws IOException {
+
+		InputStream inputStream = new InputStream() {
+
+			@Override
+			public int read() {
+				throw new AssertionError("The body should not be read");
+			}
+
+		};
+
+		MultivaluedMap<String, String> httpHeaders =
+			new MultivaluedHashMap<>();
+
+		httpHeaders.putSingle(CONTENT_LENGTH, "100");
+
+		try {
+			_createReader(
+				20
+			).readFrom(
+				Body.class, null, null, null, httpHeaders, inputStream
+			);
+
+			throw new AssertionError("The body should have been rejected");
+		}
+		catch (ClientErrorException cee) {
+			Response response = cee.getResponse();
+
+			assertThat(
+				response.getStatus(),
+				is(REQUEST_ENTITY_TOO_LARGE.getStatusCode()));
+		}
+	}
+
+	@Test
+	public void testEmptyBodyHasNoValues() throws IOException {
+		Body body = _read(_createReader(-1), "", null);
+
+		assertThat(body.getValueOptional("name").isPresent(), is(false));
+		assertThat(body.getValueListOptional("name").isPresent(), is(false));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testInvalidContentLengthIsABadRequest() throws IOException {
+		_read(_createReader(20), "{}", "twenty");
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testMalformedJSONIsABadRequest() throws IOException {
+		_read(_createReader(-1), "{\"name\": }", null);
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testNonObjectJSONIsABadRequest() throws IOException {
+		_read(_createReader(-1), "[\"Apio\"]", null);
+	}
+
+	@Test
+	public void testPrimitiveValuesAndArraysAreRead() throws IOException {
+		Body body = _read(
+			_createReader(-1),
+			"{\"boolean\": true, \"list\": [1, \"two\", {\"a\": 1}, false], " +
+				"\"nested\": {\"name\": \"Nested\"}, \"number\": 42, " +
+					"\"string\": \"Apio\", \"null\": null}",
+			null);
+
+		assertThat(body.getValueOptional("boolean").get(), is("true"));
+		assertThat(
+			body.getValueListOptional("list").get(),
+			is(Arrays.asList("1", "two", "false")));
+		assertThat(body.getValueOptional("nested").isPresent(), is(false));
+		assertThat(body.getValueOptional("null").isPresent(), is(false));
+		assertThat(body.getValueOptional("number").get(), is("42"));
+		assertThat(body.getValueOptional("string").get(), is("Apio"));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testTrailingContentIsABadRequest() throws IOException {
+		_read(_createReader(-1), "{\"name\": \"Apio\"} {}", null);
+	}
+
+	private JSONBodyMessageBodyReader _createReader(long maxSize) {
+		JSONBodyMessageBodyReader jsonBodyMessageBodyReader =
+			new JSONBodyMessageBodyReader();
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("max.size", maxSize);
+
+		jsonBodyMessageBodyReader.activate(properties);
+
+		return jsonBodyMessageBodyReader;
+	}
+
+	private Body _read(
+			JSONBodyMessageBodyReader jsonBodyMessageBodyReader, String json,
+			String contentLength)
+		throws IOException {
+
+		MultivaluedMap<String, String> httpHeaders =
+			new MultivaluedHashMap<>();
+
+		if (contentLength != null) {
+			httpHeaders.putSingle(CONTENT_LENGTH, contentLength);
+		}
+
+		InputStream inputStream = new ByteArrayInputStream(
+			json.getBytes(StandardCharsets.UTF_8));
+
+		return jsonBodyMessageBodyReader.readFrom(
+			Body.class, null, null, null, httpHeaders, inputStream);
+	}
+
+}
\ No newline at end of file
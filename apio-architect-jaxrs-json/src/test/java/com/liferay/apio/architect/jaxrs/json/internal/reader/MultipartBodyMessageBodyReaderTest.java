@@ -0,0 +1,332 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.reader;
+
+import static com.liferay.apio.architect.jaxrs.json.internal.filter.MultipartCleanUpFilter.BODY_PARTS_ATTRIBUTE;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.jaxrs.json.internal.filter.MultipartCleanUpFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MultipartBodyMessageBodyReaderTest {
+
+	@Before
+	public void setUp() throws IOException {
+		_repository = Files.createTempDirectory("apio");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> stream = Files.list(_repository)) {
+			stream.forEach(path -> path.toFile().delete());
+		}
+
+		Files.delete(_repository);
+	}
+
+	@Test
+	public void testFilesBiggerThanTheThresholdAreSpooledToTemporaryFiles()
+		throws Exception {
+
+		Body body = _read(_createReader(-1), _file("file", 20));
+
+		BinaryFile binaryFile = body.getFileOptional("file").get();
+
+		assertThat(
+			binaryFile.getInputStream() instanceof ByteArrayInputStream,
+			is(false));
+		assertThat(binaryFile.getSize(), is(20L));
+		assertThat(_readBytes(binaryFile), is(_createBytes(20)));
+		assertThat(_countRepositoryFiles(), is(0L));
+	}
+
+	@Test
+	public void testFilesUpToTheThresholdAreKeptInMemory() throws Exception {
+		Body body = _read(_createReader(-1), _file("file", 10));
+
+		assertThat(_countRepositoryFiles(), is(0L));
+
+		BinaryFile binaryFile = body.getFileOptional("file").get();
+
+		assertThat(
+			binaryFile.getInputStream() instanceof ByteArrayInputStream,
+			is(true));
+		assertThat(binaryFile.getSize(), is(10L));
+		assertThat(_readBytes(binaryFile), is(_createBytes(10)));
+	}
+
+	@Test
+	public void testFormFieldsAreRead() throws Exception {
+		Body body = _read(
+			_createReader(-1), _field("name", "Apio"), _field("list[0]", "a"),
+			_field("list[1]", "b"));
+
+		assertThat(body.getValueOptional("name").get(), is("Apio"));
+		assertThat(
+			body.getValueListOptional("list").get(),
+			is(Arrays.asList("a", "b")));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testOversizedFileIsABadRequest() throws Exception {
+		_read(_createReader(30), _file("file", 40));
+	}
+
+	@Test(expected = IOException.class)
+	public void testSpooledFileIsClosedIfTheRouteNeverReadsIt()
+		throws Exception {
+
+		Body body = _read(
+			_createReader(-1), _file("file", 20), _file("file", 20),
+			_file("extra", 20));
+
+		BinaryFile binaryFile = body.getFileOptional("extra").get();
+
+		MultipartCleanUpFilter multipartCleanUpFilter =
+			new MultipartCleanUpFilter();
+
+		Field field = MultipartCleanUpFilter.class.getDeclaredField(
+			"_httpServletRequest");
+
+		field.setAccessible(true);
+
+		field.set(multipartCleanUpFilter, _httpServletRequest);
+
+		multipartCleanUpFilter.filter(null, null);
+
+		assertThat(
+			_httpServletRequest.getAttribute(BODY_PARTS_ATTRIBUTE),
+			is(nullValue()));
+
+		InputStream inputStream = binaryFile.getInputStream();
+
+		inputStream.read();
+	}
+
+	@Test
+	public void testSpooledFileIsDeletedIfItIsOversized() throws Exception {
+		try {
+			_read(_createReader(30), _file("file", 40));
+		}
+		catch (BadRequestException bre) {
+		}
+
+		assertThat(_countRepositoryFiles(), is(0L));
+	}
+
+	@Test
+	public void testSpooledFilesAreDeletedIfALaterPartIsInvalid()
+		throws Exception {
+
+		try {
+			_read(
+				_createReader(30), _file("first", 20), _file("files[0]", 20),
+				_file("second", 40));
+		}
+		catch (BadRequestException bre) {
+		}
+
+		assertThat(_countRepositoryFiles(), is(0L));
+	}
+
+	private long _countRepositoryFiles() throws IOException {
+		try (Stream<Path> stream = Files.list(_repository)) {
+			return stream.count();
+		}
+	}
+
+	private byte[] _createBytes(int size) {
+		byte[] bytes = new byte[size];
+
+		for (int i = 0; i < size; i++) {
+			bytes[i] = (byte)('a' + (i % 26));
+		}
+
+		return bytes;
+	}
+
+	private MultipartBodyMessageBodyReader _createReader(long fileSizeMax) {
+		MultipartBodyMessageBodyReader multipartBodyMessageBodyReader =
+			new MultipartBodyMessageBodyReader();
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("file.size.max", fileSizeMax);
+		properties.put("memory.threshold", 10);
+		properties.put("repository", _repository.toString());
+
+		multipartBodyMessageBodyReader.activate(properties);
+
+		return multipartBodyMessageBodyReader;
+	}
+
+	private String _field(String name, String value) {
+		return "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" +
+			value;
+	}
+
+	private String _file(String name, int size) {
+		return "Content-Disposition: form-data; name=\"" + name +
+			"\"; filename=\"" + name + ".txt\"\r\nContent-Type: " +
+				"text/plain\r\n\r\n" +
+					new String(_createBytes(size), StandardCharsets.UTF_8);
+	}
+
+	private Body _read(
+			MultipartBodyMessageBodyReader multipartBodyMessageBodyReader,
+			String... parts)
+		throws Exception {
+
+		StringBuilder sb = new StringBuilder();
+
+		for (String part : parts) {
+			sb.append("--");
+			sb.append(_BOUNDARY);
+			sb.append("\r\n");
+			sb.append(part);
+			sb.append("\r\n");
+		}
+
+		sb.append("--");
+		sb.append(_BOUNDARY);
+		sb.append("--\r\n");
+
+		String string = sb.toString();
+
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+		InputStream inputStream = new ByteArrayInputStream(bytes);
+
+		ServletInputStream servletInputStream = new ServletInputStream() {
+
+			@Override
+			public int read() throws IOException {
+				return inputStream.read();
+			}
+
+			@Override
+			public int read(byte[] bytes, int offset, int length)
+				throws IOException {
+
+				return inputStream.read(bytes, offset, length);
+			}
+
+		};
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		_httpServletRequest = (HttpServletRequest)Proxy.newProxyInstance(
+			HttpServletRequest.class.getClassLoader(),
+			new Class<?>[] {HttpServletRequest.class},
+			(proxy, method, args) -> {
+				String methodName = method.getName();
+
+				if (methodName.equals("getAttribute")) {
+					return attributes.get(args[0]);
+				}
+
+				if (methodName.equals("getContentLength")) {
+					return bytes.length;
+				}
+
+				if (methodName.equals("getContentType")) {
+					return "multipart/form-data; boundary=" + _BOUNDARY;
+				}
+
+				if (methodName.equals("getInputStream")) {
+					return servletInputStream;
+				}
+
+				if (methodName.equals("getMethod")) {
+					return "POST";
+				}
+
+				if (methodName.equals("removeAttribute")) {
+					attributes.remove(args[0]);
+				}
+
+				if (methodName.equals("setAttribute")) {
+					attributes.put((String)args[0], args[1]);
+				}
+
+				return null;
+			});
+
+		Field field = MultipartBodyMessageBodyReader.class.getDeclaredField(
+			"_httpServletRequest");
+
+		field.setAccessible(true);
+
+		field.set(multipartBodyMessageBodyReader, _httpServletRequest);
+
+		return multipartBodyMessageBodyReader.readFrom(
+			Body.class, null, null, null, null, servletInputStream);
+	}
+
+	private byte[] _readBytes(BinaryFile binaryFile) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (InputStream inputStream = binaryFile.getInputStream()) {
+			byte[] bytes = new byte[8192];
+			int length;
+
+			while ((length = inputStream.read(bytes)) != -1) {
+				byteArrayOutputStream.write(bytes, 0, length);
+			}
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static final String _BOUNDARY = "boundary";
+
+	private HttpServletRequest _httpServletRequest;
+	private Path _repository;
+
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ByteRangeTest {
+
+	@Test
+	public void testInvalidRangesAreNotParsed() {
+		assertThat(ByteRange.parse(null).isPresent(), is(false));
+		assertThat(ByteRange.parse("bytes=-").isPresent(), is(false));
+		assertThat(ByteRange.parse("bytes=5-2").isPresent(), is(false));
+		assertThat(ByteRange.parse("items=0-1").isPresent(), is(false));
+		assertThat(
+			ByteRange.parse("bytes=99999999999999999999-").isPresent(),
+			is(false));
+	}
+
+	@Test
+	public void testMultipleRangesAreNotParsed() {
+		Optional<ByteRange> optional = ByteRange.parse("bytes=0-1,4-5");
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testOpenEndedRange() {
+		ByteRange byteRange = _parse("bytes=4-");
+
+		assertThat(byteRange.getContentRange(10), is("bytes 4-9/10"));
+		assertThat(byteRange.getLength(10), is(6L));
+		assertThat(byteRange.isSatisfiable(10), is(true));
+	}
+
+	@Test
+	public void testRangeLastBytePositionIsLimitedByTheSize() {
+		ByteRange byteRange = _parse("bytes=2-20");
+
+		assertThat(byteRange.getContentRange(10), is("bytes 2-9/10"));
+		assertThat(byteRange.getLength(10), is(8L));
+	}
+
+	@Test
+	public void testRangeStartingAfterTheLastByteIsNotSatisfiable() {
+		ByteRange byteRange = _parse("bytes=10-20");
+
+		assertThat(byteRange.isSatisfiable(10), is(false));
+		assertThat(byteRange.isSatisfiable(11), is(true));
+	}
+
+	@Test
+	public void testSuffixRange() {
+		ByteRange byteRange = _parse("bytes=-3");
+
+		assertThat(byteRange.getContentRange(10), is("bytes 7-9/10"));
+		assertThat(byteRange.getFirstBytePosition(10), is(7L));
+		assertThat(byteRange.getLastBytePosition(10), is(9L));
+		assertThat(byteRange.getLength(10), is(3L));
+		assertThat(byteRange.isSatisfiable(10), is(true));
+	}
+
+	@Test
+	public void testSuffixRangeLongerThanTheSizeSelectsEveryByte() {
+		ByteRange byteRange = _parse("bytes=-30");
+
+		assertThat(byteRange.getContentRange(10), is("bytes 0-9/10"));
+		assertThat(byteRange.getLength(10), is(10L));
+	}
+
+	@Test
+	public void testZeroLengthSuffixRangeIsNotSatisfiable() {
+		ByteRange byteRange = _parse("bytes=-0");
+
+		assertThat(byteRange.isSatisfiable(10), is(false));
+	}
+
+	private ByteRange _parse(String value) {
+		Optional<ByteRange> optional = ByteRange.parse(value);
+
+		return optional.get();
+	}
+
+}
\ No newline at end of file
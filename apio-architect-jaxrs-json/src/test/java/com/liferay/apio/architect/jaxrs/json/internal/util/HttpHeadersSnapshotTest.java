@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import java.lang.reflect.Proxy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class HttpHeadersSnapshotTest {
+
+	@Test
+	public void testSnapshotCopiesTheHeaders() {
+		MultivaluedMap<String, String> requestHeaders =
+			new MultivaluedHashMap<>();
+
+		requestHeaders.add("Accept", "application/json");
+		requestHeaders.add("X-Custom", "first");
+		requestHeaders.add("X-Custom", "second");
+
+		List<Locale> locales = Arrays.asList(Locale.FRENCH, Locale.ENGLISH);
+
+		HttpHeaders httpHeaders = HttpHeadersSnapshot.of(
+			_createHttpHeaders(requestHeaders, locales));
+
+		requestHeaders.clear();
+
+		assertThat(
+			httpHeaders.getAcceptableLanguages(),
+			contains(Locale.FRENCH, Locale.ENGLISH));
+		assertThat(
+			httpHeaders.getAcceptableMediaTypes(),
+			contains(MediaType.APPLICATION_JSON_TYPE));
+		assertThat(
+			httpHeaders.getRequestHeader("x-custom"),
+			contains("first", "second"));
+		assertThat(httpHeaders.getHeaderString("X-CUSTOM"), is("first,second"));
+		assertThat(httpHeaders.getLength(), is(-1));
+
+		MultivaluedMap<String, String> snapshotRequestHeaders =
+			httpHeaders.getRequestHeaders();
+
+		assertThat(
+			snapshotRequestHeaders.getFirst("accept"), is("application/json"));
+	}
+
+	@Test
+	public void testSnapshotReturnsNullForMissingHeaders() {
+		HttpHeaders httpHeaders = HttpHeadersSnapshot.of(
+			_createHttpHeaders(
+				new MultivaluedHashMap<>(), Collections.emptyList()));
+
+		assertThat(httpHeaders.getHeaderString("Accept") == null, is(true));
+		assertThat(httpHeaders.getRequestHeader("Accept") == null, is(true));
+	}
+
+	private HttpHeaders _createHttpHeaders(
+		MultivaluedMap<String, String> requestHeaders, List<Locale> locales) {
+
+		return (HttpHeaders)Proxy.newProxyInstance(
+			HttpHeaders.class.getClassLoader(),
+			new Class<?>[] {HttpHeaders.class},
+			(proxy, method, args) -> {
+				switch (method.getName()) {
+					case "getAcceptableLanguages":
+						return locales;
+					case "getAcceptableMediaTypes":
+						return Collections.singletonList(
+							MediaType.APPLICATION_JSON_TYPE);
+					case "getCookies":
+						return Collections.emptyMap();
+					case "getLength":
+						return -1;
+					case "getRequestHeaders":
+						return requestHeaders;
+					default:
+						return null;
+				}
+			});
+	}
+
+}
\ No newline at end of file
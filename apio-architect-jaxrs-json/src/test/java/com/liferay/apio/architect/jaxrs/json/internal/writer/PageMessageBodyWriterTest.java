@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.writer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageMessageBodyWriterTest {
+
+	@Before
+	public void setUp() {
+		_pageMessageBodyWriter = new PageMessageBodyWriter<>();
+	}
+
+	@After
+	public void tearDown() {
+		_pageMessageBodyWriter.deactivate();
+	}
+
+	@Test
+	public void testActivateWithNegativeThresholdDoesNotCreateAPool()
+		throws Exception {
+
+		_pageMessageBodyWriter.activate(_getProperties(-1));
+
+		assertThat(_getForkJoinPoolHolder() == null, is(true));
+	}
+
+	@Test
+	public void testDeactivateShutsDownAnIdlePool() throws Exception {
+		_pageMessageBodyWriter.activate(_getProperties(10));
+
+		ForkJoinPool forkJoinPool = _getForkJoinPool(_getForkJoinPoolHolder());
+
+		_pageMessageBodyWriter.deactivate();
+
+		assertThat(forkJoinPool.isShutdown(), is(true));
+		assertThat(_getForkJoinPoolHolder() == null, is(true));
+	}
+
+	@Test
+	public void testModifiedDoesNotShutDownAPoolInUse() throws Exception {
+		_pageMessageBodyWriter.activate(_getProperties(10));
+
+		Object forkJoinPoolHolder = _getForkJoinPoolHolder();
+
+		assertThat(_invoke(forkJoinPoolHolder, "acquire"), is(true));
+
+		_pageMessageBodyWriter.activate(_getProperties(20));
+
+		ForkJoinPool forkJoinPool = _getForkJoinPool(forkJoinPoolHolder);
+
+		assertThat(forkJoinPool.isShutdown(), is(false));
+		assertThat(_invoke(forkJoinPoolHolder, "acquire"), is(false));
+
+		_invoke(forkJoinPoolHolder, "release");
+
+		assertThat(forkJoinPool.isShutdown(), is(true));
+
+		Object newForkJoinPoolHolder = _getForkJoinPoolHolder();
+
+		assertThat(
+			_getField(newForkJoinPoolHolder, "_parallelItemsThreshold"),
+			is(20));
+		assertThat(
+			_getForkJoinPool(newForkJoinPoolHolder).isShutdown(), is(false));
+	}
+
+	private Object _getField(Object object, String name) throws Exception {
+		Class<?> clazz = object.getClass();
+
+		Field field = clazz.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		return field.get(object);
+	}
+
+	private ForkJoinPool _getForkJoinPool(Object forkJoinPoolHolder)
+		throws Exception {
+
+		return (ForkJoinPool)_getField(forkJoinPoolHolder, "_forkJoinPool");
+	}
+
+	private Object _getForkJoinPoolHolder() throws Exception {
+		return _getField(_pageMessageBodyWriter, "_forkJoinPoolHolder");
+	}
+
+	private Map<String, Object> _getProperties(int parallelItemsThreshold) {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("parallel.items.parallelism", 2);
+		properties.put("parallel.items.threshold", parallelItemsThreshold);
+
+		return properties;
+	}
+
+	private Object _invoke(Object object, String name) throws Exception {
+		Class<?> clazz = object.getClass();
+
+		Method method = clazz.getDeclaredMethod(name);
+
+		method.setAccessible(true);
+
+		return method.invoke(object);
+	}
+
+	private PageMessageBodyWriter<Object> _pageMessageBodyWriter;
+
+}
\ No newline at end of file
@@ -84,6 +84,17 @@ public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
+	@Override
+	public void mapItemEstimatedTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int estimatedTotalCount) {
+
+		jsonObjectBuilder.field(
+			"estimatedTotal"
+		).numberValue(
+			estimatedTotalCount
+		);
+	}
+
 	@Override
 	public void mapItemTotalCount(
 		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
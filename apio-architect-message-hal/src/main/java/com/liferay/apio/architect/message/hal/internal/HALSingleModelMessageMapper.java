@@ -67,6 +67,17 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).doubleValue(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceBooleanField(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -93,29 +104,24 @@ public class HALSingleModelMessageMapper<T>
 	}
 
 	@Override
-	public void mapEmbeddedResourceLink(
+	public void mapEmbeddedResourceDoubleField(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
-		String url) {
-
-		Optional<String> optional = embeddedPathElements.lastOptional();
-
-		String head = embeddedPathElements.head();
+		double value) {
 
-		Stream<String> middleStream = embeddedPathElements.middleStream();
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.doubleValue(value));
+	}
 
-		String[] middle = middleStream.toArray(String[]::new);
+	@Override
+	public void mapEmbeddedResourceLink(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		String url) {
 
-		jsonObjectBuilder.field(
-			"_embedded"
-		).ifElseCondition(
-			optional.isPresent(),
-			builder -> builder.nestedSuffixedField(
-				"_embedded", head, middle
-			).field(
-				optional.get()
-			),
-			builder -> builder.field(head)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).nestedField(
 			"_links", fieldName, "href"
 		).stringValue(
@@ -123,6 +129,17 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.longValue(value));
+	}
+
 	@Override
 	public void mapEmbeddedResourceNumberField(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -242,6 +259,17 @@ public class HALSingleModelMessageMapper<T>
 		}
 	}
 
+	@Override
+	public void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).longValue(
+			value
+		);
+	}
+
 	@Override
 	public void mapNumberField(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, Number value) {
@@ -295,34 +323,47 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
+	private JSONObjectBuilder _getEmbeddedJSONObjectBuilder(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements) {
+
+		return jsonObjectBuilder.nestedObject(
+			embeddedPathElements,
+			builder -> {
+				Optional<String> optional =
+					embeddedPathElements.lastOptional();
+
+				String head = embeddedPathElements.head();
+
+				Stream<String> middleStream =
+					embeddedPathElements.middleStream();
+
+				String[] middle = middleStream.toArray(String[]::new);
+
+				return builder.field(
+					"_embedded"
+				).ifElseCondition(
+					optional.isPresent(),
+					fieldStep -> fieldStep.nestedSuffixedField(
+						"_embedded", head, middle
+					).field(
+						optional.get()
+					),
+					fieldStep -> fieldStep.field(head)
+				);
+			});
+	}
+
 	private void _mapEmbeddedResourceField(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Consumer<JSONObjectBuilder.FieldStep> consumer) {
 
-		Optional<String> optional = embeddedPathElements.lastOptional();
-
-		String head = embeddedPathElements.head();
-
-		Stream<String> middleStream = embeddedPathElements.middleStream();
-
-		String[] middle = middleStream.toArray(String[]::new);
-
-		JSONObjectBuilder.FieldStep builderStep = jsonObjectBuilder.field(
-			"_embedded"
-		).ifElseCondition(
-			optional.isPresent(),
-			builder -> builder.nestedSuffixedField(
-				"_embedded", head, middle
-			).field(
-				optional.get()
-			),
-			builder -> builder.field(head)
-		).field(
-			fieldName
-		);
+		JSONObjectBuilder embeddedJSONObjectBuilder =
+			_getEmbeddedJSONObjectBuilder(
+				jsonObjectBuilder, embeddedPathElements);
 
-		consumer.accept(builderStep);
+		consumer.accept(embeddedJSONObjectBuilder.field(fieldName));
 	}
 
 }
\ No newline at end of file
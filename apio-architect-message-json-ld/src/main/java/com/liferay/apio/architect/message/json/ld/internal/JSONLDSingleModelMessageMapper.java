@@ -86,6 +86,17 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).doubleValue(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedOperationFormURL(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
@@ -118,10 +129,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Boolean value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).booleanValue(
@@ -135,10 +144,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Boolean> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).arrayValue(
@@ -147,16 +154,29 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceDoubleField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).doubleValue(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceLink(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).stringValue(
@@ -164,16 +184,29 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).longValue(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceNumberField(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Number value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).numberValue(
@@ -187,10 +220,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Number> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).arrayValue(
@@ -205,10 +236,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).stringValue(
@@ -222,10 +251,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<String> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).arrayValue(
@@ -239,10 +266,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, List<String> types) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			FIELD_NAME_TYPE
 		).arrayValue(
@@ -256,10 +281,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			FIELD_NAME_ID
 		).stringValue(
@@ -333,6 +356,17 @@ public class JSONLDSingleModelMessageMapper<T>
 		}
 	}
 
+	@Override
+	public void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).longValue(
+			value
+		);
+	}
+
 	@Override
 	public void mapNumberField(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, Number value) {
@@ -508,4 +542,19 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	private JSONObjectBuilder _getEmbeddedJSONObjectBuilder(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements) {
+
+		return jsonObjectBuilder.nestedObject(
+			embeddedPathElements,
+			builder -> {
+				Stream<String> tailStream = embeddedPathElements.tailStream();
+
+				return builder.nestedField(
+					embeddedPathElements.head(),
+					tailStream.toArray(String[]::new));
+			});
+	}
+
 }
\ No newline at end of file
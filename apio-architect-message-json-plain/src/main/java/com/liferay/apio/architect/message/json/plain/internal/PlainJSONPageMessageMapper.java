@@ -76,6 +76,17 @@ public class PlainJSONPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
+	@Override
+	public void mapItemEstimatedTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int estimatedTotalCount) {
+
+		jsonObjectBuilder.field(
+			"estimatedTotalNumberOfItems"
+		).numberValue(
+			estimatedTotalCount
+		);
+	}
+
 	@Override
 	public void mapItemTotalCount(
 		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.response.control.internal;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.pagination.Cursor;
+import com.liferay.apio.architect.provider.Provider;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Lets resources provide {@link Cursor} as a parameter in the methods of the
+ * different routes builders.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true)
+public class CursorProvider implements Provider<Cursor> {
+
+	@Override
+	public Cursor createContext(HttpServletRequest httpServletRequest) {
+		int itemsPerPage = Try.success(
+			httpServletRequest.getParameter("per_page")
+		).map(
+			Integer::parseInt
+		).filter(
+			integer -> integer > 0
+		).orElse(
+			_ITEMS_PER_PAGE_DEFAULT
+		);
+
+		String token = httpServletRequest.getParameter("cursor");
+
+		if ((token != null) && token.isEmpty()) {
+			token = null;
+		}
+
+		return new Cursor(itemsPerPage, token);
+	}
+
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
+	private static final int _ITEMS_PER_PAGE_DEFAULT = 30;
+
+}
\ No newline at end of file
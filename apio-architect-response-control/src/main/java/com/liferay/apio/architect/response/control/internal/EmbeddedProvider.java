@@ -14,12 +14,13 @@
 
 package com.liferay.apio.architect.response.control.internal;
 
+import com.liferay.apio.architect.list.FunctionalList;
 import com.liferay.apio.architect.provider.Provider;
 import com.liferay.apio.architect.response.control.Embedded;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -39,35 +40,73 @@ import org.osgi.service.component.annotations.Component;
 public class EmbeddedProvider implements Provider<Embedded> {
 
 	public Embedded createContext(HttpServletRequest httpServletRequest) {
-		return Optional.ofNullable(
+		EmbeddedPathTrie embeddedPathTrie = new EmbeddedPathTrie();
+
+		Optional.ofNullable(
 			httpServletRequest.getParameter("embedded")
 		).map(
 			_pattern::split
-		).map(
-			Arrays::asList
-		).map(
-			EmbeddedProvider::_isEmbedded
-		).orElse(
-			__ -> false
+		).ifPresent(
+			paths -> {
+				for (String path : paths) {
+					embeddedPathTrie.add(_dotPattern.split(path, -1));
+				}
+			}
 		);
+
+		return embeddedPathTrie;
 	}
 
-	private static Embedded _isEmbedded(List<String> strings) {
-		return field -> {
-			for (String string : strings) {
-				if (Objects.equals(string, field)) {
-					return true;
-				}
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
+	private static final Pattern _dotPattern = Pattern.compile("\\.");
+	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
+
+	/**
+	 * Stores the requested embedded paths as a tree of path elements, so a
+	 * relation is embedded if its path elements can be walked from the root.
+	 * This way, every prefix of a requested path is also embedded.
+	 */
+	private static class EmbeddedPathTrie implements Embedded {
 
-				if (string.startsWith(field + ".")) {
-					return true;
+		public void add(String[] pathElements) {
+			EmbeddedPathTrie embeddedPathTrie = this;
+
+			for (String pathElement : pathElements) {
+				embeddedPathTrie = embeddedPathTrie._children.computeIfAbsent(
+					pathElement, __ -> new EmbeddedPathTrie());
+			}
+		}
+
+		@Override
+		public boolean isEmbedded(FunctionalList<String> embeddedPathElements) {
+			return _contains(embeddedPathElements);
+		}
+
+		@Override
+		public boolean test(String field) {
+			return _contains(Arrays.asList(_dotPattern.split(field, -1)));
+		}
+
+		private boolean _contains(Iterable<String> pathElements) {
+			EmbeddedPathTrie embeddedPathTrie = this;
+
+			for (String pathElement : pathElements) {
+				embeddedPathTrie = embeddedPathTrie._children.get(pathElement);
+
+				if (embeddedPathTrie == null) {
+					return false;
 				}
 			}
 
-			return false;
-		};
-	}
+			return true;
+		}
 
-	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
+		private final Map<String, EmbeddedPathTrie> _children = new HashMap<>();
+
+	}
 
 }
\ No newline at end of file
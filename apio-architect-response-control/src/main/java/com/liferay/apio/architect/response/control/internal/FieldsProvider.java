@@ -18,11 +18,13 @@ import com.liferay.apio.architect.provider.Provider;
 import com.liferay.apio.architect.response.control.Fields;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -49,7 +51,7 @@ public class FieldsProvider implements Provider<Fields> {
 
 		Stream<Map.Entry<String, String[]>> stream = set.stream();
 
-		Map<String, List<String>> fieldsMap = stream.filter(
+		Map<String, Set<String>> fieldsMap = stream.filter(
 			entry -> {
 				String key = entry.getKey();
 
@@ -70,28 +72,49 @@ public class FieldsProvider implements Provider<Fields> {
 		).collect(
 			Collectors.toMap(
 				entry -> _getTypeFunction.apply(entry.getKey()),
-				entry -> Arrays.asList(entry.getValue()[0].split(",")))
+				entry -> new HashSet<>(
+					Arrays.asList(entry.getValue()[0].split(","))))
 		);
 
-		return types -> field -> {
-			Stream<String> typesStream = types.stream();
-
-			List<String> fields = typesStream.map(
-				fieldsMap::get
-			).filter(
-				Objects::nonNull
-			).flatMap(
-				List::stream
-			).collect(
-				Collectors.toList()
-			);
-
-			return fields.isEmpty() || fields.contains(field);
-		};
+		if (fieldsMap.isEmpty()) {
+			return types -> _allFieldsPredicate;
+		}
+
+		Map<List<String>, Predicate<String>> predicates =
+			new ConcurrentHashMap<>();
+
+		return types -> predicates.computeIfAbsent(
+			types, __ -> _getFieldsPredicate(fieldsMap, types));
+	}
+
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
+	private static Predicate<String> _getFieldsPredicate(
+		Map<String, Set<String>> fieldsMap, List<String> types) {
+
+		Set<String> fields = new HashSet<>();
+
+		for (String type : types) {
+			Set<String> typeFields = fieldsMap.get(type);
+
+			if (typeFields != null) {
+				fields.addAll(typeFields);
+			}
+		}
+
+		if (fields.isEmpty()) {
+			return _allFieldsPredicate;
+		}
+
+		return fields::contains;
 	}
 
 	private static final String _REGEXP = "fields\\[([A-Z|a-z]+)]";
 
+	private static final Predicate<String> _allFieldsPredicate = __ -> true;
 	private static final Function<String, String> _getTypeFunction =
 		key -> key.substring(key.indexOf("[") + 1, key.indexOf("]"));
 
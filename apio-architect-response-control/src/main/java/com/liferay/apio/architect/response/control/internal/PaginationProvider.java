@@ -45,6 +45,11 @@ public class PaginationProvider implements Provider<Pagination> {
 		return new Pagination(itemsPerPage, pageNumber);
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 	private int _getAsInt(String parameterValue, int defaultValue) {
 		return Try.success(
 			parameterValue
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.response.control.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.pagination.Cursor;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CursorProviderTest {
+
+	@Test
+	public void testCursorProviderReturnsCursorIfParams() {
+		CursorProvider cursorProvider = new CursorProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("per_page")
+		).thenReturn(
+			"42"
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameter("cursor")
+		).thenReturn(
+			"Apio"
+		);
+
+		Cursor cursor = cursorProvider.createContext(httpServletRequest);
+
+		assertThat(cursor.getItemsPerPage(), is(42));
+		assertThat(cursor.getTokenOptional(), is(Optional.of("Apio")));
+	}
+
+	@Test
+	public void testCursorProviderReturnsDefaultValuesIfError() {
+		CursorProvider cursorProvider = new CursorProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("per_page")
+		).thenReturn(
+			"-4"
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameter("cursor")
+		).thenReturn(
+			""
+		);
+
+		Cursor cursor = cursorProvider.createContext(httpServletRequest);
+
+		assertThat(cursor.getItemsPerPage(), is(30));
+		assertThat(cursor.getTokenOptional(), is(Optional.empty()));
+	}
+
+}
\ No newline at end of file
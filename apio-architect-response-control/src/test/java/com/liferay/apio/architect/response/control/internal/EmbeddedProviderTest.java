@@ -17,6 +17,9 @@ package com.liferay.apio.architect.response.control.internal;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import com.liferay.apio.architect.list.FunctionalList;
+import com.liferay.apio.architect.response.control.Embedded;
+
 import java.util.function.Predicate;
 
 import javax.servlet.http.HttpServletRequest;
@@ -58,6 +61,44 @@ public class EmbeddedProviderTest {
 		assertThat(predicate.test("embedded.other"), is(false));
 	}
 
+	@Test
+	public void testEmbeddedProviderWalksEmbeddedPathElements() {
+		Embedded embedded = (Embedded)_getPredicate(
+			"embedded.inner.other, second");
+
+		assertThat(embedded.isEmbedded(_getPath("embedded")), is(true));
+		assertThat(
+			embedded.isEmbedded(_getPath("embedded", "inner")), is(true));
+		assertThat(
+			embedded.isEmbedded(_getPath("embedded", "inner", "other")),
+			is(true));
+		assertThat(embedded.isEmbedded(_getPath("second")), is(true));
+		assertThat(
+			embedded.isEmbedded(_getPath("embedded", "other")), is(false));
+		assertThat(
+			embedded.isEmbedded(_getPath("second", "inner")), is(false));
+		assertThat(embedded.isEmbedded(_getPath("inner")), is(false));
+	}
+
+	@Test
+	public void testEmbeddedProviderWalksNothingIfMissingParam() {
+		Embedded embedded = (Embedded)_getPredicate(null);
+
+		assertThat(embedded.isEmbedded(_getPath("embedded")), is(false));
+		assertThat(
+			embedded.isEmbedded(_getPath("embedded", "inner")), is(false));
+	}
+
+	private FunctionalList<String> _getPath(String... pathElements) {
+		FunctionalList<String> functionalList = null;
+
+		for (String pathElement : pathElements) {
+			functionalList = new FunctionalList<>(functionalList, pathElement);
+		}
+
+		return functionalList;
+	}
+
 	private Predicate<String> _getPredicate(String embedded) {
 		EmbeddedProvider embeddedProvider = new EmbeddedProvider();
 
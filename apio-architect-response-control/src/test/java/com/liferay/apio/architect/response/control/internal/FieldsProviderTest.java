@@ -15,10 +15,12 @@
 package com.liferay.apio.architect.response.control.internal;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.liferay.apio.architect.response.control.Fields;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -53,6 +55,30 @@ public class FieldsProviderTest {
 		assertThat(predicate.test("givenName"), is(true));
 	}
 
+	@Test
+	public void testFieldsProviderReturnsSamePredicateForSameTypes() {
+		Fields fields = _getFields("familyName,givenName");
+
+		Predicate<String> predicate = fields.apply(
+			Collections.singletonList("Person"));
+
+		assertThat(
+			fields.apply(Collections.singletonList("Person")),
+			is(sameInstance(predicate)));
+	}
+
+	@Test
+	public void testFieldsProviderReturnsUnionOfTypesFields() {
+		Fields fields = _getFields("familyName,givenName");
+
+		Predicate<String> predicate = fields.apply(
+			Arrays.asList("Thing", "Person"));
+
+		assertThat(predicate.test("alternateName"), is(false));
+		assertThat(predicate.test("familyName"), is(true));
+		assertThat(predicate.test("givenName"), is(true));
+	}
+
 	@Test
 	public void testFieldsProviderReturnValidFields() {
 		Predicate<String> predicate = _getPredicate("familyName,givenName");
@@ -61,7 +87,7 @@ public class FieldsProviderTest {
 		assertThat(predicate.test("givenName"), is(true));
 	}
 
-	private Predicate<String> _getPredicate(String... personFields) {
+	private Fields _getFields(String... personFields) {
 		FieldsProvider fieldsProvider = new FieldsProvider();
 
 		HttpServletRequest httpServletRequest = Mockito.mock(
@@ -76,7 +102,11 @@ public class FieldsProviderTest {
 			parameterMap
 		);
 
-		Fields fields = fieldsProvider.createContext(httpServletRequest);
+		return fieldsProvider.createContext(httpServletRequest);
+	}
+
+	private Predicate<String> _getPredicate(String... personFields) {
+		Fields fields = _getFields(personFields);
 
 		return fields.apply(Collections.singletonList("Person"));
 	}
@@ -108,6 +108,8 @@ public class BlogPostingCollectionResource
 			"fileFormat", __ -> "text/html"
 		).addString(
 			"headline", BlogPostingModel::getTitle
+		).lastModified(
+			BlogPostingModel::getModifiedDate
 		).build();
 	}
 
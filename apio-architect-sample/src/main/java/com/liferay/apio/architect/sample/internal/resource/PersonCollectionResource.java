@@ -29,7 +29,9 @@ import com.liferay.apio.architect.sample.internal.identifier.PersonIdentifier;
 import com.liferay.apio.architect.sample.internal.model.PersonModel;
 import com.liferay.apio.architect.sample.internal.model.PostalAddressModel;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.ws.rs.ForbiddenException;
@@ -71,6 +73,8 @@ public class PersonCollectionResource
 
 		return builder.addGetter(
 			this::_getPerson
+		).addBatchGetter(
+			this::_getPeople
 		).addRemover(
 			this::_deletePerson, Credentials.class,
 			(credentials, id) -> hasPermission(credentials)
@@ -151,6 +155,19 @@ public class PersonCollectionResource
 		return new PageItems<>(personModels, count);
 	}
 
+	private Map<Long, PersonModel> _getPeople(List<Long> ids) {
+		Map<Long, PersonModel> personModels = new HashMap<>();
+
+		for (Long id : ids) {
+			Optional<PersonModel> optional = PersonModel.get(id);
+
+			optional.ifPresent(
+				personModel -> personModels.put(id, personModel));
+		}
+
+		return personModels;
+	}
+
 	private PersonModel _getPerson(Long id) {
 		Optional<PersonModel> optional = PersonModel.get(id);
 
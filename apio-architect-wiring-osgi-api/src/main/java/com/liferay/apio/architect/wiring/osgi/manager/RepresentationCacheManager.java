@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.manager;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.util.Optional;
+
+/**
+ * Caches the rendered representations of single models, so identical requests
+ * for the same item don't need to render them again.
+ *
+ * <p>
+ * Each resource item (identified by its resource name and its path identifier)
+ * can have several cached variants, one for each combination of media type,
+ * sparse fieldsets, embedded resources, language, and credentials. Every
+ * variant of an item is evicted at the same time by calling {@link
+ * #invalidate(String, String)}.
+ * </p>
+ *
+ * <p>
+ * The item's routes still execute for cached representations, so their
+ * permission checks aren't skipped. The cache is disabled by default, since
+ * representations of items updated without calling {@link #invalidate(String,
+ * String)} would be stale.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@ProviderType
+public interface RepresentationCacheManager {
+
+	/**
+	 * Returns the number of requests whose representation was found in the
+	 * cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount();
+
+	/**
+	 * Returns the number of invalidations performed so far. Callers must read
+	 * this value before rendering a representation and pass it to {@link
+	 * #put(String, String, String, byte[], long)}, so representations rendered
+	 * concurrently with an invalidation aren't cached.
+	 *
+	 * @return the number of invalidations
+	 */
+	public long getInvalidationCount();
+
+	/**
+	 * Returns the number of requests whose representation wasn't found in the
+	 * cache.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount();
+
+	/**
+	 * Returns the cached representation of an item's variant, if present.
+	 * Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  name the resource's name
+	 * @param  id the item's path identifier
+	 * @param  variant the key that identifies the representation's variant
+	 * @return the cached representation, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<byte[]> getOptional(String name, String id, String variant);
+
+	/**
+	 * Evicts every cached variant of an item.
+	 *
+	 * @param name the resource's name
+	 * @param id the item's path identifier
+	 */
+	public void invalidate(String name, String id);
+
+	/**
+	 * Returns {@code true} if the cache is enabled.
+	 *
+	 * @return {@code true} if the cache is enabled; {@code false} otherwise
+	 */
+	public boolean isEnabled();
+
+	/**
+	 * Caches the representation of an item's variant, unless an invalidation
+	 * has happened since {@code invalidationCount} was read or the
+	 * representation doesn't fit in the cache.
+	 *
+	 * @param name the resource's name
+	 * @param id the item's path identifier
+	 * @param variant the key that identifies the representation's variant
+	 * @param bytes the rendered representation
+	 * @param invalidationCount the value returned by {@link
+	 *        #getInvalidationCount()} before rendering the representation
+	 */
+	public void put(
+		String name, String id, String variant, byte[] bytes,
+		long invalidationCount);
+
+}
\ No newline at end of file
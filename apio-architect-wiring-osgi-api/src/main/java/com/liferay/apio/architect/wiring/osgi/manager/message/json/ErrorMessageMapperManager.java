@@ -20,6 +20,7 @@ import com.liferay.apio.architect.message.json.ErrorMessageMapper;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 /**
@@ -42,4 +43,18 @@ public interface ErrorMessageMapperManager {
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
 		Request request);
 
+	/**
+	 * Returns the {@code ErrorMessageMapper}, if present, that corresponds to
+	 * the current request; {@code Optional#empty()} otherwise. Unlike {@link
+	 * #getErrorMessageMapperOptional(Request)}, the selection is memoized for
+	 * the request's {@code Accept} header.
+	 *
+	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
+	 * @return the {@code ErrorMessageMapper}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
+		Request request, HttpHeaders httpHeaders);
+
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.liferay.apio.architect.message.json.FormMessageMapper;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 /**
@@ -42,4 +43,18 @@ public interface FormMessageMapperManager {
 	public Optional<FormMessageMapper> getFormMessageMapperOptional(
 		Request request);
 
+	/**
+	 * Returns the {@code FormMessageMapper}, if present, that corresponds to
+	 * the current request; {@code Optional#empty()} otherwise. Unlike {@link
+	 * #getFormMessageMapperOptional(Request)}, the selection is memoized for
+	 * the request's {@code Accept} header.
+	 *
+	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
+	 * @return the {@code FormMessageMapper}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<FormMessageMapper> getFormMessageMapperOptional(
+		Request request, HttpHeaders httpHeaders);
+
 }
\ No newline at end of file
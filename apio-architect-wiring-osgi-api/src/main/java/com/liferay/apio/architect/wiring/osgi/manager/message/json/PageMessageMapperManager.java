@@ -20,6 +20,7 @@ import com.liferay.apio.architect.message.json.PageMessageMapper;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 /**
@@ -42,4 +43,18 @@ public interface PageMessageMapperManager {
 	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
 		Request request);
 
+	/**
+	 * Returns the {@code PageMessageMapper}, if present, that corresponds to
+	 * the current request; {@code Optional#empty()} otherwise. Unlike {@link
+	 * #getPageMessageMapperOptional(Request)}, the selection is memoized for
+	 * the request's {@code Accept} header.
+	 *
+	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
+	 * @return the {@code PageMessageMapper}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
+		Request request, HttpHeaders httpHeaders);
+
 }
\ No newline at end of file
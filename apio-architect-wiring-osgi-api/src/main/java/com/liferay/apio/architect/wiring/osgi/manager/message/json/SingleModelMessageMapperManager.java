@@ -20,6 +20,7 @@ import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 /**
@@ -42,4 +43,19 @@ public interface SingleModelMessageMapperManager {
 	public <T> Optional<SingleModelMessageMapper<T>>
 		getSingleModelMessageMapperOptional(Request request);
 
+	/**
+	 * Returns the {@code SingleModelMessageMapper}, if present, that
+	 * corresponds to the current request; {@code Optional#empty()} otherwise.
+	 * Unlike {@link #getSingleModelMessageMapperOptional(Request)}, the
+	 * selection is memoized for the request's {@code Accept} header.
+	 *
+	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
+	 * @return the {@code SingleModelMessageMapper}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public <T> Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional(
+			Request request, HttpHeaders httpHeaders);
+
 }
\ No newline at end of file
@@ -28,8 +28,10 @@ import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -92,9 +94,52 @@ public class ProviderManagerImpl
 		Optional<Provider<T>> optional = unsafeCast(getServiceOptional(clazz));
 
 		return optional.map(
-			provider -> provider.createContext(httpServletRequest));
+			provider -> {
+				if (!provider.isCacheable()) {
+					return provider.createContext(httpServletRequest);
+				}
+
+				Map<Class<?>, Object> contexts = _getContexts(
+					httpServletRequest);
+
+				Object context = contexts.get(clazz);
+
+				if (context == null) {
+					context = provider.createContext(httpServletRequest);
+
+					if (context != null) {
+						Object previousContext = contexts.putIfAbsent(
+							clazz, context);
+
+						if (previousContext != null) {
+							context = previousContext;
+						}
+					}
+				}
+
+				return unsafeCast(context);
+			});
 	}
 
+	private Map<Class<?>, Object> _getContexts(
+		HttpServletRequest httpServletRequest) {
+
+		Map<Class<?>, Object> contexts = unsafeCast(
+			httpServletRequest.getAttribute(_CONTEXTS_ATTRIBUTE));
+
+		if (contexts != null) {
+			return contexts;
+		}
+
+		httpServletRequest.setAttribute(
+			_CONTEXTS_ATTRIBUTE, new ConcurrentHashMap<>());
+
+		return unsafeCast(httpServletRequest.getAttribute(_CONTEXTS_ATTRIBUTE));
+	}
+
+	private static final String _CONTEXTS_ATTRIBUTE =
+		ProviderManagerImpl.class.getName() + "#CONTEXTS";
+
 	@Reference(cardinality = OPTIONAL, policyOption = GREEDY)
 	private ApioLogger _apioLogger;
 
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.internal.manager;
+
+import com.liferay.apio.architect.wiring.osgi.manager.RepresentationCacheManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Caches rendered representations in memory, evicting the least recently used
+ * items once the cached representations exceed the configured size.
+ *
+ * <p>
+ * The cache is configured with the {@code enabled} and {@code max.size}
+ * (in bytes) properties.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = {"enabled:Boolean=false", "max.size:Long=10485760"}
+)
+public class RepresentationCacheManagerImpl
+	implements RepresentationCacheManager {
+
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		_enabled = Boolean.parseBoolean(
+			String.valueOf(properties.get("enabled")));
+		_maxSize = Long.parseLong(
+			String.valueOf(properties.getOrDefault("max.size", 0)));
+
+		synchronized (this) {
+			_items.clear();
+
+			_invalidationCount++;
+			_size = 0;
+		}
+	}
+
+	@Override
+	public long getHitCount() {
+		return _hitCount.get();
+	}
+
+	@Override
+	public synchronized long getInvalidationCount() {
+		return _invalidationCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return _missCount.get();
+	}
+
+	@Override
+	public Optional<byte[]> getOptional(
+		String name, String id, String variant) {
+
+		if (!_enabled) {
+			return Optional.empty();
+		}
+
+		byte[] bytes;
+
+		synchronized (this) {
+			Map<String, byte[]> variants = _items.get(_getItemKey(name, id));
+
+			bytes = (variants == null) ? null : variants.get(variant);
+		}
+
+		if (bytes == null) {
+			_missCount.incrementAndGet();
+		}
+		else {
+			_hitCount.incrementAndGet();
+		}
+
+		return Optional.ofNullable(bytes);
+	}
+
+	@Override
+	public synchronized void invalidate(String name, String id) {
+		_invalidationCount++;
+
+		Map<String, byte[]> variants = _items.remove(_getItemKey(name, id));
+
+		if (variants != null) {
+			_size -= _getSize(variants.values());
+		}
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	@Override
+	public synchronized void put(
+		String name, String id, String variant, byte[] bytes,
+		long invalidationCount) {
+
+		if (!_enabled || (invalidationCount != _invalidationCount) ||
+			(bytes.length > _maxSize)) {
+
+			return;
+		}
+
+		Map<String, byte[]> variants = _items.computeIfAbsent(
+			_getItemKey(name, id), __ -> new HashMap<>());
+
+		byte[] previousBytes = variants.put(variant, bytes);
+
+		if (previousBytes != null) {
+			_size -= previousBytes.length;
+		}
+
+		_size += bytes.length;
+
+		Collection<Map<String, byte[]>> items = _items.values();
+
+		Iterator<Map<String, byte[]>> iterator = items.iterator();
+
+		while ((_size > _maxSize) && iterator.hasNext()) {
+			Map<String, byte[]> eldestVariants = iterator.next();
+
+			_size -= _getSize(eldestVariants.values());
+
+			iterator.remove();
+		}
+	}
+
+	private static String _getItemKey(String name, String id) {
+		return name + "/" + id;
+	}
+
+	private static long _getSize(Collection<byte[]> collection) {
+		long size = 0;
+
+		for (byte[] bytes : collection) {
+			size += bytes.length;
+		}
+
+		return size;
+	}
+
+	private volatile boolean _enabled;
+	private final AtomicLong _hitCount = new AtomicLong();
+	private long _invalidationCount;
+	private final Map<String, Map<String, byte[]>> _items =
+		new LinkedHashMap<>(16, 0.75F, true);
+	private volatile long _maxSize;
+	private final AtomicLong _missCount = new AtomicLong();
+	private long _size;
+
+}
\ No newline at end of file
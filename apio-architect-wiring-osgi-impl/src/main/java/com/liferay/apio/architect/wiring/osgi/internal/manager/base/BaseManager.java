@@ -50,7 +50,7 @@ public abstract class BaseManager<T, U> {
 			bundleContext, _managedClass, null, this::emit,
 			new DefaultServiceTrackerCustomizer<>(bundleContext),
 			new SingleValueServiceTrackerBucketFactory<>(),
-			new ClearCacheServiceTrackerMapListener<>());
+			new ClearCacheServiceTrackerMapListener<>(this::clearCache));
 
 		serviceTrackerMap.open();
 
@@ -74,6 +74,18 @@ public abstract class BaseManager<T, U> {
 		return keys.stream();
 	}
 
+	/**
+	 * Clears the cached data affected by a change in the service with the
+	 * provided key. By default, this method clears the whole cache. Managers
+	 * whose data doesn't affect every resource should override it to clear
+	 * only the affected entries.
+	 *
+	 * @param key the key of the service that changed
+	 */
+	protected void clearCache(U key) {
+		INSTANCE.clear();
+	}
+
 	/**
 	 * Emits a service's key using an {@code Emitter<String>}.
 	 *
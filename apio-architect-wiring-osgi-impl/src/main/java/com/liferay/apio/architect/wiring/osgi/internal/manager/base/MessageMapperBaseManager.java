@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.wiring.osgi.internal.manager.base;
 
+import static com.liferay.apio.architect.wiring.osgi.internal.manager.cache.ManagerCache.INSTANCE;
+
 import com.liferay.apio.architect.logger.ApioLogger;
 import com.liferay.apio.architect.message.json.MessageMapper;
 import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper;
@@ -43,6 +45,11 @@ public abstract class MessageMapperBaseManager<T extends MessageMapper>
 		_storeBiConsumer = storeBiConsumer;
 	}
 
+	@Override
+	protected void clearCache(String key) {
+		INSTANCE.clearMessageMappers();
+	}
+
 	/**
 	 * Computes the list of managed message mappers and uses the provided
 	 * consumer to store them.
@@ -14,8 +14,6 @@
 
 package com.liferay.apio.architect.wiring.osgi.internal.manager.cache;
 
-import static javax.ws.rs.core.Variant.VariantListBuilder.newInstance;
-
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.message.json.DocumentationMessageMapper;
 import com.liferay.apio.architect.message.json.ErrorMessageMapper;
@@ -30,18 +28,22 @@ import com.liferay.apio.architect.unsafe.Unsafe;
 import com.liferay.apio.architect.wiring.osgi.internal.alias.EmptyFunction;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
-import javax.ws.rs.core.Variant;
-import javax.ws.rs.core.Variant.VariantListBuilder;
 
 /**
  * Acts as a central cache for most of the managers.
@@ -51,6 +53,18 @@ import javax.ws.rs.core.Variant.VariantListBuilder;
  * #INSTANCE}.
  * </p>
  *
+ * <p>
+ * The cached data is kept in an immutable snapshot that is read without
+ * locking. Missing data is computed on a private copy of the snapshot, without
+ * holding any lock, and the copy is published with a compare-and-set when the
+ * computation finishes. If the snapshot changed in the meantime, the
+ * computation is retried on the new one. Concurrent requests for missing data
+ * wait for the running computation instead of repeating it. Copies share the
+ * maps they don't modify, so adding an entry only copies the affected map.
+ * Invalidations are scoped, so a change in one resource's routes doesn't
+ * discard the data of the rest of resources.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class ManagerCache {
@@ -64,29 +78,44 @@ public class ManagerCache {
 	 * Clears the cache.
 	 */
 	public void clear() {
-		_collectionRoutes = null;
-		_documentationMessageMappers = null;
-		_errorMessageMappers = null;
-		_formMessageMappers = null;
-		_identifierClasses = null;
-		_itemRoutes = null;
-		_names = null;
-		_nestedCollectionRoutes = null;
-		_pageMessageMappers = null;
-		_representors = null;
-		_reusableNestedCollectionRoutes = null;
-		_rootResourceNames = null;
-		_singleModelMessageMappers = null;
+		_update(Snapshot::clear);
+	}
+
+	/**
+	 * Clears the cached message mappers, keeping the rest of the data.
+	 */
+	public void clearMessageMappers() {
+		_update(Snapshot::clearMessageMappers);
+	}
+
+	/**
+	 * Clears the cached nested collection routes, keeping the rest of the data.
+	 */
+	public void clearNestedCollectionRoutes() {
+		_update(snapshot -> snapshot._nestedCollectionRoutes = null);
+	}
+
+	/**
+	 * Clears the cached routes of the resource whose identifier has the
+	 * provided class name. The routes of the rest of resources remain cached,
+	 * except for the nested collection routes, which depend on two resources
+	 * and are always recomputed. If the class name doesn't belong to a known
+	 * resource, all the routes are cleared.
+	 *
+	 * @param className the resource identifier's class name
+	 */
+	public void clearRoutes(String className) {
+		_update(snapshot -> snapshot.clearRoutes(className));
 	}
 
 	public Map<String, CollectionRoutes> getCollectionRoutes(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			current -> current.hasCollectionRoutes(null), computeEmptyFunction,
+			Snapshot::computedCollectionRoutes);
 
-		return _collectionRoutes;
+		return _unmodifiableMap(snapshot._collectionRoutes);
 	}
 
 	/**
@@ -100,12 +129,12 @@ public class ManagerCache {
 	public <T> Optional<CollectionRoutes<T>> getCollectionRoutesOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			current -> current.hasCollectionRoutes(name), computeEmptyFunction,
+			Snapshot::computedCollectionRoutes);
 
 		return Optional.ofNullable(
-			_collectionRoutes
+			snapshot._collectionRoutes
 		).map(
 			map -> map.get(name)
 		).map(
@@ -115,9 +144,13 @@ public class ManagerCache {
 
 	/**
 	 * Returns the documentation message mapper, if present, for the current
-	 * request; {@code Optional#empty()} otherwise.
+	 * request; {@code Optional#empty()} otherwise. The selected message mapper
+	 * is memoized for the request's {@code Accept} header, if the HTTP headers
+	 * are provided.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers, or {@code null}
+	 *         to skip the memoization
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the documentation message mapper, if present; {@code
@@ -125,62 +158,85 @@ public class ManagerCache {
 	 */
 	public Optional<DocumentationMessageMapper>
 		getDocumentationMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_documentationMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+			Request request, HttpHeaders httpHeaders,
+			EmptyFunction computeEmptyFunction) {
 
-		Optional<DocumentationMessageMapper> optional =
-			_getMessageMapperOptional(request, _documentationMessageMappers);
+		Snapshot snapshot = _getSnapshot(
+			current -> current._documentationMessageMapperSelector != null,
+			computeEmptyFunction, Snapshot::computedMessageMappers);
 
-		return optional.map(Unsafe::unsafeCast);
+		return Optional.ofNullable(
+			snapshot._documentationMessageMapperSelector
+		).flatMap(
+			messageMapperSelector -> messageMapperSelector.select(
+				request, httpHeaders)
+		).map(
+			Unsafe::unsafeCast
+		);
 	}
 
 	/**
 	 * Returns the error message mapper, if present, for the current request;
-	 * {@code Optional#empty()} otherwise.
+	 * {@code Optional#empty()} otherwise. The selected message mapper is
+	 * memoized for the request's {@code Accept} header, if the HTTP headers are
+	 * provided.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers, or {@code null}
+	 *         to skip the memoization
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the error message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_errorMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
 
-		Optional<ErrorMessageMapper> optional = _getMessageMapperOptional(
-			request, _errorMessageMappers);
+		Snapshot snapshot = _getSnapshot(
+			current -> current._errorMessageMapperSelector != null,
+			computeEmptyFunction, Snapshot::computedMessageMappers);
 
-		return optional.map(Unsafe::unsafeCast);
+		return Optional.ofNullable(
+			snapshot._errorMessageMapperSelector
+		).flatMap(
+			messageMapperSelector -> messageMapperSelector.select(
+				request, httpHeaders)
+		).map(
+			Unsafe::unsafeCast
+		);
 	}
 
 	/**
 	 * Returns the form message mapper, if present, for the current request;
-	 * {@code Optional#empty()} otherwise.
+	 * {@code Optional#empty()} otherwise. The selected message mapper is
+	 * memoized for the request's {@code Accept} header, if the HTTP headers are
+	 * provided.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers, or {@code null}
+	 *         to skip the memoization
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the form message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public Optional<FormMessageMapper> getFormMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_formMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
 
-		Optional<FormMessageMapper> optional = _getMessageMapperOptional(
-			request, _formMessageMappers);
+		Snapshot snapshot = _getSnapshot(
+			current -> current._formMessageMapperSelector != null,
+			computeEmptyFunction, Snapshot::computedMessageMappers);
 
-		return optional.map(Unsafe::unsafeCast);
+		return Optional.ofNullable(
+			snapshot._formMessageMapperSelector
+		).flatMap(
+			messageMapperSelector -> messageMapperSelector.select(
+				request, httpHeaders)
+		).map(
+			Unsafe::unsafeCast
+		);
 	}
 
 	/**
@@ -194,12 +250,12 @@ public class ManagerCache {
 	public <T extends Identifier> Optional<Class<T>> getIdentifierClassOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_identifierClasses == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			current -> current._identifierClasses != null,
+			computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_identifierClasses
+			snapshot._identifierClasses
 		).map(
 			map -> map.get(name)
 		).map(
@@ -210,11 +266,11 @@ public class ManagerCache {
 	public Map<String, ItemRoutes> getItemRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			current -> current.hasItemRoutes(null), computeEmptyFunction,
+			Snapshot::computedItemRoutes);
 
-		return _itemRoutes;
+		return _unmodifiableMap(snapshot._itemRoutes);
 	}
 
 	/**
@@ -228,12 +284,12 @@ public class ManagerCache {
 	public <T, S> Optional<ItemRoutes<T, S>> getItemRoutesOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			current -> current.hasItemRoutes(name), computeEmptyFunction,
+			Snapshot::computedItemRoutes);
 
 		return Optional.ofNullable(
-			_itemRoutes
+			snapshot._itemRoutes
 		).map(
 			map -> map.get(name)
 		).map(
@@ -253,13 +309,14 @@ public class ManagerCache {
 	public Optional<String> getNameOptional(
 		String className, EmptyFunction computeEmptyFunction) {
 
-		if (_names == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		Optional<Map<String, String>> optional = getNamesOptional();
+		Snapshot snapshot = _getSnapshot(
+			current -> current._names != null, computeEmptyFunction);
 
-		return optional.map(map -> map.get(className));
+		return Optional.ofNullable(
+			snapshot._names
+		).map(
+			map -> map.get(className)
+		);
 	}
 
 	/**
@@ -272,7 +329,13 @@ public class ManagerCache {
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<Map<String, String>> getNamesOptional() {
-		return Optional.ofNullable(_names);
+		Snapshot snapshot = _getSnapshot();
+
+		return Optional.ofNullable(
+			snapshot._names
+		).map(
+			Collections::unmodifiableMap
+		);
 	}
 
 	/**
@@ -290,12 +353,12 @@ public class ManagerCache {
 			String name, String nestedName,
 			EmptyFunction computeEmptyFunction) {
 
-		if (_nestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			current -> current._nestedCollectionRoutes != null,
+			computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_nestedCollectionRoutes
+			snapshot._nestedCollectionRoutes
 		).map(
 			map -> map.get(name + "-" + nestedName)
 		).map(
@@ -305,35 +368,43 @@ public class ManagerCache {
 
 	/**
 	 * Returns the page message mapper, if present, for the current request;
-	 * {@code Optional#empty()} otherwise.
+	 * {@code Optional#empty()} otherwise. The selected message mapper is
+	 * memoized for the request's {@code Accept} header, if the HTTP headers are
+	 * provided.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers, or {@code null}
+	 *         to skip the memoization
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the page message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_pageMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
 
-		Optional<PageMessageMapper> optional = _getMessageMapperOptional(
-			request, _pageMessageMappers);
+		Snapshot snapshot = _getSnapshot(
+			current -> current._pageMessageMapperSelector != null,
+			computeEmptyFunction, Snapshot::computedMessageMappers);
 
-		return optional.map(Unsafe::unsafeCast);
+		return Optional.ofNullable(
+			snapshot._pageMessageMapperSelector
+		).flatMap(
+			messageMapperSelector -> messageMapperSelector.select(
+				request, httpHeaders)
+		).map(
+			Unsafe::unsafeCast
+		);
 	}
 
 	public Map<String, Representor> getRepresentorMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			current -> current._representors != null, computeEmptyFunction);
 
-		return _representors;
+		return _unmodifiableMap(snapshot._representors);
 	}
 
 	/**
@@ -348,12 +419,11 @@ public class ManagerCache {
 	public <U, T> Optional<Representor<T>> getRepresentorOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			current -> current._representors != null, computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_representors
+			snapshot._representors
 		).map(
 			map -> map.get(name)
 		).map(
@@ -374,12 +444,13 @@ public class ManagerCache {
 		getReusableNestedCollectionRoutesOptional(
 			String name, EmptyFunction computeEmptyFunction) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			current -> current.hasReusableNestedCollectionRoutes(name),
+			computeEmptyFunction,
+			Snapshot::computedReusableNestedCollectionRoutes);
 
 		return Optional.ofNullable(
-			_reusableNestedCollectionRoutes
+			snapshot._reusableNestedCollectionRoutes
 		).map(
 			map -> map.get(name)
 		).map(
@@ -397,12 +468,14 @@ public class ManagerCache {
 	public List<String> getRootResourceNames(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_rootResourceNames == null) {
-			computeEmptyFunction.invoke();
-		}
+		Snapshot snapshot = _getSnapshot(
+			Snapshot::hasRootResourceNames, computeEmptyFunction,
+			Snapshot::computedCollectionRoutes);
 
 		return Optional.ofNullable(
-			_rootResourceNames
+			snapshot._rootResourceNames
+		).map(
+			Collections::unmodifiableList
 		).orElseGet(
 			Collections::emptyList
 		);
@@ -410,9 +483,13 @@ public class ManagerCache {
 
 	/**
 	 * Returns the single model message mapper, if present, for the current
-	 * request; {@code Optional#empty()} otherwise.
+	 * request; {@code Optional#empty()} otherwise. The selected message mapper
+	 * is memoized for the request's {@code Accept} header, if the HTTP headers
+	 * are provided.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers, or {@code null}
+	 *         to skip the memoization
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the single model message mapper, if present; {@code
@@ -420,16 +497,21 @@ public class ManagerCache {
 	 */
 	public <T> Optional<SingleModelMessageMapper<T>>
 		getSingleModelMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_singleModelMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+			Request request, HttpHeaders httpHeaders,
+			EmptyFunction computeEmptyFunction) {
 
-		Optional<SingleModelMessageMapper> optional = _getMessageMapperOptional(
-			request, _singleModelMessageMappers);
+		Snapshot snapshot = _getSnapshot(
+			current -> current._singleModelMessageMapperSelector != null,
+			computeEmptyFunction, Snapshot::computedMessageMappers);
 
-		return optional.map(Unsafe::unsafeCast);
+		return Optional.ofNullable(
+			snapshot._singleModelMessageMapperSelector
+		).flatMap(
+			messageMapperSelector -> messageMapperSelector.select(
+				request, httpHeaders)
+		).map(
+			Unsafe::unsafeCast
+		);
 	}
 
 	/**
@@ -441,11 +523,13 @@ public class ManagerCache {
 	public void putCollectionRoutes(
 		String key, CollectionRoutes collectionRoutes) {
 
-		if (_collectionRoutes == null) {
-			_collectionRoutes = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._collectionRoutes = snapshot.writable(
+					snapshot._collectionRoutes);
 
-		_collectionRoutes.put(key, collectionRoutes);
+				snapshot._collectionRoutes.put(key, collectionRoutes);
+			});
 	}
 
 	/**
@@ -458,11 +542,16 @@ public class ManagerCache {
 		MediaType mediaType,
 		DocumentationMessageMapper documentationMessageMapper) {
 
-		if (_documentationMessageMappers == null) {
-			_documentationMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._documentationMessageMapperSelector = null;
+
+				snapshot._documentationMessageMappers = snapshot.writable(
+					snapshot._documentationMessageMappers);
 
-		_documentationMessageMappers.put(mediaType, documentationMessageMapper);
+				snapshot._documentationMessageMappers.put(
+					mediaType, documentationMessageMapper);
+			});
 	}
 
 	/**
@@ -474,11 +563,16 @@ public class ManagerCache {
 	public void putErrorMessageMapper(
 		MediaType mediaType, ErrorMessageMapper errorMessageMapper) {
 
-		if (_errorMessageMappers == null) {
-			_errorMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._errorMessageMapperSelector = null;
 
-		_errorMessageMappers.put(mediaType, errorMessageMapper);
+				snapshot._errorMessageMappers = snapshot.writable(
+					snapshot._errorMessageMappers);
+
+				snapshot._errorMessageMappers.put(
+					mediaType, errorMessageMapper);
+			});
 	}
 
 	/**
@@ -490,11 +584,15 @@ public class ManagerCache {
 	public void putFormMessageMapper(
 		MediaType mediaType, FormMessageMapper formMessageMapper) {
 
-		if (_formMessageMappers == null) {
-			_formMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._formMessageMapperSelector = null;
 
-		_formMessageMappers.put(mediaType, formMessageMapper);
+				snapshot._formMessageMappers = snapshot.writable(
+					snapshot._formMessageMappers);
+
+				snapshot._formMessageMappers.put(mediaType, formMessageMapper);
+			});
 	}
 
 	/**
@@ -506,11 +604,13 @@ public class ManagerCache {
 	public void putIdentifierClass(
 		String key, Class<Identifier> identifierClass) {
 
-		if (_identifierClasses == null) {
-			_identifierClasses = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._identifierClasses = snapshot.writable(
+					snapshot._identifierClasses);
 
-		_identifierClasses.put(key, identifierClass);
+				snapshot._identifierClasses.put(key, identifierClass);
+			});
 	}
 
 	/**
@@ -520,11 +620,12 @@ public class ManagerCache {
 	 * @param itemRoutes the item routes
 	 */
 	public void putItemRoutes(String key, ItemRoutes itemRoutes) {
-		if (_itemRoutes == null) {
-			_itemRoutes = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._itemRoutes = snapshot.writable(snapshot._itemRoutes);
 
-		_itemRoutes.put(key, itemRoutes);
+				snapshot._itemRoutes.put(key, itemRoutes);
+			});
 	}
 
 	/**
@@ -534,11 +635,12 @@ public class ManagerCache {
 	 * @param name the resource name
 	 */
 	public void putName(String key, String name) {
-		if (_names == null) {
-			_names = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._names = snapshot.writable(snapshot._names);
 
-		_names.put(key, name);
+				snapshot._names.put(key, name);
+			});
 	}
 
 	/**
@@ -550,11 +652,14 @@ public class ManagerCache {
 	public void putNestedCollectionRoutes(
 		String key, NestedCollectionRoutes nestedCollectionRoutes) {
 
-		if (_nestedCollectionRoutes == null) {
-			_nestedCollectionRoutes = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._nestedCollectionRoutes = snapshot.writable(
+					snapshot._nestedCollectionRoutes);
 
-		_nestedCollectionRoutes.put(key, nestedCollectionRoutes);
+				snapshot._nestedCollectionRoutes.put(
+					key, nestedCollectionRoutes);
+			});
 	}
 
 	/**
@@ -566,11 +671,15 @@ public class ManagerCache {
 	public void putPageMessageMapper(
 		MediaType mediaType, PageMessageMapper pageMessageMapper) {
 
-		if (_pageMessageMappers == null) {
-			_pageMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._pageMessageMapperSelector = null;
+
+				snapshot._pageMessageMappers = snapshot.writable(
+					snapshot._pageMessageMappers);
 
-		_pageMessageMappers.put(mediaType, pageMessageMapper);
+				snapshot._pageMessageMappers.put(mediaType, pageMessageMapper);
+			});
 	}
 
 	/**
@@ -580,11 +689,13 @@ public class ManagerCache {
 	 * @param representor the representor
 	 */
 	public void putRepresentor(String key, Representor representor) {
-		if (_representors == null) {
-			_representors = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._representors = snapshot.writable(
+					snapshot._representors);
 
-		_representors.put(key, representor);
+				snapshot._representors.put(key, representor);
+			});
 	}
 
 	/**
@@ -597,12 +708,14 @@ public class ManagerCache {
 	public void putReusableNestedCollectionRoutes(
 		String key, NestedCollectionRoutes reusableNestedCollectionRoutes) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			_reusableNestedCollectionRoutes = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._reusableNestedCollectionRoutes = snapshot.writable(
+					snapshot._reusableNestedCollectionRoutes);
 
-		_reusableNestedCollectionRoutes.put(
-			key, reusableNestedCollectionRoutes);
+				snapshot._reusableNestedCollectionRoutes.put(
+					key, reusableNestedCollectionRoutes);
+			});
 	}
 
 	/**
@@ -611,11 +724,15 @@ public class ManagerCache {
 	 * @param rootResourceName the root resource name
 	 */
 	public void putRootResourceName(String rootResourceName) {
-		if (_rootResourceNames == null) {
-			_rootResourceNames = new ArrayList<>();
-		}
-
-		_rootResourceNames.add(rootResourceName);
+		_update(
+			snapshot -> {
+				snapshot._rootResourceNames = snapshot.writable(
+					snapshot._rootResourceNames);
+
+				if (!snapshot._rootResourceNames.contains(rootResourceName)) {
+					snapshot._rootResourceNames.add(rootResourceName);
+				}
+			});
 	}
 
 	/**
@@ -628,77 +745,399 @@ public class ManagerCache {
 		MediaType mediaType,
 		SingleModelMessageMapper singleModelMessageMapper) {
 
-		if (_singleModelMessageMappers == null) {
-			_singleModelMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				snapshot._singleModelMessageMapperSelector = null;
+
+				snapshot._singleModelMessageMappers = snapshot.writable(
+					snapshot._singleModelMessageMappers);
 
-		_singleModelMessageMappers.put(mediaType, singleModelMessageMapper);
+				snapshot._singleModelMessageMappers.put(
+					mediaType, singleModelMessageMapper);
+			});
 	}
 
 	private ManagerCache() {
 	}
 
-	private <T> Optional<T> _getMessageMapperOptional(
-		Request request, Map<MediaType, T> messageMappers) {
+	private static <K, V> Map<K, V> _unmodifiableMap(Map<K, V> map) {
+		if (map == null) {
+			return Collections.emptyMap();
+		}
 
-		return Optional.ofNullable(
-			messageMappers
-		).map(
-			Map::keySet
-		).map(
-			Set::stream
-		).map(
-			stream -> stream.toArray(MediaType[]::new)
-		).map(
-			this::_getVariantListBuilder
-		).map(
-			VariantListBuilder::build
-		).map(
-			request::selectVariant
-		).map(
-			Variant::getMediaType
-		).flatMap(
-			mediaType -> Optional.ofNullable(
-				messageMappers
-			).map(
-				map -> map.get(mediaType)
-			)
-		);
+		return Collections.unmodifiableMap(map);
+	}
+
+	private Snapshot _getSnapshot() {
+		Snapshot snapshot = _pendingSnapshotThreadLocal.get();
+
+		if (snapshot != null) {
+			return snapshot;
+		}
+
+		return _snapshotAtomicReference.get();
+	}
+
+	private Snapshot _getSnapshot(
+		Predicate<Snapshot> computedPredicate,
+		EmptyFunction computeEmptyFunction) {
+
+		return _getSnapshot(
+			computedPredicate, computeEmptyFunction, snapshot -> {
+			});
+	}
+
+	private Snapshot _getSnapshot(
+		Predicate<Snapshot> computedPredicate,
+		EmptyFunction computeEmptyFunction, Consumer<Snapshot> consumer) {
+
+		Snapshot pendingSnapshot = _pendingSnapshotThreadLocal.get();
+
+		if (pendingSnapshot != null) {
+			if (!computedPredicate.test(pendingSnapshot)) {
+				computeEmptyFunction.invoke();
+
+				consumer.accept(pendingSnapshot);
+			}
+
+			return pendingSnapshot;
+		}
+
+		while (true) {
+			Snapshot snapshot = _snapshotAtomicReference.get();
+
+			if (computedPredicate.test(snapshot)) {
+				return snapshot;
+			}
+
+			CompletableFuture<Void> computation = new CompletableFuture<>();
+
+			if (!_computationAtomicReference.compareAndSet(null, computation)) {
+				Optional.ofNullable(
+					_computationAtomicReference.get()
+				).ifPresent(
+					CompletableFuture::join
+				);
+
+				continue;
+			}
+
+			try {
+				pendingSnapshot = new Snapshot(snapshot);
+
+				_pendingSnapshotThreadLocal.set(pendingSnapshot);
+
+				computeEmptyFunction.invoke();
+
+				consumer.accept(pendingSnapshot);
+
+				if (_snapshotAtomicReference.compareAndSet(
+						snapshot, pendingSnapshot)) {
+
+					return pendingSnapshot;
+				}
+			}
+			finally {
+				_pendingSnapshotThreadLocal.remove();
+
+				_computationAtomicReference.set(null);
+
+				computation.complete(null);
+			}
+		}
 	}
 
-	private VariantListBuilder _getVariantListBuilder(MediaType[] mediaTypes) {
-		VariantListBuilder variantListBuilder = newInstance();
+	private void _update(Consumer<Snapshot> consumer) {
+		Snapshot pendingSnapshot = _pendingSnapshotThreadLocal.get();
+
+		if (pendingSnapshot != null) {
+			consumer.accept(pendingSnapshot);
+
+			return;
+		}
+
+		while (true) {
+			Snapshot snapshot = _snapshotAtomicReference.get();
+
+			Snapshot newSnapshot = new Snapshot(snapshot);
 
-		List<MediaType> list = Arrays.asList(mediaTypes);
+			consumer.accept(newSnapshot);
 
-		if (list.contains(_MEDIA_TYPE)) {
-			return variantListBuilder.mediaTypes(
-				_MEDIA_TYPE
-			).add(
-			).mediaTypes(
-				mediaTypes
+			if (_snapshotAtomicReference.compareAndSet(snapshot, newSnapshot)) {
+				return;
+			}
+		}
+	}
+
+	private final AtomicReference<CompletableFuture<Void>>
+		_computationAtomicReference = new AtomicReference<>();
+	private final ThreadLocal<Snapshot> _pendingSnapshotThreadLocal =
+		new ThreadLocal<>();
+	private final AtomicReference<Snapshot> _snapshotAtomicReference =
+		new AtomicReference<>(new Snapshot());
+
+	/**
+	 * Holds the cached data. Instances are only modified before being
+	 * published, so published snapshots can be safely read without locking.
+	 * A copy shares the maps of the original until it modifies them.
+	 */
+	private static class Snapshot {
+
+		public Snapshot() {
+		}
+
+		public Snapshot(Snapshot snapshot) {
+			_collectionRoutes = snapshot._collectionRoutes;
+			_documentationMessageMappers =
+				snapshot._documentationMessageMappers;
+			_documentationMessageMapperSelector =
+				snapshot._documentationMessageMapperSelector;
+			_errorMessageMappers = snapshot._errorMessageMappers;
+			_errorMessageMapperSelector = snapshot._errorMessageMapperSelector;
+			_formMessageMappers = snapshot._formMessageMappers;
+			_formMessageMapperSelector = snapshot._formMessageMapperSelector;
+			_identifierClasses = snapshot._identifierClasses;
+			_itemRoutes = snapshot._itemRoutes;
+			_names = snapshot._names;
+			_nestedCollectionRoutes = snapshot._nestedCollectionRoutes;
+			_pageMessageMappers = snapshot._pageMessageMappers;
+			_pageMessageMapperSelector = snapshot._pageMessageMapperSelector;
+			_representors = snapshot._representors;
+			_reusableNestedCollectionRoutes =
+				snapshot._reusableNestedCollectionRoutes;
+			_rootResourceNames = snapshot._rootResourceNames;
+			_singleModelMessageMappers = snapshot._singleModelMessageMappers;
+			_singleModelMessageMapperSelector =
+				snapshot._singleModelMessageMapperSelector;
+			_staleCollectionRouteNames.addAll(
+				snapshot._staleCollectionRouteNames);
+			_staleItemRouteNames.addAll(snapshot._staleItemRouteNames);
+			_staleReusableNestedCollectionRouteNames.addAll(
+				snapshot._staleReusableNestedCollectionRouteNames);
+		}
+
+		public void clear() {
+			_clearRoutes();
+			clearMessageMappers();
+
+			_identifierClasses = null;
+			_names = null;
+			_representors = null;
+		}
+
+		public void clearMessageMappers() {
+			_documentationMessageMappers = null;
+			_documentationMessageMapperSelector = null;
+			_errorMessageMappers = null;
+			_errorMessageMapperSelector = null;
+			_formMessageMappers = null;
+			_formMessageMapperSelector = null;
+			_pageMessageMappers = null;
+			_pageMessageMapperSelector = null;
+			_singleModelMessageMappers = null;
+			_singleModelMessageMapperSelector = null;
+		}
+
+		public void clearRoutes(String className) {
+			String name = Optional.ofNullable(
+				_names
+			).map(
+				map -> map.get(className)
+			).orElse(
+				null
 			);
+
+			if (name == null) {
+				_clearRoutes();
+
+				return;
+			}
+
+			if (_collectionRoutes != null) {
+				_collectionRoutes = writable(_collectionRoutes);
+
+				_collectionRoutes.remove(name);
+			}
+
+			if (_itemRoutes != null) {
+				_itemRoutes = writable(_itemRoutes);
+
+				_itemRoutes.remove(name);
+			}
+
+			_nestedCollectionRoutes = null;
+
+			if (_reusableNestedCollectionRoutes != null) {
+				_reusableNestedCollectionRoutes = writable(
+					_reusableNestedCollectionRoutes);
+
+				_reusableNestedCollectionRoutes.remove(name);
+			}
+
+			if (_rootResourceNames != null) {
+				_rootResourceNames = writable(_rootResourceNames);
+
+				_rootResourceNames.remove(name);
+			}
+
+			_staleCollectionRouteNames.add(name);
+			_staleItemRouteNames.add(name);
+			_staleReusableNestedCollectionRouteNames.add(name);
+		}
+
+		public void computedCollectionRoutes() {
+			_staleCollectionRouteNames.clear();
+		}
+
+		public void computedItemRoutes() {
+			_staleItemRouteNames.clear();
+		}
+
+		public void computedMessageMappers() {
+			_documentationMessageMapperSelector = _getMessageMapperSelector(
+				_documentationMessageMappers,
+				_documentationMessageMapperSelector);
+			_errorMessageMapperSelector = _getMessageMapperSelector(
+				_errorMessageMappers, _errorMessageMapperSelector);
+			_formMessageMapperSelector = _getMessageMapperSelector(
+				_formMessageMappers, _formMessageMapperSelector);
+			_pageMessageMapperSelector = _getMessageMapperSelector(
+				_pageMessageMappers, _pageMessageMapperSelector);
+			_singleModelMessageMapperSelector = _getMessageMapperSelector(
+				_singleModelMessageMappers, _singleModelMessageMapperSelector);
+		}
+
+		public void computedReusableNestedCollectionRoutes() {
+			_staleReusableNestedCollectionRouteNames.clear();
+		}
+
+		public boolean hasCollectionRoutes(String name) {
+			if (_collectionRoutes == null) {
+				return false;
+			}
+
+			if (name == null) {
+				return _staleCollectionRouteNames.isEmpty();
+			}
+
+			return !_staleCollectionRouteNames.contains(name);
+		}
+
+		public boolean hasItemRoutes(String name) {
+			if (_itemRoutes == null) {
+				return false;
+			}
+
+			if (name == null) {
+				return _staleItemRouteNames.isEmpty();
+			}
+
+			return !_staleItemRouteNames.contains(name);
 		}
 
-		return variantListBuilder.mediaTypes(mediaTypes);
-	}
-
-	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
-		"application/ld+json");
-
-	private Map<String, CollectionRoutes> _collectionRoutes;
-	private Map<MediaType, DocumentationMessageMapper>
-		_documentationMessageMappers;
-	private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
-	private Map<MediaType, FormMessageMapper> _formMessageMappers;
-	private Map<String, Class<Identifier>> _identifierClasses;
-	private Map<String, ItemRoutes> _itemRoutes;
-	private Map<String, String> _names;
-	private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
-	private Map<MediaType, PageMessageMapper> _pageMessageMappers;
-	private Map<String, Representor> _representors;
-	private Map<String, NestedCollectionRoutes> _reusableNestedCollectionRoutes;
-	private List<String> _rootResourceNames;
-	private Map<MediaType, SingleModelMessageMapper> _singleModelMessageMappers;
+		public boolean hasReusableNestedCollectionRoutes(String name) {
+			if (_reusableNestedCollectionRoutes == null) {
+				return false;
+			}
+
+			return !_staleReusableNestedCollectionRouteNames.contains(name);
+		}
+
+		public boolean hasRootResourceNames() {
+			if (_rootResourceNames == null) {
+				return false;
+			}
+
+			return _staleCollectionRouteNames.isEmpty();
+		}
+
+		public <T> List<T> writable(List<T> list) {
+			if ((list != null) && _writableObjects.contains(list)) {
+				return list;
+			}
+
+			List<T> writableList = new ArrayList<>();
+
+			if (list != null) {
+				writableList.addAll(list);
+			}
+
+			_writableObjects.add(writableList);
+
+			return writableList;
+		}
+
+		public <K, V> Map<K, V> writable(Map<K, V> map) {
+			if ((map != null) && _writableObjects.contains(map)) {
+				return map;
+			}
+
+			Map<K, V> writableMap = new HashMap<>();
+
+			if (map != null) {
+				writableMap.putAll(map);
+			}
+
+			_writableObjects.add(writableMap);
+
+			return writableMap;
+		}
+
+		private static <T> MessageMapperSelector<T> _getMessageMapperSelector(
+			Map<MediaType, T> messageMappers,
+			MessageMapperSelector<T> messageMapperSelector) {
+
+			if ((messageMappers == null) || (messageMapperSelector != null)) {
+				return messageMapperSelector;
+			}
+
+			return new MessageMapperSelector<>(messageMappers);
+		}
+
+		private void _clearRoutes() {
+			_collectionRoutes = null;
+			_itemRoutes = null;
+			_nestedCollectionRoutes = null;
+			_reusableNestedCollectionRoutes = null;
+			_rootResourceNames = null;
+			_staleCollectionRouteNames.clear();
+			_staleItemRouteNames.clear();
+			_staleReusableNestedCollectionRouteNames.clear();
+		}
+
+		private Map<String, CollectionRoutes> _collectionRoutes;
+		private Map<MediaType, DocumentationMessageMapper>
+			_documentationMessageMappers;
+		private MessageMapperSelector<DocumentationMessageMapper>
+			_documentationMessageMapperSelector;
+		private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
+		private MessageMapperSelector<ErrorMessageMapper>
+			_errorMessageMapperSelector;
+		private Map<MediaType, FormMessageMapper> _formMessageMappers;
+		private MessageMapperSelector<FormMessageMapper>
+			_formMessageMapperSelector;
+		private Map<String, Class<Identifier>> _identifierClasses;
+		private Map<String, ItemRoutes> _itemRoutes;
+		private Map<String, String> _names;
+		private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
+		private Map<MediaType, PageMessageMapper> _pageMessageMappers;
+		private MessageMapperSelector<PageMessageMapper>
+			_pageMessageMapperSelector;
+		private Map<String, Representor> _representors;
+		private Map<String, NestedCollectionRoutes>
+			_reusableNestedCollectionRoutes;
+		private List<String> _rootResourceNames;
+		private Map<MediaType, SingleModelMessageMapper>
+			_singleModelMessageMappers;
+		private MessageMapperSelector<SingleModelMessageMapper>
+			_singleModelMessageMapperSelector;
+		private final Set<String> _staleCollectionRouteNames = new HashSet<>();
+		private final Set<String> _staleItemRouteNames = new HashSet<>();
+		private final Set<String> _staleReusableNestedCollectionRouteNames =
+			new HashSet<>();
+		private final Set<Object> _writableObjects = Collections.newSetFromMap(
+			new IdentityHashMap<>());
+
+	}
 
 }
\ No newline at end of file
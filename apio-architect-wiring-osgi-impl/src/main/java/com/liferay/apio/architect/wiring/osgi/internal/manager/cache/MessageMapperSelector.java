@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.internal.manager.cache;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.Variant.VariantListBuilder.newInstance;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Variant;
+import javax.ws.rs.core.Variant.VariantListBuilder;
+
+/**
+ * Selects the message mapper that matches a request from a fixed set of
+ * message mappers.
+ *
+ * <p>
+ * The list of variants used for content negotiation is computed once, when
+ * the selector is created. The message mapper selected for each distinct
+ * {@code Accept} header is memoized, so the negotiation only runs the first
+ * time a header is seen. Once the memo reaches its maximum size, the least
+ * recently used header is evicted.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the message mapper's type
+ */
+public class MessageMapperSelector<T> {
+
+	public MessageMapperSelector(Map<MediaType, T> messageMappers) {
+		_messageMappers = new HashMap<>(messageMappers);
+
+		Set<MediaType> mediaTypes = _messageMappers.keySet();
+
+		VariantListBuilder variantListBuilder = _getVariantListBuilder(
+			mediaTypes.toArray(new MediaType[0]));
+
+		_variants = variantListBuilder.build();
+	}
+
+	/**
+	 * Returns the message mapper, if present, that matches the current
+	 * request; {@code Optional#empty()} otherwise. If the HTTP headers are
+	 * provided, the result is memoized for the request's {@code Accept}
+	 * header. Memoized results skip {@link Request#selectVariant(List)}, so
+	 * callers must add {@code Accept} to the response's {@code Vary} header
+	 * themselves.
+	 *
+	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers, or {@code null}
+	 *         to skip the memoization
+	 * @return the message mapper, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<T> select(Request request, HttpHeaders httpHeaders) {
+		if (httpHeaders == null) {
+			return _select(request);
+		}
+
+		String accept = Optional.ofNullable(
+			httpHeaders.getHeaderString(ACCEPT)
+		).orElse(
+			""
+		);
+
+		Optional<T> optional;
+
+		synchronized (_selections) {
+			optional = _selections.get(accept);
+		}
+
+		if (optional == null) {
+			optional = _select(request);
+
+			synchronized (_selections) {
+				_selections.put(accept, optional);
+			}
+		}
+
+		return optional;
+	}
+
+	private static VariantListBuilder _getVariantListBuilder(
+		MediaType[] mediaTypes) {
+
+		VariantListBuilder variantListBuilder = newInstance();
+
+		for (MediaType mediaType : mediaTypes) {
+			if (mediaType.equals(_MEDIA_TYPE)) {
+				return variantListBuilder.mediaTypes(
+					_MEDIA_TYPE
+				).add(
+				).mediaTypes(
+					mediaTypes
+				);
+			}
+		}
+
+		return variantListBuilder.mediaTypes(mediaTypes);
+	}
+
+	private Optional<T> _select(Request request) {
+		return Optional.ofNullable(
+			request.selectVariant(_variants)
+		).map(
+			Variant::getMediaType
+		).map(
+			_messageMappers::get
+		);
+	}
+
+	private static final int _MAX_SELECTIONS = 256;
+
+	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
+		"application/ld+json");
+
+	private final Map<MediaType, T> _messageMappers;
+	private final Map<String, Optional<T>> _selections =
+		new LinkedHashMap<String, Optional<T>>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<String, Optional<T>> entry) {
+
+				return size() > _MAX_SELECTIONS;
+			}
+
+		};
+	private final List<Variant> _variants;
+
+}
\ No newline at end of file
@@ -26,6 +26,7 @@ import com.liferay.apio.architect.wiring.osgi.manager.message.json.Documentation
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -50,7 +51,16 @@ public class DocumentationMessageMapperManagerImpl
 		getDocumentationMessageMapperOptional(Request request) {
 
 		return INSTANCE.getDocumentationMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, null, this::computeMessageMappers);
+	}
+
+	@Override
+	public Optional<DocumentationMessageMapper>
+		getDocumentationMessageMapperOptional(
+			Request request, HttpHeaders httpHeaders) {
+
+		return INSTANCE.getDocumentationMessageMapperOptional(
+			request, httpHeaders, this::computeMessageMappers);
 	}
 
 	@Override
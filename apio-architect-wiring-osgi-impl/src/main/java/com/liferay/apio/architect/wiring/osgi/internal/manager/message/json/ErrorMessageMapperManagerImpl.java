@@ -26,6 +26,7 @@ import com.liferay.apio.architect.wiring.osgi.manager.message.json.ErrorMessageM
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -48,7 +49,15 @@ public class ErrorMessageMapperManagerImpl
 		Request request) {
 
 		return INSTANCE.getErrorMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, null, this::computeMessageMappers);
+	}
+
+	@Override
+	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
+		Request request, HttpHeaders httpHeaders) {
+
+		return INSTANCE.getErrorMessageMapperOptional(
+			request, httpHeaders, this::computeMessageMappers);
 	}
 
 	@Override
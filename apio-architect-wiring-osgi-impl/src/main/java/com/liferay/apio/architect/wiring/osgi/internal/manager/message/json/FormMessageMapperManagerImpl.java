@@ -26,6 +26,7 @@ import com.liferay.apio.architect.wiring.osgi.manager.message.json.FormMessageMa
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -48,7 +49,15 @@ public class FormMessageMapperManagerImpl
 		Request request) {
 
 		return INSTANCE.getFormMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, null, this::computeMessageMappers);
+	}
+
+	@Override
+	public Optional<FormMessageMapper> getFormMessageMapperOptional(
+		Request request, HttpHeaders httpHeaders) {
+
+		return INSTANCE.getFormMessageMapperOptional(
+			request, httpHeaders, this::computeMessageMappers);
 	}
 
 	@Override
@@ -26,6 +26,7 @@ import com.liferay.apio.architect.wiring.osgi.manager.message.json.PageMessageMa
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -48,7 +49,15 @@ public class PageMessageMapperManagerImpl
 		Request request) {
 
 		return INSTANCE.getPageMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, null, this::computeMessageMappers);
+	}
+
+	@Override
+	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
+		Request request, HttpHeaders httpHeaders) {
+
+		return INSTANCE.getPageMessageMapperOptional(
+			request, httpHeaders, this::computeMessageMappers);
 	}
 
 	@Override
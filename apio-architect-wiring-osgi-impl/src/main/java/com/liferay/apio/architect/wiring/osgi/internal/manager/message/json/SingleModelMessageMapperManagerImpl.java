@@ -26,6 +26,7 @@ import com.liferay.apio.architect.wiring.osgi.manager.message.json.SingleModelMe
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -50,7 +51,16 @@ public class SingleModelMessageMapperManagerImpl
 		getSingleModelMessageMapperOptional(Request request) {
 
 		return INSTANCE.getSingleModelMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, null, this::computeMessageMappers);
+	}
+
+	@Override
+	public <T> Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional(
+			Request request, HttpHeaders httpHeaders) {
+
+		return INSTANCE.getSingleModelMessageMapperOptional(
+			request, httpHeaders, this::computeMessageMappers);
 	}
 
 	@Override
@@ -76,6 +76,11 @@ public class CollectionRouterManagerImpl
 		return INSTANCE.getRootResourceNames(this::_computeCollectionRoutes);
 	}
 
+	@Override
+	protected void clearCache(String className) {
+		INSTANCE.clearRoutes(className);
+	}
+
 	private void _computeCollectionRoutes() {
 		List<String> missingMandatoryProviders =
 			_providerManager.getMissingProviders(_mandatoryClassNames);
@@ -64,6 +64,11 @@ public class ItemRouterManagerImpl
 		return INSTANCE.getItemRoutesOptional(name, this::_computeItemRoutes);
 	}
 
+	@Override
+	protected void clearCache(String className) {
+		INSTANCE.clearRoutes(className);
+	}
+
 	private void _computeItemRoutes() {
 		Stream<String> stream = getKeyStream();
 
@@ -67,6 +67,11 @@ public class NestedCollectionRouterManagerImpl
 			name, nestedName, this::_computeNestedCollectionRoutes);
 	}
 
+	@Override
+	protected void clearCache(String key) {
+		INSTANCE.clearNestedCollectionRoutes();
+	}
+
 	protected void emit(
 		ServiceReference<NestedCollectionRouter> serviceReference,
 		Emitter<String> emitter) {
@@ -61,6 +61,11 @@ public class ReusableNestedCollectionRouterManagerImpl
 			name, this::_computeNestedCollectionRoutes);
 	}
 
+	@Override
+	protected void clearCache(String className) {
+		INSTANCE.clearRoutes(className);
+	}
+
 	private void _computeNestedCollectionRoutes() {
 		Stream<String> stream = getKeyStream();
 
@@ -14,34 +14,40 @@
 
 package com.liferay.apio.architect.wiring.osgi.internal.service.tracker.map.listener;
 
-import static com.liferay.apio.architect.wiring.osgi.internal.manager.cache.ManagerCache.INSTANCE;
-
 import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMap;
 import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMapListener;
 
+import java.util.function.Consumer;
+
 /**
  * Provides an implementation of a {@link ServiceTrackerMapListener} that clears
- * the {@link
+ * the entries of the {@link
  * com.liferay.apio.architect.wiring.osgi.internal.manager.cache.ManagerCache}
- * on every change.
+ * affected by every change, using the key of the changed service.
  *
  * @author Alejandro Hernández
  */
 public class ClearCacheServiceTrackerMapListener<T, U>
 	implements ServiceTrackerMapListener<U, T, T> {
 
+	public ClearCacheServiceTrackerMapListener(Consumer<U> clearCacheConsumer) {
+		_clearCacheConsumer = clearCacheConsumer;
+	}
+
 	@Override
 	public void keyEmitted(
 		ServiceTrackerMap<U, T> serviceTrackerMap, U s, T t1, T t2) {
 
-		INSTANCE.clear();
+		_clearCacheConsumer.accept(s);
 	}
 
 	@Override
 	public void keyRemoved(
 		ServiceTrackerMap<U, T> serviceTrackerMap, U s, T t1, T t2) {
 
-		INSTANCE.clear();
+		_clearCacheConsumer.accept(s);
 	}
 
+	private final Consumer<U> _clearCacheConsumer;
+
 }
\ No newline at end of file
@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.internal.manager;
+
+import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.liferay.apio.architect.provider.Provider;
+
+import java.lang.reflect.Proxy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ProviderManagerImplTest {
+
+	@Before
+	public void setUp() {
+		_contexts.set(0);
+	}
+
+	@Test
+	public void testCacheableContextCanUseOtherCacheableContexts() {
+		ProviderManagerImpl providerManagerImpl = new ProviderManagerImpl() {
+
+			@Override
+			protected <V> Optional<Provider> getServiceOptional(
+				Class<V> clazz) {
+
+				int index = _CLASSES.indexOf(clazz);
+
+				Provider<Object> provider = new Provider<Object>() {
+
+					@Override
+					public Object createContext(
+						HttpServletRequest httpServletRequest) {
+
+						_contexts.incrementAndGet();
+
+						if (index + 1 < _CLASSES.size()) {
+							return provideMandatory(
+								httpServletRequest, _CLASSES.get(index + 1));
+						}
+
+						return new Object();
+					}
+
+					@Override
+					public boolean isCacheable() {
+						return true;
+					}
+
+				};
+
+				return Optional.of(unsafeCast(provider));
+			}
+
+		};
+
+		HttpServletRequest httpServletRequest = _createHttpServletRequest();
+
+		Object context = providerManagerImpl.provideMandatory(
+			httpServletRequest, _CLASSES.get(0));
+
+		for (Class<?> clazz : _CLASSES) {
+			assertThat(
+				providerManagerImpl.provideMandatory(httpServletRequest, clazz),
+				is(sameInstance(context)));
+		}
+
+		assertThat(_contexts.get(), is(_CLASSES.size()));
+	}
+
+	@Test
+	public void testCacheableContextIsCreatedOncePerRequest() {
+		ProviderManagerImpl providerManagerImpl = new TestProviderManagerImpl(
+			true);
+
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest();
+
+		Object first = providerManagerImpl.provideMandatory(
+			httpServletRequest, Object.class);
+		Object second = providerManagerImpl.provideMandatory(
+			httpServletRequest, Object.class);
+
+		assertThat(second, is(sameInstance(first)));
+		assertThat(_contexts.get(), is(1));
+	}
+
+	@Test
+	public void testCacheableContextIsNotSharedBetweenRequests() {
+		ProviderManagerImpl providerManagerImpl = new TestProviderManagerImpl(
+			true);
+
+		Object first = providerManagerImpl.provideMandatory(
+			_mockHttpServletRequest(), Object.class);
+		Object second = providerManagerImpl.provideMandatory(
+			_mockHttpServletRequest(), Object.class);
+
+		assertThat(second, is(not(sameInstance(first))));
+		assertThat(_contexts.get(), is(2));
+	}
+
+	@Test
+	public void testNonCacheableContextIsCreatedEachTime() {
+		ProviderManagerImpl providerManagerImpl = new TestProviderManagerImpl(
+			false);
+
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest();
+
+		Object first = providerManagerImpl.provideMandatory(
+			httpServletRequest, Object.class);
+		Object second = providerManagerImpl.provideMandatory(
+			httpServletRequest, Object.class);
+
+		assertThat(second, is(not(sameInstance(first))));
+		assertThat(_contexts.get(), is(2));
+	}
+
+	private HttpServletRequest _createHttpServletRequest() {
+		Map<String, Object> attributes = new HashMap<>();
+
+		return (HttpServletRequest)Proxy.newProxyInstance(
+			HttpServletRequest.class.getClassLoader(),
+			new Class<?>[] {HttpServletRequest.class},
+			(proxy, method, args) -> {
+				String methodName = method.getName();
+
+				if (methodName.equals("getAttribute")) {
+					return attributes.get(args[0]);
+				}
+
+				if (methodName.equals("setAttribute")) {
+					attributes.put((String)args[0], args[1]);
+
+					return null;
+				}
+
+				throw new UnsupportedOperationException();
+			});
+	}
+
+	private HttpServletRequest _mockHttpServletRequest() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(Mockito.anyString())
+		).thenReturn(
+			new ConcurrentHashMap<>()
+		);
+
+		return httpServletRequest;
+	}
+
+	private static final List<Class<?>> _CLASSES = Arrays.asList(
+		Appendable.class, Boolean.class, Byte.class, CharSequence.class,
+		Character.class, Class.class, Comparable.class, Double.class,
+		Enum.class, Float.class, Integer.class, Iterable.class, Long.class,
+		Number.class, Object.class, Runnable.class, Short.class, String.class,
+		Thread.class, Void.class);
+
+	private final AtomicInteger _contexts = new AtomicInteger();
+
+	private class TestProviderManagerImpl extends ProviderManagerImpl {
+
+		public TestProviderManagerImpl(boolean cacheable) {
+			_cacheable = cacheable;
+		}
+
+		@Override
+		protected <V> Optional<Provider> getServiceOptional(Class<V> clazz) {
+			Provider<Object> provider = new Provider<Object>() {
+
+				@Override
+				public Object createContext(
+					HttpServletRequest httpServletRequest) {
+
+					_contexts.incrementAndGet();
+
+					return new Object();
+				}
+
+				@Override
+				public boolean isCacheable() {
+					return _cacheable;
+				}
+
+			};
+
+			return Optional.of(unsafeCast(provider));
+		}
+
+		private final boolean _cacheable;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.internal.manager;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RepresentationCacheManagerImplTest {
+
+	@Before
+	public void setUp() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("enabled", true);
+		properties.put("max.size", 10L);
+
+		_representationCacheManager.activate(properties);
+	}
+
+	@Test
+	public void testDisabledCacheNeverStoresRepresentations() {
+		_representationCacheManager.activate(new HashMap<>());
+
+		_put("first", "1", "json", 1);
+
+		Optional<byte[]> optional = _representationCacheManager.getOptional(
+			"first", "1", "json");
+
+		assertThat(optional.isPresent(), is(false));
+		assertThat(_representationCacheManager.isEnabled(), is(false));
+		assertThat(_representationCacheManager.getMissCount(), is(0L));
+	}
+
+	@Test
+	public void testGetOptionalCountsHitsAndMisses() {
+		_put("first", "1", "json", 1);
+
+		_representationCacheManager.getOptional("first", "1", "json");
+		_representationCacheManager.getOptional("first", "1", "hal");
+		_representationCacheManager.getOptional("first", "2", "json");
+
+		assertThat(_representationCacheManager.getHitCount(), is(1L));
+		assertThat(_representationCacheManager.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void testInvalidateRemovesEveryVariantOfTheItem() {
+		_put("first", "1", "json", 1);
+		_put("first", "1", "hal", 1);
+		_put("first", "2", "json", 1);
+
+		_representationCacheManager.invalidate("first", "1");
+
+		assertThat(_isCached("first", "1", "json"), is(false));
+		assertThat(_isCached("first", "1", "hal"), is(false));
+		assertThat(_isCached("first", "2", "json"), is(true));
+	}
+
+	@Test
+	public void testPutEvictsTheLeastRecentlyUsedItems() {
+		_put("first", "1", "json", 4);
+		_put("first", "2", "json", 4);
+
+		_representationCacheManager.getOptional("first", "1", "json");
+
+		_put("first", "3", "json", 4);
+
+		assertThat(_isCached("first", "1", "json"), is(true));
+		assertThat(_isCached("first", "2", "json"), is(false));
+		assertThat(_isCached("first", "3", "json"), is(true));
+	}
+
+	@Test
+	public void testPutIgnoresRepresentationsBiggerThanTheCache() {
+		_put("first", "1", "json", 11);
+
+		assertThat(_isCached("first", "1", "json"), is(false));
+	}
+
+	@Test
+	public void testPutIgnoresRepresentationsRenderedBeforeAnInvalidation() {
+		long invalidationCount =
+			_representationCacheManager.getInvalidationCount();
+
+		_representationCacheManager.invalidate("first", "1");
+
+		_representationCacheManager.put(
+			"first", "1", "json", new byte[1], invalidationCount);
+
+		assertThat(_isCached("first", "1", "json"), is(false));
+	}
+
+	private boolean _isCached(String name, String id, String variant) {
+		Optional<byte[]> optional = _representationCacheManager.getOptional(
+			name, id, variant);
+
+		return optional.isPresent();
+	}
+
+	private void _put(String name, String id, String variant, int size) {
+		_representationCacheManager.put(
+			name, id, variant, new byte[size],
+			_representationCacheManager.getInvalidationCount());
+	}
+
+	private final RepresentationCacheManagerImpl _representationCacheManager =
+		new RepresentationCacheManagerImpl();
+
+}
\ No newline at end of file
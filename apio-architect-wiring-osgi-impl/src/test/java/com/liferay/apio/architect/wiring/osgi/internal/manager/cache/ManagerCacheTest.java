@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.internal.manager.cache;
+
+import static com.liferay.apio.architect.wiring.osgi.internal.manager.cache.ManagerCache.INSTANCE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes.Builder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ManagerCacheTest {
+
+	@Before
+	public void setUp() {
+		INSTANCE.clear();
+
+		_computations.set(0);
+	}
+
+	@Test
+	public void testClearMessageMappersKeepsTheRoutes() {
+		INSTANCE.getItemRoutesMap(this::_computeItemRoutes);
+
+		INSTANCE.clearMessageMappers();
+
+		INSTANCE.getItemRoutesMap(this::_computeItemRoutes);
+
+		assertThat(_computations.get(), is(1));
+	}
+
+	@Test
+	public void testClearRemovesEveryEntry() {
+		INSTANCE.getItemRoutesMap(this::_computeItemRoutes);
+
+		INSTANCE.clear();
+
+		assertThat(INSTANCE.getNamesOptional(), is(Optional.empty()));
+
+		INSTANCE.getItemRoutesMap(this::_computeItemRoutes);
+
+		assertThat(_computations.get(), is(2));
+	}
+
+	@Test
+	public void testClearRoutesOnlyRecomputesTheAffectedResource() {
+		INSTANCE.getItemRoutesMap(this::_computeItemRoutes);
+
+		INSTANCE.clearRoutes("com.liferay.First");
+
+		Optional<ItemRoutes<Object, Object>> secondOptional =
+			INSTANCE.getItemRoutesOptional("second", this::_computeItemRoutes);
+
+		assertThat(secondOptional.isPresent(), is(true));
+		assertThat(_computations.get(), is(1));
+
+		Optional<ItemRoutes<Object, Object>> firstOptional =
+			INSTANCE.getItemRoutesOptional("first", this::_computeItemRoutes);
+
+		assertThat(firstOptional.isPresent(), is(true));
+		assertThat(_computations.get(), is(2));
+
+		Map<String, ItemRoutes> itemRoutes = INSTANCE.getItemRoutesMap(
+			this::_computeItemRoutes);
+
+		assertThat(itemRoutes.size(), is(2));
+		assertThat(_computations.get(), is(2));
+	}
+
+	@Test
+	public void testClearDuringAComputationDiscardsItsResult() {
+		AtomicInteger computations = new AtomicInteger();
+
+		INSTANCE.getItemRoutesMap(
+			() -> {
+				_computeItemRoutes();
+
+				if (computations.getAndIncrement() == 0) {
+					Thread thread = new Thread(INSTANCE::clear);
+
+					thread.start();
+
+					try {
+						thread.join();
+					}
+					catch (InterruptedException ie) {
+						throw new AssertionError(ie);
+					}
+				}
+			});
+
+		assertThat(_computations.get(), is(2));
+
+		Optional<String> optional = INSTANCE.getNameOptional(
+			"com.liferay.First", this::_computeNames);
+
+		assertThat(optional, is(Optional.of("first")));
+	}
+
+	@Test
+	public void testComputationIsOnlyPerformedOnce() throws Exception {
+		Thread[] threads = new Thread[8];
+
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(
+				() -> INSTANCE.getItemRoutesMap(this::_computeItemRoutes));
+
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(_computations.get(), is(1));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testItemRoutesMapCannotBeModified() {
+		Map<String, ItemRoutes> itemRoutes = INSTANCE.getItemRoutesMap(
+			this::_computeItemRoutes);
+
+		itemRoutes.remove("first");
+	}
+
+	@Test
+	public void testNestedComputationsAreVisibleToTheComputingThread() {
+		Map<String, ItemRoutes> itemRoutes = INSTANCE.getItemRoutesMap(
+			this::_computeItemRoutes);
+
+		assertThat(itemRoutes.size(), is(2));
+
+		Optional<String> optional = INSTANCE.getNameOptional(
+			"com.liferay.First", this::_computeNames);
+
+		assertThat(optional, is(Optional.of("first")));
+	}
+
+	@Test
+	public void testPutDoesNotModifyThePublishedMaps() {
+		Map<String, ItemRoutes> itemRoutes = INSTANCE.getItemRoutesMap(
+			this::_computeItemRoutes);
+
+		Builder<Object, Object> builder = new Builder<>(
+			"third", null, __ -> {
+			});
+
+		INSTANCE.putItemRoutes("third", builder.build());
+
+		assertThat(itemRoutes.size(), is(2));
+
+		Map<String, ItemRoutes> newItemRoutes = INSTANCE.getItemRoutesMap(
+			this::_computeItemRoutes);
+
+		assertThat(newItemRoutes.size(), is(3));
+		assertThat(_computations.get(), is(1));
+	}
+
+	private void _computeItemRoutes() {
+		_computations.incrementAndGet();
+
+		INSTANCE.getNameOptional("com.liferay.First", this::_computeNames);
+
+		Optional<Map<String, String>> optional = INSTANCE.getNamesOptional();
+
+		Map<String, String> names = optional.get();
+
+		Collection<String> values = names.values();
+
+		values.forEach(
+			name -> {
+				Builder<Object, Object> builder = new Builder<>(
+					name, null, __ -> {
+					});
+
+				INSTANCE.putItemRoutes(name, builder.build());
+			});
+	}
+
+	private void _computeNames() {
+		INSTANCE.putName("com.liferay.First", "first");
+		INSTANCE.putName("com.liferay.Second", "second");
+	}
+
+	private final AtomicInteger _computations = new AtomicInteger();
+
+}
\ No newline at end of file
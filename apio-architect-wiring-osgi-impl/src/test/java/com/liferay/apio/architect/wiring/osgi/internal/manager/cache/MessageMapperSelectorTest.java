@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.internal.manager.cache;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.lang.reflect.Proxy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Variant;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MessageMapperSelectorTest {
+
+	@Before
+	public void setUp() {
+		Map<MediaType, String> messageMappers = new HashMap<>();
+
+		messageMappers.put(MediaType.valueOf("application/hal+json"), "HAL");
+		messageMappers.put(
+			MediaType.valueOf("application/json"), "Plain JSON");
+		messageMappers.put(
+			MediaType.valueOf("application/ld+json"), "JSON-LD");
+
+		_messageMapperSelector = new MessageMapperSelector<>(messageMappers);
+
+		_negotiations.set(0);
+	}
+
+	@Test
+	public void testSelectEvictsTheLeastRecentlyUsedAcceptHeader() {
+		for (int i = 0; i < 256; i++) {
+			_select("application/json;v=" + i);
+		}
+
+		_select("application/json;v=0");
+		_select("application/json;v=256");
+
+		_negotiations.set(0);
+
+		_select("application/json;v=0");
+
+		assertThat(_negotiations.get(), is(0));
+
+		_select("application/json;v=1");
+
+		assertThat(_negotiations.get(), is(1));
+	}
+
+	@Test
+	public void testSelectMemoizesTheMessageMapperPerAcceptHeader() {
+		Optional<String> first = _select("application/hal+json");
+		Optional<String> second = _select("application/hal+json");
+
+		assertThat(second, is(first));
+		assertThat(_negotiations.get(), is(1));
+
+		_select("application/json");
+
+		assertThat(_negotiations.get(), is(2));
+	}
+
+	@Test
+	public void testSelectPrefersJsonLdIfQualitiesAreEqual() {
+		assertThat(_select("*/*"), is(Optional.of("JSON-LD")));
+		assertThat(
+			_select("application/hal+json, application/ld+json"),
+			is(Optional.of("JSON-LD")));
+	}
+
+	@Test
+	public void testSelectPrefersTheMediaTypeWithTheHighestQuality() {
+		assertThat(
+			_select("application/ld+json;q=0.5, application/hal+json"),
+			is(Optional.of("HAL")));
+		assertThat(
+			_select("*/*;q=0.1, application/json;q=0.8"),
+			is(Optional.of("Plain JSON")));
+	}
+
+	@Test
+	public void testSelectReturnsEmptyIfNoMediaTypeIsAcceptable() {
+		assertThat(_select("text/html"), is(Optional.empty()));
+		assertThat(
+			_select("application/ld+json;q=0, text/html"),
+			is(Optional.empty()));
+	}
+
+	@Test
+	public void testSelectWithoutHttpHeadersSkipsTheMemo() {
+		Request request = _mockRequest("application/hal+json");
+
+		_messageMapperSelector.select(request, null);
+		_messageMapperSelector.select(request, null);
+
+		assertThat(_negotiations.get(), is(2));
+	}
+
+	private static float _getQuality(String accept, MediaType mediaType) {
+		float quality = 0;
+
+		for (String range : accept.split(",")) {
+			String[] parts = range.trim().split(";");
+
+			String[] types = parts[0].split("/");
+
+			boolean typeMatches =
+				types[0].equals("*") || types[0].equals(mediaType.getType());
+			boolean subtypeMatches =
+				types[1].equals("*") ||
+				types[1].equals(mediaType.getSubtype());
+
+			if (!typeMatches || !subtypeMatches) {
+				continue;
+			}
+
+			float rangeQuality = 1;
+
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+
+				if (parameter.startsWith("q=")) {
+					rangeQuality = Float.parseFloat(parameter.substring(2));
+				}
+			}
+
+			quality = Math.max(quality, rangeQuality);
+		}
+
+		return quality;
+	}
+
+	private static Variant _selectVariant(
+		String accept, List<Variant> variants) {
+
+		Variant selectedVariant = null;
+		float selectedQuality = 0;
+
+		for (Variant variant : variants) {
+			float quality = _getQuality(accept, variant.getMediaType());
+
+			if (quality > selectedQuality) {
+				selectedQuality = quality;
+				selectedVariant = variant;
+			}
+		}
+
+		return selectedVariant;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Request _mockRequest(String accept) {
+		return (Request)Proxy.newProxyInstance(
+			Request.class.getClassLoader(), new Class<?>[] {Request.class},
+			(proxy, method, args) -> {
+				if (!"selectVariant".equals(method.getName())) {
+					throw new UnsupportedOperationException();
+				}
+
+				_negotiations.incrementAndGet();
+
+				return _selectVariant(accept, (List<Variant>)args[0]);
+			});
+	}
+
+	private Optional<String> _select(String accept) {
+		HttpHeaders httpHeaders = (HttpHeaders)Proxy.newProxyInstance(
+			HttpHeaders.class.getClassLoader(),
+			new Class<?>[] {HttpHeaders.class},
+			(proxy, method, args) -> {
+				if ("getHeaderString".equals(method.getName()) &&
+					ACCEPT.equals(args[0])) {
+
+					return accept;
+				}
+
+				throw new UnsupportedOperationException();
+			});
+
+		return _messageMapperSelector.select(
+			_mockRequest(accept), httpHeaders);
+	}
+
+	private MessageMapperSelector<String> _messageMapperSelector;
+	private final AtomicInteger _negotiations = new AtomicInteger();
+
+}
\ No newline at end of file
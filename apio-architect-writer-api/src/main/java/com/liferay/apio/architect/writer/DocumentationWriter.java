@@ -283,6 +283,14 @@ public class DocumentationWriter {
 			representor.getNumberListFunctions(), resourceJsonObjectBuilder,
 			formOptional);
 
+		_writeFields(
+			representor.getLongFunctions(), resourceJsonObjectBuilder,
+			formOptional);
+
+		_writeFields(
+			representor.getDoubleFunctions(), resourceJsonObjectBuilder,
+			formOptional);
+
 		_writeFields(
 			representor.getNestedFieldFunctions(), resourceJsonObjectBuilder,
 			formOptional);
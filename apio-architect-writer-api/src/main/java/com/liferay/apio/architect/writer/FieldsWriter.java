@@ -19,14 +19,18 @@ import static com.liferay.apio.architect.writer.url.URLCreator.createBinaryURL;
 import static com.liferay.apio.architect.writer.url.URLCreator.createNestedCollectionURL;
 import static com.liferay.apio.architect.writer.url.URLCreator.createSingleURL;
 
+import com.liferay.apio.architect.consumer.TriConsumer;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.list.FunctionalList;
 import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.function.DoubleFieldFunction;
 import com.liferay.apio.architect.representor.function.FieldFunction;
+import com.liferay.apio.architect.representor.function.LongFieldFunction;
 import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.response.control.Embedded;
 import com.liferay.apio.architect.response.control.Fields;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.unsafe.Unsafe;
@@ -38,8 +42,11 @@ import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -87,35 +94,68 @@ public class FieldsWriter<T> {
 		_singleModelFunction = singleModelFunction;
 	}
 
+	/**
+	 * Creates a {@code FieldsWriter} that writes the fields selected by an
+	 * already compiled {@link RenderPlan}, instead of filtering the
+	 * representor's fields again.
+	 *
+	 * @review
+	 */
+	public FieldsWriter(
+		SingleModel<T> singleModel, RequestInfo requestInfo,
+		BaseRepresentor<T> baseRepresentor, RenderPlan<T> renderPlan,
+		Path path, FunctionalList<String> embeddedPathElements,
+		SingleModelFunction singleModelFunction) {
+
+		this(
+			singleModel, requestInfo, baseRepresentor, path,
+			embeddedPathElements, singleModelFunction);
+
+		_renderPlan = renderPlan;
+	}
+
 	/**
 	 * Returns the {@link Fields} predicate from the internal {@link
 	 * RequestInfo}. If no {@code Fields} information is provided to the {@code
-	 * RequestInfo}, this method returns an always-successful predicate.
+	 * RequestInfo}, this method returns an always-successful predicate. The
+	 * predicate is resolved the first time this method is called and reused
+	 * afterwards.
 	 *
 	 * @return the {@code Fields} predicate, if {@code Fields} information
 	 *         exists; an always-successful predicate otherwise
 	 */
 	public Predicate<String> getFieldsPredicate() {
-		Fields fields = _requestInfo.getFields();
+		if (_fieldsPredicate == null) {
+			if (_renderPlan != null) {
+				_fieldsPredicate = _renderPlan.getFieldsPredicate();
+			}
+			else {
+				Fields fields = _requestInfo.getFields();
+
+				_fieldsPredicate = fields.apply(_baseRepresentor.getTypes());
+			}
+		}
 
-		return fields.apply(_baseRepresentor.getTypes());
+		return _fieldsPredicate;
 	}
 
 	/**
 	 * Writes binary resources. This method uses a {@code BiConsumer} so each
 	 * {@code javax.ws.rs.ext.MessageBodyWriter} can write each binary
-	 * differently.
+	 * differently. Only the binary resources' URLs are written, so their
+	 * binary functions aren't called.
 	 *
 	 * @param biConsumer the {@code BiConsumer} called to write each binary
 	 */
 	public void writeBinaries(BiConsumer<String, String> biConsumer) {
-		Function<String, String> urlFunction = binaryId -> createBinaryURL(
-			_requestInfo.getServerURL(), binaryId, _path);
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		for (String binaryId : renderPlan.getBinaryKeys()) {
+			String url = createBinaryURL(
+				_requestInfo.getServerURL(), binaryId, _path);
 
-		writeFields(
-			BaseRepresentor::getBinaryFunctions,
-			(key, binaryFile) -> biConsumer.accept(
-				key, urlFunction.apply(key)));
+			biConsumer.accept(binaryId, url);
+		}
 	}
 
 	/**
@@ -126,8 +166,10 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the {@code BiConsumer} called to write each field
 	 */
 	public void writeBooleanFields(BiConsumer<String, Boolean> biConsumer) {
-		writeFields(
-			BaseRepresentor::getBooleanFunctions, writeField(biConsumer));
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		_writeFields(
+			renderPlan.getBooleanFieldFunctions(), writeField(biConsumer));
 	}
 
 	/**
@@ -140,8 +182,35 @@ public class FieldsWriter<T> {
 	public void writeBooleanListFields(
 		BiConsumer<String, List<Boolean>> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getBooleanListFunctions, writeField(biConsumer));
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		_writeFields(
+			renderPlan.getBooleanListFieldFunctions(), writeField(biConsumer));
+	}
+
+	/**
+	 * Writes the model's double fields. The values are passed to the consumer
+	 * as primitives, so they're never boxed by this method.
+	 *
+	 * @param objDoubleConsumer the consumer called to write each field
+	 * @review
+	 */
+	public void writeDoubleFields(ObjDoubleConsumer<String> objDoubleConsumer) {
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		T model = _singleModel.getModel();
+
+		List<DoubleFieldFunction<T>> doubleFieldFunctions =
+			renderPlan.getDoubleFieldFunctions();
+
+		for (DoubleFieldFunction<T> fieldFunction : doubleFieldFunctions) {
+			ToDoubleFunction<T> toDoubleFunction =
+				fieldFunction.toDoubleFunction;
+
+			double value = toDoubleFunction.applyAsDouble(model);
+
+			objDoubleConsumer.accept(fieldFunction.key, value);
+		}
 	}
 
 	/**
@@ -206,14 +275,12 @@ public class FieldsWriter<T> {
 		List<FieldFunction<T, U>> list = representorFunction.apply(
 			_baseRepresentor);
 
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
 		Stream<FieldFunction<T, U>> stream = list.stream();
 
 		stream.filter(
-			fieldFunction -> {
-				Predicate<String> fieldsPredicate = getFieldsPredicate();
-
-				return fieldsPredicate.test(fieldFunction.key);
-			}
+			fieldFunction -> fieldsPredicate.test(fieldFunction.key)
 		).forEach(
 			fieldFunction -> {
 				Function<T, U> function = fieldFunction.function;
@@ -233,8 +300,10 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the {@code BiConsumer} called to write each link
 	 */
 	public void writeLinks(BiConsumer<String, String> biConsumer) {
-		writeFields(
-			BaseRepresentor::getLinkFunctions,
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		_writeFields(
+			renderPlan.getLinkFieldFunctions(),
 			writeField(Function.identity(), biConsumer));
 	}
 
@@ -248,13 +317,39 @@ public class FieldsWriter<T> {
 	public void writeLocalizedStringFields(
 		BiConsumer<String, String> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getLocalizedStringFunctions,
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		_writeFields(
+			renderPlan.getLocalizedStringFieldFunctions(),
 			writeField(
 				function -> function.apply(_requestInfo.getLanguage()),
 				biConsumer));
 	}
 
+	/**
+	 * Writes the model's long fields. The values are passed to the consumer
+	 * as primitives, so they're never boxed by this method.
+	 *
+	 * @param objLongConsumer the consumer called to write each field
+	 * @review
+	 */
+	public void writeLongFields(ObjLongConsumer<String> objLongConsumer) {
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		T model = _singleModel.getModel();
+
+		List<LongFieldFunction<T>> longFieldFunctions =
+			renderPlan.getLongFieldFunctions();
+
+		for (LongFieldFunction<T> fieldFunction : longFieldFunctions) {
+			ToLongFunction<T> toLongFunction = fieldFunction.toLongFunction;
+
+			long value = toLongFunction.applyAsLong(model);
+
+			objLongConsumer.accept(fieldFunction.key, value);
+		}
+	}
+
 	/**
 	 * Writes a model's number fields. This method uses a {@code BiConsumer} so
 	 * each {@code javax.ws.rs.ext.MessageBodyWriter} can write each field
@@ -263,8 +358,10 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the {@code BiConsumer} called to write each field
 	 */
 	public void writeNumberFields(BiConsumer<String, Number> biConsumer) {
-		writeFields(
-			BaseRepresentor::getNumberFunctions, writeField(biConsumer));
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		_writeFields(
+			renderPlan.getNumberFieldFunctions(), writeField(biConsumer));
 	}
 
 	/**
@@ -277,8 +374,10 @@ public class FieldsWriter<T> {
 	public void writeNumberListFields(
 		BiConsumer<String, List<Number>> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getNumberListFunctions, writeField(biConsumer));
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		_writeFields(
+			renderPlan.getNumberListFieldFunctions(), writeField(biConsumer));
 	}
 
 	/**
@@ -325,28 +424,22 @@ public class FieldsWriter<T> {
 		Function<String, Optional<String>> nameFunction,
 		BiConsumer<String, FunctionalList<String>> biConsumer) {
 
-		if (_baseRepresentor.isNested()) {
-			return;
-		}
+		RenderPlan<T> renderPlan = _getRenderPlan();
 
-		Representor<T> representor = (Representor<T>)_baseRepresentor;
+		List<RelatedCollection<?>> relatedCollections =
+			renderPlan.getRelatedCollections();
 
-		Stream<RelatedCollection<?>> stream =
-			representor.getRelatedCollections();
+		for (RelatedCollection<?> relatedCollection : relatedCollections) {
+			Class<?> identifierClass = relatedCollection.getIdentifierClass();
 
-		stream.forEach(
-			relatedCollection -> {
-				Class<?> identifierClass =
-					relatedCollection.getIdentifierClass();
+			Optional<String> optional = nameFunction.apply(
+				identifierClass.getName());
 
-				Optional<String> optional = nameFunction.apply(
-					identifierClass.getName());
-
-				optional.ifPresent(
-					name -> writeRelatedCollection(
-						relatedCollection, name, _embeddedPathElements,
-						biConsumer));
-			});
+			optional.ifPresent(
+				name -> writeRelatedCollection(
+					relatedCollection, name, _embeddedPathElements,
+					biConsumer));
+		}
 	}
 
 	/**
@@ -372,29 +465,12 @@ public class FieldsWriter<T> {
 		BiConsumer<String, FunctionalList<String>> linkedURLBiConsumer,
 		BiConsumer<String, FunctionalList<String>> embeddedURLBiConsumer) {
 
-		writeRelatedModel(
+		_writeRelatedModel(
 			relatedModel, pathFunction,
-			(url, embeddedPathElements) -> {
-				Optional<SingleModel<U>> singleModelOptional = getSingleModel(
-					relatedModel, _singleModel,
-					unsafeCast(_singleModelFunction));
-
-				if (!singleModelOptional.isPresent()) {
-					return;
-				}
-
-				Predicate<String> embedded = _requestInfo.getEmbedded();
-
-				SingleModel<U> singleModel = singleModelOptional.get();
-
-				Stream<String> stream = Stream.concat(
-					Stream.of(embeddedPathElements.head()),
-					embeddedPathElements.tailStream());
-
-				String embeddedPath = String.join(
-					".", stream.collect(Collectors.toList()));
+			(singleModel, url, embeddedPathElements) -> {
+				Embedded embedded = _requestInfo.getEmbedded();
 
-				if (embedded.test(embeddedPath)) {
+				if (embedded.isEmbedded(embeddedPathElements)) {
 					embeddedURLBiConsumer.accept(url, embeddedPathElements);
 					modelBiConsumer.accept(singleModel, embeddedPathElements);
 				}
@@ -420,27 +496,10 @@ public class FieldsWriter<T> {
 		Function<SingleModel<?>, Optional<Path>> pathFunction,
 		BiConsumer<String, FunctionalList<String>> biConsumer) {
 
-		Predicate<String> fieldsPredicate = getFieldsPredicate();
-
-		String key = relatedModel.getKey();
-
-		if (!fieldsPredicate.test(key)) {
-			return;
-		}
-
-		Optional<SingleModel<U>> optional = getSingleModel(
-			relatedModel, _singleModel, unsafeCast(_singleModelFunction));
-
-		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
-			_embeddedPathElements, key);
-
-		optional.flatMap(
-			pathFunction
-		).map(
-			path -> createSingleURL(_requestInfo.getServerURL(), path)
-		).ifPresent(
-			url -> biConsumer.accept(url, embeddedPathElements)
-		);
+		_writeRelatedModel(
+			relatedModel, pathFunction,
+			(singleModel, url, embeddedPathElements) -> biConsumer.accept(
+				url, embeddedPathElements));
 	}
 
 	/**
@@ -465,13 +524,13 @@ public class FieldsWriter<T> {
 		BiConsumer<String, FunctionalList<String>> linkedURLBiConsumer,
 		BiConsumer<String, FunctionalList<String>> embeddedURLBiConsumer) {
 
-		List<RelatedModel<T, ?>> embeddedRelatedModels =
-			_baseRepresentor.getRelatedModels();
+		RenderPlan<T> renderPlan = _getRenderPlan();
 
-		embeddedRelatedModels.forEach(
-			relatedModel -> writeRelatedModel(
+		for (RelatedModel<T, ?> relatedModel : renderPlan.getRelatedModels()) {
+			writeRelatedModel(
 				relatedModel, pathFunction, modelBiConsumer,
-				linkedURLBiConsumer, embeddedURLBiConsumer));
+				linkedURLBiConsumer, embeddedURLBiConsumer);
+		}
 	}
 
 	/**
@@ -495,8 +554,10 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the consumer that writes each field
 	 */
 	public void writeStringFields(BiConsumer<String, String> biConsumer) {
-		writeFields(
-			BaseRepresentor::getStringFunctions, writeField(biConsumer));
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		_writeFields(
+			renderPlan.getStringFieldFunctions(), writeField(biConsumer));
 	}
 
 	/**
@@ -509,8 +570,10 @@ public class FieldsWriter<T> {
 	public void writeStringListFields(
 		BiConsumer<String, List<String>> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getStringListFunctions, writeField(biConsumer));
+		RenderPlan<T> renderPlan = _getRenderPlan();
+
+		_writeFields(
+			renderPlan.getStringListFieldFunctions(), writeField(biConsumer));
 	}
 
 	/**
@@ -523,9 +586,68 @@ public class FieldsWriter<T> {
 		consumer.accept(_baseRepresentor.getTypes());
 	}
 
+	private RenderPlan<T> _getRenderPlan() {
+		if (_renderPlan == null) {
+			_renderPlan = new RenderPlan<>(
+				_baseRepresentor, getFieldsPredicate());
+		}
+
+		return _renderPlan;
+	}
+
+	private <U> void _writeFields(
+		List<? extends FieldFunction<T, U>> list,
+		BiConsumer<String, U> biConsumer) {
+
+		T model = _singleModel.getModel();
+
+		for (FieldFunction<T, U> fieldFunction : list) {
+			Function<T, U> function = fieldFunction.function;
+
+			biConsumer.accept(fieldFunction.key, function.apply(model));
+		}
+	}
+
+	private <U> void _writeRelatedModel(
+		RelatedModel<T, U> relatedModel,
+		Function<SingleModel<?>, Optional<Path>> pathFunction,
+		TriConsumer<SingleModel<U>, String, FunctionalList<String>>
+			triConsumer) {
+
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
+		String key = relatedModel.getKey();
+
+		if (!fieldsPredicate.test(key)) {
+			return;
+		}
+
+		Optional<SingleModel<U>> optional = getSingleModel(
+			relatedModel, _singleModel, unsafeCast(_singleModelFunction));
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		SingleModel<U> singleModel = optional.get();
+
+		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+			_embeddedPathElements, key);
+
+		pathFunction.apply(
+			singleModel
+		).map(
+			path -> createSingleURL(_requestInfo.getServerURL(), path)
+		).ifPresent(
+			url -> triConsumer.accept(singleModel, url, embeddedPathElements)
+		);
+	}
+
 	private final BaseRepresentor<T> _baseRepresentor;
 	private final FunctionalList<String> _embeddedPathElements;
+	private Predicate<String> _fieldsPredicate;
 	private final Path _path;
+	private RenderPlan<T> _renderPlan;
 	private final RequestInfo _requestInfo;
 	private final SingleModel<T> _singleModel;
 	private final SingleModelFunction _singleModelFunction;
@@ -24,28 +24,49 @@ import static com.liferay.apio.architect.writer.util.WriterUtil.getPathOptional;
 import com.google.gson.JsonObject;
 
 import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.list.FunctionalList;
 import com.liferay.apio.architect.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.message.json.PageMessageMapper;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageType;
+import com.liferay.apio.architect.pagination.TotalCountType;
+import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.function.NestedFieldFunction;
 import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.response.control.Embedded;
+import com.liferay.apio.architect.response.control.Fields;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.unsafe.Unsafe;
 import com.liferay.apio.architect.uri.Path;
 import com.liferay.apio.architect.writer.alias.BaseRepresentorFunction;
+import com.liferay.apio.architect.writer.alias.BatchSingleModelFunction;
 import com.liferay.apio.architect.writer.alias.PathFunction;
 import com.liferay.apio.architect.writer.alias.RepresentorFunction;
 import com.liferay.apio.architect.writer.alias.ResourceNameFunction;
 import com.liferay.apio.architect.writer.alias.SingleModelFunction;
 
+import java.io.IOException;
+import java.io.Writer;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -70,15 +91,19 @@ public class PageWriter<T> {
 	}
 
 	public PageWriter(Builder<T> builder) {
+		_batchSingleModelFunction = builder._batchSingleModelFunction;
+		_itemExecutor = builder._itemExecutor;
 		_page = builder._page;
 		_pageMessageMapper = builder._pageMessageMapper;
+		_parallelItemsThreshold = builder._parallelItemsThreshold;
 		_pathFunction = builder._pathFunction;
 		_representorFunction = builder._representorFunction;
 		_requestInfo = builder._requestInfo;
 		_resourceNameFunction = builder._resourceNameFunction;
-		_singleModelFunction = builder._singleModelFunction;
 
 		_jsonObjectBuilder = new JSONObjectBuilder();
+		_renderPlanCache = new RenderPlanCache(_requestInfo);
+		_singleModelCache = new SingleModelCache(builder._singleModelFunction);
 	}
 
 	/**
@@ -92,64 +117,27 @@ public class PageWriter<T> {
 	 *         Representor} and {@code Path} exist for the model; returns {@code
 	 *         Optional#empty()} otherwise
 	 */
-	@SuppressWarnings("Duplicates")
 	public String write() {
-		_pageMessageMapper.onStart(
-			_jsonObjectBuilder, _page, _requestInfo.getHttpHeaders());
+		JSONObjectBuilder jsonObjectBuilder = _writeJSONObjectBuilder();
 
-		_pageMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, _page.getTotalCount());
+		JsonObject jsonObject = jsonObjectBuilder.build();
 
-		Collection<T> items = _page.getItems();
-
-		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
-
-		_writePageURLs();
-
-		String url = _getCollectionURL();
-
-		_pageMessageMapper.mapCollectionURL(_jsonObjectBuilder, url);
-
-		String resourceName = _page.getResourceName();
-
-		items.forEach(
-			model -> _writeItem(
-				new SingleModel<>(
-					model, resourceName, Collections.emptyList())));
-
-		List<Operation> operations = _page.getOperations();
-
-		operations.forEach(
-			operation -> {
-				JSONObjectBuilder operationJSONObjectBuilder =
-					new JSONObjectBuilder();
-
-				_pageMessageMapper.onStartOperation(
-					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
-
-				Optional<Form> formOptional = operation.getFormOptional();
-
-				formOptional.map(
-					form -> createFormURL(_requestInfo.getServerURL(), form)
-				).ifPresent(
-					formURL -> _pageMessageMapper.mapOperationFormURL(
-						_jsonObjectBuilder, operationJSONObjectBuilder, formURL)
-				);
-
-				_pageMessageMapper.mapOperationMethod(
-					_jsonObjectBuilder, operationJSONObjectBuilder,
-					operation.method);
-
-				_pageMessageMapper.onFinishOperation(
-					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
-			});
-
-		_pageMessageMapper.onFinish(
-			_jsonObjectBuilder, _page, _requestInfo.getHttpHeaders());
+		return jsonObject.toString();
+	}
 
-		JsonObject jsonObject = _jsonObjectBuilder.build();
+	/**
+	 * Writes the handled {@link Page} to a {@code Writer}, without creating its
+	 * intermediate string representation. This method behaves like {@link
+	 * #write()}, but the JSON tree is serialized to the provided writer instead
+	 * of returned. The tree is still built completely before anything is
+	 * written.
+	 *
+	 * @param writer the writer to which the {@code Page} is written
+	 */
+	public void write(Writer writer) throws IOException {
+		JSONObjectBuilder jsonObjectBuilder = _writeJSONObjectBuilder();
 
-		return jsonObject.toString();
+		jsonObjectBuilder.writeTo(writer);
 	}
 
 	/**
@@ -173,6 +161,27 @@ public class PageWriter<T> {
 
 		public class BuildStep {
 
+			/**
+			 * Adds information to the builder about the function that gets
+			 * several {@code SingleModel} of a class in a single call, using
+			 * their identifiers. This information is optional. If provided, the
+			 * related models of all the page's items are resolved with one call
+			 * per resource type before the items are written. The related
+			 * models of embedded models are resolved the same way, with one
+			 * call per resource type and embedding level.
+			 *
+			 * @param  batchSingleModelFunction the function that gets several
+			 *         {@code SingleModel} of a class
+			 * @return the updated builder
+			 */
+			public BuildStep batchSingleModelFunction(
+				BatchSingleModelFunction batchSingleModelFunction) {
+
+				_batchSingleModelFunction = batchSingleModelFunction;
+
+				return this;
+			}
+
 			/**
 			 * Constructs and returns a {@code PageWriter} instance with the
 			 * information provided to the builder.
@@ -183,6 +192,40 @@ public class PageWriter<T> {
 				return new PageWriter<>(Builder.this);
 			}
 
+			/**
+			 * Adds information to the builder about the executor used to write
+			 * the page's items in parallel. This information is optional. If
+			 * provided, the items of pages with more than {@code
+			 * parallelItemsThreshold} items are written in the executor's
+			 * threads, each one to its own JSON object, and then added to the
+			 * page in their original order.
+			 *
+			 * <p>
+			 * When the items are written in parallel, the page's {@code
+			 * PageMessageMapper} methods for items, except {@code
+			 * onFinishItem}, are called from the executor's threads. Those
+			 * methods, the representors, and the request information must not
+			 * depend on state bound to the request's thread. The single model
+			 * functions are only called from the writing thread, since every
+			 * related model is resolved before the items are written.
+			 * </p>
+			 *
+			 * @param  itemExecutor the executor that writes the items, or
+			 *         {@code null} to always write them sequentially
+			 * @param  parallelItemsThreshold the number of items a page must
+			 *         exceed to write them in parallel
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep itemExecutor(
+				Executor itemExecutor, int parallelItemsThreshold) {
+
+				_itemExecutor = itemExecutor;
+				_parallelItemsThreshold = parallelItemsThreshold;
+
+				return this;
+			}
+
 		}
 
 		public class PageMessageMapperStep {
@@ -306,8 +349,11 @@ public class PageWriter<T> {
 
 		}
 
+		private BatchSingleModelFunction _batchSingleModelFunction;
+		private Executor _itemExecutor;
 		private Page<T> _page;
 		private PageMessageMapper<T> _pageMessageMapper;
+		private int _parallelItemsThreshold;
 		private PathFunction _pathFunction;
 		private RepresentorFunction _representorFunction;
 		private RequestInfo _requestInfo;
@@ -328,105 +374,229 @@ public class PageWriter<T> {
 		);
 	}
 
-	private void _writeItem(SingleModel<T> singleModel) {
-		Optional<Path> pathOptional = getPathOptional(
-			singleModel, _pathFunction, _representorFunction::apply);
+	private boolean _isParallel(Collection<T> items) {
+		if ((_itemExecutor == null) ||
+			(items.size() <= _parallelItemsThreshold)) {
 
-		if (!pathOptional.isPresent()) {
-			return;
+			return false;
 		}
 
-		Optional<FieldsWriter<T>> optional = getFieldsWriter(
-			singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
+		return true;
+	}
 
-		if (!optional.isPresent()) {
+	private <S> S _join(CompletableFuture<S> completableFuture) {
+		try {
+			return completableFuture.join();
+		}
+		catch (CompletionException ce) {
+			Throwable throwable = ce.getCause();
+
+			if (throwable instanceof RuntimeException) {
+				throw (RuntimeException)throwable;
+			}
+
+			if (throwable instanceof Error) {
+				throw (Error)throwable;
+			}
+
+			throw ce;
+		}
+	}
+
+	private <S, U> void _prefetchNestedModels(
+		Collection<S> models, NestedFieldFunction<S, U> nestedFieldFunction,
+		FunctionalList<String> parentEmbeddedPathElements, boolean resolveAll) {
+
+		List<U> nestedModels = new ArrayList<>();
+
+		for (S model : models) {
+			U nestedModel = nestedFieldFunction.function.apply(model);
+
+			if (nestedModel != null) {
+				nestedModels.add(nestedModel);
+			}
+		}
+
+		_prefetchRelatedModels(
+			nestedModels, nestedFieldFunction.nestedRepresentor,
+			new FunctionalList<>(
+				parentEmbeddedPathElements, nestedFieldFunction.key),
+			resolveAll);
+	}
+
+	private void _prefetchRelatedModels(
+		Collection<T> items, String resourceName, boolean resolveAll) {
+
+		if ((_batchSingleModelFunction == null) && !resolveAll) {
 			return;
 		}
 
-		FieldsWriter<T> fieldsWriter = optional.get();
+		_prefetchRelatedModels(items, resourceName, null, resolveAll);
+	}
 
-		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+	private <S> void _prefetchRelatedModels(
+		Collection<S> models, String resourceName,
+		FunctionalList<String> parentEmbeddedPathElements, boolean resolveAll) {
 
-		_pageMessageMapper.onStartItem(
-			_jsonObjectBuilder, itemJsonObjectBuilder, singleModel,
-			_requestInfo.getHttpHeaders());
+		Optional<Representor<S>> optional = _representorFunction.apply(
+			resourceName
+		).map(
+			Unsafe::unsafeCast
+		);
 
-		fieldsWriter.writeBooleanFields(
-			(field, value) -> _pageMessageMapper.mapItemBooleanField(
-				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+		optional.ifPresent(
+			representor -> _prefetchRelatedModels(
+				models, representor, parentEmbeddedPathElements, resolveAll));
+	}
 
-		fieldsWriter.writeBooleanListFields(
-			(field, value) -> _pageMessageMapper.mapItemBooleanListField(
-				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+	private <S> void _prefetchRelatedModels(
+		Collection<S> models, BaseRepresentor<S> representor,
+		FunctionalList<String> parentEmbeddedPathElements, boolean resolveAll) {
 
-		fieldsWriter.writeLocalizedStringFields(
-			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+		Fields fields = _requestInfo.getFields();
 
-		fieldsWriter.writeNumberFields(
-			(field, value) -> _pageMessageMapper.mapItemNumberField(
-				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+		Predicate<String> fieldsPredicate = fields.apply(
+			representor.getTypes());
 
-		fieldsWriter.writeNumberListFields(
-			(field, value) -> _pageMessageMapper.mapItemNumberListField(
-				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+		Embedded embedded = _requestInfo.getEmbedded();
 
-		fieldsWriter.writeStringFields(
-			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+		Map<Class<? extends Identifier>, Set<Object>> identifiersMap =
+			new HashMap<>();
+		Map<FunctionalList<String>, RelatedModel<S, ?>> embeddedRelatedModels =
+			new LinkedHashMap<>();
 
-		fieldsWriter.writeStringListFields(
-			(field, value) -> _pageMessageMapper.mapItemStringListField(
-				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+		List<RelatedModel<S, ?>> relatedModels =
+			representor.getRelatedModels();
 
-		fieldsWriter.writeLinks(
-			(fieldName, link) -> _pageMessageMapper.mapItemLink(
-				_jsonObjectBuilder, itemJsonObjectBuilder, fieldName, link));
+		for (RelatedModel<S, ?> relatedModel : relatedModels) {
+			if (!fieldsPredicate.test(relatedModel.getKey())) {
+				continue;
+			}
 
-		fieldsWriter.writeTypes(
-			types -> _pageMessageMapper.mapItemTypes(
-				_jsonObjectBuilder, itemJsonObjectBuilder, types));
+			Function<S, ?> identifierFunction =
+				relatedModel.getIdentifierFunction();
 
-		fieldsWriter.writeBinaries(
-			(field, value) -> _pageMessageMapper.mapItemLink(
-				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+			Set<Object> identifiers = identifiersMap.computeIfAbsent(
+				relatedModel.getIdentifierClass(), __ -> new LinkedHashSet<>());
 
-		fieldsWriter.writeSingleURL(
-			url -> _pageMessageMapper.mapItemSelfURL(
-				_jsonObjectBuilder, itemJsonObjectBuilder, url));
+			for (S model : models) {
+				identifiers.add(identifierFunction.apply(model));
+			}
 
-		fieldsWriter.writeRelatedModels(
-			embeddedSingleModel -> getPathOptional(
-				embeddedSingleModel, _pathFunction,
-				_representorFunction::apply),
-			(embeddedSingleModel, embeddedPathElements1) ->
-				_writeItemEmbeddedModelFields(
-					embeddedSingleModel, embeddedPathElements1,
-					itemJsonObjectBuilder),
-			(resourceURL, embeddedPathElements) ->
-				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_pageMessageMapper.mapItemEmbeddedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, resourceURL));
+			FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+				parentEmbeddedPathElements, relatedModel.getKey());
 
-		fieldsWriter.writeRelatedCollections(
-			_resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, url));
+			if (embedded.isEmbedded(embeddedPathElements)) {
+				embeddedRelatedModels.put(embeddedPathElements, relatedModel);
+			}
+		}
 
-		_writeNestedResources(
-			_representorFunction::apply, singleModel, itemJsonObjectBuilder,
-			singleModel, null);
+		Map<Class<? extends Identifier>, Map<Object, SingleModel>>
+			singleModelsMap = new HashMap<>();
 
-		_pageMessageMapper.onFinishItem(
-			_jsonObjectBuilder, itemJsonObjectBuilder, singleModel,
-			_requestInfo.getHttpHeaders());
+		identifiersMap.forEach(
+			(identifierClass, identifiers) -> singleModelsMap.put(
+				identifierClass,
+				_resolveSingleModels(
+					identifierClass, identifiers, resolveAll)));
+
+		embeddedRelatedModels.forEach(
+			(embeddedPathElements, relatedModel) -> {
+				Map<Object, SingleModel> singleModels = singleModelsMap.get(
+					relatedModel.getIdentifierClass());
+
+				if (singleModels == null) {
+					return;
+				}
+
+				Function<S, ?> identifierFunction =
+					relatedModel.getIdentifierFunction();
+
+				Map<String, List<Object>> embeddedModelsMap =
+					new LinkedHashMap<>();
+
+				for (S model : models) {
+					SingleModel singleModel = singleModels.get(
+						identifierFunction.apply(model));
+
+					if (singleModel == null) {
+						continue;
+					}
+
+					List<Object> embeddedModels =
+						embeddedModelsMap.computeIfAbsent(
+							singleModel.getResourceName(),
+							__ -> new ArrayList<>());
+
+					embeddedModels.add(singleModel.getModel());
+				}
+
+				embeddedModelsMap.forEach(
+					(embeddedResourceName, embeddedModels) ->
+						_prefetchRelatedModels(
+							embeddedModels, embeddedResourceName,
+							embeddedPathElements, resolveAll));
+			});
+
+		if (!resolveAll) {
+			return;
+		}
+
+		for (NestedFieldFunction<S, ?> nestedFieldFunction :
+				representor.getNestedFieldFunctions()) {
+
+			_prefetchNestedModels(
+				models, nestedFieldFunction, parentEmbeddedPathElements,
+				resolveAll);
+		}
+	}
+
+	private Map<Object, SingleModel> _resolveSingleModels(
+		Class<? extends Identifier> identifierClass, Set<Object> identifiers,
+		boolean resolveAll) {
+
+		Map<Object, SingleModel> singleModels = new HashMap<>();
+
+		List<Object> nonNullIdentifiers = new ArrayList<>(identifiers);
+
+		nonNullIdentifiers.remove(null);
+
+		if ((_batchSingleModelFunction != null) &&
+			!nonNullIdentifiers.isEmpty()) {
+
+			Optional<Map<Object, SingleModel>> optional =
+				_batchSingleModelFunction.apply(
+					nonNullIdentifiers, identifierClass);
+
+			optional.ifPresent(
+				batchSingleModels -> {
+					_singleModelCache.putAll(
+						identifierClass, nonNullIdentifiers, batchSingleModels);
+
+					singleModels.putAll(batchSingleModels);
+				});
+		}
+
+		if (resolveAll) {
+			for (Object identifier : identifiers) {
+				Optional<SingleModel> optional = _singleModelCache.apply(
+					identifier, identifierClass);
+
+				optional.ifPresent(
+					singleModel -> singleModels.put(identifier, singleModel));
+			}
+		}
+
+		return singleModels;
+	}
+
+	private void _writeItem(SingleModel<T> singleModel) {
+		Optional<JSONObjectBuilder> optional = _writeItemFields(singleModel);
+
+		optional.ifPresent(
+			itemJsonObjectBuilder -> _pageMessageMapper.onFinishItem(
+				_jsonObjectBuilder, itemJsonObjectBuilder, singleModel,
+				_requestInfo.getHttpHeaders()));
 	}
 
 	private <S> void _writeItemEmbeddedModelFields(
@@ -454,7 +624,8 @@ public class PageWriter<T> {
 
 		Optional<FieldsWriter<S>> fieldsWriterOptional = getFieldsWriter(
 			singleModel, embeddedPathElements, _requestInfo,
-			baseRepresentorFunction, _singleModelFunction, pathOptional.get());
+			baseRepresentorFunction, _singleModelCache, pathOptional.get(),
+			_renderPlanCache);
 
 		if (!fieldsWriterOptional.isPresent()) {
 			return;
@@ -474,12 +645,24 @@ public class PageWriter<T> {
 					_jsonObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
+		fieldsWriter.writeDoubleFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceDoubleField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
 		fieldsWriter.writeLocalizedStringFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
 					_jsonObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
+		fieldsWriter.writeLongFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceLongField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
 		fieldsWriter.writeNumberFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceNumberField(
@@ -548,6 +731,222 @@ public class PageWriter<T> {
 			rootSingleModel, embeddedPathElements);
 	}
 
+	private Optional<JSONObjectBuilder> _writeItemFields(
+		SingleModel<T> singleModel) {
+
+		Optional<Path> pathOptional = getPathOptional(
+			singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> optional = getFieldsWriter(
+			singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelCache, pathOptional.get(), _renderPlanCache);
+
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = optional.get();
+
+		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+
+		_pageMessageMapper.onStartItem(
+			_jsonObjectBuilder, itemJsonObjectBuilder, singleModel,
+			_requestInfo.getHttpHeaders());
+
+		fieldsWriter.writeBooleanFields(
+			(field, value) -> _pageMessageMapper.mapItemBooleanField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeBooleanListFields(
+			(field, value) -> _pageMessageMapper.mapItemBooleanListField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeDoubleFields(
+			(field, value) -> _pageMessageMapper.mapItemDoubleField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLocalizedStringFields(
+			(field, value) -> _pageMessageMapper.mapItemStringField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongFields(
+			(field, value) -> _pageMessageMapper.mapItemLongField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeNumberFields(
+			(field, value) -> _pageMessageMapper.mapItemNumberField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeNumberListFields(
+			(field, value) -> _pageMessageMapper.mapItemNumberListField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeStringFields(
+			(field, value) -> _pageMessageMapper.mapItemStringField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeStringListFields(
+			(field, value) -> _pageMessageMapper.mapItemStringListField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLinks(
+			(fieldName, link) -> _pageMessageMapper.mapItemLink(
+				_jsonObjectBuilder, itemJsonObjectBuilder, fieldName, link));
+
+		fieldsWriter.writeTypes(
+			types -> _pageMessageMapper.mapItemTypes(
+				_jsonObjectBuilder, itemJsonObjectBuilder, types));
+
+		fieldsWriter.writeBinaries(
+			(field, value) -> _pageMessageMapper.mapItemLink(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeSingleURL(
+			url -> _pageMessageMapper.mapItemSelfURL(
+				_jsonObjectBuilder, itemJsonObjectBuilder, url));
+
+		fieldsWriter.writeRelatedModels(
+			embeddedSingleModel -> getPathOptional(
+				embeddedSingleModel, _pathFunction,
+				_representorFunction::apply),
+			(embeddedSingleModel, embeddedPathElements1) ->
+				_writeItemEmbeddedModelFields(
+					embeddedSingleModel, embeddedPathElements1,
+					itemJsonObjectBuilder),
+			(resourceURL, embeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_pageMessageMapper.mapItemEmbeddedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, url));
+
+		_writeNestedResources(
+			_representorFunction::apply, singleModel, itemJsonObjectBuilder,
+			singleModel, null);
+
+		return Optional.of(itemJsonObjectBuilder);
+	}
+
+	private void _writeItems(
+		Collection<T> items, String resourceName, boolean parallel) {
+
+		if (!parallel) {
+			items.forEach(
+				model -> _writeItem(
+					new SingleModel<>(
+						model, resourceName, Collections.emptyList())));
+
+			return;
+		}
+
+		List<SingleModel<T>> singleModels = new ArrayList<>(items.size());
+		List<CompletableFuture<Optional<JSONObjectBuilder>>>
+			completableFutures = new ArrayList<>(items.size());
+
+		for (T item : items) {
+			SingleModel<T> singleModel = new SingleModel<>(
+				item, resourceName, Collections.emptyList());
+
+			singleModels.add(singleModel);
+
+			completableFutures.add(
+				CompletableFuture.supplyAsync(
+					() -> _writeItemFields(singleModel), _itemExecutor));
+		}
+
+		for (int i = 0; i < singleModels.size(); i++) {
+			SingleModel<T> singleModel = singleModels.get(i);
+
+			Optional<JSONObjectBuilder> optional = _join(
+				completableFutures.get(i));
+
+			optional.ifPresent(
+				itemJsonObjectBuilder -> _pageMessageMapper.onFinishItem(
+					_jsonObjectBuilder, itemJsonObjectBuilder, singleModel,
+					_requestInfo.getHttpHeaders()));
+		}
+	}
+
+	@SuppressWarnings("Duplicates")
+	private JSONObjectBuilder _writeJSONObjectBuilder() {
+		_pageMessageMapper.onStart(
+			_jsonObjectBuilder, _page, _requestInfo.getHttpHeaders());
+
+		TotalCountType totalCountType = _page.getTotalCountType();
+
+		if (totalCountType == TotalCountType.EXACT) {
+			_pageMessageMapper.mapItemTotalCount(
+				_jsonObjectBuilder, _page.getTotalCount());
+		}
+		else if (totalCountType == TotalCountType.ESTIMATED) {
+			_pageMessageMapper.mapItemEstimatedTotalCount(
+				_jsonObjectBuilder, _page.getTotalCount());
+		}
+
+		Collection<T> items = _page.getItems();
+
+		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
+
+		_writePageURLs();
+
+		String url = _getCollectionURL();
+
+		_pageMessageMapper.mapCollectionURL(_jsonObjectBuilder, url);
+
+		String resourceName = _page.getResourceName();
+
+		boolean parallel = _isParallel(items);
+
+		_prefetchRelatedModels(items, resourceName, parallel);
+
+		_writeItems(items, resourceName, parallel);
+
+		List<Operation> operations = _page.getOperations();
+
+		operations.forEach(
+			operation -> {
+				JSONObjectBuilder operationJSONObjectBuilder =
+					new JSONObjectBuilder();
+
+				_pageMessageMapper.onStartOperation(
+					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
+
+				Optional<Form> formOptional = operation.getFormOptional();
+
+				formOptional.map(
+					form -> createFormURL(_requestInfo.getServerURL(), form)
+				).ifPresent(
+					formURL -> _pageMessageMapper.mapOperationFormURL(
+						_jsonObjectBuilder, operationJSONObjectBuilder, formURL)
+				);
+
+				_pageMessageMapper.mapOperationMethod(
+					_jsonObjectBuilder, operationJSONObjectBuilder,
+					operation.method);
+
+				_pageMessageMapper.onFinishOperation(
+					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
+			});
+
+		_pageMessageMapper.onFinish(
+			_jsonObjectBuilder, _page, _requestInfo.getHttpHeaders());
+
+		return _jsonObjectBuilder;
+	}
+
 	private <S, U> void _writeNestedResources(
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel<U> singleModel, JSONObjectBuilder itemJsonObjectBuilder,
@@ -594,9 +993,13 @@ public class PageWriter<T> {
 			_jsonObjectBuilder,
 			createCollectionPageURL(url, _page, PageType.FIRST));
 
-		_pageMessageMapper.mapLastPageURL(
-			_jsonObjectBuilder,
-			createCollectionPageURL(url, _page, PageType.LAST));
+		if (!_page.isCursorBased() &&
+			(_page.getTotalCountType() == TotalCountType.EXACT)) {
+
+			_pageMessageMapper.mapLastPageURL(
+				_jsonObjectBuilder,
+				createCollectionPageURL(url, _page, PageType.LAST));
+		}
 
 		if (_page.hasNext()) {
 			_pageMessageMapper.mapNextPageURL(
@@ -611,13 +1014,17 @@ public class PageWriter<T> {
 		}
 	}
 
+	private final BatchSingleModelFunction _batchSingleModelFunction;
+	private final Executor _itemExecutor;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final Page<T> _page;
 	private final PageMessageMapper<T> _pageMessageMapper;
+	private final int _parallelItemsThreshold;
 	private final PathFunction _pathFunction;
+	private final RenderPlanCache _renderPlanCache;
 	private final RepresentorFunction _representorFunction;
 	private final RequestInfo _requestInfo;
 	private final ResourceNameFunction _resourceNameFunction;
-	private final SingleModelFunction _singleModelFunction;
+	private final SingleModelCache _singleModelCache;
 
 }
\ No newline at end of file
@@ -0,0 +1,284 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer;
+
+import com.liferay.apio.architect.language.Language;
+import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.function.DoubleFieldFunction;
+import com.liferay.apio.architect.representor.function.FieldFunction;
+import com.liferay.apio.architect.representor.function.LongFieldFunction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Holds the fields of a {@link BaseRepresentor} that pass a {@code Fields}
+ * predicate, grouped by type in immutable lists. A plan is compiled once per
+ * representor and field selection, so {@link FieldsWriter} walks flat lists
+ * for every model, without looking up the representor's maps or filtering
+ * its fields again.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @review
+ */
+public class RenderPlan<T> {
+
+	public RenderPlan(
+		BaseRepresentor<T> baseRepresentor,
+		Predicate<String> fieldsPredicate) {
+
+		_fieldsPredicate = fieldsPredicate;
+
+		_binaryKeys = _filterKeys(baseRepresentor.getBinaryFunctions());
+		_booleanFieldFunctions = _filter(
+			baseRepresentor.getBooleanFunctions());
+		_booleanListFieldFunctions = _filter(
+			baseRepresentor.getBooleanListFunctions());
+		_doubleFieldFunctions = _filter(baseRepresentor.getDoubleFunctions());
+		_linkFieldFunctions = _filter(baseRepresentor.getLinkFunctions());
+		_localizedStringFieldFunctions = _filter(
+			baseRepresentor.getLocalizedStringFunctions());
+		_longFieldFunctions = _filter(baseRepresentor.getLongFunctions());
+		_numberFieldFunctions = _filter(baseRepresentor.getNumberFunctions());
+		_numberListFieldFunctions = _filter(
+			baseRepresentor.getNumberListFunctions());
+		_relatedCollections = _getRelatedCollections(baseRepresentor);
+		_relatedModels = _getRelatedModels(baseRepresentor);
+		_stringFieldFunctions = _filter(baseRepresentor.getStringFunctions());
+		_stringListFieldFunctions = _filter(
+			baseRepresentor.getStringListFunctions());
+	}
+
+	/**
+	 * Returns the keys of the selected binary resources.
+	 *
+	 * @return the selected binary keys
+	 */
+	public List<String> getBinaryKeys() {
+		return _binaryKeys;
+	}
+
+	/**
+	 * Returns the selected boolean field functions.
+	 *
+	 * @return the selected boolean field functions
+	 */
+	public List<FieldFunction<T, Boolean>> getBooleanFieldFunctions() {
+		return _booleanFieldFunctions;
+	}
+
+	/**
+	 * Returns the selected boolean list field functions.
+	 *
+	 * @return the selected boolean list field functions
+	 */
+	public List<FieldFunction<T, List<Boolean>>>
+		getBooleanListFieldFunctions() {
+
+		return _booleanListFieldFunctions;
+	}
+
+	/**
+	 * Returns the selected double field functions.
+	 *
+	 * @return the selected double field functions
+	 */
+	public List<DoubleFieldFunction<T>> getDoubleFieldFunctions() {
+		return _doubleFieldFunctions;
+	}
+
+	/**
+	 * Returns the predicate this plan was compiled with.
+	 *
+	 * @return the {@code Fields} predicate
+	 */
+	public Predicate<String> getFieldsPredicate() {
+		return _fieldsPredicate;
+	}
+
+	/**
+	 * Returns the selected link field functions.
+	 *
+	 * @return the selected link field functions
+	 */
+	public List<FieldFunction<T, String>> getLinkFieldFunctions() {
+		return _linkFieldFunctions;
+	}
+
+	/**
+	 * Returns the selected localized string field functions.
+	 *
+	 * @return the selected localized string field functions
+	 */
+	public List<FieldFunction<T, Function<Language, String>>>
+		getLocalizedStringFieldFunctions() {
+
+		return _localizedStringFieldFunctions;
+	}
+
+	/**
+	 * Returns the selected long field functions.
+	 *
+	 * @return the selected long field functions
+	 */
+	public List<LongFieldFunction<T>> getLongFieldFunctions() {
+		return _longFieldFunctions;
+	}
+
+	/**
+	 * Returns the selected number field functions.
+	 *
+	 * @return the selected number field functions
+	 */
+	public List<FieldFunction<T, Number>> getNumberFieldFunctions() {
+		return _numberFieldFunctions;
+	}
+
+	/**
+	 * Returns the selected number list field functions.
+	 *
+	 * @return the selected number list field functions
+	 */
+	public List<FieldFunction<T, List<Number>>> getNumberListFieldFunctions() {
+		return _numberListFieldFunctions;
+	}
+
+	/**
+	 * Returns the representor's related collections. These aren't filtered,
+	 * because {@link FieldsWriter} filters each collection after resolving its
+	 * name. This list is always empty for nested representors.
+	 *
+	 * @return the related collections
+	 */
+	public List<RelatedCollection<?>> getRelatedCollections() {
+		return _relatedCollections;
+	}
+
+	/**
+	 * Returns the selected related models.
+	 *
+	 * @return the selected related models
+	 */
+	public List<RelatedModel<T, ?>> getRelatedModels() {
+		return _relatedModels;
+	}
+
+	/**
+	 * Returns the selected string field functions.
+	 *
+	 * @return the selected string field functions
+	 */
+	public List<FieldFunction<T, String>> getStringFieldFunctions() {
+		return _stringFieldFunctions;
+	}
+
+	/**
+	 * Returns the selected string list field functions.
+	 *
+	 * @return the selected string list field functions
+	 */
+	public List<FieldFunction<T, List<String>>> getStringListFieldFunctions() {
+		return _stringListFieldFunctions;
+	}
+
+	private <S extends FieldFunction<T, ?>> List<S> _filter(List<S> list) {
+		List<S> filteredList = new ArrayList<>(list.size());
+
+		for (S fieldFunction : list) {
+			if (_fieldsPredicate.test(fieldFunction.key)) {
+				filteredList.add(fieldFunction);
+			}
+		}
+
+		return Collections.unmodifiableList(filteredList);
+	}
+
+	private List<String> _filterKeys(List<? extends FieldFunction<T, ?>> list) {
+		List<String> keys = new ArrayList<>(list.size());
+
+		for (FieldFunction<T, ?> fieldFunction : list) {
+			if (_fieldsPredicate.test(fieldFunction.key)) {
+				keys.add(fieldFunction.key);
+			}
+		}
+
+		return Collections.unmodifiableList(keys);
+	}
+
+	private List<RelatedCollection<?>> _getRelatedCollections(
+		BaseRepresentor<T> baseRepresentor) {
+
+		if (baseRepresentor.isNested()) {
+			return Collections.emptyList();
+		}
+
+		Representor<T> representor = (Representor<T>)baseRepresentor;
+
+		Stream<RelatedCollection<?>> stream =
+			representor.getRelatedCollections();
+
+		return stream.collect(
+			Collectors.collectingAndThen(
+				Collectors.toList(), Collections::unmodifiableList)
+		);
+	}
+
+	private List<RelatedModel<T, ?>> _getRelatedModels(
+		BaseRepresentor<T> baseRepresentor) {
+
+		List<RelatedModel<T, ?>> relatedModels =
+			baseRepresentor.getRelatedModels();
+
+		List<RelatedModel<T, ?>> filteredRelatedModels = new ArrayList<>(
+			relatedModels.size());
+
+		for (RelatedModel<T, ?> relatedModel : relatedModels) {
+			if (_fieldsPredicate.test(relatedModel.getKey())) {
+				filteredRelatedModels.add(relatedModel);
+			}
+		}
+
+		return Collections.unmodifiableList(filteredRelatedModels);
+	}
+
+	private final List<String> _binaryKeys;
+	private final List<FieldFunction<T, Boolean>> _booleanFieldFunctions;
+	private final List<FieldFunction<T, List<Boolean>>>
+		_booleanListFieldFunctions;
+	private final List<DoubleFieldFunction<T>> _doubleFieldFunctions;
+	private final Predicate<String> _fieldsPredicate;
+	private final List<FieldFunction<T, String>> _linkFieldFunctions;
+	private final List<FieldFunction<T, Function<Language, String>>>
+		_localizedStringFieldFunctions;
+	private final List<LongFieldFunction<T>> _longFieldFunctions;
+	private final List<FieldFunction<T, Number>> _numberFieldFunctions;
+	private final List<FieldFunction<T, List<Number>>>
+		_numberListFieldFunctions;
+	private final List<RelatedCollection<?>> _relatedCollections;
+	private final List<RelatedModel<T, ?>> _relatedModels;
+	private final List<FieldFunction<T, String>> _stringFieldFunctions;
+	private final List<FieldFunction<T, List<String>>>
+		_stringListFieldFunctions;
+
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer;
+
+import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.response.control.Fields;
+import com.liferay.apio.architect.unsafe.Unsafe;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Caches the {@link RenderPlan} of each {@link BaseRepresentor} while a
+ * response is being written. The {@code Fields} selection is fixed for the
+ * whole request, so each representor's plan is compiled the first time a model
+ * of that representor is written and reused for every other model.
+ *
+ * <p>
+ * Instances of this class must not be shared between responses, because the
+ * plans depend on the current request's field selection. They can be used by
+ * several threads writing the same response.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class RenderPlanCache {
+
+	public RenderPlanCache(RequestInfo requestInfo) {
+		_requestInfo = requestInfo;
+	}
+
+	/**
+	 * Returns the {@link RenderPlan} of a {@link BaseRepresentor}, compiling it
+	 * if this is the first time it's requested.
+	 *
+	 * @param  baseRepresentor the representor
+	 * @return the representor's render plan
+	 */
+	public <T> RenderPlan<T> getRenderPlan(BaseRepresentor<T> baseRepresentor) {
+		RenderPlan<?> renderPlan = _renderPlans.get(baseRepresentor);
+
+		if (renderPlan == null) {
+			Fields fields = _requestInfo.getFields();
+
+			renderPlan = new RenderPlan<>(
+				baseRepresentor, fields.apply(baseRepresentor.getTypes()));
+
+			_renderPlans.put(baseRepresentor, renderPlan);
+		}
+
+		return Unsafe.unsafeCast(renderPlan);
+	}
+
+	private final Map<BaseRepresentor<?>, RenderPlan<?>> _renderPlans =
+		Collections.synchronizedMap(new IdentityHashMap<>());
+	private final RequestInfo _requestInfo;
+
+}
\ No newline at end of file
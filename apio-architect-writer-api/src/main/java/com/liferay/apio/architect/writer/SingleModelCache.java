@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.writer.alias.SingleModelFunction;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the {@link SingleModel} instances obtained through a {@link
+ * SingleModelFunction} while a response is being written. Each instance is
+ * keyed by its identifier class and identifier, so a related model shared by
+ * several resources of the same response is only resolved once.
+ *
+ * <p>
+ * Instances of this class must not be shared between responses, because the
+ * cached models depend on the current request's credentials. They can be used
+ * by several threads writing the same response. If two threads ask for a model
+ * that isn't cached yet at the same time, it may be resolved twice.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class SingleModelCache implements SingleModelFunction {
+
+	public SingleModelCache(SingleModelFunction singleModelFunction) {
+		_singleModelFunction = singleModelFunction;
+	}
+
+	/**
+	 * Returns the {@link SingleModel} for an identifier. If the model hasn't
+	 * been resolved yet, this method obtains it with the cache's {@link
+	 * SingleModelFunction} and stores the result, even if it's empty. Models
+	 * with a {@code null} identifier are stored too.
+	 *
+	 * @param  identifier the model's identifier
+	 * @param  identifierClass the identifier's class
+	 * @return the single model, if present; {@code Optional#empty()} otherwise
+	 */
+	@Override
+	public Optional<SingleModel> apply(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		Map<Object, Optional<SingleModel>> singleModels =
+			_getSingleModels(identifierClass);
+
+		Object key = identifier;
+
+		if (key == null) {
+			key = _NULL_IDENTIFIER;
+		}
+
+		Optional<SingleModel> optional = singleModels.get(key);
+
+		if (optional == null) {
+			optional = _singleModelFunction.apply(identifier, identifierClass);
+
+			singleModels.put(key, optional);
+		}
+
+		return optional;
+	}
+
+	/**
+	 * Stores several {@link SingleModel} instances resolved in a single call.
+	 * The identifiers missing from the {@code singleModels} map are stored as
+	 * not found, so they aren't resolved again.
+	 *
+	 * @param identifierClass the identifiers' class
+	 * @param identifiers the identifiers that were resolved
+	 * @param singleModels the single models found for those identifiers
+	 */
+	public void putAll(
+		Class<? extends Identifier> identifierClass,
+		Collection<Object> identifiers, Map<Object, SingleModel> singleModels) {
+
+		Map<Object, Optional<SingleModel>> cachedSingleModels =
+			_getSingleModels(identifierClass);
+
+		for (Object identifier : identifiers) {
+			cachedSingleModels.put(
+				identifier, Optional.ofNullable(singleModels.get(identifier)));
+		}
+	}
+
+	private Map<Object, Optional<SingleModel>> _getSingleModels(
+		Class<? extends Identifier> identifierClass) {
+
+		return _singleModels.computeIfAbsent(
+			identifierClass, __ -> new ConcurrentHashMap<>());
+	}
+
+	private static final Object _NULL_IDENTIFIER = new Object();
+
+	private final SingleModelFunction _singleModelFunction;
+	private final Map<Class<? extends Identifier>,
+		Map<Object, Optional<SingleModel>>> _singleModels =
+			new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -36,6 +36,9 @@ import com.liferay.apio.architect.writer.alias.RepresentorFunction;
 import com.liferay.apio.architect.writer.alias.ResourceNameFunction;
 import com.liferay.apio.architect.writer.alias.SingleModelFunction;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -71,9 +74,10 @@ public class SingleModelWriter<T> {
 		_resourceNameFunction = builder._resourceNameFunction;
 		_singleModel = builder._singleModel;
 		_singleModelMessageMapper = builder._singleModelMessageMapper;
-		_singleModelFunction = builder._singleModelFunction;
 
 		_jsonObjectBuilder = new JSONObjectBuilder();
+		_renderPlanCache = new RenderPlanCache(_requestInfo);
+		_singleModelCache = new SingleModelCache(builder._singleModelFunction);
 	}
 
 	/**
@@ -87,124 +91,39 @@ public class SingleModelWriter<T> {
 	 *         model's {@code Representor} and {@code Path} exist; returns
 	 *         {@code Optional#empty()} otherwise
 	 */
-	@SuppressWarnings("Duplicates")
 	public Optional<String> write() {
-		Optional<Path> pathOptional = getPathOptional(
-			_singleModel, _pathFunction, _representorFunction::apply);
+		Optional<JSONObjectBuilder> optional = _writeJSONObjectBuilder();
 
-		if (!pathOptional.isPresent()) {
-			return Optional.empty();
-		}
+		return optional.map(
+			JSONObjectBuilder::build
+		).map(
+			JsonObject::toString
+		);
+	}
 
-		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
-			_singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
+	/**
+	 * Writes the handled {@link SingleModel} to a {@code Writer}, without
+	 * creating its intermediate string representation. This method behaves
+	 * like {@link #write()}, but the JSON tree is serialized to the provided
+	 * writer instead of returned. The tree is still built completely before
+	 * anything is written. If no {@code Representor} or {@code Path} exists
+	 * for the model, nothing is written.
+	 *
+	 * @param  writer the writer to which the {@code SingleModel} is written
+	 * @return {@code true} if the model was written; {@code false} otherwise
+	 */
+	public boolean write(Writer writer) throws IOException {
+		Optional<JSONObjectBuilder> optional = _writeJSONObjectBuilder();
 
-		if (!fieldsWriterOptional.isPresent()) {
-			return Optional.empty();
+		if (!optional.isPresent()) {
+			return false;
 		}
 
-		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
-
-		_singleModelMessageMapper.onStart(
-			_jsonObjectBuilder, _singleModel, _requestInfo.getHttpHeaders());
-
-		fieldsWriter.writeBooleanFields(
-			(field, value) -> _singleModelMessageMapper.mapBooleanField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeBooleanListFields(
-			(field, value) -> _singleModelMessageMapper.mapBooleanListField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeLocalizedStringFields(
-			(field, value) -> _singleModelMessageMapper.mapStringField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeNumberFields(
-			(field, value) -> _singleModelMessageMapper.mapNumberField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeNumberListFields(
-			(field, value) -> _singleModelMessageMapper.mapNumberListField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeStringFields(
-			(field, value) -> _singleModelMessageMapper.mapStringField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeStringListFields(
-			(field, value) -> _singleModelMessageMapper.mapStringListField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeLinks(
-			(fieldName, link) -> _singleModelMessageMapper.mapLink(
-				_jsonObjectBuilder, fieldName, link));
-
-		fieldsWriter.writeTypes(
-			types -> _singleModelMessageMapper.mapTypes(
-				_jsonObjectBuilder, types));
-
-		fieldsWriter.writeBinaries(
-			(field, value) -> _singleModelMessageMapper.mapLink(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeSingleURL(
-			url -> _singleModelMessageMapper.mapSelfURL(
-				_jsonObjectBuilder, url));
-
-		List<Operation> operations = _singleModel.getOperations();
-
-		operations.forEach(
-			operation -> {
-				JSONObjectBuilder operationJSONObjectBuilder =
-					new JSONObjectBuilder();
-
-				_singleModelMessageMapper.onStartOperation(
-					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
-
-				Optional<Form> formOptional = operation.getFormOptional();
-
-				formOptional.map(
-					form -> createFormURL(_requestInfo.getServerURL(), form)
-				).ifPresent(
-					url -> _singleModelMessageMapper.mapOperationFormURL(
-						_jsonObjectBuilder, operationJSONObjectBuilder, url)
-				);
-
-				_singleModelMessageMapper.mapOperationMethod(
-					_jsonObjectBuilder, operationJSONObjectBuilder,
-					operation.method);
-
-				_singleModelMessageMapper.onFinishOperation(
-					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
-			});
-
-		fieldsWriter.writeRelatedModels(
-			singleModel -> getPathOptional(
-				singleModel, _pathFunction, _representorFunction::apply),
-			this::writeEmbeddedModelFields,
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapEmbeddedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL));
-
-		fieldsWriter.writeRelatedCollections(
-			_resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, url));
-
-		_writeNestedResources(_representorFunction::apply, _singleModel, null);
+		JSONObjectBuilder jsonObjectBuilder = optional.get();
 
-		_singleModelMessageMapper.onFinish(
-			_jsonObjectBuilder, _singleModel, _requestInfo.getHttpHeaders());
+		jsonObjectBuilder.writeTo(writer);
 
-		JsonObject jsonObject = _jsonObjectBuilder.build();
-
-		return Optional.of(jsonObject.toString());
+		return true;
 	}
 
 	public <S> void writeEmbeddedModelFields(
@@ -240,7 +159,8 @@ public class SingleModelWriter<T> {
 
 		Optional<FieldsWriter<S>> fieldsWriterOptional = getFieldsWriter(
 			singleModel, embeddedPathElements, _requestInfo,
-			baseRepresentorFunction, _singleModelFunction, pathOptional.get());
+			baseRepresentorFunction, _singleModelCache, pathOptional.get(),
+			_renderPlanCache);
 
 		if (!fieldsWriterOptional.isPresent()) {
 			return;
@@ -258,11 +178,21 @@ public class SingleModelWriter<T> {
 				_singleModelMessageMapper.mapEmbeddedResourceBooleanListField(
 					_jsonObjectBuilder, embeddedPathElements, field, value));
 
+		fieldsWriter.writeDoubleFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceDoubleField(
+					_jsonObjectBuilder, embeddedPathElements, field, value));
+
 		fieldsWriter.writeLocalizedStringFields(
 			(field, value) ->
 				_singleModelMessageMapper.mapEmbeddedResourceStringField(
 					_jsonObjectBuilder, embeddedPathElements, field, value));
 
+		fieldsWriter.writeLongFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceLongField(
+					_jsonObjectBuilder, embeddedPathElements, field, value));
+
 		fieldsWriter.writeNumberFields(
 			(field, value) ->
 				_singleModelMessageMapper.mapEmbeddedResourceNumberField(
@@ -518,6 +448,132 @@ public class SingleModelWriter<T> {
 
 	}
 
+	@SuppressWarnings("Duplicates")
+	private Optional<JSONObjectBuilder> _writeJSONObjectBuilder() {
+		Optional<Path> pathOptional = getPathOptional(
+			_singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
+			_singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelCache, pathOptional.get(), _renderPlanCache);
+
+		if (!fieldsWriterOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
+
+		_singleModelMessageMapper.onStart(
+			_jsonObjectBuilder, _singleModel, _requestInfo.getHttpHeaders());
+
+		fieldsWriter.writeBooleanFields(
+			(field, value) -> _singleModelMessageMapper.mapBooleanField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeBooleanListFields(
+			(field, value) -> _singleModelMessageMapper.mapBooleanListField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeDoubleFields(
+			(field, value) -> _singleModelMessageMapper.mapDoubleField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLocalizedStringFields(
+			(field, value) -> _singleModelMessageMapper.mapStringField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongFields(
+			(field, value) -> _singleModelMessageMapper.mapLongField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeNumberFields(
+			(field, value) -> _singleModelMessageMapper.mapNumberField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeNumberListFields(
+			(field, value) -> _singleModelMessageMapper.mapNumberListField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeStringFields(
+			(field, value) -> _singleModelMessageMapper.mapStringField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeStringListFields(
+			(field, value) -> _singleModelMessageMapper.mapStringListField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLinks(
+			(fieldName, link) -> _singleModelMessageMapper.mapLink(
+				_jsonObjectBuilder, fieldName, link));
+
+		fieldsWriter.writeTypes(
+			types -> _singleModelMessageMapper.mapTypes(
+				_jsonObjectBuilder, types));
+
+		fieldsWriter.writeBinaries(
+			(field, value) -> _singleModelMessageMapper.mapLink(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeSingleURL(
+			url -> _singleModelMessageMapper.mapSelfURL(
+				_jsonObjectBuilder, url));
+
+		List<Operation> operations = _singleModel.getOperations();
+
+		operations.forEach(
+			operation -> {
+				JSONObjectBuilder operationJSONObjectBuilder =
+					new JSONObjectBuilder();
+
+				_singleModelMessageMapper.onStartOperation(
+					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
+
+				Optional<Form> formOptional = operation.getFormOptional();
+
+				formOptional.map(
+					form -> createFormURL(_requestInfo.getServerURL(), form)
+				).ifPresent(
+					url -> _singleModelMessageMapper.mapOperationFormURL(
+						_jsonObjectBuilder, operationJSONObjectBuilder, url)
+				);
+
+				_singleModelMessageMapper.mapOperationMethod(
+					_jsonObjectBuilder, operationJSONObjectBuilder,
+					operation.method);
+
+				_singleModelMessageMapper.onFinishOperation(
+					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
+			});
+
+		fieldsWriter.writeRelatedModels(
+			singleModel -> getPathOptional(
+				singleModel, _pathFunction, _representorFunction::apply),
+			this::writeEmbeddedModelFields,
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapEmbeddedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, url));
+
+		_writeNestedResources(_representorFunction::apply, _singleModel, null);
+
+		_singleModelMessageMapper.onFinish(
+			_jsonObjectBuilder, _singleModel, _requestInfo.getHttpHeaders());
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	private <S> void _writeNestedResources(
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel<S> singleModel,
@@ -553,11 +609,12 @@ public class SingleModelWriter<T> {
 
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final PathFunction _pathFunction;
+	private final RenderPlanCache _renderPlanCache;
 	private final RepresentorFunction _representorFunction;
 	private final RequestInfo _requestInfo;
 	private final ResourceNameFunction _resourceNameFunction;
 	private final SingleModel<T> _singleModel;
-	private final SingleModelFunction _singleModelFunction;
+	private final SingleModelCache _singleModelCache;
 	private final SingleModelMessageMapper<T> _singleModelMessageMapper;
 
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer.url;
+
+import com.liferay.apio.architect.url.ServerURL;
+
+/**
+ * Decorates a {@link ServerURL} to compute its value only once and keep the
+ * prefixes used by {@link URLCreator} to create the different kinds of URLs.
+ *
+ * @author Alejandro Hernández
+ */
+public class PrefixedServerURL implements ServerURL {
+
+	/**
+	 * Returns the provided server URL as a {@code PrefixedServerURL}. If it
+	 * already is one, it's returned as is.
+	 *
+	 * @param  serverURL the server URL
+	 * @return the {@code PrefixedServerURL}
+	 */
+	public static PrefixedServerURL from(ServerURL serverURL) {
+		if (serverURL instanceof PrefixedServerURL) {
+			return (PrefixedServerURL)serverURL;
+		}
+
+		return new PrefixedServerURL(serverURL);
+	}
+
+	public PrefixedServerURL(ServerURL serverURL) {
+		_url = serverURL.get();
+
+		_binaryURLPrefix = _url + "/b/";
+		_formURLPrefix = _url + "/f/";
+		_singleURLPrefix = _url + "/p/";
+	}
+
+	@Override
+	public String get() {
+		return _url;
+	}
+
+	/**
+	 * Returns the prefix of the binary resources' URLs.
+	 *
+	 * @return the prefix of the binary resources' URLs
+	 */
+	public String getBinaryURLPrefix() {
+		return _binaryURLPrefix;
+	}
+
+	/**
+	 * Returns the prefix of the forms' URLs.
+	 *
+	 * @return the prefix of the forms' URLs
+	 */
+	public String getFormURLPrefix() {
+		return _formURLPrefix;
+	}
+
+	/**
+	 * Returns the prefix of the single, collection and nested collection
+	 * resources' URLs.
+	 *
+	 * @return the prefix of the resources' URLs
+	 */
+	public String getSingleURLPrefix() {
+		return _singleURLPrefix;
+	}
+
+	private final String _binaryURLPrefix;
+	private final String _formURLPrefix;
+	private final String _singleURLPrefix;
+	private final String _url;
+
+}
\ No newline at end of file
@@ -15,11 +15,16 @@
 package com.liferay.apio.architect.writer.url;
 
 import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageType;
 import com.liferay.apio.architect.uri.Path;
 import com.liferay.apio.architect.url.ServerURL;
 
+import java.net.URLEncoder;
+
+import java.util.Optional;
+
 import javax.ws.rs.core.UriBuilder;
 
 /**
@@ -33,6 +38,114 @@ import javax.ws.rs.core.UriBuilder;
  */
 public final class URLCreator {
 
+	/**
+	 * Appends the URL for a binary resource to a {@code StringBuilder}.
+	 *
+	 * @param  sb the {@code StringBuilder}
+	 * @param  serverURL the server URL
+	 * @param  binaryId the binary resource's ID
+	 * @param  path the resource's {@code com.liferay.apio.architect.uri.Path}
+	 * @return the {@code StringBuilder}
+	 */
+	public static StringBuilder appendBinaryURL(
+		StringBuilder sb, ServerURL serverURL, String binaryId, Path path) {
+
+		PrefixedServerURL prefixedServerURL = PrefixedServerURL.from(serverURL);
+
+		sb.append(prefixedServerURL.getBinaryURLPrefix());
+
+		return _appendPath(
+			sb, path
+		).append(
+			'/'
+		).append(
+			binaryId
+		);
+	}
+
+	/**
+	 * Appends the URL for a collection to a {@code StringBuilder}.
+	 *
+	 * @param  sb the {@code StringBuilder}
+	 * @param  serverURL the server URL
+	 * @param  name the resource's name
+	 * @return the {@code StringBuilder}
+	 */
+	public static StringBuilder appendCollectionURL(
+		StringBuilder sb, ServerURL serverURL, String name) {
+
+		PrefixedServerURL prefixedServerURL = PrefixedServerURL.from(serverURL);
+
+		return sb.append(
+			prefixedServerURL.getSingleURLPrefix()
+		).append(
+			name
+		);
+	}
+
+	/**
+	 * Appends the URL for a {@code Form} to a {@code StringBuilder}.
+	 *
+	 * @param  sb the {@code StringBuilder}
+	 * @param  serverURL the server URL
+	 * @param  form the form
+	 * @return the {@code StringBuilder}
+	 */
+	public static StringBuilder appendFormURL(
+		StringBuilder sb, ServerURL serverURL, Form form) {
+
+		PrefixedServerURL prefixedServerURL = PrefixedServerURL.from(serverURL);
+
+		return sb.append(
+			prefixedServerURL.getFormURLPrefix()
+		).append(
+			form.id
+		);
+	}
+
+	/**
+	 * Appends the URL for a nested collection to a {@code StringBuilder}.
+	 *
+	 * @param  sb the {@code StringBuilder}
+	 * @param  serverURL the server URL
+	 * @param  path the single resource's {@link Path}
+	 * @param  name the nested resource's name
+	 * @return the {@code StringBuilder}
+	 */
+	public static StringBuilder appendNestedCollectionURL(
+		StringBuilder sb, ServerURL serverURL, Path path, String name) {
+
+		PrefixedServerURL prefixedServerURL = PrefixedServerURL.from(serverURL);
+
+		sb.append(prefixedServerURL.getSingleURLPrefix());
+
+		return _appendPath(
+			sb, path
+		).append(
+			'/'
+		).append(
+			name
+		);
+	}
+
+	/**
+	 * Appends the URL of a model's resource to a {@code StringBuilder}.
+	 *
+	 * @param  sb the {@code StringBuilder}
+	 * @param  serverURL the server URL
+	 * @param  path the resource's {@link Path}
+	 * @return the {@code StringBuilder}
+	 */
+	public static StringBuilder appendSingleURL(
+		StringBuilder sb, ServerURL serverURL, Path path) {
+
+		PrefixedServerURL prefixedServerURL = PrefixedServerURL.from(serverURL);
+
+		sb.append(prefixedServerURL.getSingleURLPrefix());
+
+		return _appendPath(sb, path);
+	}
+
 	/**
 	 * Returns the URL for a binary resource.
 	 *
@@ -44,19 +157,42 @@ public final class URLCreator {
 	public static String createBinaryURL(
 		ServerURL serverURL, String binaryId, Path path) {
 
-		return String.join("/", serverURL.get(), "b", path.asURI(), binaryId);
+		StringBuilder sb = appendBinaryURL(
+			new StringBuilder(), serverURL, binaryId, path);
+
+		return sb.toString();
 	}
 
 	/**
-	 * Returns the URL for a collection page.
+	 * Returns the URL for a collection page. Cursor-based pages are linked
+	 * with the page type's token, instead of its page number. The token is
+	 * opaque, so it's percent-encoded before being added to the URL.
 	 *
 	 * @param  collectionURL the collection URL
 	 * @param  page the page
+	 * @param  pageType the page type
 	 * @return the collection page URL
 	 */
 	public static String createCollectionPageURL(
 		String collectionURL, Page page, PageType pageType) {
 
+		if (page.isCursorBased()) {
+			UriBuilder uriBuilder = UriBuilder.fromUri(collectionURL);
+
+			Optional<String> optional = pageType.getTokenOptional(page);
+
+			optional.map(
+				URLCreator::_encode
+			).ifPresent(
+				token -> uriBuilder.queryParam("cursor", token)
+			);
+
+			return uriBuilder.queryParam(
+				"per_page", page.getItemsPerPage()
+			).buildFromEncoded(
+			).toString();
+		}
+
 		return UriBuilder.fromUri(
 			collectionURL
 		).queryParam(
@@ -75,7 +211,9 @@ public final class URLCreator {
 	 * @return the collection URL
 	 */
 	public static String createCollectionURL(ServerURL serverURL, String name) {
-		return serverURL.get() + "/p/" + name;
+		PrefixedServerURL prefixedServerURL = PrefixedServerURL.from(serverURL);
+
+		return prefixedServerURL.getSingleURLPrefix() + name;
 	}
 
 	/**
@@ -86,7 +224,9 @@ public final class URLCreator {
 	 * @return the URL for a {@code Form}
 	 */
 	public static String createFormURL(ServerURL serverURL, Form form) {
-		return String.join("/", serverURL.get(), "f", form.id);
+		PrefixedServerURL prefixedServerURL = PrefixedServerURL.from(serverURL);
+
+		return prefixedServerURL.getFormURLPrefix() + form.id;
 	}
 
 	/**
@@ -100,7 +240,10 @@ public final class URLCreator {
 	public static String createNestedCollectionURL(
 		ServerURL serverURL, Path path, String name) {
 
-		return String.join("/", serverURL.get(), "p", path.asURI(), name);
+		StringBuilder sb = appendNestedCollectionURL(
+			new StringBuilder(), serverURL, path, name);
+
+		return sb.toString();
 	}
 
 	/**
@@ -112,7 +255,26 @@ public final class URLCreator {
 	 *         com.liferay.apio.architect.resource.CollectionResource}
 	 */
 	public static String createSingleURL(ServerURL serverURL, Path path) {
-		return serverURL.get() + "/p/" + path.asURI();
+		StringBuilder sb = appendSingleURL(
+			new StringBuilder(), serverURL, path);
+
+		return sb.toString();
+	}
+
+	private static StringBuilder _appendPath(StringBuilder sb, Path path) {
+		return sb.append(
+			path.getName()
+		).append(
+			'/'
+		).append(
+			path.getId()
+		);
+	}
+
+	private static String _encode(String token) {
+		return Try.fromFallible(
+			() -> URLEncoder.encode(token, "UTF-8")
+		).getUnchecked();
 	}
 
 	private URLCreator() {
@@ -22,6 +22,7 @@ import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.unsafe.Unsafe;
 import com.liferay.apio.architect.uri.Path;
 import com.liferay.apio.architect.writer.FieldsWriter;
+import com.liferay.apio.architect.writer.RenderPlanCache;
 import com.liferay.apio.architect.writer.alias.BaseRepresentorFunction;
 import com.liferay.apio.architect.writer.alias.PathFunction;
 import com.liferay.apio.architect.writer.alias.RepresentorFunction;
@@ -72,6 +73,44 @@ public class WriterUtil {
 		);
 	}
 
+	/**
+	 * Returns the {@link FieldsWriter} for a given model, if the model's {@code
+	 * Representor} exists. Otherwise, this method returns {@code
+	 * Optional#empty()}. The returned writer uses the {@link
+	 * com.liferay.apio.architect.writer.RenderPlan} stored for the model's
+	 * {@code Representor} in the provided cache.
+	 *
+	 * @param  singleModel the single model
+	 * @param  embeddedPathElements the embedded path element list
+	 * @param  requestInfo the current request's information
+	 * @param  baseRepresentorFunction the function to get the {@link
+	 *         BaseRepresentor}
+	 * @param  singleModelFunction the function to get other {@link SingleModel}
+	 * @param  path the path for the single model
+	 * @param  renderPlanCache the current request's render plan cache
+	 * @return the {@code FieldsWriter} for the model, if the model's {@code
+	 *         Representor} exists; returns {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public static <T> Optional<FieldsWriter<T>> getFieldsWriter(
+		SingleModel<T> singleModel, FunctionalList<String> embeddedPathElements,
+		RequestInfo requestInfo,
+		BaseRepresentorFunction baseRepresentorFunction,
+		SingleModelFunction singleModelFunction, Path path,
+		RenderPlanCache renderPlanCache) {
+
+		return baseRepresentorFunction.apply(
+			singleModel.getResourceName()
+		).<BaseRepresentor<T>>map(
+			Unsafe::unsafeCast
+		).map(
+			baseRepresentor -> new FieldsWriter<>(
+				singleModel, requestInfo, baseRepresentor,
+				renderPlanCache.getRenderPlan(baseRepresentor), path,
+				embeddedPathElements, singleModelFunction)
+		);
+	}
+
 	/**
 	 * Returns a model's {@link Path}, if the model's {@code Representor} and
 	 * {@code Path} exist. Otherwise, this method returns {@code
@@ -30,11 +30,14 @@ import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 
+import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.list.FunctionalList;
 import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.request.RequestInfo;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.test.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.test.util.identifier.RootModelId;
 import com.liferay.apio.architect.test.util.model.FirstEmbeddedModel;
 import com.liferay.apio.architect.test.util.model.RootModel;
 import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
@@ -194,6 +197,19 @@ public class FieldsWriterTest {
 	}
 
 	@SuppressWarnings("unchecked")
+	@Test
+	public void testWriteDoubleFields() {
+		FieldsWriter<RootModel> fieldsWriter = _createPrimitiveFieldsWriter();
+
+		Map<String, Double> doubles = new HashMap<>();
+
+		fieldsWriter.writeDoubleFields(doubles::put);
+
+		assertThat(doubles, is(aMapWithSize(2)));
+		assertThat(doubles, hasEntry("double1", 4.2D));
+		assertThat(doubles, hasEntry("double2", 42.5D));
+	}
+
 	@Test
 	public void testWriteEmbeddedRelatedModelsWithEmbeddedPredicate() {
 		List<String> linkedRelatedModelURLs = new ArrayList<>();
@@ -508,6 +524,24 @@ public class FieldsWriterTest {
 			localizedStrings, hasEntry("localizedString2", "Translated 2"));
 	}
 
+	@Test
+	public void testWriteLongFieldsWithFilter() {
+		Mockito.when(
+			_requestInfo.getFields()
+		).thenReturn(
+			list -> "long2"::equals
+		);
+
+		FieldsWriter<RootModel> fieldsWriter = _createPrimitiveFieldsWriter();
+
+		Map<String, Long> longs = new HashMap<>();
+
+		fieldsWriter.writeLongFields(longs::put);
+
+		assertThat(longs, is(aMapWithSize(1)));
+		assertThat(longs, hasEntry("long2", 42L));
+	}
+
 	@Test
 	public void testWriteNumberFields() {
 		Map<String, Number> numbers = new HashMap<>();
@@ -624,6 +658,43 @@ public class FieldsWriterTest {
 	}
 
 	@SuppressWarnings("unchecked")
+	@Test
+	public void testWriteRelatedModelsResolvesEachRelatedModelOnce() {
+		Mockito.when(
+			_requestInfo.getEmbedded()
+		).thenReturn(
+			__ -> true
+		);
+
+		List<Class<? extends Identifier>> identifierClasses =
+			new ArrayList<>();
+
+		FieldsWriter<RootModel> fieldsWriter = new FieldsWriter<>(
+			new SingleModel<>(() -> "first", "root", Collections.emptyList()),
+			_requestInfo, createRootModelRepresentor(true),
+			new Path("name", "id"), new FunctionalList<>(null, "first"),
+			(identifier, identifierClass) -> {
+				identifierClasses.add(identifierClass);
+
+				return MockWriterUtil.getSingleModel(
+					identifier, identifierClass);
+			});
+
+		List<SingleModel> singleModels = new ArrayList<>();
+
+		fieldsWriter.writeRelatedModels(
+			__ -> Optional.of(new Path("name", "id")),
+			(singleModel, embeddedPathElements) -> singleModels.add(
+				singleModel),
+			(url, embeddedPathElements) -> {
+			},
+			(url, embeddedPathElements) -> {
+			});
+
+		assertThat(singleModels, hasSize(equalTo(4)));
+		assertThat(identifierClasses, hasSize(equalTo(4)));
+	}
+
 	@Test
 	public void testWriteSingleURL() {
 		_fieldsWriter.writeSingleURL(
@@ -681,6 +752,31 @@ public class FieldsWriterTest {
 		assertThat(types, contains("Type 1", "Type 2"));
 	}
 
+	private FieldsWriter<RootModel> _createPrimitiveFieldsWriter() {
+		Representor.Builder<RootModel, String> builder =
+			new Representor.Builder<>(RootModelId.class);
+
+		Representor<RootModel> representor = builder.types(
+			"Type"
+		).identifier(
+			RootModel::getId
+		).addDouble(
+			"double1", __ -> 4.2D
+		).addDouble(
+			"double2", __ -> 42.5D
+		).addLong(
+			"long1", __ -> 2017L
+		).addLong(
+			"long2", __ -> 42L
+		).build();
+
+		return new FieldsWriter<>(
+			new SingleModel<>(() -> "first", "root", Collections.emptyList()),
+			_requestInfo, representor, new Path("name", "id"),
+			new FunctionalList<>(null, "first"),
+			MockWriterUtil::getSingleModel);
+	}
+
 	private FieldsWriter<RootModel> _fieldsWriter;
 	private final RequestInfo _requestInfo = Mockito.mock(RequestInfo.class);
 
@@ -0,0 +1,263 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer;
+
+import static com.liferay.apio.architect.test.util.writer.MockWriterUtil.getRequestInfo;
+import static com.liferay.apio.architect.test.util.writer.MockWriterUtil.getSingleModel;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.core.Is.is;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.message.json.PageMessageMapper;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.test.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.test.util.identifier.SecondEmbeddedId;
+import com.liferay.apio.architect.test.util.identifier.ThirdEmbeddedId;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.uri.Path;
+import com.liferay.apio.architect.writer.alias.BatchSingleModelFunction;
+import com.liferay.apio.architect.writer.alias.SingleModelFunction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.HttpHeaders;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageWriterTest {
+
+	@Before
+	public void setUp() {
+		_executions = new AtomicInteger();
+		_executorService = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		_executorService.shutdownNow();
+	}
+
+	@Test
+	public void testWriteBatchesRelatedModelsOncePerClassAndEmbeddingLevel() {
+		List<Class<? extends Identifier>> identifierClasses = new ArrayList<>();
+
+		BatchSingleModelFunction batchSingleModelFunction = (
+			identifiers, identifierClass) -> {
+
+			identifierClasses.add(identifierClass);
+
+			Map<Object, SingleModel> singleModels = new HashMap<>();
+
+			for (Object identifier : identifiers) {
+				Optional<SingleModel> optional = getSingleModel(
+					identifier, identifierClass);
+
+				optional.ifPresent(
+					singleModel -> singleModels.put(identifier, singleModel));
+			}
+
+			return Optional.of(singleModels);
+		};
+
+		String sequentialJSON = _write(null, null, 0);
+		String json = _write(batchSingleModelFunction, null, 0);
+
+		assertThat(
+			identifierClasses,
+			contains(
+				FirstEmbeddedId.class, SecondEmbeddedId.class,
+				ThirdEmbeddedId.class));
+		assertThat(json, is(sequentialJSON));
+	}
+
+	@Test
+	public void testWriteResolvesRelatedModelsInTheCallingThreadWhenParallel() {
+		Thread thread = Thread.currentThread();
+
+		AtomicInteger calls = new AtomicInteger();
+		AtomicInteger foreignCalls = new AtomicInteger();
+
+		SingleModelFunction singleModelFunction = (
+			identifier, identifierClass) -> {
+
+			calls.incrementAndGet();
+
+			if (Thread.currentThread() != thread) {
+				foreignCalls.incrementAndGet();
+			}
+
+			return getSingleModel(identifier, identifierClass);
+		};
+
+		String sequentialJSON = _write(null, null, 0);
+		String parallelJSON = _write(
+			singleModelFunction, null, this::_execute, 10);
+
+		assertThat(_executions.get(), is(greaterThan(0)));
+		assertThat(calls.get(), is(greaterThan(0)));
+		assertThat(foreignCalls.get(), is(0));
+		assertThat(parallelJSON, is(sequentialJSON));
+	}
+
+	@Test
+	public void testWriteWritesItemsInParallelInTheirOriginalOrder() {
+		String sequentialJSON = _write(null, null, 0);
+		String parallelJSON = _write(null, this::_execute, 10);
+
+		JsonObject jsonObject = new Gson().fromJson(
+			parallelJSON, JsonObject.class);
+
+		JsonArray jsonArray = jsonObject.getAsJsonArray("items");
+
+		assertThat(jsonArray.size(), is(20));
+		assertThat(_executions.get(), is(greaterThan(0)));
+		assertThat(parallelJSON, is(sequentialJSON));
+	}
+
+	@Test
+	public void testWriteWritesItemsSequentiallyUpToTheThreshold() {
+		String sequentialJSON = _write(null, null, 0);
+		String json = _write(null, this::_execute, 20);
+
+		assertThat(_executions.get(), is(0));
+		assertThat(json, is(sequentialJSON));
+	}
+
+	private void _execute(Runnable runnable) {
+		_executions.incrementAndGet();
+
+		_executorService.execute(runnable);
+	}
+
+	private String _write(
+		BatchSingleModelFunction batchSingleModelFunction, Executor executor,
+		int parallelItemsThreshold) {
+
+		return _write(
+			MockWriterUtil::getSingleModel, batchSingleModelFunction, executor,
+			parallelItemsThreshold);
+	}
+
+	private String _write(
+		SingleModelFunction singleModelFunction,
+		BatchSingleModelFunction batchSingleModelFunction, Executor executor,
+		int parallelItemsThreshold) {
+
+		List<RootModel> items = new ArrayList<>();
+
+		for (int i = 1; i <= 20; i++) {
+			String id = String.valueOf(i);
+
+			items.add(() -> id);
+		}
+
+		PageItems<RootModel> pageItems = new PageItems<>(items, 20);
+
+		Page<RootModel> page = new Page<>(
+			"root", pageItems, new Pagination(20, 1), new Path("name", "id"),
+			Collections.emptyList());
+
+		PageWriter<RootModel> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				page
+			).pageMessageMapper(
+				new TestPageMessageMapper()
+			).pathFunction(
+				MockWriterUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				MockWriterUtil::getRepresentorOptional
+			).requestInfo(
+				getRequestInfo(Mockito.mock(HttpHeaders.class))
+			).singleModelFunction(
+				singleModelFunction
+			).batchSingleModelFunction(
+				batchSingleModelFunction
+			).itemExecutor(
+				executor, parallelItemsThreshold
+			).build());
+
+		return pageWriter.write();
+	}
+
+	private AtomicInteger _executions;
+	private ExecutorService _executorService;
+
+	private static class TestPageMessageMapper
+		implements PageMessageMapper<RootModel> {
+
+		@Override
+		public String getMediaType() {
+			return "mediaType";
+		}
+
+		@Override
+		public void mapItemSelfURL(
+			JSONObjectBuilder pageJSONObjectBuilder,
+			JSONObjectBuilder itemJSONObjectBuilder, String url) {
+
+			itemJSONObjectBuilder.field(
+				"self"
+			).stringValue(
+				url
+			);
+		}
+
+		@Override
+		public void onFinishItem(
+			JSONObjectBuilder pageJSONObjectBuilder,
+			JSONObjectBuilder itemJSONObjectBuilder,
+			SingleModel<RootModel> singleModel, HttpHeaders httpHeaders) {
+
+			pageJSONObjectBuilder.field(
+				"items"
+			).arrayValue(
+			).add(
+				itemJSONObjectBuilder
+			);
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer;
+
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createFirstEmbeddedModelRepresentor;
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createRootModelRepresentor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.function.FieldFunction;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.test.util.model.FirstEmbeddedModel;
+import com.liferay.apio.architect.test.util.model.RootModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RenderPlanCacheTest {
+
+	@Before
+	public void setUp() {
+		_types = new ArrayList<>();
+
+		RequestInfo requestInfo = Mockito.mock(RequestInfo.class);
+
+		Mockito.when(
+			requestInfo.getFields()
+		).thenReturn(
+			types -> {
+				_types.add(types);
+
+				return "string1"::equals;
+			}
+		);
+
+		_renderPlanCache = new RenderPlanCache(requestInfo);
+	}
+
+	@Test
+	public void testGetRenderPlanCompilesDifferentRepresentorsSeparately() {
+		Representor<RootModel> rootModelRepresentor =
+			createRootModelRepresentor(true);
+		Representor<FirstEmbeddedModel> firstEmbeddedModelRepresentor =
+			createFirstEmbeddedModelRepresentor();
+
+		RenderPlan<RootModel> rootModelRenderPlan =
+			_renderPlanCache.getRenderPlan(rootModelRepresentor);
+		RenderPlan<FirstEmbeddedModel> firstEmbeddedModelRenderPlan =
+			_renderPlanCache.getRenderPlan(firstEmbeddedModelRepresentor);
+
+		assertThat(
+			rootModelRenderPlan,
+			is(not(sameInstance((Object)firstEmbeddedModelRenderPlan))));
+		assertThat(
+			_types,
+			contains(
+				rootModelRepresentor.getTypes(),
+				firstEmbeddedModelRepresentor.getTypes()));
+	}
+
+	@Test
+	public void testGetRenderPlanDoesNotCompileTheSameRepresentorTwice() {
+		Representor<RootModel> representor = createRootModelRepresentor(true);
+
+		RenderPlan<RootModel> firstRenderPlan = _renderPlanCache.getRenderPlan(
+			representor);
+		RenderPlan<RootModel> secondRenderPlan =
+			_renderPlanCache.getRenderPlan(representor);
+
+		assertThat(secondRenderPlan, is(sameInstance(firstRenderPlan)));
+		assertThat(_types, contains(representor.getTypes()));
+	}
+
+	@Test
+	public void testGetRenderPlanKeepsOnlySelectedFields() {
+		RenderPlan<RootModel> renderPlan = _renderPlanCache.getRenderPlan(
+			createRootModelRepresentor(true));
+
+		List<FieldFunction<RootModel, String>> stringFieldFunctions =
+			renderPlan.getStringFieldFunctions();
+
+		Stream<FieldFunction<RootModel, String>> stream =
+			stringFieldFunctions.stream();
+
+		List<String> keys = stream.map(
+			fieldFunction -> fieldFunction.key
+		).collect(
+			Collectors.toList()
+		);
+
+		assertThat(keys, contains("string1"));
+		assertThat(renderPlan.getBinaryKeys(), is(empty()));
+		assertThat(renderPlan.getNumberFieldFunctions(), is(empty()));
+		assertThat(renderPlan.getRelatedModels(), is(empty()));
+	}
+
+	private RenderPlanCache _renderPlanCache;
+	private List<List<String>> _types;
+
+}
\ No newline at end of file
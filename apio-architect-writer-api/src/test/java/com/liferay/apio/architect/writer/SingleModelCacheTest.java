@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.test.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.test.util.identifier.SecondEmbeddedId;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class SingleModelCacheTest {
+
+	@Before
+	public void setUp() {
+		_identifiers = new ArrayList<>();
+
+		_singleModelCache = new SingleModelCache(
+			(identifier, identifierClass) -> {
+				_identifiers.add(identifier);
+
+				return MockWriterUtil.getSingleModel(
+					identifier, identifierClass);
+			});
+	}
+
+	@Test
+	public void testApplyDoesNotResolveTheSameIdentifierTwice() {
+		Optional<SingleModel> firstOptional = _singleModelCache.apply(
+			"id", FirstEmbeddedId.class);
+		Optional<SingleModel> secondOptional = _singleModelCache.apply(
+			"id", FirstEmbeddedId.class);
+
+		assertThat(firstOptional, is(optionalWithValue()));
+		assertThat(secondOptional, is(firstOptional));
+		assertThat(_identifiers, contains("id"));
+	}
+
+	@Test
+	public void testApplyDoesNotResolveTwiceIdentifiersNotFound() {
+		Optional<SingleModel> firstOptional = _singleModelCache.apply(
+			1L, FirstEmbeddedId.class);
+		Optional<SingleModel> secondOptional = _singleModelCache.apply(
+			1L, FirstEmbeddedId.class);
+
+		assertThat(firstOptional, is(emptyOptional()));
+		assertThat(secondOptional, is(emptyOptional()));
+		assertThat(_identifiers, contains(1L));
+	}
+
+	@Test
+	public void testApplyStoresModelsWithNullIdentifiers() {
+		_singleModelCache.apply(null, FirstEmbeddedId.class);
+		_singleModelCache.apply(null, FirstEmbeddedId.class);
+
+		assertThat(_identifiers, contains(nullValue()));
+	}
+
+	@Test
+	public void testApplyResolvesIdentifiersOfDifferentClassesSeparately() {
+		Optional<SingleModel> firstOptional = _singleModelCache.apply(
+			"id", FirstEmbeddedId.class);
+		Optional<SingleModel> secondOptional = _singleModelCache.apply(
+			"id", SecondEmbeddedId.class);
+
+		assertThat(
+			firstOptional.map(SingleModel::getResourceName),
+			is(Optional.of("first")));
+		assertThat(
+			secondOptional.map(SingleModel::getResourceName),
+			is(Optional.of("second")));
+		assertThat(_identifiers, contains("id", "id"));
+	}
+
+	@Test
+	public void testPutAllStoresModelsAndIdentifiersNotFound() {
+		Class<? extends Identifier> identifierClass = FirstEmbeddedId.class;
+
+		Optional<SingleModel> optional = MockWriterUtil.getSingleModel(
+			"id1", identifierClass);
+
+		_singleModelCache.putAll(
+			identifierClass, Arrays.asList("id1", "id2"),
+			Collections.singletonMap("id1", optional.get()));
+
+		assertThat(
+			_singleModelCache.apply("id1", identifierClass), is(optional));
+		assertThat(
+			_singleModelCache.apply("id2", identifierClass),
+			is(emptyOptional()));
+		assertThat(_identifiers, is(empty()));
+	}
+
+	private List<Object> _identifiers;
+	private SingleModelCache _singleModelCache;
+
+}
\ No newline at end of file
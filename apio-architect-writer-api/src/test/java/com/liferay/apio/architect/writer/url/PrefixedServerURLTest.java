@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer.url;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.liferay.apio.architect.url.ServerURL;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PrefixedServerURLTest {
+
+	@Test
+	public void testFromReturnsSameInstanceIfAlreadyPrefixed() {
+		PrefixedServerURL prefixedServerURL = new PrefixedServerURL(
+			() -> "www.liferay.com");
+
+		assertThat(
+			PrefixedServerURL.from(prefixedServerURL),
+			is(sameInstance(prefixedServerURL)));
+	}
+
+	@Test
+	public void testPrefixesAreCreatedFromServerURL() {
+		PrefixedServerURL prefixedServerURL = PrefixedServerURL.from(
+			() -> "www.liferay.com");
+
+		assertThat(prefixedServerURL.get(), is("www.liferay.com"));
+		assertThat(
+			prefixedServerURL.getBinaryURLPrefix(), is("www.liferay.com/b/"));
+		assertThat(
+			prefixedServerURL.getFormURLPrefix(), is("www.liferay.com/f/"));
+		assertThat(
+			prefixedServerURL.getSingleURLPrefix(), is("www.liferay.com/p/"));
+	}
+
+	@Test
+	public void testServerURLIsOnlyComputedOnce() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		ServerURL serverURL = () -> {
+			atomicInteger.incrementAndGet();
+
+			return "www.liferay.com";
+		};
+
+		PrefixedServerURL prefixedServerURL = new PrefixedServerURL(serverURL);
+
+		prefixedServerURL.get();
+		prefixedServerURL.getSingleURLPrefix();
+
+		URLCreator.createCollectionURL(prefixedServerURL, "resource");
+
+		assertThat(atomicInteger.get(), is(1));
+	}
+
+}
\ No newline at end of file
@@ -19,6 +19,8 @@ import static java.util.Collections.emptyList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.pagination.Cursor;
+import com.liferay.apio.architect.pagination.CursorPageItems;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.PageType;
@@ -38,6 +40,42 @@ import org.mockito.Mockito;
  */
 public class URLCreatorTest {
 
+	@Test
+	public void testAppendBinaryURL() {
+		StringBuilder sb = new StringBuilder("url: ");
+
+		URLCreator.appendBinaryURL(sb, _serverURL, "binary", _path);
+
+		assertThat(sb.toString(), is("url: www.liferay.com/b/name/id/binary"));
+	}
+
+	@Test
+	public void testAppendCollectionURL() {
+		StringBuilder sb = new StringBuilder("url: ");
+
+		URLCreator.appendCollectionURL(sb, _serverURL, "resource");
+
+		assertThat(sb.toString(), is("url: www.liferay.com/p/resource"));
+	}
+
+	@Test
+	public void testAppendNestedCollectionURL() {
+		StringBuilder sb = new StringBuilder("url: ");
+
+		URLCreator.appendNestedCollectionURL(sb, _serverURL, _path, "related");
+
+		assertThat(sb.toString(), is("url: www.liferay.com/p/name/id/related"));
+	}
+
+	@Test
+	public void testAppendSingleURL() {
+		StringBuilder sb = new StringBuilder("url: ");
+
+		URLCreator.appendSingleURL(sb, _serverURL, _path);
+
+		assertThat(sb.toString(), is("url: www.liferay.com/p/name/id"));
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void testConstructorThrowsException() throws Throwable {
 		Constructor<?> constructor =
@@ -88,6 +126,24 @@ public class URLCreatorTest {
 		assertThat(firstPageURL, is("www.liferay.com?page=1&per_page=30"));
 	}
 
+	@Test
+	public void testCreateCollectionPageURLEncodesTheCursorToken() {
+		String token = "{id}%20+ 1";
+
+		CursorPageItems<String> cursorPageItems = new CursorPageItems<>(
+			emptyList(), null, null);
+
+		Page page = new Page<>(
+			"", cursorPageItems, new Cursor(30, token), null);
+
+		String currentPageURL = URLCreator.createCollectionPageURL(
+			"www.liferay.com", page, PageType.CURRENT);
+
+		assertThat(
+			currentPageURL,
+			is("www.liferay.com?cursor=%7Bid%7D%2520%2B+1&per_page=30"));
+	}
+
 	@Test
 	public void testCreateCollectionURL() {
 		String url = URLCreator.createCollectionURL(_serverURL, "resource");
@@ -110,6 +166,15 @@ public class URLCreatorTest {
 		assertThat(url, is("www.liferay.com/p/name/id"));
 	}
 
+	@Test
+	public void testCreateSingleURLWithPrefixedServerURL() {
+		ServerURL serverURL = new PrefixedServerURL(_serverURL);
+
+		String url = URLCreator.createSingleURL(serverURL, _path);
+
+		assertThat(url, is("www.liferay.com/p/name/id"));
+	}
+
 	private final Path _path = new Path("name", "id");
 	private final ServerURL _serverURL = () -> "www.liferay.com";
 